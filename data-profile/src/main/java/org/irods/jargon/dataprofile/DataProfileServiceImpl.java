@@ -5,8 +5,10 @@ package org.irods.jargon.dataprofile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.exception.FileNotFoundException;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.CollectionAO;
@@ -16,6 +18,7 @@ import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
 import org.irods.jargon.core.pub.domain.Collection;
 import org.irods.jargon.core.pub.domain.DataObject;
 import org.irods.jargon.core.pub.domain.ObjStat;
+import org.irods.jargon.core.pub.domain.UserFilePermission;
 import org.irods.jargon.core.query.JargonQueryException;
 import org.irods.jargon.core.query.MetaDataAndDomainData;
 import org.irods.jargon.core.service.AbstractJargonService;
@@ -98,8 +101,21 @@ public class DataProfileServiceImpl extends AbstractJargonService implements Dat
 			final ObjStat objStat) throws FileNotFoundException, JargonException {
 
 		log.info("retrieveDataProfileForDataObject()");
-		DataObjectAO dataObjectAO = getIrodsAccessObjectFactory().getDataObjectAO(getIrodsAccount());
-		DataObject dataObject = dataObjectAO.findByAbsolutePath(irodsAbsolutePath);
+
+		/*
+		 * the data object, AVUs and ACLs are independent, so they are fetched at the
+		 * same time when read only connections are configured
+		 */
+		ReadOnlyConnectionSet readOnlyConnectionSet = getIrodsAccessObjectFactory()
+				.getReadOnlyConnectionSet(getIrodsAccount());
+		Future<DataObject> dataObjectFuture = readOnlyConnectionSet
+				.submit(() -> getDataObjectAO().findByAbsolutePath(irodsAbsolutePath));
+		Future<List<MetaDataAndDomainData>> metadataFuture = readOnlyConnectionSet
+				.submit(() -> getDataObjectAO().findMetadataValuesForDataObject(irodsAbsolutePath));
+		Future<List<UserFilePermission>> aclsFuture = readOnlyConnectionSet
+				.submit(() -> getDataObjectAO().listPermissionsForDataObject(irodsAbsolutePath));
+
+		DataObject dataObject = ReadOnlyConnectionSet.join(dataObjectFuture);
 		log.info("got dataObject:{}", dataObject);
 
 		DataProfile<DataObject> dataProfile = new DataProfile<DataObject>();
@@ -108,11 +124,11 @@ public class DataProfileServiceImpl extends AbstractJargonService implements Dat
 
 		log.info("get AVUs");
 
-		dataProfile.setMetadata(dataObjectAO.findMetadataValuesForDataObject(irodsAbsolutePath));
+		dataProfile.setMetadata(ReadOnlyConnectionSet.join(metadataFuture));
 
 		log.info("get ACLs...");
 
-		dataProfile.setAcls(dataObjectAO.listPermissionsForDataObject(irodsAbsolutePath));
+		dataProfile.setAcls(ReadOnlyConnectionSet.join(aclsFuture));
 
 		log.info("look for special AVUs");
 
@@ -217,8 +233,22 @@ public class DataProfileServiceImpl extends AbstractJargonService implements Dat
 	private DataProfile<Collection> retrieveDataProfileForCollection(final String irodsAbsolutePath,
 			final ObjStat objStat) throws JargonException {
 		log.info("retrieveDataProfileForCollection()");
-		CollectionAO collectionAO = getIrodsAccessObjectFactory().getCollectionAO(getIrodsAccount());
-		Collection collection = collectionAO.findByAbsolutePath(irodsAbsolutePath);
+
+		ReadOnlyConnectionSet readOnlyConnectionSet = getIrodsAccessObjectFactory()
+				.getReadOnlyConnectionSet(getIrodsAccount());
+		Future<Collection> collectionFuture = readOnlyConnectionSet
+				.submit(() -> getCollectionAO().findByAbsolutePath(irodsAbsolutePath));
+		Future<List<MetaDataAndDomainData>> metadataFuture = readOnlyConnectionSet.submit(() -> {
+			try {
+				return getCollectionAO().findMetadataValuesForCollection(irodsAbsolutePath);
+			} catch (JargonQueryException e) {
+				throw new JargonException("error querying for AVU metadata", e);
+			}
+		});
+		Future<List<UserFilePermission>> aclsFuture = readOnlyConnectionSet
+				.submit(() -> getCollectionAO().listPermissionsForCollection(irodsAbsolutePath));
+
+		Collection collection = ReadOnlyConnectionSet.join(collectionFuture);
 		log.info("got collection:{}", collection);
 
 		DataProfile<Collection> dataProfile = new DataProfile<Collection>();
@@ -227,16 +257,11 @@ public class DataProfileServiceImpl extends AbstractJargonService implements Dat
 
 		log.info("get AVUs");
 
-		try {
-			dataProfile.setMetadata(collectionAO.findMetadataValuesForCollection(irodsAbsolutePath));
-		} catch (JargonQueryException e) {
-
-			throw new JargonException("error querying for AVU metadata", e);
-		}
+		dataProfile.setMetadata(ReadOnlyConnectionSet.join(metadataFuture));
 
 		log.info("get ACLs...");
 
-		dataProfile.setAcls(collectionAO.listPermissionsForCollection(irodsAbsolutePath));
+		dataProfile.setAcls(ReadOnlyConnectionSet.join(aclsFuture));
 
 		log.info("look for special AVUs");
 
@@ -255,6 +280,18 @@ public class DataProfileServiceImpl extends AbstractJargonService implements Dat
 
 	}
 
+	/*
+	 * Access objects are obtained inside each read only call, so that they use the
+	 * connection of the thread running the call
+	 */
+	private DataObjectAO getDataObjectAO() throws JargonException {
+		return getIrodsAccessObjectFactory().getDataObjectAO(getIrodsAccount());
+	}
+
+	private CollectionAO getCollectionAO() throws JargonException {
+		return getIrodsAccessObjectFactory().getCollectionAO(getIrodsAccount());
+	}
+
 	@Override
 	public DataTypeResolutionService getDataTypeResolutionService() {
 		return dataTypeResolutionService;
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.pub.CollectionAO;
 import org.irods.jargon.core.pub.CollectionAndDataObjectListAndSearchAO;
 import org.irods.jargon.core.pub.CollectionAndDataObjectListAndSearchAOImpl;
@@ -70,6 +72,10 @@ public class DataProfileServiceImplTest {
 		Mockito.when(dataObjectAO.findMetadataValuesForDataObject(irodsAbsolutePath)).thenReturn(avus);
 
 		Mockito.when(irodsAccessObjectFactory.getDataObjectAO(irodsAccount)).thenReturn(dataObjectAO);
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(Mockito.mock(IRODSSession.class),
+				irodsAccount, 2);
+		Mockito.when(irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount))
+				.thenReturn(readOnlyConnectionSet);
 
 		DataProfileService dataProfileService = new DataProfileServiceImpl(irodsAccessObjectFactory, irodsAccount,
 				resolutionService);
@@ -88,6 +94,7 @@ public class DataProfileServiceImplTest {
 
 		Assert.assertNotNull("should have path components", actual.getPathComponents());
 		Assert.assertFalse("should have path components", actual.getPathComponents().isEmpty());
+		readOnlyConnectionSet.close();
 
 	}
 
@@ -124,6 +131,10 @@ public class DataProfileServiceImplTest {
 		Mockito.when(dataObjectAO.findMetadataValuesForDataObject(dataName)).thenReturn(avus);
 
 		Mockito.when(irodsAccessObjectFactory.getDataObjectAO(irodsAccount)).thenReturn(dataObjectAO);
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(Mockito.mock(IRODSSession.class),
+				irodsAccount, 0);
+		Mockito.when(irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount))
+				.thenReturn(readOnlyConnectionSet);
 
 		DataProfileService dataProfileService = new DataProfileServiceImpl(irodsAccessObjectFactory, irodsAccount,
 				resolutionService);
@@ -179,6 +190,10 @@ public class DataProfileServiceImplTest {
 		Mockito.when(collectionAO.findMetadataValuesForCollection(collName)).thenReturn(avus);
 
 		Mockito.when(irodsAccessObjectFactory.getCollectionAO(irodsAccount)).thenReturn(collectionAO);
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(Mockito.mock(IRODSSession.class),
+				irodsAccount, 0);
+		Mockito.when(irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount))
+				.thenReturn(readOnlyConnectionSet);
 
 		DataProfileService dataProfileService = new DataProfileServiceImpl(irodsAccessObjectFactory, irodsAccount,
 				resolutionService);
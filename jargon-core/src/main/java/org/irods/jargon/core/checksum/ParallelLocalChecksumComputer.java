@@ -0,0 +1,194 @@
+/**
+ *
+ */
+package org.irods.jargon.core.checksum;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.protovalues.ChecksumEncodingEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes local checksums for many files at once on a bounded pool of worker
+ * threads. Each worker uses the routines in
+ * {@link org.irods.jargon.core.utils.LocalFileUtils}, which reuse a per-thread
+ * digest, so hashing a large directory tree does not create a digest per file.
+ * <p>
+ * This object holds a thread pool and should be shut down via
+ * {@link #shutdown()} when no longer needed.
+ */
+public class ParallelLocalChecksumComputer {
+
+	public static final Logger log = LoggerFactory.getLogger(ParallelLocalChecksumComputer.class);
+
+	private final ExecutorService executorService;
+	private final LocalChecksumComputerFactory localChecksumComputerFactory;
+
+	/**
+	 * Create a computer with a pool sized to the number of available processors
+	 */
+	public ParallelLocalChecksumComputer() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a computer with a fixed number of hashing threads
+	 *
+	 * @param numberOfThreads
+	 *            {@code int} with the maximum number of files hashed concurrently
+	 */
+	public ParallelLocalChecksumComputer(final int numberOfThreads) {
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException("numberOfThreads must be > 0");
+		}
+		executorService = Executors.newFixedThreadPool(numberOfThreads, new ChecksumThreadFactory());
+		localChecksumComputerFactory = new LocalChecksumComputerFactoryImpl();
+	}
+
+	/**
+	 * Compute checksums for every file under the given directory, recursively.
+	 *
+	 * @param localDirectory
+	 *            {@link File} that is a local directory
+	 * @param checksumEncodingEnum
+	 *            {@link ChecksumEncodingEnum} to compute
+	 * @return {@code Map} of absolute file path to {@link ChecksumValue}, in
+	 *         directory walk order
+	 * @throws ChecksumMethodUnavailableException
+	 *             if the encoding is not supported locally
+	 * @throws JargonException
+	 *             if any file cannot be hashed
+	 */
+	public Map<String, ChecksumValue> computeChecksumsForDirectory(final File localDirectory,
+			final ChecksumEncodingEnum checksumEncodingEnum) throws ChecksumMethodUnavailableException, JargonException {
+
+		log.info("computeChecksumsForDirectory()");
+
+		if (localDirectory == null) {
+			throw new IllegalArgumentException("null localDirectory");
+		}
+
+		if (!localDirectory.isDirectory()) {
+			throw new IllegalArgumentException("localDirectory is not a directory");
+		}
+
+		log.info("localDirectory:{}", localDirectory);
+		List<File> files = new ArrayList<File>();
+		collectFiles(localDirectory, files);
+		return computeChecksumsForFiles(files, checksumEncodingEnum);
+	}
+
+	/**
+	 * Compute checksums for the given files concurrently
+	 *
+	 * @param localFiles
+	 *            {@code Collection} of {@link File} that are local files
+	 * @param checksumEncodingEnum
+	 *            {@link ChecksumEncodingEnum} to compute
+	 * @return {@code Map} of absolute file path to {@link ChecksumValue}, in the
+	 *         iteration order of the given files
+	 * @throws ChecksumMethodUnavailableException
+	 *             if the encoding is not supported locally
+	 * @throws JargonException
+	 *             if any file cannot be hashed
+	 */
+	public Map<String, ChecksumValue> computeChecksumsForFiles(final Collection<File> localFiles,
+			final ChecksumEncodingEnum checksumEncodingEnum) throws ChecksumMethodUnavailableException, JargonException {
+
+		log.info("computeChecksumsForFiles()");
+
+		if (localFiles == null) {
+			throw new IllegalArgumentException("null localFiles");
+		}
+
+		if (checksumEncodingEnum == null) {
+			throw new IllegalArgumentException("null checksumEncodingEnum");
+		}
+
+		final AbstractChecksumComputeStrategy strategy = localChecksumComputerFactory.instance(checksumEncodingEnum);
+		Map<String, Future<ChecksumValue>> futures = new LinkedHashMap<String, Future<ChecksumValue>>();
+
+		for (File localFile : localFiles) {
+			final String absolutePath = localFile.getAbsolutePath();
+			futures.put(absolutePath, executorService.submit(() -> {
+				return strategy.computeChecksumValueForLocalFile(absolutePath);
+			}));
+		}
+
+		Map<String, ChecksumValue> results = new LinkedHashMap<String, ChecksumValue>(futures.size());
+		try {
+			for (Map.Entry<String, Future<ChecksumValue>> entry : futures.entrySet()) {
+				results.put(entry.getKey(), entry.getValue().get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancelAll(futures);
+			throw new JargonException("interrupted computing checksums", e);
+		} catch (ExecutionException e) {
+			cancelAll(futures);
+			if (e.getCause() instanceof JargonException) {
+				throw (JargonException) e.getCause();
+			}
+			throw new JargonException("error computing checksums", e.getCause());
+		}
+
+		log.info("computed {} checksums", results.size());
+		return results;
+	}
+
+	/**
+	 * Shut down the hashing threads
+	 */
+	public void shutdown() {
+		executorService.shutdown();
+	}
+
+	private void cancelAll(final Map<String, Future<ChecksumValue>> futures) {
+		for (Future<ChecksumValue> future : futures.values()) {
+			future.cancel(true);
+		}
+	}
+
+	private void collectFiles(final File directory, final List<File> files) {
+		File[] children = directory.listFiles();
+		if (children == null) {
+			log.warn("unable to list directory:{}", directory);
+			return;
+		}
+		for (File child : children) {
+			if (child.isDirectory()) {
+				collectFiles(child, files);
+			} else if (child.isFile()) {
+				files.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Daemon threads so an un-shutdown computer does not hold the JVM open
+	 */
+	private static class ChecksumThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable r) {
+			Thread thread = new Thread(r, "jargon-checksum-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -3,8 +3,12 @@
  */
 package org.irods.jargon.core.connection;
 
+import org.irods.jargon.core.connection.ConnectionSetupTimings.Phase;
+import org.irods.jargon.core.connection.auth.AuthResponse;
 import org.irods.jargon.core.exception.AuthenticationException;
 import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.exception.NegotiationOutcomeChangedException;
+import org.irods.jargon.core.exception.PamTemporaryPasswordRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,22 +87,59 @@ abstract class AbstractIRODSMidLevelProtocolFactory {
 		log.debug("instance() method...calling connection life cycle");
 
 		log.debug("create connection....");
+		ConnectionSetupTimings connectionSetupTimings = new ConnectionSetupTimings();
+		long phaseStart = System.nanoTime();
 		AbstractConnection connection = irodsConnectionFactory.instance(irodsAccount, irodsSession,
 				irodsProtocolManager);
+		connectionSetupTimings.addPhaseNanos(Phase.CONNECT, System.nanoTime() - phaseStart);
 
 		IRODSMidLevelProtocol protocol = createInitialProtocol(connection, irodsProtocolManager);
+		protocol.setConnectionSetupTimings(connectionSetupTimings);
 		try {
 			// add a session reference to the protocol.
 			protocol.setIrodsSession(irodsSession);
 
 			log.debug("...have connection, now authenticate given the auth scheme in the iRODS account...");
+			phaseStart = System.nanoTime();
+			long nestedPhaseNanos = connectionSetupTimings.getTotalNanos();
 			protocol = authenticate(protocol, irodsAccount, irodsSession, irodsProtocolManager);
+			// startup, negotiation and ssl are timed inside authenticate, the rest is authentication
+			nestedPhaseNanos = connectionSetupTimings.getTotalNanos() - nestedPhaseNanos;
+			connectionSetupTimings.addPhaseNanos(Phase.AUTHENTICATION,
+					System.nanoTime() - phaseStart - nestedPhaseNanos);
+
 			log.debug("..authenticated...now decorate and return...");
-			return decorate(protocol, irodsAccount, irodsSession);
+			phaseStart = System.nanoTime();
+			IRODSMidLevelProtocol decorated = decorate(protocol, irodsAccount, irodsSession);
+			connectionSetupTimings.addPhaseNanos(Phase.SERVER_PROPERTIES, System.nanoTime() - phaseStart);
+			decorated.setConnectionSetupTimings(connectionSetupTimings);
+			log.debug("connection setup:{}", connectionSetupTimings);
+
+			if (decorated.isInstrumented()) {
+				irodsSession.getConnectionMetricsRegistry().recordConnectionOpened();
+				irodsSession.getConnectionMetricsRegistry().recordConnectionSetup(connectionSetupTimings);
+			}
+			return decorated;
+		} catch (PamTemporaryPasswordRejectedException e) {
+			log.info("cached PAM temporary password rejected, reconnecting with a full PAM login");
+			PamTemporaryPasswordCache pamTemporaryPasswordCache = irodsSession.getPamTemporaryPasswordCache();
+			if (pamTemporaryPasswordCache != null) {
+				pamTemporaryPasswordCache.evict(irodsAccount);
+			}
+			protocol.disconnectWithForce();
+			return instance(irodsSession, irodsAccount, irodsProtocolManager);
 		} catch (AuthenticationException e) {
 			log.warn("auth failure, be sure to abandon agent)", e);
 			protocol.disconnectWithForce();
 			throw e;
+		} catch (NegotiationOutcomeChangedException e) {
+			log.info("server negotiation policy changed, reconnecting with a full negotiation");
+			NegotiationOutcomeCache negotiationOutcomeCache = irodsSession.getNegotiationOutcomeCache();
+			if (negotiationOutcomeCache != null) {
+				negotiationOutcomeCache.evict(irodsAccount);
+			}
+			protocol.disconnectWithForce();
+			return instance(irodsSession, irodsAccount, irodsProtocolManager);
 		}
 
 	}
@@ -179,7 +220,10 @@ abstract class AbstractIRODSMidLevelProtocolFactory {
 	 *         This may be decorated with additional information in later steps in
 	 *         the creating life-cycle.
 	 * @throws AuthenticationException if the authentication failed for invalid
-	 *                                 credentials
+	 *                                 credentials, a
+	 *                                 {@link PamTemporaryPasswordRejectedException}
+	 *                                 if a cached PAM temporary password was
+	 *                                 rejected
 	 * @throws JargonException         for general errors
 	 */
 
@@ -201,11 +245,27 @@ abstract class AbstractIRODSMidLevelProtocolFactory {
 			throw new IllegalArgumentException("null irodsSession");
 		}
 
+		protocol.setIrodsSession(irodsSession);
+
+		PamTemporaryPasswordCache pamTemporaryPasswordCache = null;
+		if (irodsAccount.getAuthenticationScheme() == AuthScheme.PAM) {
+			pamTemporaryPasswordCache = irodsSession.getPamTemporaryPasswordCache();
+		}
+
+		if (pamTemporaryPasswordCache != null) {
+			String temporaryPassword = pamTemporaryPasswordCache.retrieveTemporaryPassword(irodsAccount);
+			if (temporaryPassword != null) {
+				try {
+					return authenticateWithTemporaryPassword(protocol, irodsAccount, temporaryPassword);
+				} catch (AuthenticationException e) {
+					throw new PamTemporaryPasswordRejectedException("cached PAM temporary password rejected", e);
+				}
+			}
+		}
+
 		log.debug("get auth mechanism");
 		AuthMechanism authMechanism = getAuthenticationFactory().instanceAuthMechanism(irodsAccount);
 
-		protocol.setIrodsSession(irodsSession);
-
 		log.debug("authenticate...");
 		IRODSMidLevelProtocol authenticatedProtocol = null;
 		try {
@@ -217,7 +277,41 @@ abstract class AbstractIRODSMidLevelProtocolFactory {
 			throw e;
 		}
 
+		if (pamTemporaryPasswordCache != null && authenticatedProtocol.getAuthResponse() != null
+				&& authenticatedProtocol.getAuthResponse().getAuthenticatedIRODSAccount() != null) {
+			pamTemporaryPasswordCache.cacheTemporaryPassword(irodsAccount,
+					authenticatedProtocol.getAuthResponse().getAuthenticatedIRODSAccount().getPassword());
+		}
+
 		return authenticatedProtocol;
 
 	}
+
+	/**
+	 * Log in with a temporary password cached from an earlier PAM login for the
+	 * same credentials, skipping the SSL wrapped PAM exchange and the second
+	 * connection
+	 */
+	private IRODSMidLevelProtocol authenticateWithTemporaryPassword(final IRODSMidLevelProtocol protocol,
+			final IRODSAccount pamAccount, final String temporaryPassword)
+			throws AuthenticationException, JargonException {
+
+		log.debug("authenticating with cached PAM temporary password");
+		IRODSAccount temporaryAccount = new IRODSAccount(pamAccount.getHost(), pamAccount.getPort(),
+				pamAccount.getUserName(), temporaryPassword, pamAccount.getHomeDirectory(), pamAccount.getZone(),
+				pamAccount.getDefaultStorageResource());
+		temporaryAccount.setAuthenticationScheme(AuthScheme.STANDARD);
+
+		AuthMechanism authMechanism = getAuthenticationFactory().instanceAuthMechanism(temporaryAccount);
+		IRODSMidLevelProtocol authenticatedProtocol = authMechanism.authenticate(protocol, temporaryAccount);
+
+		/*
+		 * as with a full PAM login, the authenticating account is the PAM account
+		 */
+		AuthResponse authResponse = authenticatedProtocol.getAuthResponse();
+		if (authResponse != null) {
+			authResponse.setAuthenticatingIRODSAccount(pamAccount);
+		}
+		return authenticatedProtocol;
+	}
 }
@@ -0,0 +1,265 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.irods.jargon.core.pub.domain.UserGroup;
+import org.irods.jargon.core.utils.ExpiringLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional, bounded cache of access control decisions, keyed by host + zone,
+ * user and iRODS absolute path. This is meant to serve front ends (such as
+ * WebDAV) that check permissions on every request, and is turned on by the
+ * {@code use.acl.cache} jargon property.
+ * <p>
+ * Entries expire after a configurable time to live. Jargon access objects
+ * invalidate affected entries when they change permissions, or group
+ * membership, through this {@code IRODSSession}. Changes made by other clients
+ * are only seen once an entry expires, so the time to live should be kept
+ * short.
+ * <p>
+ * Group memberships for a user are cached here as well. Any change to group
+ * membership made through Jargon clears the whole cache, as it may change
+ * effective permissions anywhere.
+ */
+public class AccessControlCache {
+
+	public static final Logger log = LoggerFactory.getLogger(AccessControlCache.class);
+
+	private final ExpiringLruCache<AclKey, Integer> permissionCache;
+	private final ExpiringLruCache<AclKey, List<UserGroup>> userGroupCache;
+
+	/**
+	 * Create a cache with the given bounds
+	 *
+	 * @param maxEntries
+	 *            {@code int} with the max number of permission entries (and,
+	 *            separately, of user group entries) held
+	 * @param timeToLiveMillis
+	 *            {@code long} with the time to live in millis for each entry
+	 */
+	public AccessControlCache(final int maxEntries, final long timeToLiveMillis) {
+		permissionCache = new ExpiringLruCache<AclKey, Integer>(maxEntries, timeToLiveMillis);
+		userGroupCache = new ExpiringLruCache<AclKey, List<UserGroup>>(maxEntries, timeToLiveMillis);
+	}
+
+	/**
+	 * Create a cache with bounds and time to live set by the given
+	 * {@link JargonProperties}
+	 *
+	 * @param jargonProperties
+	 *            {@link JargonProperties}
+	 * @return {@link AccessControlCache}
+	 */
+	public static AccessControlCache instance(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+		return new AccessControlCache(jargonProperties.getAclCacheMaxEntries(),
+				jargonProperties.getAclCacheTimeToLiveInSeconds() * 1000L);
+	}
+
+	/**
+	 * Look up a cached permission value
+	 *
+	 * @param host
+	 *            {@code String} with the iRODS host
+	 * @param zone
+	 *            {@code String} with the iRODS zone
+	 * @param userName
+	 *            {@code String} with the user name the permission applies to
+	 * @param absolutePath
+	 *            {@code String} with the iRODS absolute path
+	 * @return {@code Integer} with the numeric permission value (as in
+	 *         {@code FilePermissionEnum}) or {@code null} if not cached
+	 */
+	public Integer retrievePermission(final String host, final String zone, final String userName,
+			final String absolutePath) {
+		return permissionCache.get(new AclKey(host, zone, userName, absolutePath));
+	}
+
+	/**
+	 * Cache a permission value
+	 *
+	 * @param host
+	 *            {@code String} with the iRODS host
+	 * @param zone
+	 *            {@code String} with the iRODS zone
+	 * @param userName
+	 *            {@code String} with the user name the permission applies to
+	 * @param absolutePath
+	 *            {@code String} with the iRODS absolute path
+	 * @param permission
+	 *            {@code int} with the numeric permission value
+	 */
+	public void cachePermission(final String host, final String zone, final String userName,
+			final String absolutePath, final int permission) {
+		permissionCache.put(new AclKey(host, zone, userName, absolutePath), permission);
+	}
+
+	/**
+	 * Invalidate cached permissions for a path, for all users.
+	 *
+	 * @param host
+	 *            {@code String} with the iRODS host
+	 * @param zone
+	 *            {@code String} with the iRODS zone
+	 * @param absolutePath
+	 *            {@code String} with the iRODS absolute path
+	 * @param recursive
+	 *            {@code boolean} that, if {@code true}, also invalidates every
+	 *            path underneath the given path
+	 */
+	public void invalidatePath(final String host, final String zone, final String absolutePath,
+			final boolean recursive) {
+		final AclKey probe = new AclKey(host, zone, "", absolutePath);
+		final String childPrefix = probe.path.endsWith("/") ? probe.path : probe.path + "/";
+		int removed = permissionCache.removeIf(key -> key.sameServer(probe)
+				&& (key.path.equals(probe.path) || (recursive && key.path.startsWith(childPrefix))));
+		log.debug("invalidated {} cached permissions for path:{}", removed, absolutePath);
+	}
+
+	/**
+	 * Look up cached user group memberships
+	 *
+	 * @param host
+	 *            {@code String} with the iRODS host
+	 * @param zone
+	 *            {@code String} with the iRODS zone
+	 * @param userName
+	 *            {@code String} with the user name
+	 * @param targetZone
+	 *            {@code String} with the zone that was queried, blank for the
+	 *            logged in zone
+	 * @return {@code List} of {@link UserGroup}, or {@code null} if not cached
+	 */
+	public List<UserGroup> retrieveUserGroups(final String host, final String zone, final String userName,
+			final String targetZone) {
+		List<UserGroup> userGroups = userGroupCache.get(new AclKey(host, zone, userName, targetZone));
+		if (userGroups == null) {
+			return null;
+		}
+		return new ArrayList<UserGroup>(userGroups);
+	}
+
+	/**
+	 * Cache user group memberships
+	 *
+	 * @param host
+	 *            {@code String} with the iRODS host
+	 * @param zone
+	 *            {@code String} with the iRODS zone
+	 * @param userName
+	 *            {@code String} with the user name
+	 * @param targetZone
+	 *            {@code String} with the zone that was queried, blank for the
+	 *            logged in zone
+	 * @param userGroups
+	 *            {@code List} of {@link UserGroup}
+	 */
+	public void cacheUserGroups(final String host, final String zone, final String userName,
+			final String targetZone, final List<UserGroup> userGroups) {
+		if (userGroups == null) {
+			throw new IllegalArgumentException("null userGroups");
+		}
+		userGroupCache.put(new AclKey(host, zone, userName, targetZone),
+				Collections.unmodifiableList(new ArrayList<UserGroup>(userGroups)));
+	}
+
+	/**
+	 * Drop every cached permission and group membership
+	 */
+	public void invalidateAll() {
+		permissionCache.clear();
+		userGroupCache.clear();
+	}
+
+	/**
+	 * @return {@code long} with the count of permission lookups served from the
+	 *         cache
+	 */
+	public long getPermissionHits() {
+		return permissionCache.getHits();
+	}
+
+	/**
+	 * @return {@code long} with the count of permission lookups not served from
+	 *         the cache
+	 */
+	public long getPermissionMisses() {
+		return permissionCache.getMisses();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("AccessControlCache [permissionCache=").append(permissionCache).append(", userGroupCache=")
+				.append(userGroupCache).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Key for cache entries, host and zone are trimmed and null zones are treated
+	 * as blank, consistent with {@link DiscoveredServerPropertiesCache}
+	 */
+	private static final class AclKey {
+		private final String host;
+		private final String zone;
+		private final String userName;
+		private final String path;
+
+		AclKey(final String host, final String zone, final String userName, final String path) {
+			if (host == null || host.isEmpty()) {
+				throw new IllegalArgumentException("null or empty host");
+			}
+
+			if (userName == null) {
+				throw new IllegalArgumentException("null userName");
+			}
+
+			if (path == null) {
+				throw new IllegalArgumentException("null path");
+			}
+
+			this.host = host.trim();
+			this.zone = zone == null ? "" : zone.trim();
+			this.userName = userName;
+			this.path = path;
+		}
+
+		boolean sameServer(final AclKey other) {
+			return host.equals(other.host) && zone.equals(other.zone);
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + host.hashCode();
+			result = prime * result + zone.hashCode();
+			result = prime * result + userName.hashCode();
+			result = prime * result + path.hashCode();
+			return result;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof AclKey)) {
+				return false;
+			}
+			AclKey other = (AclKey) obj;
+			return host.equals(other.host) && zone.equals(other.zone) && userName.equals(other.userName)
+					&& path.equals(other.path);
+		}
+	}
+
+}
@@ -5,14 +5,19 @@ import java.io.InterruptedIOException;
 import java.nio.channels.ClosedChannelException;
 
 import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.irods.jargon.core.connection.ConnectionSetupTimings.Phase;
 import org.irods.jargon.core.connection.auth.AuthResponse;
 import org.irods.jargon.core.exception.AuthenticationException;
 import org.irods.jargon.core.exception.ClientServerNegotiationException;
 import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.exception.NegotiationOutcomeChangedException;
 import org.irods.jargon.core.packinstr.ClientServerNegotiationStructInitNegotiation;
+import org.irods.jargon.core.packinstr.ClientServerNegotiationStructNotifyServerOfResult;
+import org.irods.jargon.core.packinstr.ClientServerNegotiationStructNotifyServerOfResult.Outcome;
 import org.irods.jargon.core.packinstr.StartupPack;
 import org.irods.jargon.core.packinstr.Tag;
 import org.irods.jargon.core.protovalues.RequestTypes;
+import org.irods.jargon.core.utils.IRODSConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +37,12 @@ abstract class AuthMechanism {
 
 	public String cachedChallenge = "";
 
+	/**
+	 * Negotiation outcome sent along with the startup pack, computed from the
+	 * {@link NegotiationOutcomeCache}, or {@code null} for a normal negotiation
+	 */
+	private Outcome optimisticOutcome = null;
+
 	public static final Logger log = LoggerFactory.getLogger(AuthMechanism.class);
 
 	/**
@@ -127,6 +138,10 @@ abstract class AuthMechanism {
 		 */
 
 		if (negResultPI.getName().equals(VERSION_PI_TAG)) {
+			if (optimisticOutcome != null) {
+				throw new NegotiationOutcomeChangedException(
+						"server did not negotiate, but a negotiation outcome was already sent");
+			}
 			log.debug("got version pi back instead of negotiation status, so treat as no SSL");
 			return buldStartupResponseFromVersionPI(negResultPI);
 		} else if (negResultPI.getName().equals(ClientServerNegotiationStructInitNegotiation.NEG_PI)) {
@@ -155,8 +170,19 @@ abstract class AuthMechanism {
 			ClientServerNegotiationService clientServerNegotiationService = new ClientServerNegotiationService(
 					irodsMidLevelProtocol);
 
-			StartupResponseData startupResponseData = clientServerNegotiationService.negotiate(struct);
+			StartupResponseData startupResponseData;
+			if (optimisticOutcome == null) {
+				startupResponseData = clientServerNegotiationService.negotiate(struct);
+			} else if (clientServerNegotiationService
+					.determineOutcome(struct.getSslNegotiationPolicy()) == optimisticOutcome) {
+				log.debug("server policy matches the cached policy, outcome was already sent");
+				startupResponseData = clientServerNegotiationService.completeOptimisticNegotiation(optimisticOutcome);
+			} else {
+				throw new NegotiationOutcomeChangedException(
+						"server negotiation policy is now " + struct.getSslNegotiationPolicy());
+			}
 			log.debug("negotiated configuration:{}", startupResponseData);
+			cacheServerPolicy(irodsMidLevelProtocol, irodsAccount, struct.getSslNegotiationPolicy());
 			return startupResponseData;
 
 		} else {
@@ -192,8 +218,21 @@ abstract class AuthMechanism {
 		log.debug("irodsAccount:{}", irodsAccount);
 		irodsMidLevelProtocol.setIrodsAccount(irodsAccount);
 		preConnectionStartup();
+
+		ConnectionSetupTimings connectionSetupTimings = irodsMidLevelProtocol.getConnectionSetupTimings();
+		long startupStart = System.nanoTime();
+		long sslNanosBefore = connectionSetupTimings == null ? 0L
+				: connectionSetupTimings.getPhaseNanos(Phase.SSL_HANDSHAKE);
+		optimisticOutcome = predictNegotiationOutcome(irodsMidLevelProtocol, irodsAccount);
 		sendStartupPacket(irodsAccount, irodsMidLevelProtocol);
 		StartupResponseData startupResponseData = clientServerNegotiationHook(irodsMidLevelProtocol, irodsAccount);
+		if (connectionSetupTimings != null) {
+			long sslNanos = connectionSetupTimings.getPhaseNanos(Phase.SSL_HANDSHAKE) - sslNanosBefore;
+			connectionSetupTimings.addPhaseNanos(Phase.STARTUP_NEGOTIATION,
+					System.nanoTime() - startupStart - sslNanos);
+			connectionSetupTimings.setOptimisticNegotiation(optimisticOutcome != null);
+		}
+
 		postConnectionStartupPreAuthentication();
 		IRODSMidLevelProtocol authenticatedProtocol = processAuthenticationAfterStartup(irodsAccount,
 				irodsMidLevelProtocol, startupResponseData);
@@ -203,6 +242,53 @@ abstract class AuthMechanism {
 		return authenticatedProtocol;
 	}
 
+	/**
+	 * If the server's negotiation policy is cached, compute the outcome now so it
+	 * can be sent with the startup pack
+	 *
+	 * @return {@link Outcome} to send, or {@code null} to negotiate normally
+	 */
+	private Outcome predictNegotiationOutcome(final IRODSMidLevelProtocol irodsMidLevelProtocol,
+			final IRODSAccount irodsAccount) {
+		if (irodsMidLevelProtocol.getIrodsConnection().getOperativeClientServerNegotiationPolicy()
+				.getSslNegotiationPolicy() == SslNegotiationPolicy.NO_NEGOTIATION
+				|| irodsMidLevelProtocol.getIrodsSession() == null) {
+			return null;
+		}
+
+		NegotiationOutcomeCache negotiationOutcomeCache = irodsMidLevelProtocol.getIrodsSession()
+				.getNegotiationOutcomeCache();
+		if (negotiationOutcomeCache == null) {
+			return null;
+		}
+
+		SslNegotiationPolicy serverPolicy = negotiationOutcomeCache.retrieveServerPolicy(irodsAccount);
+		if (serverPolicy == null) {
+			return null;
+		}
+
+		Outcome outcome = new ClientServerNegotiationService(irodsMidLevelProtocol).determineOutcome(serverPolicy);
+		if (outcome == Outcome.CS_NEG_FAILURE) {
+			return null;
+		}
+
+		log.debug("sending cached negotiation outcome:{} with the startup pack", outcome);
+		return outcome;
+	}
+
+	private void cacheServerPolicy(final IRODSMidLevelProtocol irodsMidLevelProtocol, final IRODSAccount irodsAccount,
+			final SslNegotiationPolicy serverPolicy) {
+		if (irodsMidLevelProtocol.getIrodsSession() == null) {
+			return;
+		}
+
+		NegotiationOutcomeCache negotiationOutcomeCache = irodsMidLevelProtocol.getIrodsSession()
+				.getNegotiationOutcomeCache();
+		if (negotiationOutcomeCache != null) {
+			negotiationOutcomeCache.cacheServerPolicy(irodsAccount, serverPolicy);
+		}
+	}
+
 	/**
 	 * This method provides a life cycle hook after the authentication process has
 	 * completed. By default, the method just returns the protocol as passed in. In
@@ -299,6 +385,21 @@ abstract class AuthMechanism {
 		try {
 			irodsCommands.sendHeader(RequestTypes.RODS_CONNECT.getRequestType(), startupPackData.length(), 0, 0, 0);
 			irodsCommands.getIrodsConnection().send(startupPackData);
+
+			if (optimisticOutcome != null) {
+				/*
+				 * the server reads this after sending its own policy, so it can go out in the
+				 * same write as the startup pack
+				 */
+				String negotiationData = ClientServerNegotiationStructNotifyServerOfResult
+						.instance(ClientServerNegotiationStructNotifyServerOfResult.STATUS_SUCCESS,
+								optimisticOutcome.name())
+						.getParsedTags();
+				irodsCommands.sendHeader(IRODSConstants.RODS_NEG_REQ, negotiationData.length(), 0, 0,
+						ClientServerNegotiationStructNotifyServerOfResult.API_NBR);
+				irodsCommands.getIrodsConnection().send(negotiationData);
+			}
+
 			irodsCommands.getIrodsConnection().flush();
 		} catch (ClosedChannelException e) {
 			log.error("closed channel", e);
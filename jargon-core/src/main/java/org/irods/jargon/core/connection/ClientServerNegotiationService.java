@@ -5,6 +5,8 @@ package org.irods.jargon.core.connection;
 
 import java.io.IOException;
 
+import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.irods.jargon.core.connection.ConnectionSetupTimings.Phase;
 import org.irods.jargon.core.exception.ClientServerNegotiationException;
 import org.irods.jargon.core.exception.EncryptionException;
 import org.irods.jargon.core.exception.JargonException;
@@ -120,8 +122,7 @@ class ClientServerNegotiationService {
 		 * response to that negotiation
 		 */
 
-		Outcome negotiatedOutcome = negotiationTable[referToNegotiationPolicy().getSslNegotiationPolicy()
-				.ordinal()][struct.getSslNegotiationPolicy().ordinal()];
+		Outcome negotiatedOutcome = determineOutcome(struct.getSslNegotiationPolicy());
 		log.debug("negotiatedOutcome:{}", negotiatedOutcome);
 
 		if (negotiatedOutcome == Outcome.CS_NEG_FAILURE) {
@@ -138,6 +139,41 @@ class ClientServerNegotiationService {
 
 	}
 
+	/**
+	 * Look up the negotiation outcome for the client's policy and a given server
+	 * policy in the negotiation table
+	 *
+	 * @param serverPolicy {@link SslNegotiationPolicy} announced by the server
+	 * @return {@link Outcome}, which is {@code CS_NEG_FAILURE} for a policy that
+	 *         cannot be negotiated
+	 */
+	Outcome determineOutcome(final SslNegotiationPolicy serverPolicy) {
+		int clientIndex = referToNegotiationPolicy().getSslNegotiationPolicy().ordinal();
+		int serverIndex = serverPolicy.ordinal();
+		if (clientIndex >= negotiationTable.length || serverIndex >= negotiationTable.length) {
+			return Outcome.CS_NEG_FAILURE;
+		}
+		return negotiationTable[clientIndex][serverIndex];
+	}
+
+	/**
+	 * Finish a negotiation where the client already sent its outcome along with
+	 * the startup pack, computed from a cached server policy. The server's
+	 * policy has been read and found to give the same outcome, so all that
+	 * remains is to read the version the server sends after the negotiation.
+	 *
+	 * @param negotiatedOutcome {@link Outcome} that was sent to the server
+	 * @return {@link StartupResponseData} with the result of the startup process
+	 * @throws JargonException for iRODS error
+	 */
+	StartupResponseData completeOptimisticNegotiation(final Outcome negotiatedOutcome) throws JargonException {
+		log.debug("completeOptimisticNegotiation()");
+		Tag versionPiTag = irodsMidLevelProtocol.readMessage();
+		StartupResponseData startupResponseData = processVersionAfterNegotiation(negotiatedOutcome, versionPiTag);
+		irodsMidLevelProtocol.setStartupResponseData(startupResponseData);
+		return startupResponseData;
+	}
+
 	/**
 	 * After negotiation, notify the server. If the connection uses SSL, this is the
 	 * point where the connection is manipulated to wrap the socket in ssl
@@ -154,6 +190,11 @@ class ClientServerNegotiationService {
 		ClientServerNegotiationStructNotifyServerOfResult struct = ClientServerNegotiationStructNotifyServerOfResult
 				.instance(ClientServerNegotiationStructNotifyServerOfResult.STATUS_SUCCESS, negotiatedOutcome.name());
 		Tag versionPiTag = irodsMidLevelProtocol.irodsFunctionForNegotiation(struct);
+		return processVersionAfterNegotiation(negotiatedOutcome, versionPiTag);
+	}
+
+	private StartupResponseData processVersionAfterNegotiation(final Outcome negotiatedOutcome,
+			final Tag versionPiTag) throws JargonException {
 
 		/*
 		 * This section maps to rodsAgent.cpp ~ line 235, where the versionPI is sent
@@ -186,6 +227,7 @@ class ClientServerNegotiationService {
 		}
 
 		log.debug("wrapping in ssl connection");
+		long sslStart = System.nanoTime();
 		SslConnectionUtilities sslConnectionUtilities = new SslConnectionUtilities(
 				getIrodsMidLevelProtocol().getIrodsSession());
 		getIrodsMidLevelProtocol().setIrodsConnectionNonEncryptedRef(getIrodsMidLevelProtocol().getIrodsConnection());
@@ -194,6 +236,11 @@ class ClientServerNegotiationService {
 
 		configureParametersForParallelTransfer(startupResponse);
 
+		if (getIrodsMidLevelProtocol().getConnectionSetupTimings() != null) {
+			getIrodsMidLevelProtocol().getConnectionSetupTimings().addPhaseNanos(Phase.SSL_HANDSHAKE,
+					System.nanoTime() - sslStart);
+		}
+
 		getIrodsMidLevelProtocol().setStartupResponseData(startupResponse);
 		log.debug("connection now wrapped in ssl socket!");
 
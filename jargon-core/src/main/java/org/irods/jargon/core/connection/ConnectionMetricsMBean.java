@@ -0,0 +1,59 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+/**
+ * MBeans interface for the {@link DefaultConnectionMetricsRegistry}
+ */
+public interface ConnectionMetricsMBean {
+
+	long getRoundTripCount();
+
+	long getRequestBytes();
+
+	long getResponseBytes();
+
+	long getErrorCount();
+
+	long getConnectionsOpened();
+
+	long getConnectionsClosed();
+
+	long getConnectionsRenewed();
+
+	long getParallelTransferCount();
+
+	long getParallelTransferFailureCount();
+
+	long getParallelTransferBytes();
+
+	long getParallelTransferStallMillis();
+
+	/**
+	 * @return {@code String} with a summary of the most recent parallel transfer,
+	 *         or {@code null} if there has not been one
+	 */
+	String getLastParallelTransferSummary();
+
+	/**
+	 * @return {@code String[]} with a latency summary line per iRODS API number
+	 */
+	String[] getApiLatencySummaries();
+
+	/**
+	 * @return {@code String[]} with a count line per iRODS error
+	 */
+	String[] getErrorCountSummaries();
+
+	/**
+	 * @return {@code String[]} with a latency summary line per connection setup
+	 *         phase, and one for the total
+	 */
+	String[] getConnectionSetupSummaries();
+
+	long getOptimisticNegotiationCount();
+
+	void reset();
+
+}
@@ -0,0 +1,65 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.transfer.ParallelTransferStatistics;
+
+/**
+ * Receives connection level measurements from the protocol layer when the
+ * {@code jargon.instrument} property is {@code true}. The registry is held by
+ * the {@link IRODSSession} and may be replaced to send measurements to another
+ * metrics system. The default is the {@link DefaultConnectionMetricsRegistry}.
+ * <p>
+ * Methods are called on the thread doing the iRODS operation, from any number
+ * of threads at once, so implementations must be thread safe and quick.
+ */
+public interface ConnectionMetricsRegistry {
+
+	/**
+	 * Record one request and response round trip to iRODS
+	 *
+	 * @param apiNumber     {@code int} with the iRODS API number
+	 * @param elapsedNanos  {@code long} with the time from sending the request to
+	 *                      reading the response, in nanoseconds
+	 * @param requestBytes  {@code long} with the bytes sent, including any
+	 *                      streamed data
+	 * @param responseBytes {@code long} with the bytes in the response message,
+	 *                      error and byte buffer
+	 * @param status        {@code int} with the iRODS status in the response
+	 *                      header, less than zero for an iRODS error
+	 */
+	void recordApiCall(int apiNumber, long elapsedNanos, long requestBytes, long responseBytes, int status);
+
+	/**
+	 * Record a connection that was opened and authenticated
+	 */
+	void recordConnectionOpened();
+
+	/**
+	 * Record a connection that was closed, normally or for errors
+	 */
+	void recordConnectionClosed();
+
+	/**
+	 * Record a connection that was discarded and replaced because it reached the
+	 * socket renewal interval
+	 */
+	void recordConnectionRenewed();
+
+	/**
+	 * Record a completed parallel file transfer, with telemetry for each of its
+	 * streams
+	 *
+	 * @param parallelTransferStatistics {@link ParallelTransferStatistics}
+	 */
+	void recordParallelTransfer(ParallelTransferStatistics parallelTransferStatistics);
+
+	/**
+	 * Record the time spent in each phase of setting up a new connection
+	 *
+	 * @param connectionSetupTimings {@link ConnectionSetupTimings}
+	 */
+	void recordConnectionSetup(ConnectionSetupTimings connectionSetupTimings);
+
+}
@@ -0,0 +1,27 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.exception.JargonException;
+
+/**
+ * An operation run by
+ * {@link IRODSSession#executeInConnectionScope(IRODSAccount, ConnectionScopedOperation)},
+ * holding a connection only while it runs
+ *
+ * @param <T> type of the result
+ */
+@FunctionalInterface
+public interface ConnectionScopedOperation<T> {
+
+	/**
+	 * Run the operation. Any access objects used for the scoped account share one
+	 * connection, which is released when this returns.
+	 *
+	 * @return result of the operation, may be {@code null}
+	 * @throws JargonException for iRODS error
+	 */
+	T execute() throws JargonException;
+
+}
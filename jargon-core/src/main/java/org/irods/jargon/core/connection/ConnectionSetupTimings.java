@@ -0,0 +1,109 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent in each phase of setting up a connection to iRODS, kept on the
+ * {@link IRODSMidLevelProtocol} and sent to the session's
+ * {@link ConnectionMetricsRegistry} when {@code jargon.instrument} is set.
+ * Phases do not overlap, so they add up to about the total.
+ * <p>
+ * Values are set by the thread making the connection, and should be read once
+ * the connection is returned.
+ */
+public class ConnectionSetupTimings {
+
+	/**
+	 * Phases of connection setup, in order
+	 */
+	public enum Phase {
+		/**
+		 * opening the socket
+		 */
+		CONNECT,
+		/**
+		 * sending the startup pack, client/server negotiation, and reading the
+		 * version, not including any SSL handshake
+		 */
+		STARTUP_NEGOTIATION,
+		/**
+		 * SSL handshake and sending the shared secret, when SSL is negotiated
+		 */
+		SSL_HANDSHAKE,
+		/**
+		 * the authentication exchange
+		 */
+		AUTHENTICATION,
+		/**
+		 * obtaining the server properties, possibly from the cache
+		 */
+		SERVER_PROPERTIES
+	}
+
+	private final long[] phaseNanos = new long[Phase.values().length];
+	private boolean optimisticNegotiation = false;
+
+	/**
+	 * Add time to a phase
+	 *
+	 * @param phase {@link Phase}
+	 * @param nanos {@code long} with the time spent
+	 */
+	public void addPhaseNanos(final Phase phase, final long nanos) {
+		if (phase == null) {
+			throw new IllegalArgumentException("null phase");
+		}
+		phaseNanos[phase.ordinal()] += nanos;
+	}
+
+	/**
+	 * @param phase {@link Phase}
+	 * @return {@code long} with the time spent in the phase
+	 */
+	public long getPhaseNanos(final Phase phase) {
+		if (phase == null) {
+			throw new IllegalArgumentException("null phase");
+		}
+		return phaseNanos[phase.ordinal()];
+	}
+
+	/**
+	 * @return {@code long} with the time spent in all phases
+	 */
+	public long getTotalNanos() {
+		long total = 0L;
+		for (long nanos : phaseNanos) {
+			total += nanos;
+		}
+		return total;
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} if the negotiation outcome was sent
+	 *         with the startup pack, from the {@link NegotiationOutcomeCache}
+	 */
+	public boolean isOptimisticNegotiation() {
+		return optimisticNegotiation;
+	}
+
+	public void setOptimisticNegotiation(final boolean optimisticNegotiation) {
+		this.optimisticNegotiation = optimisticNegotiation;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ConnectionSetupTimings [");
+		for (Phase phase : Phase.values()) {
+			builder.append(phase.name().toLowerCase()).append("Micros=")
+					.append(TimeUnit.NANOSECONDS.toMicros(phaseNanos[phase.ordinal()])).append(", ");
+		}
+		builder.append("totalMicros=").append(TimeUnit.NANOSECONDS.toMicros(getTotalNanos()))
+				.append(", optimisticNegotiation=").append(optimisticNegotiation).append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,328 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.irods.jargon.core.connection.ConnectionSetupTimings.Phase;
+import org.irods.jargon.core.protovalues.ErrorEnum;
+import org.irods.jargon.core.transfer.ParallelTransferStatistics;
+
+/**
+ * In memory {@link ConnectionMetricsRegistry} that keeps a
+ * {@link LatencyHistogram} per iRODS API number, request and response byte
+ * counts, error counts by iRODS error code, connection open, close and
+ * renewal counts, a {@link LatencyHistogram} per connection setup phase, and
+ * totals for parallel file transfers. Recording takes no locks.
+ * <p>
+ * The {@link IRODSSession} registers its registry with the platform MBean
+ * server as {@code org.irods.jargon.core.connection:type=ConnectionMetrics}
+ * when this is the first session in the JVM, wrapped as a
+ * {@link javax.management.StandardMBean} of {@link ConnectionMetricsMBean}.
+ */
+public class DefaultConnectionMetricsRegistry implements ConnectionMetricsRegistry, ConnectionMetricsMBean {
+
+	private final ConcurrentMap<Integer, LatencyHistogram> apiLatencies = new ConcurrentHashMap<Integer, LatencyHistogram>();
+	private final ConcurrentMap<Integer, AtomicLong> errorCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+	private final AtomicLong roundTripCount = new AtomicLong();
+	private final AtomicLong requestBytes = new AtomicLong();
+	private final AtomicLong responseBytes = new AtomicLong();
+	private final AtomicLong errorCount = new AtomicLong();
+	private final AtomicLong connectionsOpened = new AtomicLong();
+	private final AtomicLong connectionsClosed = new AtomicLong();
+	private final AtomicLong connectionsRenewed = new AtomicLong();
+	private final AtomicLong parallelTransfers = new AtomicLong();
+	private final AtomicLong parallelTransferFailures = new AtomicLong();
+	private final AtomicLong parallelTransferBytes = new AtomicLong();
+	private final AtomicLong parallelTransferStallNanos = new AtomicLong();
+	private volatile ParallelTransferStatistics lastParallelTransfer = null;
+	private final LatencyHistogram[] setupPhaseLatencies = new LatencyHistogram[Phase.values().length];
+	private final LatencyHistogram setupLatency = new LatencyHistogram();
+	private final AtomicLong optimisticNegotiations = new AtomicLong();
+
+	public DefaultConnectionMetricsRegistry() {
+		for (int i = 0; i < setupPhaseLatencies.length; i++) {
+			setupPhaseLatencies[i] = new LatencyHistogram();
+		}
+	}
+
+	@Override
+	public void recordApiCall(final int apiNumber, final long elapsedNanos, final long requestBytes,
+			final long responseBytes, final int status) {
+		LatencyHistogram histogram = apiLatencies.get(apiNumber);
+		if (histogram == null) {
+			LatencyHistogram newHistogram = new LatencyHistogram();
+			histogram = apiLatencies.putIfAbsent(apiNumber, newHistogram);
+			if (histogram == null) {
+				histogram = newHistogram;
+			}
+		}
+		histogram.record(elapsedNanos);
+
+		roundTripCount.incrementAndGet();
+		this.requestBytes.addAndGet(requestBytes);
+		this.responseBytes.addAndGet(responseBytes);
+
+		if (status < 0) {
+			errorCount.incrementAndGet();
+			AtomicLong count = errorCounts.get(status);
+			if (count == null) {
+				AtomicLong newCount = new AtomicLong();
+				count = errorCounts.putIfAbsent(status, newCount);
+				if (count == null) {
+					count = newCount;
+				}
+			}
+			count.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void recordConnectionOpened() {
+		connectionsOpened.incrementAndGet();
+	}
+
+	@Override
+	public void recordConnectionClosed() {
+		connectionsClosed.incrementAndGet();
+	}
+
+	@Override
+	public void recordConnectionRenewed() {
+		connectionsRenewed.incrementAndGet();
+	}
+
+	@Override
+	public void recordParallelTransfer(final ParallelTransferStatistics parallelTransferStatistics) {
+		if (parallelTransferStatistics == null) {
+			throw new IllegalArgumentException("null parallelTransferStatistics");
+		}
+		parallelTransfers.incrementAndGet();
+		if (!parallelTransferStatistics.isSuccessful()) {
+			parallelTransferFailures.incrementAndGet();
+		}
+		parallelTransferBytes.addAndGet(parallelTransferStatistics.getTotalBytesTransferred());
+		parallelTransferStallNanos.addAndGet(parallelTransferStatistics.getTotalStallNanos());
+		lastParallelTransfer = parallelTransferStatistics;
+	}
+
+	@Override
+	public void recordConnectionSetup(final ConnectionSetupTimings connectionSetupTimings) {
+		if (connectionSetupTimings == null) {
+			throw new IllegalArgumentException("null connectionSetupTimings");
+		}
+		for (Phase phase : Phase.values()) {
+			setupPhaseLatencies[phase.ordinal()].record(connectionSetupTimings.getPhaseNanos(phase));
+		}
+		setupLatency.record(connectionSetupTimings.getTotalNanos());
+		if (connectionSetupTimings.isOptimisticNegotiation()) {
+			optimisticNegotiations.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Get the latency histogram for a connection setup phase
+	 *
+	 * @param phase {@link Phase}
+	 * @return {@link LatencyHistogram}
+	 */
+	public LatencyHistogram getConnectionSetupHistogram(final Phase phase) {
+		if (phase == null) {
+			throw new IllegalArgumentException("null phase");
+		}
+		return setupPhaseLatencies[phase.ordinal()];
+	}
+
+	/**
+	 * @return {@link LatencyHistogram} for the total time to set up a connection
+	 */
+	public LatencyHistogram getConnectionSetupTotalHistogram() {
+		return setupLatency;
+	}
+
+	/**
+	 * @return {@link ParallelTransferStatistics} for the most recent parallel
+	 *         transfer, or {@code null} if there has not been one
+	 */
+	public ParallelTransferStatistics getLastParallelTransfer() {
+		return lastParallelTransfer;
+	}
+
+	/**
+	 * Get the latency histogram for an iRODS API number
+	 *
+	 * @param apiNumber {@code int} with the iRODS API number
+	 * @return {@link LatencyHistogram}, or {@code null} if the API has not been
+	 *         called
+	 */
+	public LatencyHistogram getApiLatencyHistogram(final int apiNumber) {
+		return apiLatencies.get(apiNumber);
+	}
+
+	/**
+	 * @return {@code Map} of iRODS API number to {@link LatencyHistogram}, sorted
+	 *         by API number
+	 */
+	public Map<Integer, LatencyHistogram> getApiLatencyHistograms() {
+		return Collections.unmodifiableMap(new TreeMap<Integer, LatencyHistogram>(apiLatencies));
+	}
+
+	/**
+	 * @return {@code Map} of iRODS error code to the number of responses with that
+	 *         code, sorted by code
+	 */
+	public Map<Integer, Long> getErrorCounts() {
+		Map<Integer, Long> counts = new TreeMap<Integer, Long>();
+		for (Map.Entry<Integer, AtomicLong> entry : errorCounts.entrySet()) {
+			counts.put(entry.getKey(), entry.getValue().get());
+		}
+		return Collections.unmodifiableMap(counts);
+	}
+
+	@Override
+	public long getRoundTripCount() {
+		return roundTripCount.get();
+	}
+
+	@Override
+	public long getRequestBytes() {
+		return requestBytes.get();
+	}
+
+	@Override
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return errorCount.get();
+	}
+
+	@Override
+	public long getConnectionsOpened() {
+		return connectionsOpened.get();
+	}
+
+	@Override
+	public long getConnectionsClosed() {
+		return connectionsClosed.get();
+	}
+
+	@Override
+	public long getConnectionsRenewed() {
+		return connectionsRenewed.get();
+	}
+
+	@Override
+	public long getParallelTransferCount() {
+		return parallelTransfers.get();
+	}
+
+	@Override
+	public long getParallelTransferFailureCount() {
+		return parallelTransferFailures.get();
+	}
+
+	@Override
+	public long getParallelTransferBytes() {
+		return parallelTransferBytes.get();
+	}
+
+	@Override
+	public long getParallelTransferStallMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(parallelTransferStallNanos.get());
+	}
+
+	@Override
+	public String getLastParallelTransferSummary() {
+		ParallelTransferStatistics last = lastParallelTransfer;
+		return last == null ? null : last.toString();
+	}
+
+	@Override
+	public String[] getApiLatencySummaries() {
+		Map<Integer, LatencyHistogram> histograms = getApiLatencyHistograms();
+		String[] summaries = new String[histograms.size()];
+		int i = 0;
+		for (Map.Entry<Integer, LatencyHistogram> entry : histograms.entrySet()) {
+			summaries[i++] = "api " + entry.getKey() + ": " + entry.getValue();
+		}
+		return summaries;
+	}
+
+	@Override
+	public String[] getErrorCountSummaries() {
+		Map<Integer, Long> counts = getErrorCounts();
+		String[] summaries = new String[counts.size()];
+		int i = 0;
+		for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+			summaries[i++] = entry.getKey() + " " + describeError(entry.getKey()) + ": " + entry.getValue();
+		}
+		return summaries;
+	}
+
+	@Override
+	public String[] getConnectionSetupSummaries() {
+		Phase[] phases = Phase.values();
+		String[] summaries = new String[phases.length + 1];
+		for (Phase phase : phases) {
+			summaries[phase.ordinal()] = phase.name().toLowerCase() + ": " + setupPhaseLatencies[phase.ordinal()];
+		}
+		summaries[phases.length] = "total: " + setupLatency;
+		return summaries;
+	}
+
+	@Override
+	public long getOptimisticNegotiationCount() {
+		return optimisticNegotiations.get();
+	}
+
+	@Override
+	public void reset() {
+		apiLatencies.clear();
+		errorCounts.clear();
+		roundTripCount.set(0L);
+		requestBytes.set(0L);
+		responseBytes.set(0L);
+		errorCount.set(0L);
+		connectionsOpened.set(0L);
+		connectionsClosed.set(0L);
+		connectionsRenewed.set(0L);
+		parallelTransfers.set(0L);
+		parallelTransferFailures.set(0L);
+		parallelTransferBytes.set(0L);
+		parallelTransferStallNanos.set(0L);
+		lastParallelTransfer = null;
+		for (LatencyHistogram histogram : setupPhaseLatencies) {
+			histogram.reset();
+		}
+		setupLatency.reset();
+		optimisticNegotiations.set(0L);
+	}
+
+	/**
+	 * Name an iRODS error code by its {@link ErrorEnum}, falling back to the base
+	 * code when the code carries a sub code (e.g. an errno)
+	 */
+	static String describeError(final int status) {
+		try {
+			return ErrorEnum.valueOf(status).name();
+		} catch (IllegalArgumentException e) {
+			// try the base code
+		}
+		try {
+			return ErrorEnum.valueOf(status - status % 1000).name();
+		} catch (IllegalArgumentException e) {
+			return "UNKNOWN";
+		}
+	}
+
+}
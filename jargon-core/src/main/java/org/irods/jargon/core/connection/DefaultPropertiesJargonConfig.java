@@ -613,4 +613,109 @@ public class DefaultPropertiesJargonConfig implements JargonProperties {
 		return verifyPropExistsAndGetAsInt("replica.token.cache.timeout.seconds");
 	}
 
+	@Override
+	public boolean isUsingAclCache() {
+		return verifyPropExistsAndGetAsBoolean("use.acl.cache");
+	}
+
+	@Override
+	public int getAclCacheTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("acl.cache.time.to.live.seconds");
+	}
+
+	@Override
+	public int getAclCacheMaxEntries() {
+		return verifyPropExistsAndGetAsInt("acl.cache.max.entries");
+	}
+
+	@Override
+	public int getDiscoveredServerPropertiesCacheTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("discovered.server.properties.cache.time.to.live.seconds");
+	}
+
+	@Override
+	public int getDiscoveredServerPropertiesCacheRefreshAheadSeconds() {
+		return verifyPropExistsAndGetAsInt("discovered.server.properties.cache.refresh.ahead.seconds");
+	}
+
+	@Override
+	public int getDiscoveredServerPropertiesCacheMaxEntries() {
+		return verifyPropExistsAndGetAsInt("discovered.server.properties.cache.max.entries");
+	}
+
+	@Override
+	public String getDiscoveredServerPropertiesCacheSnapshotFile() {
+		return verifyPropExistsAndGetAsString("discovered.server.properties.cache.snapshot.file");
+	}
+
+	@Override
+	public int getPamTemporaryPasswordCacheTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("pam.temporary.password.cache.time.to.live.seconds");
+	}
+
+	@Override
+	public boolean isSslSessionResumption() {
+		return verifyPropExistsAndGetAsBoolean("ssl.session.resumption");
+	}
+
+	@Override
+	public int getProtocolTraceBufferSize() {
+		return verifyPropExistsAndGetAsInt("protocol.trace.buffer.size");
+	}
+
+	@Override
+	public int getProtocolTraceSampleInterval() {
+		return verifyPropExistsAndGetAsInt("protocol.trace.sample.interval");
+	}
+
+	@Override
+	public int getReadOnlyConnectionsPerAccount() {
+		return verifyPropExistsAndGetAsInt("read.only.connections.per.account");
+	}
+
+	@Override
+	public int getReadOnlyConnectionsIdleTimeInSeconds() {
+		return verifyPropExistsAndGetAsInt("read.only.connections.idle.time.seconds");
+	}
+
+	@Override
+	public int getNegotiationOutcomeCacheTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("negotiation.outcome.cache.time.to.live.seconds");
+	}
+
+	@Override
+	public boolean isUsingQueryResultCache() {
+		return verifyPropExistsAndGetAsBoolean("use.query.result.cache");
+	}
+
+	@Override
+	public int getQueryResultCacheTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("query.result.cache.time.to.live.seconds");
+	}
+
+	@Override
+	public int getQueryResultCacheStaticTimeToLiveInSeconds() {
+		return verifyPropExistsAndGetAsInt("query.result.cache.static.time.to.live.seconds");
+	}
+
+	@Override
+	public int getQueryResultCacheMaxEntries() {
+		return verifyPropExistsAndGetAsInt("query.result.cache.max.entries");
+	}
+
+	@Override
+	public int getQueryResultCacheMaxRows() {
+		return verifyPropExistsAndGetAsInt("query.result.cache.max.rows");
+	}
+
+	@Override
+	public int getCollectionPagerPrefetchPages() {
+		return verifyPropExistsAndGetAsInt("collection.pager.prefetch.pages");
+	}
+
+	@Override
+	public int getCollectionPagerPrefetchIdleTimeInSeconds() {
+		return verifyPropExistsAndGetAsInt("collection.pager.prefetch.idle.time.seconds");
+	}
+
 }
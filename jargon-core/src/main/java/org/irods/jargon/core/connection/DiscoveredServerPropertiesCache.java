@@ -3,9 +3,20 @@
  */
 package org.irods.jargon.core.connection;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.irods.jargon.core.connection.DiscoveredServerPropertiesSnapshot.ClientHintsEntry;
+import org.irods.jargon.core.connection.DiscoveredServerPropertiesSnapshot.PropertiesEntry;
+import org.irods.jargon.core.connection.DiscoveredServerPropertiesSnapshot.ServerPropertiesEntry;
+import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.domain.ClientHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,18 +41,51 @@ import org.slf4j.LoggerFactory;
  * This class also includes other cacheable data, such as the
  * {@code IRODSServerProperties} that is otherwise repeatedly obtained from
  * iRODS on connection
+ * <p>
+ * By default entries never expire and the cache is unbounded, as has always
+ * been the case. A time to live may be set (see {@link #configure}) so that
+ * server upgrades are noticed, as well as a bound on the number of host and
+ * zone entries. If a {@link DiscoveredServerPropertiesRefresher} is registered,
+ * server properties and client hints that are looked up within the refresh
+ * ahead window before expiry are refreshed on a background thread, while the
+ * cached value continues to be returned. No refresher is registered by
+ * {@code IRODSSession}, as refreshing needs an account to connect with, so
+ * refresh ahead only takes effect once the caller registers one with
+ * {@link #setRefresher}, typically an
+ * {@code AccountBasedServerPropertiesRefresher} with an account for each host
+ * and zone. The contents may be saved to, and
+ * warmed from, a JSON {@link DiscoveredServerPropertiesSnapshot} so that a
+ * restarted client can skip the discovery round trips for known zones.
  *
  * @author Mike Conway - DICE (www.irods.org)
  *
  */
 public class DiscoveredServerPropertiesCache {
 
-	private ConcurrentHashMap<String, ConcurrentHashMap<String, String>> discoveredServerPropertiesCache = new ConcurrentHashMap<String, ConcurrentHashMap<String, String>>(
+	private ConcurrentHashMap<String, CachedValue<ConcurrentHashMap<String, String>>> discoveredServerPropertiesCache = new ConcurrentHashMap<String, CachedValue<ConcurrentHashMap<String, String>>>(
+			8, 0.9f, 1);
+	private ConcurrentHashMap<String, CachedValue<IRODSServerProperties>> cacheOfIRODSServerProperties = new ConcurrentHashMap<String, CachedValue<IRODSServerProperties>>(
 			8, 0.9f, 1);
-	private ConcurrentHashMap<String, IRODSServerProperties> cacheOfIRODSServerProperties = new ConcurrentHashMap<String, IRODSServerProperties>(
+	private ConcurrentHashMap<String, CachedValue<ClientHints>> cacheOfClientHints = new ConcurrentHashMap<String, CachedValue<ClientHints>>(
 			8, 0.9f, 1);
-	private ConcurrentHashMap<String, ClientHints> cacheOfClientHints = new ConcurrentHashMap<String, ClientHints>(8,
-			0.9f, 1);
+
+	/*
+	 * expiry policy, 0 values mean no expiry, no refresh ahead, and no bound
+	 */
+	private volatile long timeToLiveMillis = 0L;
+	private volatile long refreshAheadMillis = 0L;
+	private volatile int maxEntries = 0;
+
+	private volatile DiscoveredServerPropertiesRefresher refresher = null;
+	private ExecutorService refreshExecutor = null;
+	private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong expirations = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+	private final AtomicLong refreshFailures = new AtomicLong();
 
 	public static final Logger log = LoggerFactory.getLogger(DiscoveredServerPropertiesCache.class);
 
@@ -60,6 +104,91 @@ public class DiscoveredServerPropertiesCache {
 	public DiscoveredServerPropertiesCache() {
 	}
 
+	/**
+	 * Set the expiry policy for the cache. This may be changed at any time, and
+	 * applies to entries already cached.
+	 *
+	 * @param timeToLiveMillis   {@code long} with the time an entry stays valid
+	 *                           after it is cached, 0 for no expiry
+	 * @param refreshAheadMillis {@code long} with the window before expiry in
+	 *                           which a looked up server properties or client
+	 *                           hints entry is refreshed in the background, 0 to
+	 *                           turn refresh ahead off. Only has an effect with a
+	 *                           time to live and a registered
+	 *                           {@link DiscoveredServerPropertiesRefresher}
+	 * @param maxEntries         {@code int} with the max number of host and zone
+	 *                           entries held in each part of the cache, the oldest
+	 *                           are evicted past this bound, 0 for unbounded
+	 */
+	public void configure(final long timeToLiveMillis, final long refreshAheadMillis, final int maxEntries) {
+		if (timeToLiveMillis < 0) {
+			throw new IllegalArgumentException("timeToLiveMillis must be >= 0");
+		}
+
+		if (refreshAheadMillis < 0) {
+			throw new IllegalArgumentException("refreshAheadMillis must be >= 0");
+		}
+
+		if (maxEntries < 0) {
+			throw new IllegalArgumentException("maxEntries must be >= 0");
+		}
+
+		log.debug("configure() timeToLiveMillis:{}, refreshAheadMillis:{}, maxEntries:{}", timeToLiveMillis,
+				refreshAheadMillis, maxEntries);
+		this.timeToLiveMillis = timeToLiveMillis;
+		this.refreshAheadMillis = refreshAheadMillis;
+		this.maxEntries = maxEntries;
+		evictIfOverBound(discoveredServerPropertiesCache);
+		evictIfOverBound(cacheOfIRODSServerProperties);
+		evictIfOverBound(cacheOfClientHints);
+	}
+
+	/**
+	 * Set the expiry policy from the {@code discovered.server.properties.cache.*}
+	 * jargon properties
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 */
+	public void configure(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+
+		configure(jargonProperties.getDiscoveredServerPropertiesCacheTimeToLiveInSeconds() * 1000L,
+				jargonProperties.getDiscoveredServerPropertiesCacheRefreshAheadSeconds() * 1000L,
+				jargonProperties.getDiscoveredServerPropertiesCacheMaxEntries());
+	}
+
+	/**
+	 * Register (or, with {@code null}, remove) the source used to refresh entries
+	 * ahead of expiry
+	 *
+	 * @param refresher {@link DiscoveredServerPropertiesRefresher}, may be
+	 *                  {@code null}
+	 */
+	public void setRefresher(final DiscoveredServerPropertiesRefresher refresher) {
+		this.refresher = refresher;
+	}
+
+	/**
+	 * @return {@link DiscoveredServerPropertiesRefresher} that is registered, or
+	 *         {@code null}
+	 */
+	public DiscoveredServerPropertiesRefresher getRefresher() {
+		return refresher;
+	}
+
+	/**
+	 * Stop the background refresh thread, if one was started. Refresh ahead
+	 * resumes (on a new thread) the next time an entry is due.
+	 */
+	public synchronized void shutdownRefresh() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdown();
+			refreshExecutor = null;
+		}
+	}
+
 	/**
 	 *
 	 * If an {@code IRODSServerProperties} was already cached, then just return it,
@@ -112,7 +241,22 @@ public class DiscoveredServerPropertiesCache {
 		log.debug("now retriving clientHints from cache with zone:{}", myZone);
 
 		String cacheKey = buildHostPlusZone(host, myZone);
-		return cacheOfClientHints.get(cacheKey);
+		CachedValue<ClientHints> cached = lookup(cacheOfClientHints, cacheKey);
+		if (cached == null) {
+			return null;
+		}
+
+		final DiscoveredServerPropertiesRefresher myRefresher = refresher;
+		if (myRefresher != null && isDueForRefresh(cached)) {
+			scheduleRefresh("clientHints:" + cacheKey, () -> {
+				ClientHints refreshed = myRefresher.refreshClientHints(cached.host, cached.zone);
+				if (refreshed != null) {
+					cacheClientHints(cached.host, cached.zone, refreshed);
+				}
+				return refreshed != null;
+			});
+		}
+		return cached.value;
 	}
 
 	/**
@@ -135,7 +279,23 @@ public class DiscoveredServerPropertiesCache {
 		}
 
 		String cacheKey = buildHostPlusZone(host, myZone);
-		return cacheOfIRODSServerProperties.get(cacheKey);
+		CachedValue<IRODSServerProperties> cached = lookup(cacheOfIRODSServerProperties, cacheKey);
+		if (cached == null) {
+			return null;
+		}
+
+		final DiscoveredServerPropertiesRefresher myRefresher = refresher;
+		if (myRefresher != null && isDueForRefresh(cached)) {
+			scheduleRefresh("serverProperties:" + cacheKey, () -> {
+				IRODSServerProperties refreshed = myRefresher.refreshIRODSServerProperties(cached.host,
+						cached.zone);
+				if (refreshed != null) {
+					cacheIRODSServerProperties(cached.host, cached.zone, refreshed);
+				}
+				return refreshed != null;
+			});
+		}
+		return cached.value;
 	}
 
 	/**
@@ -308,7 +468,8 @@ public class DiscoveredServerPropertiesCache {
 
 		String cacheKey = buildHostPlusZone(host, myZone);
 
-		cacheOfClientHints.put(cacheKey, clientHints);
+		putBounded(cacheOfClientHints, cacheKey,
+				new CachedValue<ClientHints>(clientHints, host, myZone, System.currentTimeMillis()));
 	}
 
 	/**
@@ -338,7 +499,9 @@ public class DiscoveredServerPropertiesCache {
 
 		String cacheKey = buildHostPlusZone(host, myZone);
 
-		cacheOfIRODSServerProperties.put(cacheKey, irodsServerProperties);
+		putBounded(cacheOfIRODSServerProperties, cacheKey,
+				new CachedValue<IRODSServerProperties>(irodsServerProperties, host, myZone,
+						System.currentTimeMillis()));
 	}
 
 	/**
@@ -400,9 +563,19 @@ public class DiscoveredServerPropertiesCache {
 			myZone = "";
 		}
 
+		final String zoneForEntry = myZone;
 		String cacheKey = buildHostPlusZone(host, myZone);
-		discoveredServerPropertiesCache.putIfAbsent(cacheKey, new ConcurrentHashMap<String, String>(8, 0.9f, 1));
-		return discoveredServerPropertiesCache.get(cacheKey);
+		CachedValue<ConcurrentHashMap<String, String>> cached = discoveredServerPropertiesCache.compute(cacheKey,
+				(key, existing) -> {
+					long now = System.currentTimeMillis();
+					if (existing != null && !isExpired(existing, now)) {
+						return existing;
+					}
+					return new CachedValue<ConcurrentHashMap<String, String>>(
+							new ConcurrentHashMap<String, String>(8, 0.9f, 1), host, zoneForEntry, now);
+				});
+		evictIfOverBound(discoveredServerPropertiesCache);
+		return cached.value;
 	}
 
 	private Map<String, String> getCacheForHostAndZone(final String host, final String zoneName) {
@@ -418,7 +591,8 @@ public class DiscoveredServerPropertiesCache {
 		}
 
 		String cacheKey = buildHostPlusZone(host, myZone);
-		return discoveredServerPropertiesCache.get(cacheKey);
+		CachedValue<ConcurrentHashMap<String, String>> cached = lookup(discoveredServerPropertiesCache, cacheKey);
+		return cached == null ? null : cached.value;
 	}
 
 	/*
@@ -442,4 +616,374 @@ public class DiscoveredServerPropertiesCache {
 		return sb.toString();
 	}
 
+	/**
+	 * Copy the live contents of the cache into a snapshot that may be saved and
+	 * later used to warm a cache
+	 *
+	 * @return {@link DiscoveredServerPropertiesSnapshot}
+	 */
+	public DiscoveredServerPropertiesSnapshot takeSnapshot() {
+		long now = System.currentTimeMillis();
+		DiscoveredServerPropertiesSnapshot snapshot = new DiscoveredServerPropertiesSnapshot();
+
+		for (CachedValue<IRODSServerProperties> cached : cacheOfIRODSServerProperties.values()) {
+			if (isExpired(cached, now)) {
+				continue;
+			}
+			ServerPropertiesEntry entry = new ServerPropertiesEntry();
+			fillSnapshotEntry(entry, cached);
+			entry.setIcatEnabled(cached.value.getIcatEnabled());
+			entry.setServerBootTime(cached.value.getServerBootTime());
+			entry.setRelVersion(IrodsVersion.RODS_PREFIX + cached.value.getIrodsVersion().getOrigVersion());
+			entry.setApiVersion(cached.value.getApiVersion());
+			entry.setRodsZone(cached.value.getRodsZone());
+			snapshot.getServerProperties().add(entry);
+		}
+
+		for (CachedValue<ClientHints> cached : cacheOfClientHints.values()) {
+			if (isExpired(cached, now)) {
+				continue;
+			}
+			ClientHintsEntry entry = new ClientHintsEntry();
+			fillSnapshotEntry(entry, cached);
+			entry.setClientHints(cached.value);
+			snapshot.getClientHints().add(entry);
+		}
+
+		for (CachedValue<ConcurrentHashMap<String, String>> cached : discoveredServerPropertiesCache.values()) {
+			if (isExpired(cached, now)) {
+				continue;
+			}
+			PropertiesEntry entry = new PropertiesEntry();
+			fillSnapshotEntry(entry, cached);
+			entry.getValues().putAll(cached.value);
+			snapshot.getProperties().add(entry);
+		}
+
+		log.debug("took snapshot:{}", snapshot);
+		return snapshot;
+	}
+
+	/**
+	 * Warm the cache from a snapshot. Entries keep their original cache time, so
+	 * those that are already past the time to live are skipped, and an entry
+	 * never replaces one that was cached more recently.
+	 *
+	 * @param snapshot {@link DiscoveredServerPropertiesSnapshot} to load
+	 * @return {@code int} with the number of entries loaded
+	 */
+	public int loadSnapshot(final DiscoveredServerPropertiesSnapshot snapshot) {
+		if (snapshot == null) {
+			throw new IllegalArgumentException("null snapshot");
+		}
+
+		log.debug("loadSnapshot():{}", snapshot);
+		long now = System.currentTimeMillis();
+		int loaded = 0;
+
+		for (ServerPropertiesEntry entry : snapshot.getServerProperties()) {
+			IRODSServerProperties props;
+			try {
+				props = IRODSServerProperties.instance(entry.getIcatEnabled(), entry.getServerBootTime(),
+						entry.getRelVersion(), entry.getApiVersion(), entry.getRodsZone());
+			} catch (IllegalArgumentException e) {
+				log.warn("skipping snapshot server properties with invalid version:{}", entry.getRelVersion());
+				continue;
+			}
+
+			if (loadSnapshotEntry(cacheOfIRODSServerProperties, entry, props, now)) {
+				loaded++;
+			}
+		}
+
+		for (ClientHintsEntry entry : snapshot.getClientHints()) {
+			if (entry.getClientHints() != null
+					&& loadSnapshotEntry(cacheOfClientHints, entry, entry.getClientHints(), now)) {
+				loaded++;
+			}
+		}
+
+		for (PropertiesEntry entry : snapshot.getProperties()) {
+			if (entry.getValues() == null) {
+				continue;
+			}
+			ConcurrentHashMap<String, String> values = new ConcurrentHashMap<String, String>(8, 0.9f, 1);
+			values.putAll(entry.getValues());
+			if (loadSnapshotEntry(discoveredServerPropertiesCache, entry, values, now)) {
+				loaded++;
+			}
+		}
+
+		log.info("loaded {} entries from snapshot", loaded);
+		return loaded;
+	}
+
+	/**
+	 * Save a snapshot of the cache as a JSON file
+	 *
+	 * @param snapshotFile {@link File} to write, replacing any existing file
+	 * @throws JargonException if the file cannot be written
+	 */
+	public void saveSnapshot(final File snapshotFile) throws JargonException {
+		if (snapshotFile == null) {
+			throw new IllegalArgumentException("null snapshotFile");
+		}
+
+		log.info("saveSnapshot() to:{}", snapshotFile);
+		try {
+			IRODSSession.objectMapper.writeValue(snapshotFile, takeSnapshot());
+		} catch (IOException e) {
+			log.error("unable to write snapshot file:{}", snapshotFile, e);
+			throw new JargonException("unable to write discovered server properties snapshot", e);
+		}
+	}
+
+	/**
+	 * Warm the cache from a JSON snapshot file written by
+	 * {@link #saveSnapshot(File)}. A missing file is silently ignored.
+	 *
+	 * @param snapshotFile {@link File} to read
+	 * @return {@code int} with the number of entries loaded
+	 * @throws JargonException if the file exists but cannot be read
+	 */
+	public int loadSnapshot(final File snapshotFile) throws JargonException {
+		if (snapshotFile == null) {
+			throw new IllegalArgumentException("null snapshotFile");
+		}
+
+		log.info("loadSnapshot() from:{}", snapshotFile);
+		if (!snapshotFile.exists()) {
+			log.info("no snapshot file, nothing loaded");
+			return 0;
+		}
+
+		try {
+			return loadSnapshot(
+					IRODSSession.objectMapper.readValue(snapshotFile, DiscoveredServerPropertiesSnapshot.class));
+		} catch (IOException e) {
+			log.error("unable to read snapshot file:{}", snapshotFile, e);
+			throw new JargonException("unable to read discovered server properties snapshot", e);
+		}
+	}
+
+	/**
+	 * @return {@code long} with the count of lookups that found a live entry
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return {@code long} with the count of lookups that did not find a live
+	 *         entry
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return {@code long} with the count of entries dropped on lookup because
+	 *         their time to live had passed
+	 */
+	public long getExpirations() {
+		return expirations.get();
+	}
+
+	/**
+	 * @return {@code long} with the count of entries evicted to stay within the
+	 *         max entries bound
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * @return {@code long} with the count of successful background refreshes
+	 */
+	public long getRefreshes() {
+		return refreshes.get();
+	}
+
+	/**
+	 * @return {@code long} with the count of background refreshes that failed
+	 */
+	public long getRefreshFailures() {
+		return refreshFailures.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("DiscoveredServerPropertiesCache [timeToLiveMillis=").append(timeToLiveMillis)
+				.append(", refreshAheadMillis=").append(refreshAheadMillis).append(", maxEntries=")
+				.append(maxEntries).append(", serverProperties=").append(cacheOfIRODSServerProperties.size())
+				.append(", clientHints=").append(cacheOfClientHints.size()).append(", properties=")
+				.append(discoveredServerPropertiesCache.size()).append(", hits=").append(hits).append(", misses=")
+				.append(misses).append(", expirations=").append(expirations).append(", evictions=")
+				.append(evictions).append(", refreshes=").append(refreshes).append(", refreshFailures=")
+				.append(refreshFailures).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Get a live entry, dropping it if it has expired, and keep statistics
+	 */
+	private <T> CachedValue<T> lookup(final ConcurrentHashMap<String, CachedValue<T>> cache, final String cacheKey) {
+		CachedValue<T> cached = cache.get(cacheKey);
+		if (cached == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+
+		if (isExpired(cached, System.currentTimeMillis())) {
+			log.debug("expired entry for:{}", cacheKey);
+			cache.remove(cacheKey, cached);
+			expirations.incrementAndGet();
+			misses.incrementAndGet();
+			return null;
+		}
+
+		hits.incrementAndGet();
+		return cached;
+	}
+
+	private boolean isExpired(final CachedValue<?> cached, final long now) {
+		long ttl = timeToLiveMillis;
+		return ttl > 0 && now - cached.cachedAt >= ttl;
+	}
+
+	private boolean isDueForRefresh(final CachedValue<?> cached) {
+		long ttl = timeToLiveMillis;
+		long window = refreshAheadMillis;
+		return ttl > 0 && window > 0 && System.currentTimeMillis() - cached.cachedAt >= ttl - window;
+	}
+
+	/**
+	 * Run a refresh on the background thread unless one for the same entry is
+	 * already pending
+	 */
+	private void scheduleRefresh(final String inFlightKey, final RefreshTask refreshTask) {
+		if (!refreshesInFlight.add(inFlightKey)) {
+			return;
+		}
+
+		log.debug("scheduling refresh ahead for:{}", inFlightKey);
+		try {
+			getRefreshExecutor().execute(() -> {
+				try {
+					if (refreshTask.refresh()) {
+						refreshes.incrementAndGet();
+					}
+				} catch (Exception e) {
+					refreshFailures.incrementAndGet();
+					log.warn("refresh ahead failed for:{}, entry will expire normally", inFlightKey, e);
+				} finally {
+					refreshesInFlight.remove(inFlightKey);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshesInFlight.remove(inFlightKey);
+			log.warn("refresh ahead rejected for:{}", inFlightKey);
+		}
+	}
+
+	private synchronized ExecutorService getRefreshExecutor() {
+		if (refreshExecutor == null) {
+			refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "jargon-server-properties-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return refreshExecutor;
+	}
+
+	/**
+	 * Put an entry, evicting the oldest entries if a new host and zone takes the
+	 * cache past its bound
+	 */
+	private <T> void putBounded(final ConcurrentHashMap<String, CachedValue<T>> cache, final String cacheKey,
+			final CachedValue<T> cachedValue) {
+		if (cache.put(cacheKey, cachedValue) == null) {
+			evictIfOverBound(cache);
+		}
+	}
+
+	private <T> void evictIfOverBound(final ConcurrentHashMap<String, CachedValue<T>> cache) {
+		int max = maxEntries;
+		while (max > 0 && cache.size() > max) {
+			String oldestKey = null;
+			long oldest = Long.MAX_VALUE;
+			for (Map.Entry<String, CachedValue<T>> entry : cache.entrySet()) {
+				if (entry.getValue().cachedAt < oldest) {
+					oldest = entry.getValue().cachedAt;
+					oldestKey = entry.getKey();
+				}
+			}
+
+			if (oldestKey == null) {
+				break;
+			}
+
+			if (cache.remove(oldestKey) != null) {
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	private <T> boolean loadSnapshotEntry(final ConcurrentHashMap<String, CachedValue<T>> cache,
+			final DiscoveredServerPropertiesSnapshot.Entry entry, final T value, final long now) {
+		if (entry.getHost() == null || entry.getHost().isEmpty()) {
+			log.warn("skipping snapshot entry with no host");
+			return false;
+		}
+
+		String zone = entry.getZone() == null ? "" : entry.getZone();
+		CachedValue<T> cachedValue = new CachedValue<T>(value, entry.getHost(), zone, entry.getCachedAt());
+		if (isExpired(cachedValue, now)) {
+			return false;
+		}
+
+		String cacheKey = buildHostPlusZone(entry.getHost(), zone);
+		CachedValue<T> existing = cache.get(cacheKey);
+		if (existing != null && existing.cachedAt >= cachedValue.cachedAt) {
+			return false;
+		}
+
+		putBounded(cache, cacheKey, cachedValue);
+		return true;
+	}
+
+	private void fillSnapshotEntry(final DiscoveredServerPropertiesSnapshot.Entry entry,
+			final CachedValue<?> cached) {
+		entry.setHost(cached.host);
+		entry.setZone(cached.zone);
+		entry.setCachedAt(cached.cachedAt);
+	}
+
+	/**
+	 * Value with the host and zone it was cached for and the time it was cached
+	 */
+	private static final class CachedValue<T> {
+		private final T value;
+		private final String host;
+		private final String zone;
+		private final long cachedAt;
+
+		CachedValue(final T value, final String host, final String zone, final long cachedAt) {
+			this.value = value;
+			this.host = host;
+			this.zone = zone;
+			this.cachedAt = cachedAt;
+		}
+	}
+
+	/**
+	 * Background refresh of one entry, returns {@code true} if a fresh value was
+	 * cached
+	 */
+	private interface RefreshTask {
+		boolean refresh() throws JargonException;
+	}
+
 }
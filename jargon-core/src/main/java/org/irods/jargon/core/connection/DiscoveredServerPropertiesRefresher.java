@@ -0,0 +1,43 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.domain.ClientHints;
+
+/**
+ * Source of fresh server properties and client hints, used by the
+ * {@link DiscoveredServerPropertiesCache} to refresh entries on a background
+ * thread shortly before they expire (refresh ahead). This lets callers keep
+ * getting cached values instead of paying for discovery round trips when an
+ * entry lapses.
+ * <p>
+ * Implementations are called on the cache refresh thread, and must clean up
+ * any connection they open there.
+ */
+public interface DiscoveredServerPropertiesRefresher {
+
+	/**
+	 * Obtain current server properties from iRODS, bypassing the cache
+	 *
+	 * @param host     {@code String} with the iRODS host
+	 * @param zoneName {@code String} with the iRODS zone
+	 * @return {@link IRODSServerProperties}, or {@code null} if this refresher
+	 *         cannot reach the given host and zone
+	 * @throws JargonException for iRODS error
+	 */
+	IRODSServerProperties refreshIRODSServerProperties(String host, String zoneName) throws JargonException;
+
+	/**
+	 * Obtain current client hints from iRODS, bypassing the cache
+	 *
+	 * @param host     {@code String} with the iRODS host
+	 * @param zoneName {@code String} with the iRODS zone
+	 * @return {@link ClientHints}, or {@code null} if this refresher cannot reach
+	 *         the given host and zone, or the server does not provide hints
+	 * @throws JargonException for iRODS error
+	 */
+	ClientHints refreshClientHints(String host, String zoneName) throws JargonException;
+
+}
@@ -0,0 +1,182 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.irods.jargon.core.pub.domain.ClientHints;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Serializable (JSON) copy of the contents of a
+ * {@link DiscoveredServerPropertiesCache}, used to persist what has been
+ * discovered about known hosts and zones and warm a new cache at startup.
+ * <p>
+ * Each entry carries the time it was originally cached, so that entries in a
+ * stale snapshot still expire per the configured time to live.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DiscoveredServerPropertiesSnapshot {
+
+	private List<ServerPropertiesEntry> serverProperties = new ArrayList<ServerPropertiesEntry>();
+	private List<ClientHintsEntry> clientHints = new ArrayList<ClientHintsEntry>();
+	private List<PropertiesEntry> properties = new ArrayList<PropertiesEntry>();
+
+	public List<ServerPropertiesEntry> getServerProperties() {
+		return serverProperties;
+	}
+
+	public void setServerProperties(final List<ServerPropertiesEntry> serverProperties) {
+		this.serverProperties = serverProperties;
+	}
+
+	public List<ClientHintsEntry> getClientHints() {
+		return clientHints;
+	}
+
+	public void setClientHints(final List<ClientHintsEntry> clientHints) {
+		this.clientHints = clientHints;
+	}
+
+	public List<PropertiesEntry> getProperties() {
+		return properties;
+	}
+
+	public void setProperties(final List<PropertiesEntry> properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("DiscoveredServerPropertiesSnapshot [serverProperties=").append(serverProperties.size())
+				.append(", clientHints=").append(clientHints.size()).append(", properties=")
+				.append(properties.size()).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Common host, zone and cache time for a snapshot entry
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public abstract static class Entry {
+		private String host = "";
+		private String zone = "";
+		private long cachedAt = 0L;
+
+		public String getHost() {
+			return host;
+		}
+
+		public void setHost(final String host) {
+			this.host = host;
+		}
+
+		public String getZone() {
+			return zone;
+		}
+
+		public void setZone(final String zone) {
+			this.zone = zone;
+		}
+
+		public long getCachedAt() {
+			return cachedAt;
+		}
+
+		public void setCachedAt(final long cachedAt) {
+			this.cachedAt = cachedAt;
+		}
+	}
+
+	/**
+	 * Snapshot of an {@link IRODSServerProperties}, as reported by the
+	 * {@code MiscSvrInfo} API
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class ServerPropertiesEntry extends Entry {
+		private IRODSServerProperties.IcatEnabled icatEnabled = IRODSServerProperties.IcatEnabled.ICAT_ENABLED;
+		private int serverBootTime = 0;
+		private String relVersion = "";
+		private String apiVersion = "";
+		private String rodsZone = "";
+
+		public IRODSServerProperties.IcatEnabled getIcatEnabled() {
+			return icatEnabled;
+		}
+
+		public void setIcatEnabled(final IRODSServerProperties.IcatEnabled icatEnabled) {
+			this.icatEnabled = icatEnabled;
+		}
+
+		public int getServerBootTime() {
+			return serverBootTime;
+		}
+
+		public void setServerBootTime(final int serverBootTime) {
+			this.serverBootTime = serverBootTime;
+		}
+
+		public String getRelVersion() {
+			return relVersion;
+		}
+
+		public void setRelVersion(final String relVersion) {
+			this.relVersion = relVersion;
+		}
+
+		public String getApiVersion() {
+			return apiVersion;
+		}
+
+		public void setApiVersion(final String apiVersion) {
+			this.apiVersion = apiVersion;
+		}
+
+		public String getRodsZone() {
+			return rodsZone;
+		}
+
+		public void setRodsZone(final String rodsZone) {
+			this.rodsZone = rodsZone;
+		}
+	}
+
+	/**
+	 * Snapshot of the {@link ClientHints} for a host and zone
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class ClientHintsEntry extends Entry {
+		private ClientHints clientHints = new ClientHints();
+
+		public ClientHints getClientHints() {
+			return clientHints;
+		}
+
+		public void setClientHints(final ClientHints clientHints) {
+			this.clientHints = clientHints;
+		}
+	}
+
+	/**
+	 * Snapshot of the discovered name/value properties for a host and zone
+	 */
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class PropertiesEntry extends Entry {
+		private Map<String, String> values = new HashMap<String, String>();
+
+		public Map<String, String> getValues() {
+			return values;
+		}
+
+		public void setValues(final Map<String, String> values) {
+			this.values = values;
+		}
+	}
+
+}
@@ -40,11 +40,24 @@ public class EnvironmentalInfoAccessor {
 	 * @throws JargonException for iRODS error
 	 */
 	public IRODSServerProperties getIRODSServerProperties() throws JargonException {
+		return getIRODSServerProperties(false);
+	}
+
+	/**
+	 * Class to access underlying {@code IRODSServerProperties}, optionally going
+	 * to iRODS even if the properties are cached. The cache is updated either
+	 * way.
+	 *
+	 * @param refresh {@code boolean} that, if {@code true}, bypasses the cache
+	 * @return {@link IRODSServerProperties}
+	 * @throws JargonException for iRODS error
+	 */
+	public IRODSServerProperties getIRODSServerProperties(final boolean refresh) throws JargonException {
 		log.debug("getting irods server properties");
 
 		log.debug("checking for cached properties...");
 
-		if (irodsProtocol.getIrodsSession() != null) {
+		if (!refresh && irodsProtocol.getIrodsSession() != null) {
 			IRODSServerProperties cached = irodsProtocol.getIrodsSession().getDiscoveredServerPropertiesCache()
 					.retrieveIRODSServerProperties(irodsProtocol.getIrodsAccount().getHost(),
 							irodsProtocol.getIrodsAccount().getZone());
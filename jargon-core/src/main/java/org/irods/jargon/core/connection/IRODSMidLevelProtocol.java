@@ -13,6 +13,7 @@ import org.irods.jargon.core.connection.auth.AuthResponse;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.packinstr.AbstractIRODSPackingInstruction;
 import org.irods.jargon.core.packinstr.BinBytesBuff;
+import org.irods.jargon.core.packinstr.GenQueryOut;
 import org.irods.jargon.core.packinstr.IRodsPI;
 import org.irods.jargon.core.packinstr.RErrMsg;
 import org.irods.jargon.core.packinstr.SSLEndInp;
@@ -117,6 +118,28 @@ public class IRODSMidLevelProtocol {
 	 */
 	private IRODSAccount irodsAccount;
 
+	/**
+	 * API request awaiting its response, tracked when {@code jargon.instrument} is
+	 * set, or a {@link ProtocolTrace} is kept, so that the round trip can be
+	 * recorded in the {@link ConnectionMetricsRegistry} and the trace
+	 */
+	private int pendingApiNumber = 0;
+	private long pendingApiCallStartNanos = 0L;
+	private long pendingRequestBytes = 0L;
+	private boolean connectionCloseRecorded = false;
+
+	/**
+	 * Recent requests on this connection, dumped to the log when the connection
+	 * fails, or {@code null} if {@code protocol.trace.buffer.size} is 0
+	 */
+	private ProtocolTrace protocolTrace = null;
+
+	/**
+	 * Time spent in each phase of setting up this connection, set by the
+	 * protocol factory
+	 */
+	private ConnectionSetupTimings connectionSetupTimings = null;
+
 	/**
 	 * Create a base instance of the mid level protocol, which may be processed
 	 * through multiple phases before being ready for use.
@@ -146,6 +169,12 @@ public class IRODSMidLevelProtocol {
 		this.irodsConnection = irodsConnection;
 		this.irodsProtocolManager = irodsProtocolManager;
 		irodsSession = irodsConnection.getIrodsSession();
+
+		PipelineConfiguration pipelineConfiguration = irodsConnection.getPipelineConfiguration();
+		if (pipelineConfiguration != null && pipelineConfiguration.getProtocolTraceBufferSize() > 0) {
+			protocolTrace = new ProtocolTrace(pipelineConfiguration.getProtocolTraceBufferSize(),
+					pipelineConfiguration.getProtocolTraceSampleInterval());
+		}
 	}
 
 	synchronized boolean isForceSslFlush() {
@@ -224,7 +253,7 @@ public class IRODSMidLevelProtocol {
 		// see
 		// https://github.com/irods/irods/blob/master/unit_tests/src/test_get_file_descriptor_info.cpp#L47
 		// https://github.com/irods/irods/blob/master/plugins/api/src/get_file_descriptor_info.cpp#L358-L383
-		log.info("irodsPluggableApiFunction()");
+		log.debug("irodsPluggableApiFunction()");
 
 		log.debug("apiNumber is:{}", apiNumber);
 
@@ -532,10 +561,18 @@ public class IRODSMidLevelProtocol {
 	public void sendHeader(final String type, final int messageLength, final int errorLength,
 			final long byteStringLength, final int intInfo) throws JargonException, IOException {
 
+		long startNanos = System.nanoTime();
 		byte[] header = createHeader(type, messageLength, errorLength, byteStringLength, intInfo);
 
 		int len = header.length;
 
+		if (IRODSConstants.RODS_API_REQ.equals(type) && (protocolTrace != null || isInstrumented())) {
+			pendingApiNumber = intInfo;
+			pendingApiCallStartNanos = startNanos;
+			pendingRequestBytes = ConnectionConstants.HEADER_INT_LENGTH + len + messageLength + errorLength
+					+ byteStringLength;
+		}
+
 		getIrodsConnection().sendInNetworkOrder(len);
 		getIrodsConnection().send(header);
 
@@ -668,6 +705,20 @@ public class IRODSMidLevelProtocol {
 		this.startupResponseData = startupResponseData;
 	}
 
+	/**
+	 * Get the time spent in each phase of setting up this connection
+	 *
+	 * @return {@link ConnectionSetupTimings}, or {@code null} if the connection
+	 *         was not created by a protocol factory
+	 */
+	public ConnectionSetupTimings getConnectionSetupTimings() {
+		return connectionSetupTimings;
+	}
+
+	void setConnectionSetupTimings(final ConnectionSetupTimings connectionSetupTimings) {
+		this.connectionSetupTimings = connectionSetupTimings;
+	}
+
 	/**
 	 * iRODS protocol request that sends data to iRODS. This method will stream the
 	 * entire {@code inputStream} data to the given length at one time. This is used
@@ -943,7 +994,7 @@ public class IRODSMidLevelProtocol {
 		// see
 		// https://github.com/irods/irods/blob/master/unit_tests/src/test_get_file_descriptor_info.cpp#L47
 		// https://github.com/irods/irods/blob/master/plugins/api/src/get_file_descriptor_info.cpp#L358-L383
-		log.info("irodsFunctionWithPluggableResult()");
+		log.debug("irodsFunctionWithPluggableResult()");
 
 		if (irodsPI == null) {
 			String err = "null irodsPI";
@@ -1117,13 +1168,11 @@ public class IRODSMidLevelProtocol {
 			log.debug("message length greater than zero");
 			message = readMessageBody(messageLength, decode);
 
-			// squelch genqueryout data for nicer logs
-			if (log.isDebugEnabled()) {
-				String messageAsString = message.parseTag();
-				int idx = messageAsString.indexOf("GenQueryOut");
-				if (idx == -1 || ConnectionConstants.DUMP_GEN_QUERY_OUT) {
-					log.debug("message from IRODS read back:{}", messageAsString);
-				}
+			// squelch genqueryout data for nicer logs, checked by tag name so that the
+			// message is only rendered when it will be logged
+			if (log.isDebugEnabled()
+					&& (ConnectionConstants.DUMP_GEN_QUERY_OUT || !GenQueryOut.PI_NAME.equals(message.getName()))) {
+				log.debug("message from IRODS read back:{}", message.parseTag());
 			}
 		}
 		// previous will have returned or thrown exception
@@ -1174,6 +1223,7 @@ public class IRODSMidLevelProtocol {
 				irodsConnection.flush();
 				log.debug("finally, shutdown is being called on the given connection");
 				irodsConnection.shutdown();
+				recordConnectionClosed();
 				if (getIrodsConnectionNonEncryptedRef() != null) {
 					getIrodsConnectionNonEncryptedRef().shutdown();
 				}
@@ -1230,6 +1280,10 @@ public class IRODSMidLevelProtocol {
 	 * @throws JargonException on iRODS error
 	 */
 	public synchronized void disconnectWithForce() throws JargonException {
+		if (protocolTrace != null) {
+			protocolTrace.dump("connection closed for errors");
+		}
+
 		if (getIrodsAccount() != null) {
 			getIrodsSession().discardSessionForErrors(getIrodsAccount());
 		}
@@ -1237,6 +1291,7 @@ public class IRODSMidLevelProtocol {
 		if (getIrodsConnection().isConnected()) {
 			log.warn("partial connection, not authenticated, forcefully shut down the socket");
 			getIrodsConnection().obliterateConnectionAndDiscardErrors();
+			recordConnectionClosed();
 		}
 
 	}
@@ -1457,12 +1512,61 @@ public class IRODSMidLevelProtocol {
 			throw new JargonException(e);
 		}
 
+		Tag headerTag;
 		try {
-			return Tag.readNextTag(header, getEncoding());
+			headerTag = Tag.readNextTag(header, getEncoding());
 		} catch (UnsupportedEncodingException e) {
 			log.error("Unsupported encoding for:{}", getEncoding());
 			throw new JargonException("Unsupported encoding for:" + getEncoding());
 		}
+
+		if (pendingApiCallStartNanos != 0L) {
+			recordApiCall(headerTag, length);
+		}
+
+		return headerTag;
+	}
+
+	/**
+	 * Record the round trip for the pending API request, now that its response
+	 * header has been read. Latency is measured to the arrival of the response
+	 * header, and the response byte count is taken from that header.
+	 */
+	private void recordApiCall(final Tag header, final int headerLength) {
+		long elapsedNanos = System.nanoTime() - pendingApiCallStartNanos;
+		pendingApiCallStartNanos = 0L;
+
+		long responseBytes = ConnectionConstants.HEADER_INT_LENGTH + headerLength
+				+ header.getTags()[1].getIntValue() + header.getTags()[2].getIntValue()
+				+ header.getTags()[3].getIntValue();
+		int status = header.getTags()[4].getIntValue();
+		if (protocolTrace != null) {
+			protocolTrace.record(header.getTags()[0].getStringValue(), pendingApiNumber, pendingRequestBytes,
+					responseBytes, status, elapsedNanos);
+		}
+		if (isInstrumented()) {
+			irodsSession.getConnectionMetricsRegistry().recordApiCall(pendingApiNumber, elapsedNanos,
+					pendingRequestBytes, responseBytes, status);
+		}
+	}
+
+	/**
+	 * Record the close of this connection once, however many of the close paths
+	 * it goes through
+	 */
+	private void recordConnectionClosed() {
+		if (!connectionCloseRecorded && isInstrumented()) {
+			connectionCloseRecorded = true;
+			irodsSession.getConnectionMetricsRegistry().recordConnectionClosed();
+		}
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} if connection level measurements
+	 *         are recorded for this connection
+	 */
+	boolean isInstrumented() {
+		return irodsSession != null && getPipelineConfiguration().isInstrument();
 	}
 
 	int readHeaderLength() throws JargonException {
@@ -1570,6 +1674,19 @@ public class IRODSMidLevelProtocol {
 	public synchronized void obliterateConnectionAndDiscardErrors() {
 		log.warn("obliterateConnectionAndDiscardErrors() will forcefully close the connection");
 		irodsConnection.obliterateConnectionAndDiscardErrors();
+		recordConnectionClosed();
+	}
+
+	/**
+	 * Close the socket of this connection from another thread, without waiting
+	 * for a call in progress, which then fails. Unlike
+	 * {@link #obliterateConnectionAndDiscardErrors()}, this does not take the
+	 * lock held by the running call. The thread holding the connection should
+	 * then discard it.
+	 */
+	public void abortConnection() {
+		log.warn("abortConnection() will close the socket under any running call");
+		irodsConnection.obliterateConnectionAndDiscardErrors();
 	}
 
 	void processMessageInfoLessThanZero(final int messageLength, final int errorLength, final int info)
@@ -1659,6 +1776,16 @@ public class IRODSMidLevelProtocol {
 		return irodsConnection.getPipelineConfiguration();
 	}
 
+	/**
+	 * Get the trace of recent requests on this connection
+	 *
+	 * @return {@link ProtocolTrace}, or {@code null} if
+	 *         {@code protocol.trace.buffer.size} is 0
+	 */
+	public synchronized ProtocolTrace getProtocolTrace() {
+		return protocolTrace;
+	}
+
 	/**
 	 * Handy method to get the encoding scheme used
 	 *
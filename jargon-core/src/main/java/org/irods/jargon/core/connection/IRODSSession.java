@@ -3,20 +3,26 @@
  */
 package org.irods.jargon.core.connection;
 
+import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
 import javax.management.MBeanRegistrationException;
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
 import javax.management.NotCompliantMBeanException;
 import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 
 import org.irods.jargon.core.checksum.LocalChecksumComputerFactory;
@@ -107,6 +113,12 @@ public class IRODSSession {
 	 */
 	public static final ReplicaTokenCacheManager replicaTokenCacheManager = new ReplicaTokenCacheManager();
 
+	/**
+	 * JMX name of the connection metrics of the first session in the JVM
+	 */
+	public static final String CONNECTION_METRICS_MBEAN_NAME =
+			"org.irods.jargon.core.connection:type=ConnectionMetrics";
+
 	/**
 	 * {@code ThreadLocal} to cache connections to iRODS. This is a {@code Map} that
 	 * is keyed by the {@link IRODSAccount}, so that each thread automatically
@@ -172,7 +184,7 @@ public class IRODSSession {
 	 * General configuration properties for operation of jargon, buffer sizes,
 	 * thread counts, etc.
 	 */
-	private JargonProperties jargonProperties;
+	private volatile JargonProperties jargonProperties;
 
 	/**
 	 * Factory to return a checksum computation strategy
@@ -192,6 +204,37 @@ public class IRODSSession {
 	 */
 	private final DiscoveredServerPropertiesCache discoveredServerPropertiesCache = new DiscoveredServerPropertiesCache();
 
+	/**
+	 * Optional cache of permissions and group memberships, lazily created when
+	 * the {@code use.acl.cache} jargon property is set. This and the other lazily
+	 * created caches are volatile so their getters only lock on creation.
+	 */
+	private volatile AccessControlCache accessControlCache = null;
+	private volatile QueryResultCache queryResultCache = null;
+	private volatile ListingPrefetchBuffer listingPrefetchBuffer = null;
+	private volatile PamTemporaryPasswordCache pamTemporaryPasswordCache = null;
+	private volatile NegotiationOutcomeCache negotiationOutcomeCache = null;
+
+	/**
+	 * Shared SSL context, and the trust manager it was built with
+	 */
+	private SSLContext sslContext = null;
+	private X509TrustManager sslContextTrustManager = null;
+	private final AtomicLong sslHandshakes = new AtomicLong();
+	private final AtomicLong sslSessionResumptions = new AtomicLong();
+
+	/**
+	 * Receives connection level measurements when {@code jargon.instrument} is
+	 * set
+	 */
+	private volatile ConnectionMetricsRegistry connectionMetricsRegistry = new DefaultConnectionMetricsRegistry();
+
+	/**
+	 * Extra connections per account for running independent read-only calls at
+	 * the same time, lazily created, keyed like the {@code sessionMap}
+	 */
+	private final Map<String, ReadOnlyConnectionSet> readOnlyConnectionSets = new ConcurrentHashMap<>();
+
 	/**
 	 * Get the {@code JargonProperties} that contains metadata to tune the behavior
 	 * of Jargon. This will either be the default, loaded from the
@@ -307,6 +350,8 @@ public class IRODSSession {
 
 		this.jargonProperties = jargonProperties;
 		checkInitTrustManager();
+		configureDiscoveredServerPropertiesCache();
+		registerConnectionMetricsMBean();
 	}
 
 	public IRODSSession() {
@@ -327,7 +372,9 @@ public class IRODSSession {
 			throw new JargonRuntimeException("unable to load jargon props", e);
 		}
 		checkInitTrustManager();
+		configureDiscoveredServerPropertiesCache();
 		initializeJmx();
+		registerConnectionMetricsMBean();
 	}
 
 	private void initializeJmx() {
@@ -347,6 +394,68 @@ public class IRODSSession {
 
 	}
 
+	/**
+	 * Expose the connection metrics of the first session in the JVM through JMX
+	 */
+	private void registerConnectionMetricsMBean() {
+		try {
+			registerConnectionMetricsMBean(ManagementFactory.getPlatformMBeanServer(), connectionMetricsRegistry,
+					new ObjectName(CONNECTION_METRICS_MBEAN_NAME));
+		} catch (JMException e) {
+			log.warn("unable to create an MBean for connection metrics. Will proceed without JMX support", e);
+		}
+	}
+
+	/**
+	 * Register a {@link ConnectionMetricsRegistry} with an MBean server. The
+	 * registry class does not follow the standard MBean naming pattern, so it is
+	 * registered as a {@link StandardMBean} of {@link ConnectionMetricsMBean}.
+	 *
+	 * @param mbs                       {@link MBeanServer} to register with
+	 * @param connectionMetricsRegistry {@link ConnectionMetricsRegistry} to
+	 *                                  expose
+	 * @param name                      {@link ObjectName} to register under
+	 * @return {@code boolean} of {@code true} if the registry was registered,
+	 *         {@code false} if the name is already registered or the registry does
+	 *         not implement {@link ConnectionMetricsMBean}
+	 * @throws JMException if the registry could not be registered
+	 */
+	static boolean registerConnectionMetricsMBean(final MBeanServer mbs,
+			final ConnectionMetricsRegistry connectionMetricsRegistry, final ObjectName name) throws JMException {
+		if (!(connectionMetricsRegistry instanceof ConnectionMetricsMBean) || mbs.isRegistered(name)) {
+			return false;
+		}
+
+		mbs.registerMBean(
+				new StandardMBean((ConnectionMetricsMBean) connectionMetricsRegistry, ConnectionMetricsMBean.class),
+				name);
+		return true;
+	}
+
+	/**
+	 * Apply the expiry policy from the jargon properties to the discovered server
+	 * properties cache, and warm the cache from the configured snapshot file, if
+	 * any. Snapshot entries never replace fresher cached ones. A snapshot that
+	 * cannot be read is logged and otherwise ignored, as the cache will be filled
+	 * by discovery as usual.
+	 */
+	private void configureDiscoveredServerPropertiesCache() {
+		log.debug("configureDiscoveredServerPropertiesCache()");
+		JargonProperties props = getJargonProperties();
+		discoveredServerPropertiesCache.configure(props);
+
+		String snapshotFile = props.getDiscoveredServerPropertiesCacheSnapshotFile();
+		if (snapshotFile == null || snapshotFile.isEmpty()) {
+			return;
+		}
+
+		try {
+			discoveredServerPropertiesCache.loadSnapshot(new File(snapshotFile));
+		} catch (JargonException e) {
+			log.warn("unable to warm discovered server properties cache from:{}", snapshotFile, e);
+		}
+	}
+
 	private void checkInitTrustManager() {
 		log.debug("checkInitTrustManager()");
 		if (getJargonProperties().isBypassSslCertChecks()) {
@@ -507,6 +616,9 @@ public class IRODSSession {
 		if (currTime > renewalWindow) {
 			log.debug("renewing:{}", irodsMidLevelProtocol);
 			this.closeSession(irodsMidLevelProtocol.getIrodsAccount());
+			if (irodsMidLevelProtocol.getPipelineConfiguration().isInstrument()) {
+				connectionMetricsRegistry.recordConnectionRenewed();
+			}
 			return true;
 		} else {
 			return false;
@@ -624,6 +736,132 @@ public class IRODSSession {
 
 	}
 
+	/**
+	 * Run an operation holding a connection for the given account only for the
+	 * duration of the operation, rather than until the thread closes its session.
+	 * Access objects used inside the operation share the one connection, which is
+	 * returned to the {@link IRODSProtocolManager} as soon as the operation ends.
+	 * <p>
+	 * This is meant to be used with a pooling protocol manager (such as the
+	 * jargon-pool {@code CachedIrodsProtocolManager}), so that many threads are
+	 * multiplexed over a small number of connections, and therefore of server
+	 * agents. With a non-pooling protocol manager each scope connects anew.
+	 * <p>
+	 * If the thread already holds a connection for the account when the scope
+	 * starts (for example in a nested scope), the connection is left open for the
+	 * enclosing owner to close.
+	 * <p>
+	 * Objects that keep using the connection after the operation returns, such as
+	 * open streams and files, must not escape the scope.
+	 *
+	 * @param <T>          type of the result
+	 * @param irodsAccount {@link IRODSAccount} for the connection
+	 * @param operation    {@link ConnectionScopedOperation} to run
+	 * @return result of the operation
+	 * @throws JargonException for iRODS error
+	 */
+	public <T> T executeInConnectionScope(final IRODSAccount irodsAccount, final ConnectionScopedOperation<T> operation)
+			throws JargonException {
+
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		if (operation == null) {
+			throw new IllegalArgumentException("null operation");
+		}
+
+		boolean alreadyHeld = isConnectionHeld(irodsAccount);
+		try {
+			return operation.execute();
+		} finally {
+			if (!alreadyHeld) {
+				releaseScopedConnection(irodsAccount);
+			}
+		}
+	}
+
+	/**
+	 * Check whether the current thread holds a connection for the given account
+	 *
+	 * @param irodsAccount {@link IRODSAccount}
+	 * @return {@code boolean} of {@code true} if a connection is held
+	 */
+	public boolean isConnectionHeld(final IRODSAccount irodsAccount) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		final Map<String, IRODSMidLevelProtocol> irodsProtocols = sessionMap.get();
+		return irodsProtocols != null && irodsProtocols.containsKey(irodsAccount.toString());
+	}
+
+	/**
+	 * Give back the connection held at the end of a scope, logging rather than
+	 * throwing so an error in the operation itself is not masked
+	 */
+	private void releaseScopedConnection(final IRODSAccount irodsAccount) {
+		try {
+			closeSession(irodsAccount);
+		} catch (Exception e) {
+			log.warn("error releasing connection at end of scope, discarding it", e);
+			discardSessionForErrors(irodsAccount);
+		}
+	}
+
+	/**
+	 * Get the set of extra connections used to run independent read-only calls
+	 * for an account at the same time. One set is shared per account, created on
+	 * first use and sized by the {@code read.only.connections.per.account} jargon
+	 * property. Changing the property afterwards does not resize an existing set.
+	 * When the property is 0, the set runs calls on the caller's thread.
+	 * <p>
+	 * Each connection of a set is held by a lane thread, which connects on its
+	 * first call. A lane that has not been used for
+	 * {@code read.only.connections.idle.time.seconds} returns its connection to
+	 * the {@link IRODSProtocolManager} and stops its thread, and reconnects on its
+	 * next call, so accounts that stop making calls (such as the users of a web
+	 * application) do not keep threads or connections. Callers should not close
+	 * the shared set, {@link #closeReadOnlyConnectionSets()} closes all sets when
+	 * the application shuts down.
+	 *
+	 * @param irodsAccount {@link IRODSAccount} for the connections
+	 * @return {@link ReadOnlyConnectionSet}
+	 */
+	public ReadOnlyConnectionSet getReadOnlyConnectionSet(final IRODSAccount irodsAccount) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		synchronized (readOnlyConnectionSets) {
+			ReadOnlyConnectionSet readOnlyConnectionSet = readOnlyConnectionSets.get(irodsAccount.toString());
+			if (readOnlyConnectionSet == null || readOnlyConnectionSet.isClosed()) {
+				readOnlyConnectionSet = new ReadOnlyConnectionSet(this, irodsAccount,
+						jargonProperties.getReadOnlyConnectionsPerAccount(),
+						jargonProperties.getReadOnlyConnectionsIdleTimeInSeconds() * 1000L);
+				readOnlyConnectionSets.put(irodsAccount.toString(), readOnlyConnectionSet);
+			}
+			return readOnlyConnectionSet;
+		}
+	}
+
+	/**
+	 * Close the read-only connection sets of all accounts, returning their
+	 * connections to the {@link IRODSProtocolManager}. Unlike
+	 * {@link #closeSession()}, which closes the calling thread's connections, this
+	 * affects every thread using the sets, and is meant to be called when the
+	 * application shuts down. Sets are created anew if used again.
+	 */
+	public void closeReadOnlyConnectionSets() {
+		log.debug("closeReadOnlyConnectionSets()");
+		synchronized (readOnlyConnectionSets) {
+			for (ReadOnlyConnectionSet readOnlyConnectionSet : readOnlyConnectionSets.values()) {
+				readOnlyConnectionSet.close();
+			}
+			readOnlyConnectionSets.clear();
+		}
+	}
+
 	/**
 	 * Signal to the {@code IRODSSession} that a connection has been forcefully
 	 * terminated due to errors, and should be removed from the cache.
@@ -738,7 +976,13 @@ public class IRODSSession {
 	public void setJargonProperties(final JargonProperties jargonProperties) {
 		synchronized (this) {
 			this.jargonProperties = jargonProperties;
+			accessControlCache = null;
+			queryResultCache = null;
+			listingPrefetchBuffer = null;
+			pamTemporaryPasswordCache = null;
+			negotiationOutcomeCache = null;
 		}
+		configureDiscoveredServerPropertiesCache();
 	}
 
 	/**
@@ -770,6 +1014,152 @@ public class IRODSSession {
 		return getJargonProperties().isUsingDiscoveredServerPropertiesCache();
 	}
 
+	/**
+	 * Get the cache of permissions and group memberships, if the
+	 * {@code use.acl.cache} jargon property is set. The cache is created on first
+	 * access, and re-created if the {@code JargonProperties} are replaced.
+	 *
+	 * @return {@link AccessControlCache}, or {@code null} if ACL caching is not
+	 *         turned on
+	 */
+	public AccessControlCache getAccessControlCache() {
+		if (!jargonProperties.isUsingAclCache()) {
+			return null;
+		}
+
+		AccessControlCache current = accessControlCache;
+		if (current == null) {
+			synchronized (this) {
+				current = accessControlCache;
+				if (current == null) {
+					log.info("creating access control cache");
+					current = AccessControlCache.instance(jargonProperties);
+					accessControlCache = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Get the cache of catalog query results, if the
+	 * {@code use.query.result.cache} jargon property is set. The cache is created
+	 * on first access, and re-created if the {@code JargonProperties} are
+	 * replaced.
+	 *
+	 * @return {@link QueryResultCache}, or {@code null} if query result caching is
+	 *         not turned on
+	 */
+	public QueryResultCache getQueryResultCache() {
+		if (!jargonProperties.isUsingQueryResultCache()) {
+			return null;
+		}
+
+		QueryResultCache current = queryResultCache;
+		if (current == null) {
+			synchronized (this) {
+				current = queryResultCache;
+				if (current == null) {
+					log.info("creating query result cache");
+					current = QueryResultCache.instance(jargonProperties);
+					queryResultCache = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Get the buffer of collection listing pages loaded ahead by the
+	 * {@code CollectionPagerAO}, if the {@code collection.pager.prefetch.pages}
+	 * jargon property is more than 0. The buffer is created on first access, and
+	 * re-created if the {@code JargonProperties} are replaced.
+	 *
+	 * @return {@link ListingPrefetchBuffer}, or {@code null} if prefetch is not
+	 *         turned on
+	 */
+	public ListingPrefetchBuffer getListingPrefetchBuffer() {
+		if (jargonProperties.getCollectionPagerPrefetchPages() <= 0) {
+			return null;
+		}
+
+		ListingPrefetchBuffer current = listingPrefetchBuffer;
+		if (current == null) {
+			synchronized (this) {
+				current = listingPrefetchBuffer;
+				if (current == null) {
+					log.info("creating listing prefetch buffer");
+					current = ListingPrefetchBuffer.instance(jargonProperties);
+					listingPrefetchBuffer = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Get the cache of temporary passwords derived from PAM logins, if the
+	 * {@code pam.temporary.password.cache.time.to.live.seconds} jargon property is
+	 * set. The cache stays off when its time to live, capped at half of
+	 * {@code pam.time.to.live.in.seconds}, comes to less than a second. The cache
+	 * is created on first access, and re-created if the {@code JargonProperties}
+	 * are replaced.
+	 *
+	 * @return {@link PamTemporaryPasswordCache}, or {@code null} if the cache is
+	 *         turned off
+	 */
+	public PamTemporaryPasswordCache getPamTemporaryPasswordCache() {
+		if (PamTemporaryPasswordCache.computeTimeToLiveMillis(jargonProperties) <= 0) {
+			return null;
+		}
+
+		PamTemporaryPasswordCache current = pamTemporaryPasswordCache;
+		if (current == null) {
+			synchronized (this) {
+				current = pamTemporaryPasswordCache;
+				if (current == null) {
+					log.info("creating PAM temporary password cache");
+					current = PamTemporaryPasswordCache.instance(jargonProperties);
+					pamTemporaryPasswordCache = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Get the cache of SSL negotiation policies announced by servers, if the
+	 * {@code negotiation.outcome.cache.time.to.live.seconds} jargon property is
+	 * greater than 0. The cache is created on first access, and re-created if the
+	 * {@code JargonProperties} are replaced.
+	 *
+	 * @return {@link NegotiationOutcomeCache}, or {@code null} if the cache is
+	 *         turned off
+	 */
+	public NegotiationOutcomeCache getNegotiationOutcomeCache() {
+		if (jargonProperties.getNegotiationOutcomeCacheTimeToLiveInSeconds() <= 0) {
+			return null;
+		}
+
+		NegotiationOutcomeCache current = negotiationOutcomeCache;
+		if (current == null) {
+			synchronized (this) {
+				current = negotiationOutcomeCache;
+				if (current == null) {
+					log.info("creating negotiation outcome cache");
+					current = NegotiationOutcomeCache.instance(jargonProperties);
+					negotiationOutcomeCache = current;
+				}
+			}
+		}
+
+		return current;
+	}
+
 	/**
 	 * Get a reference to a factory that can return checksum computation strategies
 	 * on local file systems
@@ -796,6 +1186,83 @@ public class IRODSSession {
 		this.restartManager = restartManager;
 	}
 
+	/**
+	 * Get the {@code SSLContext} for new SSL connections. If the
+	 * {@code ssl.session.resumption} jargon property is set, one context is
+	 * built lazily and shared until the trust manager changes, so its client
+	 * session cache lets reconnects (renewals, pool replenishment) resume TLS
+	 * sessions. Otherwise a new context is built each time.
+	 *
+	 * @return {@link SSLContext}
+	 */
+	synchronized SSLContext getSslContext() {
+		if (!jargonProperties.isSslSessionResumption()) {
+			return SslConnectionUtilities.buildSslContext(x509TrustManager);
+		}
+
+		if (sslContext == null || sslContextTrustManager != x509TrustManager) {
+			log.info("building shared ssl context");
+			sslContext = SslConnectionUtilities.buildSslContext(x509TrustManager);
+			sslContextTrustManager = x509TrustManager;
+		}
+
+		return sslContext;
+	}
+
+	/**
+	 * Count an SSL handshake
+	 *
+	 * @param resumed {@code boolean} of {@code true} if an earlier TLS session
+	 *                was resumed
+	 */
+	void recordSslHandshake(final boolean resumed) {
+		sslHandshakes.incrementAndGet();
+		if (resumed) {
+			sslSessionResumptions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @return {@code long} with the number of SSL handshakes done for this
+	 *         session's connections
+	 */
+	public long getSslHandshakeCount() {
+		return sslHandshakes.get();
+	}
+
+	/**
+	 * @return {@code long} with the number of SSL handshakes that resumed an
+	 *         earlier TLS session
+	 */
+	public long getSslSessionResumptionCount() {
+		return sslSessionResumptions.get();
+	}
+
+	/**
+	 * Get the registry that receives connection level measurements (per API
+	 * latency, bytes, errors, and connection counts) when the
+	 * {@code jargon.instrument} jargon property is {@code true}
+	 *
+	 * @return {@link ConnectionMetricsRegistry}
+	 */
+	public ConnectionMetricsRegistry getConnectionMetricsRegistry() {
+		return connectionMetricsRegistry;
+	}
+
+	/**
+	 * Replace the registry that receives connection level measurements, e.g. to
+	 * send them to another metrics system. Only the default registry of the
+	 * first session is exposed through JMX.
+	 *
+	 * @param connectionMetricsRegistry {@link ConnectionMetricsRegistry}
+	 */
+	public void setConnectionMetricsRegistry(final ConnectionMetricsRegistry connectionMetricsRegistry) {
+		if (connectionMetricsRegistry == null) {
+			throw new IllegalArgumentException("null connectionMetricsRegistry");
+		}
+		this.connectionMetricsRegistry = connectionMetricsRegistry;
+	}
+
 	/**
 	 * Retrieve an instance of SSL connection utilities that can manage SSL
 	 * connections to iRODS
@@ -304,8 +304,9 @@ public interface JargonProperties {
 	 * so this is typically unsuitable for production deployment.
 	 * <p>
 	 * Note that actual instrumentation will be an ongoing process, and will be done
-	 * as certain operations are tuned. Initially, this will represent the
-	 * infrastructure for such tuning information.
+	 * as certain operations are tuned. Currently, the protocol layer records per
+	 * API latency, bytes, errors and connection counts in the
+	 * {@link ConnectionMetricsRegistry} of the {@link IRODSSession}.
 	 *
 	 * @return {@code boolean}
 	 */
@@ -609,4 +610,198 @@ public interface JargonProperties {
 	 */
 	int getReplicaTokenLockTimeoutSeconds();
 
+	/**
+	 * Indicates whether access control decisions (file and collection
+	 * permissions for a user) and user group memberships should be cached in
+	 * the {@code IRODSSession}. Cached values are invalidated when permissions
+	 * are changed through Jargon, but changes made by other clients are only
+	 * seen when entries expire.
+	 *
+	 * @return {@code boolean} of {@code true} if the ACL cache should be used
+	 */
+	boolean isUsingAclCache();
+
+	/**
+	 * Time to live, in seconds, for entries in the ACL cache
+	 *
+	 * @return {@code int} with the time to live in seconds
+	 */
+	int getAclCacheTimeToLiveInSeconds();
+
+	/**
+	 * Maximum number of entries held in the ACL cache, least recently used
+	 * entries are evicted beyond this size
+	 *
+	 * @return {@code int} with the maximum number of cached permission entries
+	 */
+	int getAclCacheMaxEntries();
+
+	/**
+	 * Time to live for entries in the discovered server properties cache, after
+	 * which server properties, client hints and discovered values are obtained
+	 * from iRODS again. A value of 0 means that entries do not expire
+	 *
+	 * @return {@code int} with the time to live in seconds, 0 for no expiry
+	 */
+	int getDiscoveredServerPropertiesCacheTimeToLiveInSeconds();
+
+	/**
+	 * Window before expiry in which a cached server properties or client hints
+	 * entry is refreshed on a background thread, so that callers keep getting
+	 * cached values. Only used when a time to live is set and the caller has
+	 * registered a refresher with the cache, as none is registered by default, 0
+	 * turns refresh ahead off
+	 *
+	 * @return {@code int} with the refresh ahead window in seconds
+	 */
+	int getDiscoveredServerPropertiesCacheRefreshAheadSeconds();
+
+	/**
+	 * Maximum number of host and zone entries held in each part of the
+	 * discovered server properties cache, the oldest entries are evicted past
+	 * this bound. A value of 0 means unbounded
+	 *
+	 * @return {@code int} with the max number of host and zone entries
+	 */
+	int getDiscoveredServerPropertiesCacheMaxEntries();
+
+	/**
+	 * Path to a local JSON snapshot of the discovered server properties cache,
+	 * as written by {@code DiscoveredServerPropertiesCache.saveSnapshot()}. If
+	 * set and the file exists, the cache is warmed from it when the {@code
+	 * IRODSSession} is configured, so that connections to known zones skip
+	 * discovery round trips. Blank means no snapshot
+	 *
+	 * @return {@code String} with the snapshot file path, or blank
+	 */
+	String getDiscoveredServerPropertiesCacheSnapshotFile();
+
+	/**
+	 * Get the time (in seconds) to reuse the temporary password derived by a
+	 * PAM login for new connections and socket renewals with the same PAM
+	 * credentials, capped at half the PAM time to live when that is set. 0
+	 * turns off the cache
+	 *
+	 * @return {@code int} with the cache time to live in seconds
+	 */
+	int getPamTemporaryPasswordCacheTimeToLiveInSeconds();
+
+	/**
+	 * Get whether SSL connections share one cached {@code SSLContext} per trust
+	 * manager, so that reconnects to the same host can resume the TLS session
+	 * with an abbreviated handshake
+	 *
+	 * @return {@code boolean} of {@code true} if the SSL context is cached
+	 */
+	boolean isSslSessionResumption();
+
+	/**
+	 * Get the number of recent protocol requests kept per connection in a ring
+	 * buffer, which is written to the log when the connection fails. Recording
+	 * an entry costs no formatting or logging. 0 turns the trace off.
+	 *
+	 * @return {@code int} with the number of requests kept per connection
+	 */
+	int getProtocolTraceBufferSize();
+
+	/**
+	 * Get the sampling interval for the protocol trace. When greater than 0,
+	 * every nth protocol request is logged at INFO by the ProtocolTrace logger,
+	 * as a low cost alternative to DEBUG logging. 0 turns sampling off.
+	 *
+	 * @return {@code int} with the sampling interval
+	 */
+	int getProtocolTraceSampleInterval();
+
+	/**
+	 * Get the number of extra connections kept per account for running
+	 * independent read-only calls at the same time, see
+	 * {@link ReadOnlyConnectionSet}. 0 runs such calls one after another on the
+	 * caller's connection.
+	 *
+	 * @return {@code int} with the number of read-only connections per account
+	 */
+	int getReadOnlyConnectionsPerAccount();
+
+	/**
+	 * Get the time after which the read-only connections of an account that are
+	 * not being used are closed and returned to the connection manager, see
+	 * {@link IRODSSession#getReadOnlyConnectionSet(IRODSAccount)}
+	 *
+	 * @return {@code int} with the idle time in seconds
+	 */
+	int getReadOnlyConnectionsIdleTimeInSeconds();
+
+	/**
+	 * Get the time in seconds that the SSL negotiation policy announced by a
+	 * server is remembered, so that new connections to that server can send the
+	 * negotiation outcome with the startup pack instead of waiting on the
+	 * server, see {@link NegotiationOutcomeCache}. 0 turns this off.
+	 *
+	 * @return {@code int} with the time to live in seconds
+	 */
+	int getNegotiationOutcomeCacheTimeToLiveInSeconds();
+
+	/**
+	 * Indicates whether the results of read-only catalog queries (resources,
+	 * users, groups, zones and data types) run through the
+	 * {@code IRODSGenQueryExecutor} should be cached in the
+	 * {@code IRODSSession}. Cached results are invalidated when the catalog is
+	 * changed through Jargon, but changes made by other clients are only seen
+	 * when entries expire.
+	 *
+	 * @return {@code boolean} of {@code true} if the query result cache should
+	 *         be used
+	 */
+	boolean isUsingQueryResultCache();
+
+	/**
+	 * Time to live, in seconds, for cached results of resource, user and group
+	 * queries
+	 *
+	 * @return {@code int} with the time to live in seconds
+	 */
+	int getQueryResultCacheTimeToLiveInSeconds();
+
+	/**
+	 * Time to live, in seconds, for cached results of zone and data type
+	 * queries, which rarely change
+	 *
+	 * @return {@code int} with the time to live in seconds
+	 */
+	int getQueryResultCacheStaticTimeToLiveInSeconds();
+
+	/**
+	 * Maximum number of query results held in the query result cache, least
+	 * recently used results are evicted beyond this size
+	 *
+	 * @return {@code int} with the maximum number of cached query results
+	 */
+	int getQueryResultCacheMaxEntries();
+
+	/**
+	 * Maximum total number of rows held in the query result cache, least
+	 * recently used results are evicted beyond this size
+	 *
+	 * @return {@code int} with the maximum number of cached rows
+	 */
+	int getQueryResultCacheMaxRows();
+
+	/**
+	 * Number of pages that {@code CollectionPagerAO} loads ahead of the caller in
+	 * the background, using the read-only connections of the account. 0 turns off
+	 * prefetch.
+	 *
+	 * @return {@code int} with the number of pages to prefetch
+	 */
+	int getCollectionPagerPrefetchPages();
+
+	/**
+	 * Time after which pages prefetched for a collection listing that is no
+	 * longer being paged are dropped
+	 *
+	 * @return {@code int} with the idle time in seconds
+	 */
+	int getCollectionPagerPrefetchIdleTimeInSeconds();
+
 }
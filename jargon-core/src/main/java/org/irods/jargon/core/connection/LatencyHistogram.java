@@ -0,0 +1,147 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of latencies in nanoseconds, used by the
+ * {@link DefaultConnectionMetricsRegistry}.
+ * <p>
+ * Values are counted in log-linear buckets, in the manner of HdrHistogram:
+ * each power of two is split into 16 sub buckets, so a percentile is reported
+ * within about 6% of the recorded value, using a fixed array of counters
+ * regardless of the range of values. Recording is a couple of atomic
+ * increments and is safe from any number of threads. Reads are not a
+ * consistent snapshot while values are being recorded, which is fine for
+ * monitoring.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Record one latency
+	 *
+	 * @param elapsedNanos {@code long} with the latency in nanoseconds, negative
+	 *                     values are recorded as 0
+	 */
+	public void record(final long elapsedNanos) {
+		long value = elapsedNanos < 0 ? 0 : elapsedNanos;
+		counts.incrementAndGet(bucketIndex(value));
+		totalCount.incrementAndGet();
+		totalNanos.addAndGet(value);
+
+		long currentMax = maxNanos.get();
+		while (value > currentMax && !maxNanos.compareAndSet(currentMax, value)) {
+			currentMax = maxNanos.get();
+		}
+	}
+
+	/**
+	 * @return {@code long} with the number of recorded values
+	 */
+	public long getCount() {
+		return totalCount.get();
+	}
+
+	/**
+	 * @return {@code long} with the largest recorded value in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @return {@code long} with the mean of the recorded values in nanoseconds, or
+	 *         0 if nothing has been recorded
+	 */
+	public long getMeanNanos() {
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0L;
+		}
+		return totalNanos.get() / count;
+	}
+
+	/**
+	 * Get the value at the given percentile. The value is the top of the bucket
+	 * holding the percentile, capped at the largest recorded value.
+	 *
+	 * @param percentile {@code double} from 0 to 100
+	 * @return {@code long} with the value in nanoseconds, or 0 if nothing has been
+	 *         recorded
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("percentile must be between 0 and 100");
+		}
+
+		long count = totalCount.get();
+		if (count == 0) {
+			return 0L;
+		}
+
+		long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+		long seen = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(bucketUpperBound(i), maxNanos.get());
+			}
+		}
+		return maxNanos.get();
+	}
+
+	/**
+	 * Clear all recorded values
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0L);
+		}
+		totalCount.set(0L);
+		totalNanos.set(0L);
+		maxNanos.set(0L);
+	}
+
+	static int bucketIndex(final long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketUpperBound(final int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lower = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("count=").append(getCount()).append(", meanMicros=")
+				.append(TimeUnit.NANOSECONDS.toMicros(getMeanNanos())).append(", p50Micros=")
+				.append(TimeUnit.NANOSECONDS.toMicros(getValueAtPercentile(50))).append(", p99Micros=")
+				.append(TimeUnit.NANOSECONDS.toMicros(getValueAtPercentile(99))).append(", maxMicros=")
+				.append(TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,296 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.irods.jargon.core.query.PagingAwareCollectionListing;
+import org.irods.jargon.core.utils.ExpiringLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds pages of collection listings that the {@code CollectionPagerAO} has
+ * started loading ahead of the caller, so that asking for the next page can be
+ * served without waiting on iRODS. There is one small buffer per listing, that
+ * is per account and parent collection, and each page in it is found by the
+ * position the caller would ask for: collections or data objects, and the
+ * offset.
+ * <p>
+ * Pages are held as {@code Future}s, so a page that is still loading is waited
+ * on rather than asked for again. A page is removed when it is taken. A listing
+ * that has not been paged for the idle time is dropped with its pages, as is the
+ * least recently paged listing when there are too many.
+ * <p>
+ * The buffer is obtained from {@link IRODSSession#getListingPrefetchBuffer()},
+ * and is turned on by the {@code collection.pager.prefetch.pages} jargon
+ * property.
+ */
+public class ListingPrefetchBuffer {
+
+	public static final Logger log = LoggerFactory.getLogger(ListingPrefetchBuffer.class);
+
+	/**
+	 * Most listings held at once, the least recently paged are dropped beyond this
+	 */
+	public static final int MAX_LISTINGS = 100;
+
+	private final ExpiringLruCache<ListingKey, ListingPages> listings;
+	private final int maxPagesPerListing;
+
+	/**
+	 * @param maxPagesPerListing {@code int} with the most pages held for one
+	 *                           listing
+	 * @param idleTimeMillis     {@code long} with the time in millis after which a
+	 *                           listing that is not paged is dropped
+	 */
+	public ListingPrefetchBuffer(final int maxPagesPerListing, final long idleTimeMillis) {
+		if (maxPagesPerListing <= 0) {
+			throw new IllegalArgumentException("maxPagesPerListing must be > 0");
+		}
+		listings = new ExpiringLruCache<ListingKey, ListingPages>(MAX_LISTINGS,
+				idleTimeMillis);
+		this.maxPagesPerListing = maxPagesPerListing;
+	}
+
+	/**
+	 * Create a buffer sized by the given {@link JargonProperties}
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 * @return {@link ListingPrefetchBuffer}
+	 */
+	public static ListingPrefetchBuffer instance(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+		return new ListingPrefetchBuffer(jargonProperties.getCollectionPagerPrefetchPages(),
+				jargonProperties.getCollectionPagerPrefetchIdleTimeInSeconds() * 1000L);
+	}
+
+	/**
+	 * Add a page that is loading ahead of the caller, which becomes the last page
+	 * scheduled for the listing. A page already held for the position is kept.
+	 *
+	 * @param irodsAccount  {@link IRODSAccount} paging the listing
+	 * @param parentPath    {@code String} with the parent collection of the
+	 *                      listing
+	 * @param inCollections {@code boolean} of {@code true} if the page starts in
+	 *                      collections, {@code false} for data objects
+	 * @param offset        {@code int} with the offset the page would be asked
+	 *                      for by
+	 * @param page          {@code Future} with the page
+	 * @return {@code boolean} of {@code true} if the page was added, {@code false}
+	 *         if the position is already held or the listing is full
+	 */
+	public synchronized boolean offer(final IRODSAccount irodsAccount, final String parentPath,
+			final boolean inCollections, final int offset, final Future<PagingAwareCollectionListing> page) {
+		if (page == null) {
+			throw new IllegalArgumentException("null page");
+		}
+
+		ListingKey listingKey = new ListingKey(irodsAccount, parentPath);
+		ListingPages listingPages = listings.get(listingKey);
+		if (listingPages == null) {
+			listingPages = new ListingPages();
+		}
+
+		PageKey pageKey = new PageKey(inCollections, offset);
+		boolean added = false;
+		if (!listingPages.pages.containsKey(pageKey) && listingPages.pages.size() < maxPagesPerListing) {
+			listingPages.pages.put(pageKey, page);
+			listingPages.lastScheduled = page;
+			added = true;
+		}
+		// putting the listing again restarts its idle time
+		listings.put(listingKey, listingPages);
+		return added;
+	}
+
+	/**
+	 * Take the page held for a position, if any
+	 *
+	 * @param irodsAccount  {@link IRODSAccount} paging the listing
+	 * @param parentPath    {@code String} with the parent collection of the
+	 *                      listing
+	 * @param inCollections {@code boolean} of {@code true} if the page starts in
+	 *                      collections, {@code false} for data objects
+	 * @param offset        {@code int} with the offset asked for
+	 * @return {@code Future} with the page, or {@code null} if not held
+	 */
+	public synchronized Future<PagingAwareCollectionListing> take(final IRODSAccount irodsAccount,
+			final String parentPath, final boolean inCollections, final int offset) {
+		ListingKey listingKey = new ListingKey(irodsAccount, parentPath);
+		ListingPages listingPages = listings.get(listingKey);
+		if (listingPages == null) {
+			return null;
+		}
+
+		Future<PagingAwareCollectionListing> page = listingPages.pages.remove(new PageKey(inCollections, offset));
+		listings.put(listingKey, listingPages);
+		log.debug("prefetched page for {} in collections:{} offset:{} found:{}", parentPath, inCollections, offset,
+				page != null);
+		return page;
+	}
+
+	/**
+	 * Get the page most recently added for a listing, which prefetch continues
+	 * from. The page may have been taken since.
+	 *
+	 * @param irodsAccount {@link IRODSAccount} paging the listing
+	 * @param parentPath   {@code String} with the parent collection of the listing
+	 * @return {@code Future} with the page, or {@code null} if the listing is not
+	 *         held
+	 */
+	public synchronized Future<PagingAwareCollectionListing> getLastScheduled(final IRODSAccount irodsAccount,
+			final String parentPath) {
+		ListingPages listingPages = listings.get(new ListingKey(irodsAccount, parentPath));
+		return listingPages == null ? null : listingPages.lastScheduled;
+	}
+
+	/**
+	 * Drop the pages of a listing, cancelling any that have not started loading
+	 *
+	 * @param irodsAccount {@link IRODSAccount} paging the listing
+	 * @param parentPath   {@code String} with the parent collection of the listing
+	 */
+	public synchronized void invalidate(final IRODSAccount irodsAccount, final String parentPath) {
+		ListingKey listingKey = new ListingKey(irodsAccount, parentPath);
+		ListingPages listingPages = listings.get(listingKey);
+		if (listingPages == null) {
+			return;
+		}
+
+		for (Future<PagingAwareCollectionListing> page : listingPages.pages.values()) {
+			page.cancel(false);
+		}
+		listings.remove(listingKey);
+	}
+
+	/**
+	 * Drop every listing
+	 */
+	public synchronized void clear() {
+		listings.clear();
+	}
+
+	/**
+	 * @return {@code int} with the number of listings held, may include idle
+	 *         listings not yet dropped
+	 */
+	public synchronized int size() {
+		return listings.size();
+	}
+
+	/**
+	 * @return {@code int} with the most pages held for one listing
+	 */
+	public int getMaxPagesPerListing() {
+		return maxPagesPerListing;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ListingPrefetchBuffer [listings=").append(listings).append(", maxPagesPerListing=")
+				.append(maxPagesPerListing).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Pages held for one listing
+	 */
+	private static final class ListingPages {
+		private final Map<PageKey, Future<PagingAwareCollectionListing>> pages = new HashMap<>();
+		private Future<PagingAwareCollectionListing> lastScheduled;
+	}
+
+	/**
+	 * Key for a listing, by the account (host, zone and user) and parent
+	 * collection
+	 */
+	private static final class ListingKey {
+		private final String host;
+		private final String zone;
+		private final String userName;
+		private final String parentPath;
+
+		private ListingKey(final IRODSAccount irodsAccount, final String parentPath) {
+			if (irodsAccount == null) {
+				throw new IllegalArgumentException("null irodsAccount");
+			}
+
+			if (parentPath == null || parentPath.isEmpty()) {
+				throw new IllegalArgumentException("null or empty parentPath");
+			}
+
+			host = irodsAccount.getHost();
+			zone = irodsAccount.getZone();
+			userName = irodsAccount.getUserName();
+			this.parentPath = parentPath;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + host.hashCode();
+			result = prime * result + zone.hashCode();
+			result = prime * result + userName.hashCode();
+			result = prime * result + parentPath.hashCode();
+			return result;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ListingKey)) {
+				return false;
+			}
+			ListingKey other = (ListingKey) obj;
+			return host.equals(other.host) && zone.equals(other.zone) && userName.equals(other.userName)
+					&& parentPath.equals(other.parentPath);
+		}
+
+		@Override
+		public String toString() {
+			return "ListingKey [host=" + host + ", zone=" + zone + ", userName=" + userName + ", parentPath="
+					+ parentPath + "]";
+		}
+	}
+
+	/**
+	 * Key for a page within a listing
+	 */
+	private static final class PageKey {
+		private final boolean inCollections;
+		private final int offset;
+
+		private PageKey(final boolean inCollections, final int offset) {
+			this.inCollections = inCollections;
+			this.offset = offset;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * offset + (inCollections ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PageKey)) {
+				return false;
+			}
+			PageKey other = (PageKey) obj;
+			return inCollections == other.inCollections && offset == other.offset;
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.irods.jargon.core.utils.ExpiringLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the SSL negotiation policy each iRODS server announced during
+ * client/server negotiation, keyed by host and port. With the server's policy
+ * known, the client can compute the negotiation outcome before the server
+ * answers the startup pack, and send its half of the negotiation in the same
+ * write as the startup pack, saving a round trip on each new connection.
+ * <p>
+ * The server's answer is still read and checked. If the server announced a
+ * different policy, so that the outcome sent was wrong, the entry is evicted
+ * and the connection is made again with a normal negotiation.
+ * <p>
+ * This is held by the {@link IRODSSession}, and so shared across threads and
+ * any connection pool using that session. It is turned on by the
+ * {@code negotiation.outcome.cache.time.to.live.seconds} jargon property.
+ */
+public class NegotiationOutcomeCache {
+
+	public static final Logger log = LoggerFactory.getLogger(NegotiationOutcomeCache.class);
+
+	/**
+	 * Max number of distinct servers held
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final ExpiringLruCache<String, SslNegotiationPolicy> cache;
+
+	/**
+	 * Create a cache with the given bounds
+	 *
+	 * @param maxEntries       {@code int} with the max number of entries held
+	 * @param timeToLiveMillis {@code long} with the time to live in millis for
+	 *                         each entry
+	 */
+	public NegotiationOutcomeCache(final int maxEntries, final long timeToLiveMillis) {
+		cache = new ExpiringLruCache<String, SslNegotiationPolicy>(maxEntries, timeToLiveMillis);
+	}
+
+	/**
+	 * Create a cache with the time to live set by the given
+	 * {@link JargonProperties}
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 * @return {@link NegotiationOutcomeCache}
+	 */
+	public static NegotiationOutcomeCache instance(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+		return new NegotiationOutcomeCache(DEFAULT_MAX_ENTRIES,
+				Math.max(0L, jargonProperties.getNegotiationOutcomeCacheTimeToLiveInSeconds()) * 1000L);
+	}
+
+	/**
+	 * Look up the negotiation policy last announced by the server of an account
+	 *
+	 * @param irodsAccount {@link IRODSAccount} for the server
+	 * @return {@link SslNegotiationPolicy} of the server, or {@code null} if none
+	 *         is cached
+	 */
+	public SslNegotiationPolicy retrieveServerPolicy(final IRODSAccount irodsAccount) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+		return cache.get(buildKey(irodsAccount));
+	}
+
+	/**
+	 * Remember the negotiation policy announced by the server of an account
+	 *
+	 * @param irodsAccount         {@link IRODSAccount} for the server
+	 * @param sslNegotiationPolicy {@link SslNegotiationPolicy} announced by the
+	 *                             server
+	 */
+	public void cacheServerPolicy(final IRODSAccount irodsAccount, final SslNegotiationPolicy sslNegotiationPolicy) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		if (sslNegotiationPolicy == null) {
+			throw new IllegalArgumentException("null sslNegotiationPolicy");
+		}
+
+		log.debug("caching server negotiation policy:{} for host:{}", sslNegotiationPolicy, irodsAccount.getHost());
+		cache.put(buildKey(irodsAccount), sslNegotiationPolicy);
+	}
+
+	/**
+	 * Discard the policy for the server of an account, e.g. when the server
+	 * announced a different one
+	 *
+	 * @param irodsAccount {@link IRODSAccount} for the server
+	 */
+	public void evict(final IRODSAccount irodsAccount) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+		cache.remove(buildKey(irodsAccount));
+	}
+
+	/**
+	 * Discard all cached policies
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * @return {@code long} with the number of connections that could negotiate
+	 *         without waiting on the server
+	 */
+	public long getHits() {
+		return cache.getHits();
+	}
+
+	/**
+	 * @return {@code long} with the number of lookups that found nothing
+	 */
+	public long getMisses() {
+		return cache.getMisses();
+	}
+
+	@Override
+	public String toString() {
+		return "NegotiationOutcomeCache [cache=" + cache + "]";
+	}
+
+	private static String buildKey(final IRODSAccount irodsAccount) {
+		return irodsAccount.getHost() + ":" + irodsAccount.getPort();
+	}
+
+}
@@ -0,0 +1,226 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.irods.jargon.core.exception.JargonRuntimeException;
+import org.irods.jargon.core.utils.ExpiringLruCache;
+import org.irods.jargon.core.utils.LocalFileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the temporary passwords that iRODS hands out after a PAM login,
+ * keyed by host, port, zone and user. A PAM login costs an SSL handshake, a
+ * PAM round trip on the server, and a second connection. While a cached
+ * temporary password is valid, new connections for the same PAM credentials
+ * (including pooled connections and renewed sockets) log in directly with the
+ * temporary password using standard authentication instead.
+ * <p>
+ * Entries are only returned for the same PAM password they were derived from,
+ * and the PAM password itself is held only as a digest. An entry the server
+ * rejects is evicted, and a full PAM login is done.
+ * <p>
+ * This is held by the {@link IRODSSession}, and so shared across threads and
+ * any connection pool using that session. It is turned on by the
+ * {@code pam.temporary.password.cache.time.to.live.seconds} jargon property.
+ */
+public class PamTemporaryPasswordCache {
+
+	public static final Logger log = LoggerFactory.getLogger(PamTemporaryPasswordCache.class);
+
+	/**
+	 * Max number of distinct PAM credentials held
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final ExpiringLruCache<String, CachedTemporaryPassword> cache;
+
+	/**
+	 * Create a cache with the given bounds
+	 *
+	 * @param maxEntries       {@code int} with the max number of entries held
+	 * @param timeToLiveMillis {@code long} with the time to live in millis for
+	 *                         each entry
+	 */
+	public PamTemporaryPasswordCache(final int maxEntries, final long timeToLiveMillis) {
+		cache = new ExpiringLruCache<String, CachedTemporaryPassword>(maxEntries, timeToLiveMillis);
+	}
+
+	/**
+	 * Create a cache with the time to live set by the given
+	 * {@link JargonProperties}, if caching is turned on
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 * @return {@link PamTemporaryPasswordCache}, or {@code null} if the computed
+	 *         time to live is under a second, so that temporary passwords are not
+	 *         reused
+	 */
+	public static PamTemporaryPasswordCache instance(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+		long timeToLiveMillis = computeTimeToLiveMillis(jargonProperties);
+		if (timeToLiveMillis <= 0) {
+			return null;
+		}
+		return new PamTemporaryPasswordCache(DEFAULT_MAX_ENTRIES, timeToLiveMillis);
+	}
+
+	/**
+	 * Compute how long a temporary password may be reused given the
+	 * {@link JargonProperties}
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 * @return {@code long} with the time to live in millis, 0 if temporary
+	 *         passwords should not be cached
+	 */
+	static long computeTimeToLiveMillis(final JargonProperties jargonProperties) {
+		return computeTimeToLiveMillis(jargonProperties.getPamTemporaryPasswordCacheTimeToLiveInSeconds(),
+				jargonProperties.getPAMTimeToLive());
+	}
+
+	/**
+	 * Compute how long a temporary password may be reused. When a PAM time to
+	 * live is requested, at most half of it is used so that a cached password is
+	 * never close to expiring on the server. Anything under a second (e.g. a PAM
+	 * time to live of 1) turns the cache off.
+	 *
+	 * @param cacheTimeToLiveSeconds {@code int} with the configured cache time to
+	 *                               live
+	 * @param pamTimeToLiveSeconds   {@code int} with the PAM time to live, 0 for
+	 *                               the server default
+	 * @return {@code long} with the time to live in millis, 0 if temporary
+	 *         passwords should not be cached
+	 */
+	static long computeTimeToLiveMillis(final int cacheTimeToLiveSeconds, final int pamTimeToLiveSeconds) {
+		long seconds = cacheTimeToLiveSeconds;
+		if (pamTimeToLiveSeconds > 0) {
+			seconds = Math.min(seconds, pamTimeToLiveSeconds / 2);
+		}
+		if (seconds < 1) {
+			return 0L;
+		}
+		return seconds * 1000L;
+	}
+
+	/**
+	 * Look up a temporary password for a PAM account
+	 *
+	 * @param pamAccount {@link IRODSAccount} using PAM
+	 * @return {@code String} with the temporary password, or {@code null} if none
+	 *         is cached for these credentials
+	 */
+	public String retrieveTemporaryPassword(final IRODSAccount pamAccount) {
+		if (pamAccount == null) {
+			throw new IllegalArgumentException("null pamAccount");
+		}
+
+		String key = buildKey(pamAccount);
+		CachedTemporaryPassword cached = cache.get(key);
+		if (cached == null) {
+			return null;
+		}
+
+		if (!cached.passwordDigest.equals(digest(pamAccount.getPassword()))) {
+			log.debug("PAM password changed, discard cached temporary password");
+			cache.remove(key);
+			return null;
+		}
+
+		return cached.temporaryPassword;
+	}
+
+	/**
+	 * Remember the temporary password from a PAM login
+	 *
+	 * @param pamAccount        {@link IRODSAccount} using PAM
+	 * @param temporaryPassword {@code String} with the temporary password
+	 */
+	public void cacheTemporaryPassword(final IRODSAccount pamAccount, final String temporaryPassword) {
+		if (pamAccount == null) {
+			throw new IllegalArgumentException("null pamAccount");
+		}
+
+		if (temporaryPassword == null || temporaryPassword.isEmpty()) {
+			throw new IllegalArgumentException("null or empty temporaryPassword");
+		}
+
+		log.debug("caching PAM temporary password for user:{}", pamAccount.getUserName());
+		cache.put(buildKey(pamAccount),
+				new CachedTemporaryPassword(digest(pamAccount.getPassword()), temporaryPassword));
+	}
+
+	/**
+	 * Discard the temporary password for a PAM account, e.g. when it is rejected
+	 *
+	 * @param pamAccount {@link IRODSAccount} using PAM
+	 */
+	public void evict(final IRODSAccount pamAccount) {
+		if (pamAccount == null) {
+			throw new IllegalArgumentException("null pamAccount");
+		}
+		cache.remove(buildKey(pamAccount));
+	}
+
+	/**
+	 * Discard all cached temporary passwords
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * @return {@code long} with the number of PAM logins avoided
+	 */
+	public long getHits() {
+		return cache.getHits();
+	}
+
+	/**
+	 * @return {@code long} with the number of lookups that found nothing
+	 */
+	public long getMisses() {
+		return cache.getMisses();
+	}
+
+	@Override
+	public String toString() {
+		return "PamTemporaryPasswordCache [cache=" + cache + "]";
+	}
+
+	private static String buildKey(final IRODSAccount pamAccount) {
+		return pamAccount.getHost() + ":" + pamAccount.getPort() + "/" + pamAccount.getZone() + "/"
+				+ pamAccount.getUserName();
+	}
+
+	private static String digest(final String password) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return LocalFileUtils.digestByteArrayToString(
+					messageDigest.digest((password == null ? "" : password).getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new JargonRuntimeException("no SHA-256 digest available", e);
+		}
+	}
+
+	private static class CachedTemporaryPassword {
+		private final String passwordDigest;
+		private final String temporaryPassword;
+
+		CachedTemporaryPassword(final String passwordDigest, final String temporaryPassword) {
+			this.passwordDigest = passwordDigest;
+			this.temporaryPassword = temporaryPassword;
+		}
+
+		@Override
+		public String toString() {
+			return "CachedTemporaryPassword [passwordDigest=" + passwordDigest + "]";
+		}
+	}
+
+}
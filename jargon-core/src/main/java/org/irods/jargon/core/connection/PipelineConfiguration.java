@@ -46,6 +46,11 @@ public class PipelineConfiguration {
 	private final int primaryTcpPerformancePrefsLatency;
 	private final int primaryTcpPerformancePrefsBandwidth;
 	private final int socketRenewalIntervalInSeconds;
+	/**
+	 * Protocol trace ring buffer size and sampling interval, 0 turns each off
+	 */
+	private final int protocolTraceBufferSize;
+	private final int protocolTraceSampleInterval;
 	/**
 	 * Default SSL negotiation policy, may be overrideen per request in the
 	 * IRODSAccount
@@ -117,6 +122,8 @@ public class PipelineConfiguration {
 		primaryTcpReceiveWindowSize = jargonProperties.getPrimaryTcpReceiveWindowSize();
 		primaryTcpSendWindowSize = jargonProperties.getPrimaryTcpSendWindowSize();
 		socketRenewalIntervalInSeconds = jargonProperties.getSocketRenewalIntervalInSeconds();
+		protocolTraceBufferSize = jargonProperties.getProtocolTraceBufferSize();
+		protocolTraceSampleInterval = jargonProperties.getProtocolTraceSampleInterval();
 		negotiationPolicy = jargonProperties.getNegotiationPolicy();
 		encryptionAlgorithmEnum = jargonProperties.getEncryptionAlgorithmEnum();
 		encryptionKeySize = jargonProperties.getEncryptionKeySize();
@@ -333,6 +340,10 @@ public class PipelineConfiguration {
 		builder.append(primaryTcpPerformancePrefsBandwidth);
 		builder.append(", socketRenewalIntervalInSeconds=");
 		builder.append(socketRenewalIntervalInSeconds);
+		builder.append(", protocolTraceBufferSize=");
+		builder.append(protocolTraceBufferSize);
+		builder.append(", protocolTraceSampleInterval=");
+		builder.append(protocolTraceSampleInterval);
 		builder.append("]");
 		return builder.toString();
 	}
@@ -344,6 +355,20 @@ public class PipelineConfiguration {
 		return socketRenewalIntervalInSeconds;
 	}
 
+	/**
+	 * @return the protocolTraceBufferSize
+	 */
+	public int getProtocolTraceBufferSize() {
+		return protocolTraceBufferSize;
+	}
+
+	/**
+	 * @return the protocolTraceSampleInterval
+	 */
+	public int getProtocolTraceSampleInterval() {
+		return protocolTraceSampleInterval;
+	}
+
 	public SslNegotiationPolicy getNegotiationPolicy() {
 		return negotiationPolicy;
 	}
@@ -0,0 +1,159 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ring buffer of the most recent protocol requests on one connection, held by
+ * the {@link IRODSMidLevelProtocol}. Recording an entry only fills in a few
+ * fields of a preallocated slot, so the trace can stay on in production. The
+ * entries are written to the log when the connection fails, giving the lead up
+ * to the failure without DEBUG logging.
+ * <p>
+ * Optionally, every nth request is also logged at INFO to this class's logger,
+ * as a sampled view of protocol traffic.
+ * <p>
+ * This is sized by the {@code protocol.trace.buffer.size} jargon property, and
+ * sampled by {@code protocol.trace.sample.interval}. Like the protocol that
+ * holds it, it is not thread safe on its own, and is guarded by the protocol's
+ * lock.
+ */
+public class ProtocolTrace {
+
+	public static final Logger log = LoggerFactory.getLogger(ProtocolTrace.class);
+
+	private final Entry[] entries;
+	private final int sampleInterval;
+	private long requestCount = 0L;
+	private long sampledCount = 0L;
+
+	/**
+	 * @param bufferSize     {@code int} with the number of requests kept, must be
+	 *                       greater than 0
+	 * @param sampleInterval {@code int} where every nth request is logged at
+	 *                       INFO, 0 to turn sampling off
+	 */
+	public ProtocolTrace(final int bufferSize, final int sampleInterval) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be greater than 0");
+		}
+		if (sampleInterval < 0) {
+			throw new IllegalArgumentException("negative sampleInterval");
+		}
+		entries = new Entry[bufferSize];
+		for (int i = 0; i < bufferSize; i++) {
+			entries[i] = new Entry();
+		}
+		this.sampleInterval = sampleInterval;
+	}
+
+	/**
+	 * Record a completed request and response
+	 *
+	 * @param type          {@code String} with the request type
+	 * @param apiNumber     {@code int} with the iRODS API number
+	 * @param requestBytes  {@code long} with the bytes sent
+	 * @param responseBytes {@code long} with the bytes in the response
+	 * @param status        {@code int} with the iRODS status of the response
+	 * @param elapsedNanos  {@code long} with the round trip time
+	 */
+	public void record(final String type, final int apiNumber, final long requestBytes, final long responseBytes,
+			final int status, final long elapsedNanos) {
+		Entry entry = entries[(int) (requestCount % entries.length)];
+		requestCount++;
+		entry.sequence = requestCount;
+		entry.timestamp = System.currentTimeMillis();
+		entry.type = type;
+		entry.apiNumber = apiNumber;
+		entry.requestBytes = requestBytes;
+		entry.responseBytes = responseBytes;
+		entry.status = status;
+		entry.elapsedNanos = elapsedNanos;
+
+		if (sampleInterval > 0 && requestCount % sampleInterval == 0) {
+			sampledCount++;
+			if (log.isInfoEnabled()) {
+				log.info("sampled protocol request:{}", entry);
+			}
+		}
+	}
+
+	/**
+	 * @return {@code long} with the number of requests recorded over the life of
+	 *         the connection
+	 */
+	public long getRequestCount() {
+		return requestCount;
+	}
+
+	/**
+	 * @return {@code long} with the number of requests picked for sampling over
+	 *         the life of the connection
+	 */
+	public long getSampledCount() {
+		return sampledCount;
+	}
+
+	/**
+	 * Get a copy of the kept entries, oldest first
+	 *
+	 * @return {@code List} of {@code String} with one line per request
+	 */
+	public List<String> snapshot() {
+		int kept = (int) Math.min(requestCount, entries.length);
+		List<String> lines = new ArrayList<String>(kept);
+		for (long sequence = requestCount - kept; sequence < requestCount; sequence++) {
+			lines.add(entries[(int) (sequence % entries.length)].toString());
+		}
+		return lines;
+	}
+
+	/**
+	 * Write the kept entries to the log at WARN
+	 *
+	 * @param reason {@code String} describing why the trace is dumped
+	 */
+	public void dump(final String reason) {
+		if (!log.isWarnEnabled() || requestCount == 0) {
+			return;
+		}
+		StringBuilder builder = new StringBuilder();
+		builder.append("protocol trace (").append(reason).append("), last requests:");
+		for (String line : snapshot()) {
+			builder.append("\n\t").append(line);
+		}
+		log.warn(builder.toString());
+	}
+
+	/**
+	 * One slot in the ring buffer
+	 */
+	private static class Entry {
+		private long sequence;
+		private long timestamp;
+		private String type;
+		private int apiNumber;
+		private long requestBytes;
+		private long responseBytes;
+		private int status;
+		private long elapsedNanos;
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			builder.append("#").append(sequence).append(" at:").append(timestamp).append(" type:").append(type)
+					.append(" api:").append(apiNumber).append(" requestBytes:").append(requestBytes)
+					.append(" responseBytes:").append(responseBytes).append(" status:").append(status)
+					.append(" micros:").append(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+			return builder.toString();
+		}
+	}
+
+}
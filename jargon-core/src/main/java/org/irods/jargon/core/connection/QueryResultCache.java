@@ -0,0 +1,426 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.packinstr.GenQueryInp;
+import org.irods.jargon.core.query.GenQueryField;
+import org.irods.jargon.core.query.GenQueryField.SelectFieldSource;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.TranslatedGenQueryCondition;
+import org.irods.jargon.core.query.TranslatedIRODSGenQuery;
+import org.irods.jargon.core.utils.ExpiringLruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional, bounded cache of the results of read-only catalog queries, keyed by
+ * host + zone, user and the encoded query. This serves services that run the
+ * same lookups of resources, users, groups, zones and data types over and over,
+ * and is turned on by the {@code use.query.result.cache} jargon property.
+ * <p>
+ * Only queries whose columns all belong to one of the {@link Category} tables
+ * are cached, and only closed results (those from
+ * {@code executeIRODSQueryAndCloseResult} and the paging variants), so a
+ * continuation is never served from the cache. Entries for resources, users and
+ * groups expire after {@code query.result.cache.time.to.live.seconds}, and
+ * those for zones and data types, which rarely change, after
+ * {@code query.result.cache.static.time.to.live.seconds}. The cache is bounded
+ * by number of results and by total rows, evicting the least recently used.
+ * <p>
+ * Jargon admin access objects invalidate the affected categories when they
+ * change resources, users or groups through this {@code IRODSSession}. Changes
+ * made by other clients are only seen once an entry expires.
+ * <p>
+ * Cached result sets are shared between callers, and must not be modified.
+ */
+public class QueryResultCache {
+
+	public static final Logger log = LoggerFactory.getLogger(QueryResultCache.class);
+
+	/**
+	 * Catalog tables whose query results may be cached, by the range of the
+	 * GenQuery column numbers
+	 */
+	public enum Category {
+		ZONE(100, 199, true), USER(200, 299, false), USER_DN(1600, 1699, false), RESOURCE(300, 399, false),
+		USER_GROUP(900, 999, false), DATA_TYPE(1100, 1199, true);
+
+		private final int firstColumn;
+		private final int lastColumn;
+		private final boolean rarelyChanging;
+
+		Category(final int firstColumn, final int lastColumn, final boolean rarelyChanging) {
+			this.firstColumn = firstColumn;
+			this.lastColumn = lastColumn;
+			this.rarelyChanging = rarelyChanging;
+		}
+
+		/**
+		 * @return {@code boolean} of {@code true} if the table rarely changes, and
+		 *         gets the longer time to live
+		 */
+		public boolean isRarelyChanging() {
+			return rarelyChanging;
+		}
+
+		/**
+		 * @param columnNumber {@code int} with the GenQuery column number
+		 * @return {@link Category} of the column, or {@code null} if its table is
+		 *         not cached
+		 */
+		static Category forColumn(final int columnNumber) {
+			for (Category category : values()) {
+				if (columnNumber >= category.firstColumn && columnNumber <= category.lastColumn) {
+					return category;
+				}
+			}
+			return null;
+		}
+	}
+
+	private final ExpiringLruCache<Key, IRODSQueryResultSet> cache;
+	private final long timeToLiveMillis;
+	private final long staticTimeToLiveMillis;
+	private final AtomicLongArray hits = new AtomicLongArray(Category.values().length);
+	private final AtomicLongArray misses = new AtomicLongArray(Category.values().length);
+
+	/**
+	 * Create a cache with the given bounds
+	 *
+	 * @param maxEntries             {@code int} with the max number of results
+	 *                               held
+	 * @param maxRows                {@code int} with the max total rows held,
+	 *                               larger results are not cached
+	 * @param timeToLiveMillis       {@code long} with the time to live in millis
+	 *                               for resource, user and group results
+	 * @param staticTimeToLiveMillis {@code long} with the time to live in millis
+	 *                               for zone and data type results
+	 */
+	public QueryResultCache(final int maxEntries, final int maxRows, final long timeToLiveMillis,
+			final long staticTimeToLiveMillis) {
+		if (timeToLiveMillis <= 0 || staticTimeToLiveMillis <= 0) {
+			throw new IllegalArgumentException("time to live must be > 0");
+		}
+		cache = new ExpiringLruCache<Key, IRODSQueryResultSet>(maxEntries, timeToLiveMillis, maxRows);
+		this.timeToLiveMillis = timeToLiveMillis;
+		this.staticTimeToLiveMillis = staticTimeToLiveMillis;
+	}
+
+	/**
+	 * Create a cache with bounds and time to live set by the given
+	 * {@link JargonProperties}
+	 *
+	 * @param jargonProperties {@link JargonProperties}
+	 * @return {@link QueryResultCache}
+	 */
+	public static QueryResultCache instance(final JargonProperties jargonProperties) {
+		if (jargonProperties == null) {
+			throw new IllegalArgumentException("null jargonProperties");
+		}
+		return new QueryResultCache(jargonProperties.getQueryResultCacheMaxEntries(),
+				jargonProperties.getQueryResultCacheMaxRows(),
+				jargonProperties.getQueryResultCacheTimeToLiveInSeconds() * 1000L,
+				jargonProperties.getQueryResultCacheStaticTimeToLiveInSeconds() * 1000L);
+	}
+
+	/**
+	 * Find the categories of the tables a query reads
+	 *
+	 * @param translatedIRODSGenQuery {@link TranslatedIRODSGenQuery}
+	 * @return {@code Set} of {@link Category}, or {@code null} if the query reads
+	 *         a table that is not cached
+	 */
+	public static Set<Category> categorize(final TranslatedIRODSGenQuery translatedIRODSGenQuery) {
+		if (translatedIRODSGenQuery == null) {
+			throw new IllegalArgumentException("null translatedIRODSGenQuery");
+		}
+
+		EnumSet<Category> categories = EnumSet.noneOf(Category.class);
+		for (GenQueryField field : translatedIRODSGenQuery.getSelectFields()) {
+			if (!addCategory(categories, field.getSelectFieldSource(), field.getSelectFieldNumericTranslation())) {
+				return null;
+			}
+		}
+
+		for (GenQueryField field : translatedIRODSGenQuery.getOrderByFields()) {
+			if (!addCategory(categories, field.getSelectFieldSource(), field.getSelectFieldNumericTranslation())) {
+				return null;
+			}
+		}
+
+		for (TranslatedGenQueryCondition condition : translatedIRODSGenQuery.getTranslatedQueryConditions()) {
+			if (!addCategory(categories, condition.getFieldSource(), condition.getColumnNumericTranslation())) {
+				return null;
+			}
+		}
+
+		return categories.isEmpty() ? null : Collections.unmodifiableSet(categories);
+	}
+
+	private static boolean addCategory(final Set<Category> categories, final SelectFieldSource source,
+			final String numericTranslation) {
+		if (source == SelectFieldSource.EXTENSIBLE_METADATA || numericTranslation == null) {
+			return false;
+		}
+
+		Category category;
+		try {
+			category = Category.forColumn(Integer.parseInt(numericTranslation.trim()));
+		} catch (NumberFormatException e) {
+			return false;
+		}
+
+		if (category == null) {
+			return false;
+		}
+		categories.add(category);
+		return true;
+	}
+
+	/**
+	 * Build the cache key for a closed run of a query
+	 *
+	 * @param irodsAccount            {@link IRODSAccount} running the query
+	 * @param translatedIRODSGenQuery {@link TranslatedIRODSGenQuery} to run
+	 * @param partialStartIndex       {@code int} with the offset of the run
+	 * @param zoneName                {@code String} with the optional zone of the
+	 *                                query, may be {@code null}
+	 * @return {@link Key}, or {@code null} if the query is not cached
+	 * @throws JargonException if the query cannot be encoded
+	 */
+	public Key keyFor(final IRODSAccount irodsAccount, final TranslatedIRODSGenQuery translatedIRODSGenQuery,
+			final int partialStartIndex, final String zoneName) throws JargonException {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		Set<Category> categories = categorize(translatedIRODSGenQuery);
+		if (categories == null) {
+			return null;
+		}
+
+		GenQueryInp genQueryInp = partialStartIndex == 0 ? GenQueryInp.instance(translatedIRODSGenQuery, 0, zoneName)
+				: GenQueryInp.instanceWithPartialStart(translatedIRODSGenQuery, partialStartIndex, zoneName);
+		return new Key(irodsAccount.getHost(), irodsAccount.getZone(), irodsAccount.getUserName(),
+				genQueryInp.getParsedTags(), categories);
+	}
+
+	/**
+	 * Look up a cached result
+	 *
+	 * @param key {@link Key} from
+	 *            {@link #keyFor(IRODSAccount, TranslatedIRODSGenQuery, int, String)}
+	 * @return {@link IRODSQueryResultSet}, or {@code null} if not cached
+	 */
+	public IRODSQueryResultSet retrieve(final Key key) {
+		if (key == null) {
+			throw new IllegalArgumentException("null key");
+		}
+
+		IRODSQueryResultSet resultSet = cache.get(key);
+		AtomicLongArray counts = resultSet == null ? misses : hits;
+		for (Category category : key.categories) {
+			counts.incrementAndGet(category.ordinal());
+		}
+		return resultSet;
+	}
+
+	/**
+	 * Cache a result, with the time to live of its categories, and weighed by its
+	 * number of rows
+	 *
+	 * @param key       {@link Key} from
+	 *                  {@link #keyFor(IRODSAccount, TranslatedIRODSGenQuery, int, String)}
+	 * @param resultSet {@link IRODSQueryResultSet} to cache
+	 */
+	public void cache(final Key key, final IRODSQueryResultSet resultSet) {
+		if (key == null) {
+			throw new IllegalArgumentException("null key");
+		}
+
+		if (resultSet == null) {
+			throw new IllegalArgumentException("null resultSet");
+		}
+
+		long entryTimeToLiveMillis = staticTimeToLiveMillis;
+		for (Category category : key.categories) {
+			if (!category.isRarelyChanging()) {
+				entryTimeToLiveMillis = Math.min(entryTimeToLiveMillis, timeToLiveMillis);
+			}
+		}
+		cache.put(key, resultSet, entryTimeToLiveMillis, Math.max(1, resultSet.getResults().size()));
+	}
+
+	/**
+	 * Invalidate cached results that read any of the given categories, for all
+	 * users of a server
+	 *
+	 * @param host       {@code String} with the iRODS host
+	 * @param zone       {@code String} with the iRODS zone
+	 * @param categories {@link Category} values that have changed
+	 */
+	public void invalidate(final String host, final String zone, final Category... categories) {
+		if (categories == null || categories.length == 0) {
+			throw new IllegalArgumentException("null or empty categories");
+		}
+
+		final Key probe = new Key(host, zone, "", "", EnumSet.noneOf(Category.class));
+		int removed = cache.removeIf(key -> {
+			if (!key.sameServer(probe)) {
+				return false;
+			}
+			for (Category category : categories) {
+				if (key.categories.contains(category)) {
+					return true;
+				}
+			}
+			return false;
+		});
+		log.debug("invalidated {} cached query results", removed);
+	}
+
+	/**
+	 * Drop every cached result
+	 */
+	public void invalidateAll() {
+		cache.clear();
+	}
+
+	/**
+	 * @param category {@link Category}
+	 * @return {@code long} with the count of lookups of queries reading the
+	 *         category that were served from the cache
+	 */
+	public long getHits(final Category category) {
+		return hits.get(category.ordinal());
+	}
+
+	/**
+	 * @param category {@link Category}
+	 * @return {@code long} with the count of lookups of queries reading the
+	 *         category that were not served from the cache
+	 */
+	public long getMisses(final Category category) {
+		return misses.get(category.ordinal());
+	}
+
+	/**
+	 * @return {@code double} with the share of all lookups served from the cache,
+	 *         0 if there have been none
+	 */
+	public double getHitRate() {
+		long hitCount = cache.getHits();
+		long total = hitCount + cache.getMisses();
+		return total == 0 ? 0.0 : (double) hitCount / total;
+	}
+
+	/**
+	 * @return {@code long} with the count of results evicted because the cache
+	 *         was full
+	 */
+	public long getEvictions() {
+		return cache.getEvictions();
+	}
+
+	/**
+	 * @return {@code int} with the number of results currently held
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return {@code long} with the number of rows currently held
+	 */
+	public long getRowCount() {
+		return cache.getTotalWeight();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("QueryResultCache [cache=").append(cache).append(", timeToLiveMillis=")
+				.append(timeToLiveMillis).append(", staticTimeToLiveMillis=").append(staticTimeToLiveMillis)
+				.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Key for cache entries, host and zone are trimmed and null zones are treated
+	 * as blank, consistent with {@link AccessControlCache}. The categories follow
+	 * from the query, and are not part of equality.
+	 */
+	public static final class Key {
+		private final String host;
+		private final String zone;
+		private final String userName;
+		private final String encodedQuery;
+		private final Set<Category> categories;
+
+		private Key(final String host, final String zone, final String userName, final String encodedQuery,
+				final Set<Category> categories) {
+			if (host == null || host.isEmpty()) {
+				throw new IllegalArgumentException("null or empty host");
+			}
+
+			if (userName == null) {
+				throw new IllegalArgumentException("null userName");
+			}
+
+			this.host = host.trim();
+			this.zone = zone == null ? "" : zone.trim();
+			this.userName = userName;
+			this.encodedQuery = encodedQuery;
+			this.categories = categories;
+		}
+
+		boolean sameServer(final Key other) {
+			return host.equals(other.host) && zone.equals(other.zone);
+		}
+
+		/**
+		 * @return {@code Set} of {@link Category} read by the query
+		 */
+		public Set<Category> getCategories() {
+			return categories;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + host.hashCode();
+			result = prime * result + zone.hashCode();
+			result = prime * result + userName.hashCode();
+			result = prime * result + encodedQuery.hashCode();
+			return result;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return host.equals(other.host) && zone.equals(other.zone) && userName.equals(other.userName)
+					&& encodedQuery.equals(other.encodedQuery);
+		}
+
+		@Override
+		public String toString() {
+			return "Key [host=" + host + ", zone=" + zone + ", userName=" + userName + ", categories=" + categories
+					+ "]";
+		}
+	}
+
+}
@@ -0,0 +1,272 @@
+/**
+ *
+ */
+package org.irods.jargon.core.connection;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small set of extra connections for one account, used to run independent
+ * read-only calls (queries, object stats, ACL and AVU lookups) at the same time
+ * rather than one after another on the caller's connection. A composite view
+ * such as a data profile can then be built in about the time of its slowest
+ * call.
+ * <p>
+ * Each connection is held by its own single thread (a lane), since connections
+ * are kept per thread by the {@link IRODSSession}. Calls are dispatched to the
+ * lanes round robin, and each lane connects on its first call and keeps its
+ * connection until {@link #close()}, or until it has been idle for the idle time
+ * given when the set was created. An idle lane returns its connection and stops
+ * its thread, and starts again on its next call. Access objects used in a call
+ * should be obtained inside the call, so that they are bound to the lane's
+ * connection.
+ * <p>
+ * Only calls that do not depend on each other's side effects should be
+ * submitted, there is no ordering between lanes. When
+ * {@code read.only.connections.per.account} is 0 there are no lanes, and calls
+ * run on the caller's thread and connection as they are submitted.
+ * <p>
+ * Sets are obtained from {@link IRODSSession#getReadOnlyConnectionSet(IRODSAccount)},
+ * which shares one set per account.
+ *
+ * <pre>
+ * ReadOnlyConnectionSet connectionSet = irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount);
+ * Future&lt;DataObject&gt; dataObject = connectionSet.submit(() -&gt; irodsAccessObjectFactory
+ * 		.getDataObjectAO(irodsAccount).findByAbsolutePath(path));
+ * Future&lt;List&lt;UserFilePermission&gt;&gt; acls = connectionSet.submit(() -&gt; irodsAccessObjectFactory
+ * 		.getDataObjectAO(irodsAccount).listPermissionsForDataObject(path));
+ * ReadOnlyConnectionSet.join(dataObject);
+ * ReadOnlyConnectionSet.join(acls);
+ * </pre>
+ */
+public class ReadOnlyConnectionSet {
+
+	public static final Logger log = LoggerFactory.getLogger(ReadOnlyConnectionSet.class);
+
+	/**
+	 * Time allowed for each lane to return its connection on close
+	 */
+	public static final long CLOSE_TIMEOUT_SECONDS = 30L;
+
+	private final IRODSSession irodsSession;
+	private final IRODSAccount irodsAccount;
+	private final ExecutorService[] lanes;
+	private final AtomicInteger nextLane = new AtomicInteger();
+	private volatile boolean closed = false;
+
+	/**
+	 * Create a set whose lanes keep their connections until {@link #close()}
+	 *
+	 * @param irodsSession   {@link IRODSSession} that manages the connections
+	 * @param irodsAccount   {@link IRODSAccount} for the connections
+	 * @param connectionSize {@code int} with the number of connections (lanes),
+	 *                       0 to run calls on the caller's thread
+	 */
+	public ReadOnlyConnectionSet(final IRODSSession irodsSession, final IRODSAccount irodsAccount,
+			final int connectionSize) {
+		this(irodsSession, irodsAccount, connectionSize, 0L);
+	}
+
+	/**
+	 * @param irodsSession   {@link IRODSSession} that manages the connections
+	 * @param irodsAccount   {@link IRODSAccount} for the connections
+	 * @param connectionSize {@code int} with the number of connections (lanes),
+	 *                       0 to run calls on the caller's thread
+	 * @param idleTimeMillis {@code long} with the time in millis after which an
+	 *                       unused lane returns its connection and stops its
+	 *                       thread, 0 to keep lanes until {@link #close()}
+	 */
+	public ReadOnlyConnectionSet(final IRODSSession irodsSession, final IRODSAccount irodsAccount,
+			final int connectionSize, final long idleTimeMillis) {
+		if (irodsSession == null) {
+			throw new IllegalArgumentException("null irodsSession");
+		}
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+		if (connectionSize < 0) {
+			throw new IllegalArgumentException("negative connectionSize");
+		}
+		if (idleTimeMillis < 0) {
+			throw new IllegalArgumentException("negative idleTimeMillis");
+		}
+
+		this.irodsSession = irodsSession;
+		this.irodsAccount = irodsAccount;
+		lanes = new ExecutorService[connectionSize];
+		for (int i = 0; i < connectionSize; i++) {
+			ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, idleTimeMillis, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(), new LaneThreadFactory(i));
+			lane.allowCoreThreadTimeOut(idleTimeMillis > 0);
+			lanes[i] = lane;
+		}
+		log.debug("created read only connection set of {} for:{}", connectionSize, irodsAccount);
+	}
+
+	/**
+	 * Submit a read-only call to the next lane. With no lanes, the call runs now
+	 * on the caller's thread, and any error is reported by the returned
+	 * {@code Future}.
+	 *
+	 * @param <T>       type of the result
+	 * @param operation {@link ConnectionScopedOperation} with the call
+	 * @return {@code Future} with the result, use {@link #join(Future)} to get it
+	 * @throws JargonException if the set is closed
+	 */
+	public <T> Future<T> submit(final ConnectionScopedOperation<T> operation) throws JargonException {
+		if (operation == null) {
+			throw new IllegalArgumentException("null operation");
+		}
+
+		if (closed) {
+			throw new JargonException("read only connection set is closed");
+		}
+
+		Callable<T> callable = operation::execute;
+
+		if (lanes.length == 0) {
+			FutureTask<T> futureTask = new FutureTask<T>(callable);
+			futureTask.run();
+			return futureTask;
+		}
+
+		int lane = Math.abs(nextLane.getAndIncrement() % lanes.length);
+		try {
+			return lanes[lane].submit(callable);
+		} catch (RejectedExecutionException e) {
+			throw new JargonException("read only connection set is closed", e);
+		}
+	}
+
+	/**
+	 * Wait for a submitted call and return its result, rethrowing the error from
+	 * the call
+	 *
+	 * @param <T>    type of the result
+	 * @param future {@code Future} returned by {@link #submit(ConnectionScopedOperation)}
+	 * @return result of the call
+	 * @throws JargonException the error thrown by the call, or if interrupted
+	 */
+	public static <T> T join(final Future<T> future) throws JargonException {
+		if (future == null) {
+			throw new IllegalArgumentException("null future");
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JargonException("interrupted waiting for read only call", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof JargonException) {
+				throw (JargonException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new JargonException("error in read only call", cause);
+		}
+	}
+
+	/**
+	 * @return {@code int} with the number of connections (lanes) in the set
+	 */
+	public int getConnectionSize() {
+		return lanes.length;
+	}
+
+	public IRODSAccount getIrodsAccount() {
+		return irodsAccount;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Return each lane's connection to the protocol manager and stop the lanes.
+	 * Calls already submitted are completed first.
+	 */
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		log.debug("closing read only connection set for:{}", irodsAccount);
+
+		for (ExecutorService lane : lanes) {
+			lane.execute(this::releaseLaneConnection);
+			lane.shutdown();
+		}
+
+		for (ExecutorService lane : lanes) {
+			try {
+				if (!lane.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					log.warn("read only connection lane did not close in time for:{}", irodsAccount);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("interrupted closing read only connection set");
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Return the connection held by the current lane thread, if any
+	 */
+	private void releaseLaneConnection() {
+		if (!irodsSession.isConnectionHeld(irodsAccount)) {
+			return;
+		}
+		try {
+			irodsSession.closeSession(irodsAccount);
+		} catch (JargonException e) {
+			log.warn("error closing read only connection, discarding it", e);
+			irodsSession.discardSessionForErrors(irodsAccount);
+		}
+	}
+
+	/**
+	 * Names the lane threads and makes them daemons, so an unclosed set does not
+	 * hold up JVM exit. A lane thread returns its connection when it stops, which
+	 * is when the lane has been idle for the idle time.
+	 */
+	private class LaneThreadFactory implements ThreadFactory {
+		private final int laneNumber;
+
+		LaneThreadFactory(final int laneNumber) {
+			this.laneNumber = laneNumber;
+		}
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			Thread thread = new Thread(() -> {
+				try {
+					runnable.run();
+				} finally {
+					releaseLaneConnection();
+				}
+			}, "jargon-read-only-" + irodsAccount.getUserName() + "-" + laneNumber);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
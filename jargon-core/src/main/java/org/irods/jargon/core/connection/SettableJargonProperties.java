@@ -125,6 +125,28 @@ public class SettableJargonProperties implements SettableJargonPropertiesMBean {
 	 */
 	private int replicaTokenLockTimeoutSeconds = 30;
 
+	private boolean usingAclCache = false;
+	private int aclCacheTimeToLiveInSeconds = 30;
+	private int aclCacheMaxEntries = 10000;
+	private int discoveredServerPropertiesCacheTimeToLiveInSeconds = 0;
+	private int discoveredServerPropertiesCacheRefreshAheadSeconds = 0;
+	private int discoveredServerPropertiesCacheMaxEntries = 1000;
+	private String discoveredServerPropertiesCacheSnapshotFile = "";
+	private int pamTemporaryPasswordCacheTimeToLiveInSeconds = 0;
+	private boolean sslSessionResumption = true;
+	private int protocolTraceBufferSize = 32;
+	private int protocolTraceSampleInterval = 0;
+	private int readOnlyConnectionsPerAccount = 0;
+	private int readOnlyConnectionsIdleTimeInSeconds = 300;
+	private int negotiationOutcomeCacheTimeToLiveInSeconds = 0;
+	private boolean usingQueryResultCache = false;
+	private int queryResultCacheTimeToLiveInSeconds = 30;
+	private int queryResultCacheStaticTimeToLiveInSeconds = 600;
+	private int queryResultCacheMaxEntries = 1000;
+	private int queryResultCacheMaxRows = 100000;
+	private int collectionPagerPrefetchPages = 0;
+	private int collectionPagerPrefetchIdleTimeInSeconds = 120;
+
 	/**
 	 * Construct a default properties set based on the provided initial set of
 	 * {@code JargonProperties}. This can be used to wire in properties via
@@ -213,6 +235,30 @@ public class SettableJargonProperties implements SettableJargonPropertiesMBean {
 		defaultCppRuleEngineIdentifier = jargonProperties.getDefaultCppRuleEngineIdentifier();
 		rulesSetDestinationWhenAuto = jargonProperties.isRulesSetDestinationWhenAuto();
 		replicaTokenLockTimeoutSeconds = jargonProperties.getReplicaTokenLockTimeoutSeconds();
+		usingAclCache = jargonProperties.isUsingAclCache();
+		aclCacheTimeToLiveInSeconds = jargonProperties.getAclCacheTimeToLiveInSeconds();
+		aclCacheMaxEntries = jargonProperties.getAclCacheMaxEntries();
+		discoveredServerPropertiesCacheTimeToLiveInSeconds = jargonProperties
+				.getDiscoveredServerPropertiesCacheTimeToLiveInSeconds();
+		discoveredServerPropertiesCacheRefreshAheadSeconds = jargonProperties
+				.getDiscoveredServerPropertiesCacheRefreshAheadSeconds();
+		discoveredServerPropertiesCacheMaxEntries = jargonProperties.getDiscoveredServerPropertiesCacheMaxEntries();
+		discoveredServerPropertiesCacheSnapshotFile = jargonProperties.getDiscoveredServerPropertiesCacheSnapshotFile();
+		pamTemporaryPasswordCacheTimeToLiveInSeconds = jargonProperties
+				.getPamTemporaryPasswordCacheTimeToLiveInSeconds();
+		sslSessionResumption = jargonProperties.isSslSessionResumption();
+		protocolTraceBufferSize = jargonProperties.getProtocolTraceBufferSize();
+		protocolTraceSampleInterval = jargonProperties.getProtocolTraceSampleInterval();
+		readOnlyConnectionsPerAccount = jargonProperties.getReadOnlyConnectionsPerAccount();
+		readOnlyConnectionsIdleTimeInSeconds = jargonProperties.getReadOnlyConnectionsIdleTimeInSeconds();
+		negotiationOutcomeCacheTimeToLiveInSeconds = jargonProperties.getNegotiationOutcomeCacheTimeToLiveInSeconds();
+		usingQueryResultCache = jargonProperties.isUsingQueryResultCache();
+		queryResultCacheTimeToLiveInSeconds = jargonProperties.getQueryResultCacheTimeToLiveInSeconds();
+		queryResultCacheStaticTimeToLiveInSeconds = jargonProperties.getQueryResultCacheStaticTimeToLiveInSeconds();
+		queryResultCacheMaxEntries = jargonProperties.getQueryResultCacheMaxEntries();
+		queryResultCacheMaxRows = jargonProperties.getQueryResultCacheMaxRows();
+		collectionPagerPrefetchPages = jargonProperties.getCollectionPagerPrefetchPages();
+		collectionPagerPrefetchIdleTimeInSeconds = jargonProperties.getCollectionPagerPrefetchIdleTimeInSeconds();
 	}
 
 	@Override
@@ -790,7 +836,36 @@ public class SettableJargonProperties implements SettableJargonPropertiesMBean {
 		builder.append("encryptionKeySize=").append(encryptionKeySize).append(", encryptionSaltSize=")
 				.append(encryptionSaltSize).append(", encryptionNumberHashRounds=").append(encryptionNumberHashRounds)
 				.append(", bypassSslCertChecks=").append(bypassSslCertChecks)
-				.append(", replicaTokenLockTimeoutSeconds=").append(replicaTokenLockTimeoutSeconds).append("]");
+				.append(", replicaTokenLockTimeoutSeconds=").append(replicaTokenLockTimeoutSeconds)
+				.append(", usingAclCache=").append(usingAclCache)
+				.append(", aclCacheTimeToLiveInSeconds=").append(aclCacheTimeToLiveInSeconds)
+				.append(", aclCacheMaxEntries=").append(aclCacheMaxEntries)
+				.append(", discoveredServerPropertiesCacheTimeToLiveInSeconds=")
+				.append(discoveredServerPropertiesCacheTimeToLiveInSeconds)
+				.append(", discoveredServerPropertiesCacheRefreshAheadSeconds=")
+				.append(discoveredServerPropertiesCacheRefreshAheadSeconds)
+				.append(", discoveredServerPropertiesCacheMaxEntries=")
+				.append(discoveredServerPropertiesCacheMaxEntries)
+				.append(", discoveredServerPropertiesCacheSnapshotFile=")
+				.append(discoveredServerPropertiesCacheSnapshotFile)
+				.append(", pamTemporaryPasswordCacheTimeToLiveInSeconds=")
+				.append(pamTemporaryPasswordCacheTimeToLiveInSeconds)
+				.append(", sslSessionResumption=").append(sslSessionResumption)
+				.append(", protocolTraceBufferSize=").append(protocolTraceBufferSize)
+				.append(", protocolTraceSampleInterval=").append(protocolTraceSampleInterval)
+				.append(", readOnlyConnectionsPerAccount=").append(readOnlyConnectionsPerAccount)
+				.append(", readOnlyConnectionsIdleTimeInSeconds=").append(readOnlyConnectionsIdleTimeInSeconds)
+				.append(", negotiationOutcomeCacheTimeToLiveInSeconds=")
+				.append(negotiationOutcomeCacheTimeToLiveInSeconds)
+				.append(", usingQueryResultCache=").append(usingQueryResultCache)
+				.append(", queryResultCacheTimeToLiveInSeconds=").append(queryResultCacheTimeToLiveInSeconds)
+				.append(", queryResultCacheStaticTimeToLiveInSeconds=")
+				.append(queryResultCacheStaticTimeToLiveInSeconds)
+				.append(", queryResultCacheMaxEntries=").append(queryResultCacheMaxEntries)
+				.append(", queryResultCacheMaxRows=").append(queryResultCacheMaxRows)
+				.append(", collectionPagerPrefetchPages=").append(collectionPagerPrefetchPages)
+				.append(", collectionPagerPrefetchIdleTimeInSeconds=")
+				.append(collectionPagerPrefetchIdleTimeInSeconds).append("]");
 		return builder.toString();
 	}
 
@@ -963,4 +1038,222 @@ public class SettableJargonProperties implements SettableJargonPropertiesMBean {
 		this.replicaTokenLockTimeoutSeconds = replicaTokenLockTimeoutSeconds;
 	}
 
+	@Override
+	public synchronized boolean isUsingAclCache() {
+		return usingAclCache;
+	}
+
+	@Override
+	public synchronized void setUsingAclCache(final boolean usingAclCache) {
+		this.usingAclCache = usingAclCache;
+	}
+
+	@Override
+	public synchronized int getAclCacheTimeToLiveInSeconds() {
+		return aclCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setAclCacheTimeToLiveInSeconds(final int aclCacheTimeToLiveInSeconds) {
+		this.aclCacheTimeToLiveInSeconds = aclCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized int getAclCacheMaxEntries() {
+		return aclCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized void setAclCacheMaxEntries(final int aclCacheMaxEntries) {
+		this.aclCacheMaxEntries = aclCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized int getDiscoveredServerPropertiesCacheTimeToLiveInSeconds() {
+		return discoveredServerPropertiesCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setDiscoveredServerPropertiesCacheTimeToLiveInSeconds(
+			final int discoveredServerPropertiesCacheTimeToLiveInSeconds) {
+		this.discoveredServerPropertiesCacheTimeToLiveInSeconds = discoveredServerPropertiesCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized int getDiscoveredServerPropertiesCacheRefreshAheadSeconds() {
+		return discoveredServerPropertiesCacheRefreshAheadSeconds;
+	}
+
+	@Override
+	public synchronized void setDiscoveredServerPropertiesCacheRefreshAheadSeconds(
+			final int discoveredServerPropertiesCacheRefreshAheadSeconds) {
+		this.discoveredServerPropertiesCacheRefreshAheadSeconds = discoveredServerPropertiesCacheRefreshAheadSeconds;
+	}
+
+	@Override
+	public synchronized int getDiscoveredServerPropertiesCacheMaxEntries() {
+		return discoveredServerPropertiesCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized void setDiscoveredServerPropertiesCacheMaxEntries(
+			final int discoveredServerPropertiesCacheMaxEntries) {
+		this.discoveredServerPropertiesCacheMaxEntries = discoveredServerPropertiesCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized String getDiscoveredServerPropertiesCacheSnapshotFile() {
+		return discoveredServerPropertiesCacheSnapshotFile;
+	}
+
+	@Override
+	public synchronized void setDiscoveredServerPropertiesCacheSnapshotFile(
+			final String discoveredServerPropertiesCacheSnapshotFile) {
+		this.discoveredServerPropertiesCacheSnapshotFile = discoveredServerPropertiesCacheSnapshotFile;
+	}
+
+	@Override
+	public synchronized int getPamTemporaryPasswordCacheTimeToLiveInSeconds() {
+		return pamTemporaryPasswordCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setPamTemporaryPasswordCacheTimeToLiveInSeconds(
+			final int pamTemporaryPasswordCacheTimeToLiveInSeconds) {
+		this.pamTemporaryPasswordCacheTimeToLiveInSeconds = pamTemporaryPasswordCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized boolean isSslSessionResumption() {
+		return sslSessionResumption;
+	}
+
+	@Override
+	public synchronized void setSslSessionResumption(final boolean sslSessionResumption) {
+		this.sslSessionResumption = sslSessionResumption;
+	}
+
+	@Override
+	public synchronized int getProtocolTraceBufferSize() {
+		return protocolTraceBufferSize;
+	}
+
+	@Override
+	public synchronized void setProtocolTraceBufferSize(final int protocolTraceBufferSize) {
+		this.protocolTraceBufferSize = protocolTraceBufferSize;
+	}
+
+	@Override
+	public synchronized int getProtocolTraceSampleInterval() {
+		return protocolTraceSampleInterval;
+	}
+
+	@Override
+	public synchronized void setProtocolTraceSampleInterval(final int protocolTraceSampleInterval) {
+		this.protocolTraceSampleInterval = protocolTraceSampleInterval;
+	}
+
+	@Override
+	public synchronized int getReadOnlyConnectionsPerAccount() {
+		return readOnlyConnectionsPerAccount;
+	}
+
+	@Override
+	public synchronized void setReadOnlyConnectionsPerAccount(final int readOnlyConnectionsPerAccount) {
+		this.readOnlyConnectionsPerAccount = readOnlyConnectionsPerAccount;
+	}
+
+	@Override
+	public synchronized int getReadOnlyConnectionsIdleTimeInSeconds() {
+		return readOnlyConnectionsIdleTimeInSeconds;
+	}
+
+	@Override
+	public synchronized void setReadOnlyConnectionsIdleTimeInSeconds(final int readOnlyConnectionsIdleTimeInSeconds) {
+		this.readOnlyConnectionsIdleTimeInSeconds = readOnlyConnectionsIdleTimeInSeconds;
+	}
+
+	@Override
+	public synchronized int getNegotiationOutcomeCacheTimeToLiveInSeconds() {
+		return negotiationOutcomeCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setNegotiationOutcomeCacheTimeToLiveInSeconds(
+			final int negotiationOutcomeCacheTimeToLiveInSeconds) {
+		this.negotiationOutcomeCacheTimeToLiveInSeconds = negotiationOutcomeCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized boolean isUsingQueryResultCache() {
+		return usingQueryResultCache;
+	}
+
+	@Override
+	public synchronized void setUsingQueryResultCache(final boolean usingQueryResultCache) {
+		this.usingQueryResultCache = usingQueryResultCache;
+	}
+
+	@Override
+	public synchronized int getQueryResultCacheTimeToLiveInSeconds() {
+		return queryResultCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setQueryResultCacheTimeToLiveInSeconds(final int queryResultCacheTimeToLiveInSeconds) {
+		this.queryResultCacheTimeToLiveInSeconds = queryResultCacheTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized int getQueryResultCacheStaticTimeToLiveInSeconds() {
+		return queryResultCacheStaticTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized void setQueryResultCacheStaticTimeToLiveInSeconds(
+			final int queryResultCacheStaticTimeToLiveInSeconds) {
+		this.queryResultCacheStaticTimeToLiveInSeconds = queryResultCacheStaticTimeToLiveInSeconds;
+	}
+
+	@Override
+	public synchronized int getQueryResultCacheMaxEntries() {
+		return queryResultCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized void setQueryResultCacheMaxEntries(final int queryResultCacheMaxEntries) {
+		this.queryResultCacheMaxEntries = queryResultCacheMaxEntries;
+	}
+
+	@Override
+	public synchronized int getQueryResultCacheMaxRows() {
+		return queryResultCacheMaxRows;
+	}
+
+	@Override
+	public synchronized void setQueryResultCacheMaxRows(final int queryResultCacheMaxRows) {
+		this.queryResultCacheMaxRows = queryResultCacheMaxRows;
+	}
+
+	@Override
+	public synchronized int getCollectionPagerPrefetchPages() {
+		return collectionPagerPrefetchPages;
+	}
+
+	@Override
+	public synchronized void setCollectionPagerPrefetchPages(final int collectionPagerPrefetchPages) {
+		this.collectionPagerPrefetchPages = collectionPagerPrefetchPages;
+	}
+
+	@Override
+	public synchronized int getCollectionPagerPrefetchIdleTimeInSeconds() {
+		return collectionPagerPrefetchIdleTimeInSeconds;
+	}
+
+	@Override
+	public synchronized void setCollectionPagerPrefetchIdleTimeInSeconds(
+			final int collectionPagerPrefetchIdleTimeInSeconds) {
+		this.collectionPagerPrefetchIdleTimeInSeconds = collectionPagerPrefetchIdleTimeInSeconds;
+	}
+
 }
@@ -141,4 +141,46 @@ public interface SettableJargonPropertiesMBean extends JargonProperties {
 
 	void setReplicaTokenLockTimeoutSeconds(int replicaTokenLockTimeoutSeconds);
 
+	void setUsingAclCache(boolean usingAclCache);
+
+	void setAclCacheTimeToLiveInSeconds(int aclCacheTimeToLiveInSeconds);
+
+	void setAclCacheMaxEntries(int aclCacheMaxEntries);
+
+	void setDiscoveredServerPropertiesCacheTimeToLiveInSeconds(int discoveredServerPropertiesCacheTimeToLiveInSeconds);
+
+	void setDiscoveredServerPropertiesCacheRefreshAheadSeconds(int discoveredServerPropertiesCacheRefreshAheadSeconds);
+
+	void setDiscoveredServerPropertiesCacheMaxEntries(int discoveredServerPropertiesCacheMaxEntries);
+
+	void setDiscoveredServerPropertiesCacheSnapshotFile(String discoveredServerPropertiesCacheSnapshotFile);
+
+	void setPamTemporaryPasswordCacheTimeToLiveInSeconds(int pamTemporaryPasswordCacheTimeToLiveInSeconds);
+
+	void setSslSessionResumption(boolean sslSessionResumption);
+
+	void setProtocolTraceBufferSize(int protocolTraceBufferSize);
+
+	void setProtocolTraceSampleInterval(int protocolTraceSampleInterval);
+
+	void setReadOnlyConnectionsPerAccount(int readOnlyConnectionsPerAccount);
+
+	void setReadOnlyConnectionsIdleTimeInSeconds(int readOnlyConnectionsIdleTimeInSeconds);
+
+	void setNegotiationOutcomeCacheTimeToLiveInSeconds(int negotiationOutcomeCacheTimeToLiveInSeconds);
+
+	void setUsingQueryResultCache(boolean usingQueryResultCache);
+
+	void setQueryResultCacheTimeToLiveInSeconds(int queryResultCacheTimeToLiveInSeconds);
+
+	void setQueryResultCacheStaticTimeToLiveInSeconds(int queryResultCacheStaticTimeToLiveInSeconds);
+
+	void setQueryResultCacheMaxEntries(int queryResultCacheMaxEntries);
+
+	void setQueryResultCacheMaxRows(int queryResultCacheMaxRows);
+
+	void setCollectionPagerPrefetchPages(int collectionPagerPrefetchPages);
+
+	void setCollectionPagerPrefetchIdleTimeInSeconds(int collectionPagerPrefetchIdleTimeInSeconds);
+
 }
@@ -17,6 +17,7 @@ import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
 
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.exception.JargonRuntimeException;
@@ -35,7 +36,7 @@ class SslConnectionUtilities {
 	@SuppressWarnings("unused")
 	private final IRODSSession irodsSession;
 
-	private Logger log = LoggerFactory.getLogger(SslConnectionUtilities.class);
+	private static final Logger log = LoggerFactory.getLogger(SslConnectionUtilities.class);
 
 	SslConnectionUtilities(final IRODSSession irodsSession) {
 		super();
@@ -43,30 +44,17 @@ class SslConnectionUtilities {
 	}
 
 	/**
-	 * @param irodsAccount
-	 *            {@link IRODSAccount} for connection
-	 * @param irodsCommands
-	 *            {@link IRODSMidLevelProtocol} that represents the current
-	 *            connection
-	 * @param doSslStartupSequence
-	 *            {@code boolean} that indicates that
-	 * @return {@link SSLSocket} that can be inserted into the existing connection.
-	 *         Note that this method will not manipulate the mid level protocol
-	 *         object, it is up to the caller to handle the disposition of that
-	 *         socket object.
-	 * @throws JargonException
+	 * Build and initialize a TLS {@code SSLContext}. The context holds the client
+	 * side TLS session cache, so sockets created from one context can resume
+	 * sessions with hosts they have connected to before.
+	 *
+	 * @param x509TrustManager
+	 *            {@link X509TrustManager} to use, or {@code null} for the default
+	 * @return {@link SSLContext}
 	 * @throws AssertionError
+	 *             if the TLS provider is not available
 	 */
-	SSLSocket createSslSocketForProtocol(final IRODSAccount irodsAccount, final IRODSMidLevelProtocol irodsCommands,
-			final boolean doSslStartupSequence) throws JargonException, AssertionError {
-
-		if (doSslStartupSequence) {
-			// start ssl
-			log.info("startSSL for PAM auth");
-			SSLStartInp sslStartInp = SSLStartInp.instance();
-			irodsCommands.irodsFunction(sslStartInp);
-		}
-
+	static SSLContext buildSslContext(final X509TrustManager x509TrustManager) throws AssertionError {
 		SSLContext ctx;
 		try {
 			ctx = SSLContext.getInstance("TLSv1.2", "SunJSSE");
@@ -85,8 +73,8 @@ class SslConnectionUtilities {
 		}
 		TrustManager[] trustManagers = null;
 
-		if (irodsCommands.getIrodsSession().getX509TrustManager() != null) {
-			trustManagers = new TrustManager[] { irodsCommands.getIrodsSession().getX509TrustManager() };
+		if (x509TrustManager != null) {
+			trustManagers = new TrustManager[] { x509TrustManager };
 		}
 		try {
 			ctx.init(null, trustManagers, null);
@@ -95,6 +83,36 @@ class SslConnectionUtilities {
 			throw new JargonRuntimeException("ssl context init exception", e1);
 		}
 
+		return ctx;
+	}
+
+	/**
+	 * @param irodsAccount
+	 *            {@link IRODSAccount} for connection
+	 * @param irodsCommands
+	 *            {@link IRODSMidLevelProtocol} that represents the current
+	 *            connection
+	 * @param doSslStartupSequence
+	 *            {@code boolean} that indicates that
+	 * @return {@link SSLSocket} that can be inserted into the existing connection.
+	 *         Note that this method will not manipulate the mid level protocol
+	 *         object, it is up to the caller to handle the disposition of that
+	 *         socket object.
+	 * @throws JargonException
+	 * @throws AssertionError
+	 */
+	SSLSocket createSslSocketForProtocol(final IRODSAccount irodsAccount, final IRODSMidLevelProtocol irodsCommands,
+			final boolean doSslStartupSequence) throws JargonException, AssertionError {
+
+		if (doSslStartupSequence) {
+			// start ssl
+			log.info("startSSL for PAM auth");
+			SSLStartInp sslStartInp = SSLStartInp.instance();
+			irodsCommands.irodsFunction(sslStartInp);
+		}
+
+		SSLContext ctx = irodsCommands.getIrodsSession().getSslContext();
+
 		// if all went well (no exceptions) then the server is ready for the
 		// credential exchange, first grab an SSL enabled connection
 		log.debug("getting ssl socket factory");
@@ -143,6 +161,7 @@ class SslConnectionUtilities {
 		}
 
 		log.debug("starting SSL handshake");
+		long handshakeStart = System.currentTimeMillis();
 		try {
 			sslSocket.setUseClientMode(true);
 			sslSocket.startHandshake();
@@ -150,7 +169,10 @@ class SslConnectionUtilities {
 			log.error("ssl exception in handshake", e);
 			throw new JargonException("unable to start SSL socket", e);
 		}
-		log.debug("ssl handshake successful");
+		// a resumed session was created by an earlier handshake
+		boolean resumed = sslSocket.getSession().getCreationTime() < handshakeStart;
+		irodsCommands.getIrodsSession().recordSslHandshake(resumed);
+		log.debug("ssl handshake successful, resumed:{}", resumed);
 		return sslSocket;
 	}
 
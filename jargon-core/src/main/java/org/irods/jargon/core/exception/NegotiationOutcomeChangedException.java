@@ -0,0 +1,24 @@
+/**
+ *
+ */
+package org.irods.jargon.core.exception;
+
+/**
+ * The client sent a cached client/server negotiation outcome along with the
+ * startup pack, but the server announced a different negotiation policy than
+ * the one cached. The connection cannot be used, and is made again with a
+ * normal negotiation.
+ */
+public class NegotiationOutcomeChangedException extends ClientServerNegotiationException {
+
+	private static final long serialVersionUID = -3187264520317145802L;
+
+	public NegotiationOutcomeChangedException(final String message) {
+		super(message);
+	}
+
+	public NegotiationOutcomeChangedException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+
+}
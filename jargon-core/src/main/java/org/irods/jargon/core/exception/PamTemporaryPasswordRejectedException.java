@@ -0,0 +1,23 @@
+/**
+ *
+ */
+package org.irods.jargon.core.exception;
+
+/**
+ * A temporary password cached from an earlier PAM login was rejected by the
+ * server, e.g. because it expired. The connection cannot be used, and is made
+ * again with a full PAM login.
+ */
+public class PamTemporaryPasswordRejectedException extends AuthenticationException {
+
+	private static final long serialVersionUID = 5472318106694537291L;
+
+	public PamTemporaryPasswordRejectedException(final String message) {
+		super(message);
+	}
+
+	public PamTemporaryPasswordRejectedException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.irods.jargon.core.packinstr;
 
 import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.query.BoundIRODSGenQuery;
 import org.irods.jargon.core.query.GenQueryField;
 import org.irods.jargon.core.query.GenQueryOrderByField;
 import org.irods.jargon.core.query.GenQueryOrderByField.OrderByType;
@@ -172,6 +173,19 @@ public class GenQueryInp extends AbstractIRODSPackingInstruction implements IRod
 		return translatedIRODSQuery;
 	}
 
+	/**
+	 * A query from a {@code PreparedIRODSGenQuery} is already encoded, apart from
+	 * the values, so fill those in rather than serializing the tags
+	 */
+	@Override
+	public String getParsedTags() throws JargonException {
+		if (translatedIRODSQuery.getIrodsQuery() instanceof BoundIRODSGenQuery) {
+			return ((BoundIRODSGenQuery) translatedIRODSQuery.getIrodsQuery()).encodeGenQueryInp(maxRowCount,
+					continueIndex, partialStartIndex, zoneName);
+		}
+		return super.getParsedTags();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
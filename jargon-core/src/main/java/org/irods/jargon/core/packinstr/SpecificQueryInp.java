@@ -106,8 +106,19 @@ public class SpecificQueryInp extends AbstractIRODSPackingInstruction {
 			throw new IllegalArgumentException("null specificQueryResultSet");
 		}
 
-		SpecificQueryInp specificQueryInp = new SpecificQueryInp(null, "close", 0,
-				specificQueryResultSet.getContinuationIndex(), "");
+		return instanceForClose(specificQueryResultSet.getContinuationIndex());
+	}
+
+	/**
+	 * Create an instance of the packing instruction to close a specific query
+	 *
+	 * @param continueIndex
+	 *            {@code int} with the index passed back from the last page of the
+	 *            query
+	 * @return {@link SpecificQueryInp}
+	 */
+	public static final SpecificQueryInp instanceForClose(final int continueIndex) {
+		SpecificQueryInp specificQueryInp = new SpecificQueryInp(null, "close", 0, continueIndex, "");
 		specificQueryInp.setApiNumber(SPECIFIC_QUERY_API_NBR);
 		return specificQueryInp;
 	}
@@ -0,0 +1,105 @@
+/**
+ *
+ */
+package org.irods.jargon.core.pub;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.irods.jargon.core.connection.DiscoveredServerPropertiesRefresher;
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSServerProperties;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.domain.ClientHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DiscoveredServerPropertiesRefresher} that refreshes server properties
+ * and client hints by connecting with a registered {@link IRODSAccount} for
+ * the host and zone. Hosts and zones without a registered account are not
+ * refreshed, and their entries simply expire.
+ * <p>
+ * The connection used for a refresh is opened and closed on the cache refresh
+ * thread.
+ * <p>
+ * Jargon does not register a refresher itself. To turn on refresh ahead, set
+ * {@code discovered.server.properties.cache.time.to.live.seconds} and
+ * {@code discovered.server.properties.cache.refresh.ahead.seconds}, then add the
+ * accounts and register the refresher:
+ *
+ * <pre>
+ * AccountBasedServerPropertiesRefresher refresher = new AccountBasedServerPropertiesRefresher(
+ * 		irodsFileSystem.getIRODSAccessObjectFactory());
+ * refresher.addAccount(irodsAccount);
+ * irodsFileSystem.getIrodsSession().getDiscoveredServerPropertiesCache().setRefresher(refresher);
+ * </pre>
+ */
+public class AccountBasedServerPropertiesRefresher implements DiscoveredServerPropertiesRefresher {
+
+	public static final Logger log = LoggerFactory.getLogger(AccountBasedServerPropertiesRefresher.class);
+
+	private final IRODSAccessObjectFactory irodsAccessObjectFactory;
+	private final ConcurrentHashMap<String, IRODSAccount> accounts = new ConcurrentHashMap<String, IRODSAccount>();
+
+	/**
+	 * @param irodsAccessObjectFactory {@link IRODSAccessObjectFactory} used to
+	 *                                 connect for refreshes
+	 */
+	public AccountBasedServerPropertiesRefresher(final IRODSAccessObjectFactory irodsAccessObjectFactory) {
+		if (irodsAccessObjectFactory == null) {
+			throw new IllegalArgumentException("null irodsAccessObjectFactory");
+		}
+		this.irodsAccessObjectFactory = irodsAccessObjectFactory;
+	}
+
+	/**
+	 * Register the account used to refresh entries for its host and zone,
+	 * replacing any account registered earlier for the same host and zone
+	 *
+	 * @param irodsAccount {@link IRODSAccount}
+	 */
+	public void addAccount(final IRODSAccount irodsAccount) {
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+		log.info("addAccount() for host:{} and zone:{}", irodsAccount.getHost(), irodsAccount.getZone());
+		accounts.put(buildKey(irodsAccount.getHost(), irodsAccount.getZone()), irodsAccount);
+	}
+
+	@Override
+	public IRODSServerProperties refreshIRODSServerProperties(final String host, final String zoneName)
+			throws JargonException {
+		IRODSAccount irodsAccount = accounts.get(buildKey(host, zoneName));
+		if (irodsAccount == null) {
+			log.debug("no account to refresh server properties for host:{}", host);
+			return null;
+		}
+
+		try {
+			return irodsAccessObjectFactory.getEnvironmentalInfoAO(irodsAccount)
+					.getIRODSServerPropertiesFromIRODSServer(true);
+		} finally {
+			irodsAccessObjectFactory.closeSessionAndEatExceptions(irodsAccount);
+		}
+	}
+
+	@Override
+	public ClientHints refreshClientHints(final String host, final String zoneName) throws JargonException {
+		IRODSAccount irodsAccount = accounts.get(buildKey(host, zoneName));
+		if (irodsAccount == null) {
+			log.debug("no account to refresh client hints for host:{}", host);
+			return null;
+		}
+
+		try {
+			return irodsAccessObjectFactory.getEnvironmentalInfoAO(irodsAccount).retrieveClientHints(true);
+		} finally {
+			irodsAccessObjectFactory.closeSessionAndEatExceptions(irodsAccount);
+		}
+	}
+
+	private String buildKey(final String host, final String zoneName) {
+		return host.trim() + "/" + (zoneName == null ? "" : zoneName.trim());
+	}
+
+}
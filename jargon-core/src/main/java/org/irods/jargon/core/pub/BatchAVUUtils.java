@@ -0,0 +1,356 @@
+/**
+ *
+ */
+package org.irods.jargon.core.pub;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.exception.FileNotFoundException;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.aohelper.CollectionAOHelper;
+import org.irods.jargon.core.query.AVUQueryElement;
+import org.irods.jargon.core.query.GenQueryBuilderException;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSGenQueryFromBuilder;
+import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.MetaDataAndDomainData;
+import org.irods.jargon.core.query.MetaDataAndDomainData.MetadataDomain;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.core.query.RowHandler;
+import org.irods.jargon.core.utils.AccessObjectQueryProcessingUtils;
+import org.irods.jargon.core.utils.CollectionAndPath;
+import org.irods.jargon.core.utils.MiscIRODSUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Package utils to find the AVU metadata of many data objects or collections
+ * with a few GenQuery calls instead of one query per path.
+ * <p>
+ * Paths are grouped by zone. Data objects are grouped by parent collection and
+ * queried in chunks ({@code COLL_NAME IN} and {@code DATA_NAME IN}), keeping
+ * only the AVUs of the paths asked for, and collections are queried in chunks
+ * ({@code COLL_NAME IN}). Each query is streamed to the end, so a path with
+ * many AVUs is not cut off at a page. Paths that cannot be quoted in a GenQuery
+ * fall back to the query for a single path.
+ */
+class BatchAVUUtils {
+
+	static final Logger log = LoggerFactory.getLogger(BatchAVUUtils.class);
+
+	/**
+	 * Max number of values in one {@code IN} condition
+	 */
+	static final int PATHS_PER_QUERY = 100;
+
+	private final IRODSAccount irodsAccount;
+	private final IRODSAccessObjectFactory irodsAccessObjectFactory;
+
+	BatchAVUUtils(final IRODSAccount irodsAccount, final IRODSAccessObjectFactory irodsAccessObjectFactory) {
+
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		if (irodsAccessObjectFactory == null) {
+			throw new IllegalArgumentException("null irodsAccessObjectFactory");
+		}
+
+		this.irodsAccount = irodsAccount;
+		this.irodsAccessObjectFactory = irodsAccessObjectFactory;
+	}
+
+	/**
+	 * Find the AVUs of each of the given data objects
+	 *
+	 * @param avuQuery                {@code List} of {@link AVUQueryElement} with
+	 *                                conditions on the AVUs, may be empty to find
+	 *                                all AVUs
+	 * @param dataObjectAbsolutePaths {@code Collection} of {@code String} with
+	 *                                iRODS absolute paths of data objects
+	 * @return {@code Map} keyed by each given path, in the given order, with the
+	 *         {@code List} of {@link MetaDataAndDomainData}. Paths without AVUs,
+	 *         or that do not exist, map to an empty list
+	 * @throws JargonException for iRODS error
+	 */
+	Map<String, List<MetaDataAndDomainData>> findMetadataValuesForDataObjects(final List<AVUQueryElement> avuQuery,
+			final Collection<String> dataObjectAbsolutePaths) throws JargonException {
+
+		log.info("findMetadataValuesForDataObjects()");
+
+		if (avuQuery == null) {
+			throw new IllegalArgumentException("null avuQuery");
+		}
+
+		Map<String, String> normalizedPaths = normalizePaths(dataObjectAbsolutePaths);
+		Map<String, List<MetaDataAndDomainData>> found = emptyResults(normalizedPaths);
+
+		for (Map.Entry<String, Set<String>> entry : groupByZone(normalizedPaths).entrySet()) {
+			String zone = entry.getKey();
+			TreeMap<String, List<String>> pathsByParent = new TreeMap<String, List<String>>();
+
+			for (String path : entry.getValue()) {
+				if (zone.isEmpty() || !isQueryable(path)) {
+					found.put(path, findForDataObject(avuQuery, path));
+					continue;
+				}
+
+				String parent = parentOf(path);
+				List<String> siblings = pathsByParent.get(parent);
+				if (siblings == null) {
+					siblings = new ArrayList<String>();
+					pathsByParent.put(parent, siblings);
+				}
+				siblings.add(path);
+			}
+
+			List<String> chunk = new ArrayList<String>(PATHS_PER_QUERY);
+			for (List<String> siblings : pathsByParent.values()) {
+				for (String path : siblings) {
+					chunk.add(path);
+					if (chunk.size() == PATHS_PER_QUERY) {
+						queryDataObjects(zone, avuQuery, chunk, found);
+						chunk.clear();
+					}
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				queryDataObjects(zone, avuQuery, chunk, found);
+			}
+		}
+
+		return buildResults(normalizedPaths, found);
+	}
+
+	/**
+	 * Find the AVUs of each of the given collections
+	 *
+	 * @param avuQuery                {@code List} of {@link AVUQueryElement} with
+	 *                                conditions on the AVUs, may be empty to find
+	 *                                all AVUs
+	 * @param collectionAbsolutePaths {@code Collection} of {@code String} with
+	 *                                iRODS absolute paths of collections
+	 * @return {@code Map} keyed by each given path, in the given order, with the
+	 *         {@code List} of {@link MetaDataAndDomainData}. Paths without AVUs,
+	 *         or that do not exist, map to an empty list
+	 * @throws JargonException for iRODS error
+	 */
+	Map<String, List<MetaDataAndDomainData>> findMetadataValuesForCollections(final List<AVUQueryElement> avuQuery,
+			final Collection<String> collectionAbsolutePaths) throws JargonException {
+
+		log.info("findMetadataValuesForCollections()");
+
+		if (avuQuery == null) {
+			throw new IllegalArgumentException("null avuQuery");
+		}
+
+		Map<String, String> normalizedPaths = normalizePaths(collectionAbsolutePaths);
+		Map<String, List<MetaDataAndDomainData>> found = emptyResults(normalizedPaths);
+
+		for (Map.Entry<String, Set<String>> entry : groupByZone(normalizedPaths).entrySet()) {
+			String zone = entry.getKey();
+			List<String> chunk = new ArrayList<String>(PATHS_PER_QUERY);
+
+			for (String path : entry.getValue()) {
+				if (zone.isEmpty() || path.indexOf('\'') != -1) {
+					found.put(path, findForCollection(avuQuery, path));
+					continue;
+				}
+
+				chunk.add(path);
+				if (chunk.size() == PATHS_PER_QUERY) {
+					queryCollections(zone, avuQuery, chunk, found);
+					chunk.clear();
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				queryCollections(zone, avuQuery, chunk, found);
+			}
+		}
+
+		return buildResults(normalizedPaths, found);
+	}
+
+	private void queryDataObjects(final String zone, final List<AVUQueryElement> avuQuery, final List<String> chunk,
+			final Map<String, List<MetaDataAndDomainData>> found) throws JargonException {
+
+		Set<String> parents = new LinkedHashSet<String>();
+		Set<String> dataNames = new LinkedHashSet<String>();
+		for (String path : chunk) {
+			parents.add(parentOf(path));
+			dataNames.add(MiscIRODSUtils.getLastPathComponentForGivenAbsolutePath(path));
+		}
+
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		try {
+			DataAOHelper.addMetadataAndDomainDataSelectsToBuilder(builder);
+			builder.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.IN,
+					new ArrayList<String>(parents))
+					.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.IN,
+							new ArrayList<String>(dataNames));
+			for (AVUQueryElement queryElement : avuQuery) {
+				DataAOHelper.appendConditionPartToBuilderQuery(queryElement, builder);
+			}
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error("error building data object AVU query", e);
+			throw new JargonException("error building data object AVU query", e);
+		}
+
+		/*
+		 * the cross product of parents and names may match objects that were not
+		 * asked for, so only the AVUs of exact paths are kept
+		 */
+		streamQuery(builder, zone, row -> {
+			String path = MiscIRODSUtils.buildAbsolutePathFromCollectionParentAndFileName(row.getColumn(1),
+					row.getColumn(2));
+			List<MetaDataAndDomainData> avus = found.get(path);
+			if (avus != null) {
+				avus.add(DataAOHelper.buildMetaDataAndDomainDataFromResultSetRowForDataObject(row.toResultRow(), 0));
+			}
+			return true;
+		});
+	}
+
+	private void queryCollections(final String zone, final List<AVUQueryElement> avuQuery, final List<String> chunk,
+			final Map<String, List<MetaDataAndDomainData>> found) throws JargonException {
+
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		try {
+			CollectionAOHelper.buildMetadataAndDomainDataSelectsByAppendingToBuilder(builder)
+					.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.IN,
+							new ArrayList<String>(chunk));
+			for (AVUQueryElement queryElement : avuQuery) {
+				CollectionAOHelper.appendConditionPartToBuilderQuery(queryElement, builder);
+			}
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error("error building collection AVU query", e);
+			throw new JargonException("error building collection AVU query", e);
+		}
+
+		streamQuery(builder, zone, row -> {
+			List<MetaDataAndDomainData> avus = found.get(row.getColumn(1));
+			if (avus != null) {
+				avus.add(AccessObjectQueryProcessingUtils
+						.buildMetaDataAndDomainDataFromResultSetRow(MetadataDomain.COLLECTION, row.toResultRow(), 0));
+			}
+			return true;
+		});
+	}
+
+	private void streamQuery(final IRODSGenQueryBuilder builder, final String zone, final RowHandler rowHandler)
+			throws JargonException {
+		try {
+			int pageSize = irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax();
+			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(pageSize);
+			long rows = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount)
+					.executeIRODSQueryStreamingInZone(irodsQuery, rowHandler, zone);
+			log.debug("{} AVU rows in zone:{}", rows, zone);
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error(CollectionListingUtils.QUERY_EXCEPTION_FOR_QUERY, e);
+			throw new JargonException("error in AVU batch query", e);
+		}
+	}
+
+	private List<MetaDataAndDomainData> findForDataObject(final List<AVUQueryElement> avuQuery, final String path)
+			throws JargonException {
+		log.debug("querying AVUs of single data object:{}", path);
+		try {
+			return irodsAccessObjectFactory.getDataObjectAO(irodsAccount)
+					.findMetadataValuesForDataObjectUsingAVUQuery(avuQuery, path);
+		} catch (FileNotFoundException e) {
+			return new ArrayList<MetaDataAndDomainData>();
+		} catch (JargonQueryException e) {
+			throw new JargonException("error querying AVUs of data object", e);
+		}
+	}
+
+	private List<MetaDataAndDomainData> findForCollection(final List<AVUQueryElement> avuQuery, final String path)
+			throws JargonException {
+		log.debug("querying AVUs of single collection:{}", path);
+		try {
+			return irodsAccessObjectFactory.getCollectionAO(irodsAccount)
+					.findMetadataValuesByMetadataQueryForCollection(avuQuery, path);
+		} catch (FileNotFoundException e) {
+			return new ArrayList<MetaDataAndDomainData>();
+		} catch (JargonQueryException e) {
+			throw new JargonException("error querying AVUs of collection", e);
+		}
+	}
+
+	/**
+	 * Map each given path to its normalized form, in the given order
+	 */
+	private Map<String, String> normalizePaths(final Collection<String> irodsAbsolutePaths) throws JargonException {
+		if (irodsAbsolutePaths == null) {
+			throw new IllegalArgumentException("null irodsAbsolutePaths");
+		}
+
+		Map<String, String> normalizedPaths = new LinkedHashMap<String, String>();
+		for (String irodsAbsolutePath : irodsAbsolutePaths) {
+			if (irodsAbsolutePath == null || irodsAbsolutePath.isEmpty()) {
+				throw new IllegalArgumentException("null or empty path in irodsAbsolutePaths");
+			}
+			normalizedPaths.put(irodsAbsolutePath, MiscIRODSUtils.normalizeIrodsPath(irodsAbsolutePath));
+		}
+
+		log.info("finding AVUs for {} paths", normalizedPaths.size());
+		return normalizedPaths;
+	}
+
+	private Map<String, Set<String>> groupByZone(final Map<String, String> normalizedPaths) {
+		Map<String, Set<String>> pathsByZone = new LinkedHashMap<String, Set<String>>();
+		for (String normalized : normalizedPaths.values()) {
+			String zone = MiscIRODSUtils.getZoneInPath(normalized);
+			Set<String> zonePaths = pathsByZone.get(zone);
+			if (zonePaths == null) {
+				zonePaths = new LinkedHashSet<String>();
+				pathsByZone.put(zone, zonePaths);
+			}
+			zonePaths.add(normalized);
+		}
+		return pathsByZone;
+	}
+
+	private Map<String, List<MetaDataAndDomainData>> emptyResults(final Map<String, String> normalizedPaths) {
+		Map<String, List<MetaDataAndDomainData>> found = new LinkedHashMap<String, List<MetaDataAndDomainData>>();
+		for (String normalized : normalizedPaths.values()) {
+			found.put(normalized, new ArrayList<MetaDataAndDomainData>());
+		}
+		return found;
+	}
+
+	private Map<String, List<MetaDataAndDomainData>> buildResults(final Map<String, String> normalizedPaths,
+			final Map<String, List<MetaDataAndDomainData>> found) {
+		Map<String, List<MetaDataAndDomainData>> results = new LinkedHashMap<String, List<MetaDataAndDomainData>>(
+				normalizedPaths.size());
+		for (Map.Entry<String, String> entry : normalizedPaths.entrySet()) {
+			results.put(entry.getKey(), found.get(entry.getValue()));
+		}
+		return results;
+	}
+
+	/**
+	 * GenQuery values cannot carry single quotes, and the root has no parent to
+	 * look under
+	 */
+	private boolean isQueryable(final String path) {
+		return !path.equals("/") && path.indexOf('\'') == -1;
+	}
+
+	private String parentOf(final String path) {
+		CollectionAndPath collectionAndPath = MiscIRODSUtils.separateCollectionAndPathFromGivenAbsolutePath(path);
+		return collectionAndPath.getCollectionParent().isEmpty() ? "/" : collectionAndPath.getCollectionParent();
+	}
+
+}
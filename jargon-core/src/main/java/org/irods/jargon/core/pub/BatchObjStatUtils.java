@@ -0,0 +1,372 @@
+/**
+ *
+ */
+package org.irods.jargon.core.pub;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.exception.FileNotFoundException;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.domain.ObjStat;
+import org.irods.jargon.core.pub.domain.ObjStat.SpecColType;
+import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry.ObjectType;
+import org.irods.jargon.core.query.GenQueryBuilderException;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSGenQueryFromBuilder;
+import org.irods.jargon.core.query.IRODSQueryResultRow;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.core.utils.CollectionAndPath;
+import org.irods.jargon.core.utils.IRODSDataConversionUtil;
+import org.irods.jargon.core.utils.MiscIRODSUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Package utils to resolve {@link ObjStat} values for many paths with a few
+ * GenQuery calls instead of one rsObjStat round trip per path.
+ * <p>
+ * Paths are grouped by zone. Each group is resolved by one query for
+ * collections ({@code COLL_NAME IN}) covering the paths and their parents, and
+ * then by queries for data objects ({@code COLL_NAME IN} and
+ * {@code DATA_NAME IN}) for the remaining paths whose parent is an ordinary
+ * collection. A path under an ordinary collection that matches nothing is
+ * reported as not found. Paths that GenQuery cannot answer definitively (special
+ * collections such as mounts and soft links, their contents, the root, or names
+ * that cannot be quoted in a GenQuery) fall back to a plain rsObjStat.
+ */
+class BatchObjStatUtils {
+
+	static final Logger log = LoggerFactory.getLogger(BatchObjStatUtils.class);
+
+	/**
+	 * Max number of values in one {@code IN} condition
+	 */
+	static final int PATHS_PER_QUERY = 100;
+
+	/**
+	 * Max rows asked for per query, this allows for several replicas per data
+	 * object, paths in a truncated result fall back to rsObjStat
+	 */
+	static final int MAX_ROWS_PER_QUERY = 5000;
+
+	private final IRODSAccount irodsAccount;
+	private final IRODSAccessObjectFactory irodsAccessObjectFactory;
+	private final CollectionListingUtils collectionListingUtils;
+
+	BatchObjStatUtils(final IRODSAccount irodsAccount, final IRODSAccessObjectFactory irodsAccessObjectFactory,
+			final CollectionListingUtils collectionListingUtils) {
+
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		if (irodsAccessObjectFactory == null) {
+			throw new IllegalArgumentException("null irodsAccessObjectFactory");
+		}
+
+		if (collectionListingUtils == null) {
+			throw new IllegalArgumentException("null collectionListingUtils");
+		}
+
+		this.irodsAccount = irodsAccount;
+		this.irodsAccessObjectFactory = irodsAccessObjectFactory;
+		this.collectionListingUtils = collectionListingUtils;
+	}
+
+	/**
+	 * Resolve the {@link ObjStat} for each of the given paths
+	 *
+	 * @param irodsAbsolutePaths {@code Collection} of {@code String} with iRODS
+	 *                           absolute paths
+	 * @return {@code Map} keyed by each given path, in the given order, with the
+	 *         {@link ObjStat}. Paths that do not exist map to an {@code ObjStat}
+	 *         where {@link ObjStat#isNotFound()} is {@code true}
+	 * @throws JargonException for iRODS error
+	 */
+	Map<String, ObjStat> retrieveObjectStatsForPaths(final Collection<String> irodsAbsolutePaths)
+			throws JargonException {
+
+		log.info("retrieveObjectStatsForPaths()");
+
+		if (irodsAbsolutePaths == null) {
+			throw new IllegalArgumentException("null irodsAbsolutePaths");
+		}
+
+		log.info("resolving {} paths", irodsAbsolutePaths.size());
+
+		Map<String, String> normalizedPaths = new LinkedHashMap<String, String>();
+		Map<String, Set<String>> pathsByZone = new LinkedHashMap<String, Set<String>>();
+
+		for (String irodsAbsolutePath : irodsAbsolutePaths) {
+			if (irodsAbsolutePath == null || irodsAbsolutePath.isEmpty()) {
+				throw new IllegalArgumentException("null or empty path in irodsAbsolutePaths");
+			}
+			String normalized = MiscIRODSUtils.normalizeIrodsPath(irodsAbsolutePath);
+			normalizedPaths.put(irodsAbsolutePath, normalized);
+			String zone = MiscIRODSUtils.getZoneInPath(normalized);
+			Set<String> zonePaths = pathsByZone.get(zone);
+			if (zonePaths == null) {
+				zonePaths = new LinkedHashSet<String>();
+				pathsByZone.put(zone, zonePaths);
+			}
+			zonePaths.add(normalized);
+		}
+
+		Map<String, ObjStat> resolved = new HashMap<String, ObjStat>();
+		for (Map.Entry<String, Set<String>> entry : pathsByZone.entrySet()) {
+			resolveForZone(entry.getKey(), entry.getValue(), resolved);
+		}
+
+		Map<String, ObjStat> results = new LinkedHashMap<String, ObjStat>(normalizedPaths.size());
+		for (Map.Entry<String, String> entry : normalizedPaths.entrySet()) {
+			results.put(entry.getKey(), resolved.get(entry.getValue()));
+		}
+
+		log.info("resolved {} paths", results.size());
+		return results;
+	}
+
+	private void resolveForZone(final String zone, final Set<String> paths, final Map<String, ObjStat> resolved)
+			throws JargonException {
+
+		log.debug("resolving {} paths in zone:{}", paths.size(), zone);
+
+		List<String> fallbacks = new ArrayList<String>();
+		Set<String> collectionNames = new LinkedHashSet<String>();
+
+		for (String path : paths) {
+			if (zone.isEmpty() || !isQueryable(path)) {
+				fallbacks.add(path);
+			} else {
+				collectionNames.add(path);
+				collectionNames.add(parentOf(path));
+			}
+		}
+
+		Map<String, ObjStat> collections = queryCollections(zone, collectionNames);
+
+		/*
+		 * candidates are possible data objects, grouped by parent so each query
+		 * spans few parents
+		 */
+		TreeMap<String, List<String>> candidatesByParent = new TreeMap<String, List<String>>();
+
+		for (String path : paths) {
+			if (zone.isEmpty() || !isQueryable(path)) {
+				continue;
+			}
+
+			ObjStat collection = collections.get(path);
+			if (collection != null) {
+				if (collection.getSpecColType() == SpecColType.NORMAL) {
+					resolved.put(path, collection);
+				} else {
+					fallbacks.add(path);
+				}
+				continue;
+			}
+
+			ObjStat parent = collections.get(parentOf(path));
+			if (parent == null || parent.getSpecColType() != SpecColType.NORMAL) {
+				fallbacks.add(path);
+				continue;
+			}
+
+			List<String> siblings = candidatesByParent.get(parentOf(path));
+			if (siblings == null) {
+				siblings = new ArrayList<String>();
+				candidatesByParent.put(parentOf(path), siblings);
+			}
+			siblings.add(path);
+		}
+
+		List<String> chunk = new ArrayList<String>(PATHS_PER_QUERY);
+		for (List<String> siblings : candidatesByParent.values()) {
+			for (String path : siblings) {
+				chunk.add(path);
+				if (chunk.size() == PATHS_PER_QUERY) {
+					resolveDataObjects(zone, chunk, resolved, fallbacks);
+					chunk.clear();
+				}
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			resolveDataObjects(zone, chunk, resolved, fallbacks);
+		}
+
+		log.debug("{} paths in zone:{} need an objStat", fallbacks.size(), zone);
+		for (String path : fallbacks) {
+			try {
+				resolved.put(path, collectionListingUtils.retrieveObjectStatForPath(path));
+			} catch (FileNotFoundException e) {
+				resolved.put(path, ObjStat.instanceForNotFound(path));
+			}
+		}
+	}
+
+	/**
+	 * Query the given collection names, in chunks, returning an {@code ObjStat}
+	 * for each one that exists. Special collections are marked by their
+	 * {@code SpecColType} (not fully populated), so the caller can fall back to
+	 * rsObjStat
+	 */
+	private Map<String, ObjStat> queryCollections(final String zone, final Set<String> collectionNames)
+			throws JargonException {
+
+		Map<String, ObjStat> collections = new HashMap<String, ObjStat>();
+		List<String> names = new ArrayList<String>(collectionNames);
+
+		for (int i = 0; i < names.size(); i += PATHS_PER_QUERY) {
+			List<String> chunk = names.subList(i, Math.min(i + PATHS_PER_QUERY, names.size()));
+			IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+			IRODSQueryResultSet resultSet;
+			try {
+				builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_ID)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_NAME)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_ZONE)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_CREATE_TIME)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_MODIFY_TIME)
+						.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_TYPE)
+						.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_COLL_NAME,
+								QueryConditionOperators.IN, new ArrayList<String>(chunk));
+				resultSet = executeQuery(builder, zone);
+			} catch (GenQueryBuilderException e) {
+				log.error("error building collection query", e);
+				throw new JargonException("error building collection query", e);
+			}
+
+			for (IRODSQueryResultRow row : resultSet.getResults()) {
+				ObjStat objStat = new ObjStat();
+				objStat.setAbsolutePath(row.getColumn(0));
+				objStat.setObjectType(ObjectType.COLLECTION);
+				objStat.setDataId(IRODSDataConversionUtil.getIntOrZeroFromIRODSValue(row.getColumn(1)));
+				objStat.setOwnerName(row.getColumn(2));
+				objStat.setOwnerZone(row.getColumn(3));
+				objStat.setCreatedAt(IRODSDataConversionUtil.getDateFromIRODSValue(row.getColumn(4)));
+				objStat.setModifiedAt(IRODSDataConversionUtil.getDateFromIRODSValue(row.getColumn(5)));
+				objStat.setSpecColType(row.getColumn(6).isEmpty() ? SpecColType.NORMAL : SpecColType.MOUNTED_COLL);
+				collections.put(objStat.getAbsolutePath(), objStat);
+			}
+		}
+
+		return collections;
+	}
+
+	/**
+	 * Query a chunk of candidate data object paths, marking those not found, or
+	 * adding them to the fallbacks if the result was truncated
+	 */
+	private void resolveDataObjects(final String zone, final List<String> chunk, final Map<String, ObjStat> resolved,
+			final List<String> fallbacks) throws JargonException {
+
+		Set<String> parents = new LinkedHashSet<String>();
+		Set<String> dataNames = new LinkedHashSet<String>();
+		for (String path : chunk) {
+			parents.add(parentOf(path));
+			dataNames.add(MiscIRODSUtils.getLastPathComponentForGivenAbsolutePath(path));
+		}
+
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		IRODSQueryResultSet resultSet;
+		try {
+			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_ID)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_ZONE)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_CHECKSUM)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_REPL_NUM)
+					.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.IN,
+							new ArrayList<String>(parents))
+					.addConditionAsMultiValueCondition(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.IN,
+							new ArrayList<String>(dataNames));
+			resultSet = executeQuery(builder, zone);
+		} catch (GenQueryBuilderException e) {
+			log.error("error building data object query", e);
+			throw new JargonException("error building data object query", e);
+		}
+
+		/*
+		 * the cross product of parents and names may match objects that were not
+		 * asked for, so only exact paths are kept. Where there are several replicas
+		 * the lowest replica number is reported
+		 */
+		Map<String, ObjStat> found = new HashMap<String, ObjStat>();
+		for (IRODSQueryResultRow row : resultSet.getResults()) {
+			String path = MiscIRODSUtils.buildAbsolutePathFromCollectionParentAndFileName(row.getColumn(0),
+					row.getColumn(1));
+			int replNumber = IRODSDataConversionUtil.getIntOrZeroFromIRODSValue(row.getColumn(9));
+			ObjStat existing = found.get(path);
+			if (existing != null && existing.getReplNumber() <= replNumber) {
+				continue;
+			}
+
+			ObjStat objStat = new ObjStat();
+			objStat.setAbsolutePath(path);
+			objStat.setObjectType(ObjectType.DATA_OBJECT);
+			objStat.setDataId(IRODSDataConversionUtil.getIntOrZeroFromIRODSValue(row.getColumn(2)));
+			objStat.setObjSize(IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(row.getColumn(3)));
+			objStat.setOwnerName(row.getColumn(4));
+			objStat.setOwnerZone(row.getColumn(5));
+			objStat.setChecksum(row.getColumn(6));
+			objStat.setCreatedAt(IRODSDataConversionUtil.getDateFromIRODSValue(row.getColumn(7)));
+			objStat.setModifiedAt(IRODSDataConversionUtil.getDateFromIRODSValue(row.getColumn(8)));
+			objStat.setReplNumber(replNumber);
+			found.put(path, objStat);
+		}
+
+		for (String path : chunk) {
+			ObjStat objStat = found.get(path);
+			if (objStat != null) {
+				resolved.put(path, objStat);
+			} else if (resultSet.isHasMoreRecords()) {
+				fallbacks.add(path);
+			} else {
+				resolved.put(path, ObjStat.instanceForNotFound(path));
+			}
+		}
+	}
+
+	private IRODSQueryResultSet executeQuery(final IRODSGenQueryBuilder builder, final String zone)
+			throws GenQueryBuilderException, JargonException {
+		IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(MAX_ROWS_PER_QUERY);
+		try {
+			return irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount)
+					.executeIRODSQueryAndCloseResultInZone(irodsQuery, 0, zone);
+		} catch (JargonQueryException e) {
+			log.error(CollectionListingUtils.QUERY_EXCEPTION_FOR_QUERY, e);
+			throw new JargonException("error in objStat batch query", e);
+		}
+	}
+
+	/**
+	 * GenQuery values cannot carry single quotes, and the root has no parent to
+	 * look under
+	 */
+	private boolean isQueryable(final String path) {
+		return !path.equals("/") && path.indexOf('\'') == -1;
+	}
+
+	private String parentOf(final String path) {
+		CollectionAndPath collectionAndPath = MiscIRODSUtils.separateCollectionAndPathFromGivenAbsolutePath(path);
+		return collectionAndPath.getCollectionParent().isEmpty() ? "/" : collectionAndPath.getCollectionParent();
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.irods.jargon.core.pub;
 
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
@@ -321,6 +322,27 @@ public interface CollectionAO extends FileCatalogObjectAO {
 	List<MetaDataAndDomainData> findMetadataValuesForCollection(final String collectionAbsolutePath)
 			throws JargonException, JargonQueryException;
 
+	/**
+	 * Get the metadata values of many collections at once, using a few queries
+	 * rather than one per collection. This is meant for listings that show the
+	 * metadata of each entry.
+	 * <p>
+	 * A missing collection is not an error, and maps to an empty list like a
+	 * collection without metadata.
+	 *
+	 * @param avuQuery                {@code List} of {@link AVUQueryElement} with
+	 *                                conditions on the AVUs returned, may be empty
+	 *                                to return all AVUs
+	 * @param collectionAbsolutePaths {@code Collection} of {@code String} with the
+	 *                                absolute paths of iRODS collections
+	 * @return {@code Map} keyed by each given path, in the given order, with a
+	 *         {@code List} of
+	 *         {@link org.irods.jargon.core.query.MetaDataAndDomainData}
+	 * @throws JargonException for iRODS error
+	 */
+	Map<String, List<MetaDataAndDomainData>> findMetadataValuesForCollections(List<AVUQueryElement> avuQuery,
+			java.util.Collection<String> collectionAbsolutePaths) throws JargonException;
+
 	/**
 	 * Given a set of metadata query parameters, return a list of IRODS Collections
 	 * that match the metadata query. This query method allows a partial start as an
@@ -2,6 +2,7 @@ package org.irods.jargon.core.pub;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
@@ -827,14 +828,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 
 	private IRODSGenQueryBuilder addSelectsForMetadataAndDomainDataToBuilder(final IRODSGenQueryBuilder builder)
 			throws GenQueryBuilderException {
-		return builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_ID)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_CREATE_TIME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_MODIFY_TIME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_NAME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_UNITS)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_ID);
+		return CollectionAOHelper.buildMetadataAndDomainDataSelectsByAppendingToBuilder(builder);
 	}
 
 	private List<MetaDataAndDomainData> findMetadataValuesForCollection(final ObjStat objStat,
@@ -897,6 +891,15 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 
 	}
 
+	@Override
+	public Map<String, List<MetaDataAndDomainData>> findMetadataValuesForCollections(
+			final List<AVUQueryElement> avuQuery, final java.util.Collection<String> collectionAbsolutePaths)
+			throws JargonException {
+		log.info("findMetadataValuesForCollections()");
+		BatchAVUUtils batchAVUUtils = new BatchAVUUtils(getIRODSAccount(), getIRODSAccessObjectFactory());
+		return batchAVUUtils.findMetadataValuesForCollections(avuQuery, collectionAbsolutePaths);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -1255,6 +1258,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(collNeedsRecursive, zone,
 				effectiveAbsPath, userName, ModAccessControlInp.READ_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1290,6 +1294,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(
 				collNeedsRecursive, zone, effectiveAbsPath, userName, ModAccessControlInp.READ_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1364,6 +1369,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(collNeedsRecursive, zone,
 				effectiveAbsPath, userName, ModAccessControlInp.WRITE_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1400,6 +1406,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(
 				collNeedsRecursive, zone, effectiveAbsPath, userName, ModAccessControlInp.WRITE_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1437,6 +1444,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(collNeedsRecursive, zone,
 				effectiveAbsPath, userName, ModAccessControlInp.OWN_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1473,6 +1481,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(
 				collNeedsRecursive, zone, effectiveAbsPath, userName, ModAccessControlInp.OWN_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1510,6 +1519,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(collNeedsRecursive, zone,
 				effectiveAbsPath, userName, ModAccessControlInp.NULL_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1548,6 +1558,7 @@ public final class CollectionAOImpl extends FileCatalogObjectAOImpl implements C
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(
 				collNeedsRecursive, zone, effectiveAbsPath, userName, ModAccessControlInp.NULL_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, effectiveAbsPath, collNeedsRecursive);
 
 	}
 
@@ -1,6 +1,8 @@
 package org.irods.jargon.core.pub;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.exception.FileNotFoundException;
 import org.irods.jargon.core.exception.JargonException;
@@ -533,6 +535,26 @@ public interface CollectionAndDataObjectListAndSearchAO extends IRODSAccessObjec
 	 */
 	ObjStat retrieveObjectStatForPath(String irodsAbsolutePath) throws FileNotFoundException, JargonException;
 
+	/**
+	 * Retrieve the {@code ObjStat} for many collections or data objects at once.
+	 * This is meant for checking the existence and type of a large number of
+	 * paths, such as those in a client manifest, without a round trip per path.
+	 * <p>
+	 * Paths are grouped by parent collection and resolved with a few GenQuery
+	 * calls. Paths that GenQuery cannot answer, such as those in special
+	 * collections (mounts, soft links), are resolved by a regular objStat. Data
+	 * objects report the lowest numbered replica.
+	 *
+	 * @param irodsAbsolutePaths {@code Collection} of {@code String} with absolute
+	 *                           paths to iRODS collections or data objects
+	 * @return {@code Map} keyed by each given path, in iteration order, with the
+	 *         {@link ObjStat}. A path that does not exist maps to an
+	 *         {@code ObjStat} with {@code isNotFound()} set, no
+	 *         {@code FileNotFoundException} is thrown
+	 * @throws JargonException for iRODS error
+	 */
+	Map<String, ObjStat> retrieveObjectStatsForPaths(Collection<String> irodsAbsolutePaths) throws JargonException;
+
 	/**
 	 * Return the {@code CollectionAndDataObjectListingEntry} that is associated
 	 * with the given iRODS absolute path. This is equivalent to doing an 'objStat'
@@ -1,7 +1,9 @@
 package org.irods.jargon.core.pub;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
@@ -1661,4 +1663,13 @@ public class CollectionAndDataObjectListAndSearchAOImpl extends IRODSGenericAO
 		return collectionListingUtils.retrieveObjectStatForPath(irodsAbsolutePath);
 
 	}
+
+	@Override
+	public Map<String, ObjStat> retrieveObjectStatsForPaths(final Collection<String> irodsAbsolutePaths)
+			throws JargonException {
+		log.info("retrieveObjectStatsForPaths()");
+		BatchObjStatUtils batchObjStatUtils = new BatchObjStatUtils(getIRODSAccount(),
+				getIRODSAccessObjectFactory(), collectionListingUtils);
+		return batchObjStatUtils.retrieveObjectStatsForPaths(irodsAbsolutePaths);
+	}
 }
@@ -6,8 +6,10 @@ package org.irods.jargon.core.pub;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.FileDriverError;
 import org.irods.jargon.core.exception.FileNotFoundException;
@@ -21,6 +23,7 @@ import org.irods.jargon.core.pub.domain.ObjStat;
 import org.irods.jargon.core.pub.domain.ObjStat.SpecColType;
 import org.irods.jargon.core.pub.domain.Zone;
 import org.irods.jargon.core.pub.io.IRODSFileSystemAOHelper;
+import org.irods.jargon.core.query.AbstractIRODSGenQuery;
 import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry;
 import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry.ObjectType;
 import org.irods.jargon.core.query.GenQueryBuilderException;
@@ -303,29 +306,51 @@ class CollectionListingUtils {
 		sb.append("/");
 		sb.append(zone);
 		sb.append("/home/public");
-		CollectionAndDataObjectListAndSearchAO collectionAndDataObjectListAndSearchAO = irodsAccessObjectFactory
-				.getCollectionAndDataObjectListAndSearchAO(irodsAccount);
+		final String publicPath = sb.toString();
+		final String homePath = MiscIRODSUtils.computeHomeDirectoryForIRODSAccountInFederatedZone(irodsAccount, zone);
 
-		try {
-			ObjStat statForPublic = collectionAndDataObjectListAndSearchAO.retrieveObjectStatForPath(sb.toString());
-			collectionAndDataObjectListingEntries.add(createStandInForPublicDir(statForPublic));
-		} catch (FileNotFoundException fnf) {
+		/*
+		 * the two lookups go to the federated zone and do not depend on each other,
+		 * so run them at once
+		 */
+		ReadOnlyConnectionSet connectionSet = irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount);
+		Future<ObjStat> publicFuture = connectionSet.submit(() -> retrieveObjectStatIfExists(publicPath));
+		Future<ObjStat> homeFuture = connectionSet.submit(() -> retrieveObjectStatIfExists(homePath));
+
+		ObjStat statForPublic = ReadOnlyConnectionSet.join(publicFuture);
+		if (statForPublic == null) {
 			log.info("no public dir");
+		} else {
+			collectionAndDataObjectListingEntries.add(createStandInForPublicDir(statForPublic));
 		}
 
 		log.info("see if a user home dir applies");
 
-		try {
-			ObjStat homeStat = collectionAndDataObjectListAndSearchAO.retrieveObjectStatForPath(
-					MiscIRODSUtils.computeHomeDirectoryForIRODSAccountInFederatedZone(irodsAccount, zone));
-
-			collectionAndDataObjectListingEntries.add(createStandInForUserDir(homeStat));
-		} catch (FileNotFoundException fnf) {
+		ObjStat homeStat = ReadOnlyConnectionSet.join(homeFuture);
+		if (homeStat == null) {
 			log.info("no user dir");
+		} else {
+			collectionAndDataObjectListingEntries.add(createStandInForUserDir(homeStat));
 		}
 		return collectionAndDataObjectListingEntries;
 	}
 
+	/**
+	 * Look up the objStat for a path on the connection of the calling thread
+	 *
+	 * @param irodsAbsolutePath {@code String} with the iRODS path
+	 * @return {@link ObjStat}, or {@code null} if the path does not exist
+	 * @throws JargonException {@link JargonException}
+	 */
+	private ObjStat retrieveObjectStatIfExists(final String irodsAbsolutePath) throws JargonException {
+		try {
+			return irodsAccessObjectFactory.getCollectionAndDataObjectListAndSearchAO(irodsAccount)
+					.retrieveObjectStatForPath(irodsAbsolutePath);
+		} catch (FileNotFoundException fnf) {
+			return null;
+		}
+	}
+
 	private List<CollectionAndDataObjectListingEntry> createStandInForZoneDir()
 			throws FileNotFoundException, JargonException {
 		log.info("under root, put out zone as an entry");
@@ -672,16 +697,17 @@ class CollectionListingUtils {
 
 		List<CollectionAndDataObjectListingEntry> subdirs;
 
-		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, true, null);
+		AbstractIRODSGenQuery irodsQuery;
 		try {
-			IRODSFileSystemAOHelper.buildQueryListAllCollections(effectiveAbsolutePath, builder);
-		} catch (GenQueryBuilderException e) {
+			irodsQuery = IRODSFileSystemAOHelper.prepareQueryListAllCollections().bind(
+					irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax(), effectiveAbsolutePath);
+		} catch (GenQueryBuilderException | JargonQueryException e) {
 			log.error("query builder exception", e);
 			throw new JargonException("error building query", e);
 		}
 
-		IRODSQueryResultSet resultSet = queryForPathAndReturnResultSet(objStat.getAbsolutePath(), builder,
-				partialStartIndex, objStat);
+		IRODSQueryResultSet resultSet = queryForPathAndReturnResultSet(objStat.getAbsolutePath(), irodsQuery,
+				partialStartIndex);
 
 		subdirs = new ArrayList<>(resultSet.getResults().size());
 		CollectionAndDataObjectListingEntry collectionAndDataObjectListingEntry = null;
@@ -714,26 +740,32 @@ class CollectionListingUtils {
 	IRODSQueryResultSet queryForPathAndReturnResultSet(final String absolutePath, final IRODSGenQueryBuilder builder,
 			final int partialStartIndex, final ObjStat objStat) throws JargonException {
 
-		log.info("queryForPathAndReturnResultSet for: {}", absolutePath);
-		IRODSGenQueryExecutor irodsGenQueryExecutor = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
-
 		IRODSGenQueryFromBuilder irodsQuery;
-		IRODSQueryResultSet resultSet;
 
 		try {
 			irodsQuery = builder.exportIRODSQueryFromBuilder(
 					irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax());
-			resultSet = irodsGenQueryExecutor.executeIRODSQueryWithPagingInZone(irodsQuery, partialStartIndex,
-					MiscIRODSUtils.getZoneInPath(absolutePath));
-		} catch (JargonQueryException e) {
-			log.error(QUERY_EXCEPTION_FOR_QUERY, e);
-			throw new JargonException(e);
 		} catch (GenQueryBuilderException e) {
 			log.error(QUERY_EXCEPTION_FOR_QUERY, e);
 			throw new JargonException(e);
 		}
 
-		return resultSet;
+		return queryForPathAndReturnResultSet(absolutePath, irodsQuery, partialStartIndex);
+	}
+
+	private IRODSQueryResultSet queryForPathAndReturnResultSet(final String absolutePath,
+			final AbstractIRODSGenQuery irodsQuery, final int partialStartIndex) throws JargonException {
+
+		log.info("queryForPathAndReturnResultSet for: {}", absolutePath);
+		IRODSGenQueryExecutor irodsGenQueryExecutor = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+
+		try {
+			return irodsGenQueryExecutor.executeIRODSQueryWithPagingInZone(irodsQuery, partialStartIndex,
+					MiscIRODSUtils.getZoneInPath(absolutePath));
+		} catch (JargonQueryException e) {
+			log.error(QUERY_EXCEPTION_FOR_QUERY, e);
+			throw new JargonException(e);
+		}
 	}
 
 	private void adjustEntryFromRowInCaseOfSpecialCollection(final ObjStat objStat, final String effectiveAbsolutePath,
@@ -849,15 +881,21 @@ class CollectionListingUtils {
 
 	private List<CollectionAndDataObjectListingEntry> listDataObjectsUnderPathViaGenQuery(final ObjStat objStat,
 			final int partialStartIndex, final String effectiveAbsolutePath) throws JargonException {
-		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, true, null);
+		AbstractIRODSGenQuery irodsQuery;
+		try {
+			irodsQuery = IRODSFileSystemAOHelper.prepareQueryListAllDataObjectsWithSizeAndDateInfo().bind(
+					irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax(), effectiveAbsolutePath);
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error("query builder exception", e);
+			throw new JargonException("error building query", e);
+		}
 
-		IRODSFileSystemAOHelper.buildQueryListAllDataObjectsWithSizeAndDateInfo(effectiveAbsolutePath, builder);
 		IRODSQueryResultSet resultSet;
 
 		try {
-			resultSet = queryForPathAndReturnResultSet(effectiveAbsolutePath, builder, partialStartIndex, objStat);
+			resultSet = queryForPathAndReturnResultSet(effectiveAbsolutePath, irodsQuery, partialStartIndex);
 		} catch (JargonException e) {
-			log.error("exception querying for data objects:{}", builder, e);
+			log.error("exception querying for data objects:{}", irodsQuery, e);
 			throw new JargonException("error in query", e);
 		}
 
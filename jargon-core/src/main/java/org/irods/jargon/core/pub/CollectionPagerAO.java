@@ -50,7 +50,11 @@ public interface CollectionPagerAO {
 	/**
 	 * Retrieve the next page of data given minimal coordinates describing the
 	 * paging state
-	 * 
+	 * <p>
+	 * When the {@code collection.pager.prefetch.pages} jargon property is set, the
+	 * pages after the one returned are loaded in the background, and a later call
+	 * for one of them is served without waiting on iRODS.
+	 *
 	 * @param irodsAbsolutePath <code>String</code> with the iRODS absolute path of
 	 *                          the parent collection
 	 * @param inCollections     {@code boolean} that will be {@code true} if the
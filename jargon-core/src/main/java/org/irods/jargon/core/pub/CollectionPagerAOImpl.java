@@ -3,8 +3,14 @@
  */
 package org.irods.jargon.core.pub;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.ListingPrefetchBuffer;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.exception.FileNotFoundException;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.exception.NoMoreDataException;
@@ -62,17 +68,163 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 		log.info("offset:{}", offset);
 		log.info("pageSize:{}", pageSize);
 
+		if (inCollections) {
+			log.info("paging into collections to offset:{}", offset);
+		} else {
+			log.info("paging into data objects to offset:{}", offset);
+		}
+
+		final ListingPrefetchBuffer listingPrefetchBuffer = getIRODSSession().getListingPrefetchBuffer();
+		if (listingPrefetchBuffer != null) {
+			Future<PagingAwareCollectionListing> prefetchedPage = listingPrefetchBuffer.take(getIRODSAccount(),
+					irodsAbsolutePath, inCollections, offset);
+			if (prefetchedPage != null) {
+				try {
+					PagingAwareCollectionListing pagingAwareCollectionListing = ReadOnlyConnectionSet
+							.join(prefetchedPage);
+					log.info("serving prefetched page");
+					continuePrefetch(listingPrefetchBuffer, irodsAbsolutePath);
+					return pagingAwareCollectionListing;
+				} catch (JargonException e) {
+					log.warn("prefetch of page failed, will list again", e);
+				}
+			}
+		}
+
+		final PagingAwareCollectionListing pagingAwareCollectionListing = listPage(irodsAbsolutePath, inCollections,
+				offset, 0);
+		startPrefetch(listingPrefetchBuffer, pagingAwareCollectionListing);
+		return pagingAwareCollectionListing;
+
+	}
+
+	/*
+	 * List a page starting at the given position, the first page starts in
+	 * collections at offset 0. A page that reaches the end of the collections is
+	 * filled out with data objects. A total already known for the collections or
+	 * data objects being paged, or 0, saves a count query when iRODS does not
+	 * return one.
+	 */
+	private PagingAwareCollectionListing listPage(final String irodsAbsolutePath, final boolean inCollections,
+			final int offset, final int knownTotal) throws FileNotFoundException, JargonException {
+
 		final PagingAwareCollectionListing pagingAwareCollectionListing = this
 				.obtainObjStatAndBuildSkeletonPagingAwareCollectionListing(irodsAbsolutePath);
+		final PagingAwareCollectionListingDescriptor descriptor = pagingAwareCollectionListing
+				.getPagingAwareCollectionListingDescriptor();
+		descriptor.setPageSizeUtilized(defaultPageSize);
 
 		if (inCollections) {
-			log.info("paging into collections to offset:{}", offset);
+			final ListAndCount listAndCount = listCollectionsGivenObjStat(descriptor.getObjStat(), offset,
+					knownTotal);
+
+			descriptor.setTotalRecords(listAndCount.getCountTotal());
+			descriptor.setCount(listAndCount.getCountThisPage());
+			descriptor.setOffset(listAndCount.getOffsetStart());
+			descriptor.setCollectionsComplete(listAndCount.isEndOfRecords());
+
+			pagingAwareCollectionListing
+					.setCollectionAndDataObjectListingEntries(listAndCount.getCollectionAndDataObjectListingEntries());
+
+			if (listAndCount.isEndOfRecords() && listAndCount.getCountThisPage() < descriptor.getPageSizeUtilized()) {
+				log.info("adding data objects to incomplete listing");
+				addDataObjectsToExistingListing(pagingAwareCollectionListing);
+			}
 		} else {
-			log.info("paging into data objects to offset:{}", offset);
+			final ListAndCount listAndCount = listDataObjectsGivenObjStat(descriptor.getObjStat(), offset,
+					knownTotal);
+
+			descriptor.setCollectionsComplete(true);
+			descriptor.setDataObjectsTotalRecords(listAndCount.getCountTotal());
+			descriptor.setDataObjectsCount(listAndCount.getCountThisPage());
+			descriptor.setDataObjectsOffset(listAndCount.getOffsetStart());
+			descriptor.setDataObjectsComplete(listAndCount.isEndOfRecords());
+
+			pagingAwareCollectionListing
+					.setCollectionAndDataObjectListingEntries(listAndCount.getCollectionAndDataObjectListingEntries());
+		}
+
+		descriptor.setHasMore(!(descriptor.isCollectionsComplete() && descriptor.isDataObjectsComplete()));
+		return pagingAwareCollectionListing;
+	}
+
+	/*
+	 * Start loading the pages after one listed directly, dropping any pages
+	 * prefetched earlier for the listing, which will be at other positions
+	 */
+	private void startPrefetch(final ListingPrefetchBuffer listingPrefetchBuffer,
+			final PagingAwareCollectionListing pagingAwareCollectionListing) throws JargonException {
+		if (listingPrefetchBuffer == null) {
+			return;
 		}
 
-		return null;
+		listingPrefetchBuffer.invalidate(getIRODSAccount(),
+				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getParentAbsolutePath());
+		prefetchNextPage(listingPrefetchBuffer, pagingAwareCollectionListing);
+	}
 
+	/*
+	 * After a prefetched page is taken, there is room for another. If the last
+	 * page scheduled has loaded, continue from it, otherwise it will continue when
+	 * it loads.
+	 */
+	private void continuePrefetch(final ListingPrefetchBuffer listingPrefetchBuffer, final String irodsAbsolutePath)
+			throws JargonException {
+		Future<PagingAwareCollectionListing> lastScheduled = listingPrefetchBuffer
+				.getLastScheduled(getIRODSAccount(), irodsAbsolutePath);
+		if (lastScheduled == null || !lastScheduled.isDone()) {
+			return;
+		}
+
+		try {
+			prefetchNextPage(listingPrefetchBuffer, ReadOnlyConnectionSet.join(lastScheduled));
+		} catch (JargonException | CancellationException e) {
+			log.debug("last prefetched page failed, not continuing prefetch", e);
+		}
+	}
+
+	/*
+	 * Load the page after the given one on the read only connections of the
+	 * account, holding it in the buffer. Each loaded page then loads the next,
+	 * until the buffer holds the configured number of pages for the listing.
+	 */
+	private void prefetchNextPage(final ListingPrefetchBuffer listingPrefetchBuffer,
+			final PagingAwareCollectionListing pagingAwareCollectionListing) throws JargonException {
+
+		final PagingAwareCollectionListingDescriptor descriptor = pagingAwareCollectionListing
+				.getPagingAwareCollectionListingDescriptor();
+		if (!descriptor.isHasMore()) {
+			return;
+		}
+
+		final ReadOnlyConnectionSet connectionSet = getIRODSAccessObjectFactory()
+				.getReadOnlyConnectionSet(getIRODSAccount());
+		if (connectionSet.getConnectionSize() == 0) {
+			log.debug("no read only connections, not prefetching");
+			return;
+		}
+
+		final String irodsAbsolutePath = descriptor.getParentAbsolutePath();
+		final boolean inCollections = !descriptor.isCollectionsComplete();
+		final int offset = inCollections ? descriptor.getCount() : descriptor.getDataObjectsCount();
+		final int knownTotal = inCollections ? descriptor.getTotalRecords() : descriptor.getDataObjectsTotalRecords();
+		final CompletableFuture<PagingAwareCollectionListing> page = new CompletableFuture<>();
+		if (!listingPrefetchBuffer.offer(getIRODSAccount(), irodsAbsolutePath, inCollections, offset, page)) {
+			return;
+		}
+
+		log.debug("prefetching page of {} in collections:{} at offset:{}", irodsAbsolutePath, inCollections, offset);
+		connectionSet.submit(() -> {
+			try {
+				PagingAwareCollectionListing loaded = listPage(irodsAbsolutePath, inCollections, offset, knownTotal);
+				page.complete(loaded);
+				prefetchNextPage(listingPrefetchBuffer, loaded);
+			} catch (JargonException | RuntimeException e) {
+				log.warn("error prefetching page of:{}", irodsAbsolutePath, e);
+				page.completeExceptionally(e);
+			}
+			return null;
+		});
 	}
 
 	private PagingAwareCollectionListing pageForwardInDataObjects(
@@ -87,7 +239,7 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 				.obtainObjStatAndBuildSkeletonPagingAwareCollectionListing(lastListingDescriptor);
 		final ListAndCount listAndCount = listDataObjectsGivenObjStat(
 				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getObjStat(),
-				lastListingDescriptor.getDataObjectsCount());
+				lastListingDescriptor.getDataObjectsCount(), lastListingDescriptor.getDataObjectsTotalRecords());
 
 		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
 				.setDataObjectsTotalRecords(listAndCount.getCountTotal());
@@ -116,7 +268,7 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 				.obtainObjStatAndBuildSkeletonPagingAwareCollectionListing(lastListingDescriptor);
 		final ListAndCount listAndCount = listCollectionsGivenObjStat(
 				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getObjStat(),
-				lastListingDescriptor.getCount());
+				lastListingDescriptor.getCount(), lastListingDescriptor.getTotalRecords());
 
 		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
 				.setTotalRecords(listAndCount.getCountTotal());
@@ -146,38 +298,8 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 
 		log.info("try and list collections");
 
-		final PagingAwareCollectionListing pagingAwareCollectionListing = this
-				.obtainObjStatAndBuildSkeletonPagingAwareCollectionListing(irodsAbsolutePath);
-		final ListAndCount listAndCount = listCollectionsGivenObjStat(
-				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getObjStat(), 0);
-
-		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
-				.setTotalRecords(listAndCount.getCountTotal());
-		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
-				.setCount(listAndCount.getCountThisPage());
-		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
-				.setOffset(listAndCount.getOffsetStart());
-		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
-				.setCollectionsComplete(listAndCount.isEndOfRecords());
-		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().setPageSizeUtilized(defaultPageSize);
-
-		pagingAwareCollectionListing
-				.setCollectionAndDataObjectListingEntries(listAndCount.getCollectionAndDataObjectListingEntries());
-
-		if (listAndCount.isEndOfRecords() && listAndCount.getCountThisPage() < pagingAwareCollectionListing
-				.getPagingAwareCollectionListingDescriptor().getPageSizeUtilized()) {
-			log.info("adding data objects to incomplete listing");
-			addDataObjectsToExistingListing(pagingAwareCollectionListing);
-		}
-
-		if (pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().isCollectionsComplete()
-				&& pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().isDataObjectsComplete()) {
-			pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().setHasMore(false);
-		} else {
-			pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().setHasMore(true);
-
-		}
-
+		final PagingAwareCollectionListing pagingAwareCollectionListing = listPage(irodsAbsolutePath, true, 0, 0);
+		startPrefetch(getIRODSSession().getListingPrefetchBuffer(), pagingAwareCollectionListing);
 		return pagingAwareCollectionListing;
 
 	}
@@ -185,7 +307,7 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 	private void addDataObjectsToExistingListing(final PagingAwareCollectionListing pagingAwareCollectionListing)
 			throws JargonException {
 		final ListAndCount listAndCount = listDataObjectsGivenObjStat(
-				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getObjStat(), 0);
+				pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor().getObjStat(), 0, 0);
 		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
 				.setDataObjectsTotalRecords(listAndCount.getCountTotal());
 		pagingAwareCollectionListing.getPagingAwareCollectionListingDescriptor()
@@ -260,7 +382,8 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 		return pagingAwareCollectionListing;
 	}
 
-	private ListAndCount listCollectionsGivenObjStat(final ObjStat objStat, final int offset) throws JargonException {
+	private ListAndCount listCollectionsGivenObjStat(final ObjStat objStat, final int offset, final int knownTotal)
+			throws JargonException {
 
 		log.info("listCollectionsGivenObjStat()");
 		log.info("objStat:{}", objStat);
@@ -289,10 +412,8 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 		listAndCount.setEndOfRecords(lastEntry.isLastResult());
 		listAndCount.setOffsetStart(listAndCount.getCollectionAndDataObjectListingEntries().get(0).getCount());
 
-		int count = lastEntry.getTotalRecords();
-		if (count > 0) {
-			listAndCount.setCountTotal(count);
-			log.info("total records was in the result set already");
+		if (listAndCount.resolveCountTotal(knownTotal)) {
+			log.info("total records known without a count:{}", listAndCount.getCountTotal());
 			return listAndCount;
 		}
 
@@ -301,14 +422,13 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 		 */
 
 		log.info("separate query to get a count");
-		count = collectionAndDataObjectListAndSearchAO.countCollectionsUnderPath(objStat);
-
-		listAndCount.setCountTotal(count);
+		listAndCount.setCountTotal(collectionAndDataObjectListAndSearchAO.countCollectionsUnderPath(objStat));
 		return listAndCount;
 
 	}
 
-	private ListAndCount listDataObjectsGivenObjStat(final ObjStat objStat, final int offset) throws JargonException {
+	private ListAndCount listDataObjectsGivenObjStat(final ObjStat objStat, final int offset, final int knownTotal)
+			throws JargonException {
 
 		log.info("listDataObjectsGivenObjStat()");
 		final ListAndCount listAndCount = new ListAndCount();
@@ -330,16 +450,13 @@ public class CollectionPagerAOImpl extends IRODSGenericAO implements CollectionP
 		listAndCount.setEndOfRecords(lastEntry.isLastResult());
 		listAndCount.setOffsetStart(listAndCount.getCollectionAndDataObjectListingEntries().get(0).getCount());
 
-		int count = listAndCount.getCollectionAndDataObjectListingEntries().get(0).getTotalRecords();
-		if (count > 0) {
-			listAndCount.setCountTotal(count);
-			log.info("total records was in the result set already");
+		if (listAndCount.resolveCountTotal(knownTotal)) {
+			log.info("total records known without a count:{}", listAndCount.getCountTotal());
 			return listAndCount;
 		}
 
 		log.info("separate query to get a count");
-		count = collectionAndDataObjectListAndSearchAO.countDataObjectsUnderPath(objStat);
-		listAndCount.setCountTotal(count);
+		listAndCount.setCountTotal(collectionAndDataObjectListAndSearchAO.countDataObjectsUnderPath(objStat));
 		return listAndCount;
 
 	}
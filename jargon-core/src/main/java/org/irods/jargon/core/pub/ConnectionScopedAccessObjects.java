@@ -0,0 +1,128 @@
+/**
+ *
+ */
+package org.irods.jargon.core.pub;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import org.irods.jargon.core.connection.ConnectionScopedOperation;
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.exception.JargonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps access objects so that each method call borrows a connection for just
+ * that call, as in
+ * {@link IRODSSession#executeInConnectionScope(IRODSAccount, org.irods.jargon.core.connection.ConnectionScopedOperation)},
+ * instead of pinning a connection to the calling thread until the session is
+ * closed. Used with a pooling protocol manager, this lets many request threads
+ * share a small number of connections.
+ * <p>
+ * Only methods that finish their work before returning are suitable. Methods
+ * returning objects that go on using the connection (streams, files, pagers)
+ * should be called inside an explicit scope instead.
+ *
+ * <pre>
+ * CollectionAO collectionAO = ConnectionScopedAccessObjects.wrap(CollectionAO.class, irodsSession, irodsAccount,
+ * 		() -&gt; irodsAccessObjectFactory.getCollectionAO(irodsAccount));
+ * </pre>
+ */
+public final class ConnectionScopedAccessObjects {
+
+	public static final Logger log = LoggerFactory.getLogger(ConnectionScopedAccessObjects.class);
+
+	private ConnectionScopedAccessObjects() {
+	}
+
+	/**
+	 * Create an access object in a connection scope and wrap it, so that the
+	 * connection opened to create it is not left pinned to the thread. If the
+	 * thread already holds a connection for the account, that connection is left
+	 * for its owner to close.
+	 *
+	 * @param <T>                 access object interface type
+	 * @param aoInterface         {@code Class} of the access object interface
+	 *                            (e.g. {@code CollectionAO.class})
+	 * @param irodsSession        {@link IRODSSession} for the connection
+	 * @param irodsAccount        {@link IRODSAccount} for the connection
+	 * @param accessObjectCreator {@link ConnectionScopedOperation} that creates
+	 *                            the access object
+	 * @return proxy implementing the interface
+	 * @throws JargonException for iRODS error
+	 */
+	public static <T extends IRODSAccessObject> T wrap(final Class<T> aoInterface, final IRODSSession irodsSession,
+			final IRODSAccount irodsAccount, final ConnectionScopedOperation<T> accessObjectCreator)
+			throws JargonException {
+
+		if (irodsSession == null) {
+			throw new IllegalArgumentException("null irodsSession");
+		}
+
+		if (accessObjectCreator == null) {
+			throw new IllegalArgumentException("null accessObjectCreator");
+		}
+
+		return wrap(aoInterface, irodsSession.executeInConnectionScope(irodsAccount, accessObjectCreator));
+	}
+
+	/**
+	 * Wrap an access object so each call on the given interface runs in its own
+	 * connection scope. A connection the thread holds for the account is never
+	 * released by the wrapper, as it may back an open stream or an enclosing
+	 * scope; calls made while it is held use it and leave it open. Access objects
+	 * connect when they are created, so create the access object in a scope, see
+	 * {@link #wrap(Class, IRODSSession, IRODSAccount, ConnectionScopedOperation)}.
+	 *
+	 * @param <T>          access object interface type
+	 * @param aoInterface  {@code Class} of the access object interface (e.g.
+	 *                     {@code CollectionAO.class})
+	 * @param accessObject {@link IRODSAccessObject} implementing the interface
+	 * @return proxy implementing the interface
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends IRODSAccessObject> T wrap(final Class<T> aoInterface, final T accessObject) {
+
+		if (aoInterface == null || !aoInterface.isInterface()) {
+			throw new IllegalArgumentException("null or non-interface aoInterface");
+		}
+
+		if (accessObject == null) {
+			throw new IllegalArgumentException("null accessObject");
+		}
+
+		final IRODSSession irodsSession = accessObject.getIRODSSession();
+		final IRODSAccount irodsAccount = accessObject.getIRODSAccount();
+
+		return (T) Proxy.newProxyInstance(aoInterface.getClassLoader(), new Class<?>[] { aoInterface },
+				(proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class) {
+						return method.invoke(accessObject, args);
+					}
+
+					boolean alreadyHeld = irodsSession.isConnectionHeld(irodsAccount);
+					try {
+						return method.invoke(accessObject, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					} finally {
+						if (!alreadyHeld) {
+							log.debug("releasing connection after {}", method.getName());
+							release(irodsSession, irodsAccount);
+						}
+					}
+				});
+	}
+
+	private static void release(final IRODSSession irodsSession, final IRODSAccount irodsAccount) {
+		try {
+			irodsSession.closeSession(irodsAccount);
+		} catch (JargonException e) {
+			log.warn("error releasing connection, discarding it", e);
+			irodsSession.discardSessionForErrors(irodsAccount);
+		}
+	}
+
+}
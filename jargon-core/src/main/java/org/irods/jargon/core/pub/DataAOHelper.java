@@ -766,6 +766,30 @@ public final class DataAOHelper extends AOHelper {
 
 	}
 
+	/**
+	 * Add the selects for data object AVUs to the given builder, in the order
+	 * expected by {@link #buildMetaDataAndDomainDataListFromResultSet}
+	 *
+	 * @param builder {@link IRODSGenQueryBuilder} that will have the selects
+	 *                appended to it
+	 * @throws GenQueryBuilderException for gen query error
+	 */
+	public static void addMetadataAndDomainDataSelectsToBuilder(final IRODSGenQueryBuilder builder)
+			throws GenQueryBuilderException {
+		builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_ID)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+				/*
+				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
+				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME)
+				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME)
+				 */
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_ID)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_UNITS);
+	}
+
 	public static void translateAVUQueryElementOperatorToBuilderQueryCondition(final AVUQueryElement avuQueryElement) {
 
 	}
@@ -1,8 +1,10 @@
 package org.irods.jargon.core.pub;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
@@ -590,6 +592,28 @@ public interface DataObjectAO extends FileCatalogObjectAO {
 	List<MetaDataAndDomainData> findMetadataValuesForDataObject(String dataObjectAbsolutePath)
 			throws FileNotFoundException, JargonException;
 
+	/**
+	 * List the AVU metadata of many data objects at once. This groups the paths by
+	 * parent collection and uses a few queries rather than one per data object,
+	 * and is meant for listings that show the metadata of each entry.
+	 * <p>
+	 * Unlike {@link #findMetadataValuesForDataObject(String)}, a missing data
+	 * object is not an error, and maps to an empty list like a data object without
+	 * metadata.
+	 *
+	 * @param avuQuery                {@code List} of {@link AVUQueryElement} with
+	 *                                conditions on the AVUs returned, may be empty
+	 *                                to return all AVUs
+	 * @param dataObjectAbsolutePaths {@code Collection} of {@code String} with the
+	 *                                absolute paths of iRODS data objects
+	 * @return {@code Map} keyed by each given path, in the given order, with a
+	 *         {@code List} of
+	 *         {@link org.irods.jargon.core.query.MetaDataAndDomainData}
+	 * @throws JargonException {@link JargonException}
+	 */
+	Map<String, List<MetaDataAndDomainData>> findMetadataValuesForDataObjects(List<AVUQueryElement> avuQuery,
+			Collection<String> dataObjectAbsolutePaths) throws JargonException;
+
 	/**
 	 * This is a special method to modify the Avu value for a given attribute name
 	 * and unit. Often, it is the case that applications want to keep unique values
@@ -8,8 +8,10 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.checksum.ChecksumValue;
 import org.irods.jargon.core.connection.ConnectionConstants;
@@ -2246,18 +2248,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 
 	private void addMetadataAndDomainDataSelectsToBuilder(final IRODSGenQueryBuilder builder)
 			throws GenQueryBuilderException {
-		builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_ID)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
-				/*
-				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
-				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME)
-				 * .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME)
-				 */
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_ID)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_NAME)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE)
-				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_UNITS);
+		DataAOHelper.addMetadataAndDomainDataSelectsToBuilder(builder);
 	}
 
 	/*
@@ -2738,6 +2729,15 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		return findMetadataValuesForDataObject(objStat);
 	}
 
+	@Override
+	public Map<String, List<MetaDataAndDomainData>> findMetadataValuesForDataObjects(
+			final List<AVUQueryElement> avuQuery, final Collection<String> dataObjectAbsolutePaths)
+			throws JargonException {
+		log.info("findMetadataValuesForDataObjects()");
+		BatchAVUUtils batchAVUUtils = new BatchAVUUtils(getIRODSAccount(), getIRODSAccessObjectFactory());
+		return batchAVUUtils.findMetadataValuesForDataObjects(avuQuery, dataObjectAbsolutePaths);
+	}
+
 	private List<MetaDataAndDomainData> findMetadataValuesForDataObject(final ObjStat objStat)
 			throws FileNotFoundException, JargonException {
 
@@ -2908,6 +2908,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(false, zone, absPath,
 				userName, ModAccessControlInp.READ_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -2950,6 +2951,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(false, zone,
 				absPath, userName, ModAccessControlInp.READ_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -2987,6 +2989,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(false, zone, absPath,
 				userName, ModAccessControlInp.WRITE_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -3063,6 +3066,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(false, zone,
 				absPath, userName, ModAccessControlInp.WRITE_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -3101,6 +3105,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(false, zone, absPath,
 				userName, ModAccessControlInp.OWN_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -3141,6 +3146,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(false, zone,
 				absPath, userName, ModAccessControlInp.OWN_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -3180,6 +3186,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermission(false, zone, absPath,
 				userName, ModAccessControlInp.NULL_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
@@ -3218,6 +3225,7 @@ public final class DataObjectAOImpl extends FileCatalogObjectAOImpl implements D
 		ModAccessControlInp modAccessControlInp = ModAccessControlInp.instanceForSetPermissionInAdminMode(false, zone,
 				absPath, userName, ModAccessControlInp.NULL_PERMISSION);
 		getIRODSProtocol().irodsFunction(modAccessControlInp);
+		invalidateCachedPermissionsForPath(absolutePath, absPath, false);
 	}
 
 	/*
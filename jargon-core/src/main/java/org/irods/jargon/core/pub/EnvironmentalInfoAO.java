@@ -22,6 +22,19 @@ public interface EnvironmentalInfoAO extends IRODSAccessObject {
 	 */
 	IRODSServerProperties getIRODSServerPropertiesFromIRODSServer() throws JargonException;
 
+	/**
+	 * Retrieve basic environmental information from the iRODS server, optionally
+	 * bypassing the cached copy. The cache is updated with the result.
+	 *
+	 * @param refresh
+	 *            {@code boolean} that, if {@code true}, always goes to iRODS
+	 * @return {@link IRODSServerProperties} containing information such as boot
+	 *         time, version
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	IRODSServerProperties getIRODSServerPropertiesFromIRODSServer(boolean refresh) throws JargonException;
+
 	/**
 	 * Get the current time on the iRODS server
 	 *
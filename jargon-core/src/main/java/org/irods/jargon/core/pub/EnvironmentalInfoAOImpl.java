@@ -64,6 +64,13 @@ public class EnvironmentalInfoAOImpl extends IRODSGenericAO implements Environme
 		return props;
 	}
 
+	@Override
+	public IRODSServerProperties getIRODSServerPropertiesFromIRODSServer(final boolean refresh)
+			throws JargonException {
+		log.debug("getIRODSServerPropertiesFromIRODSServer() with refresh:{}", refresh);
+		return environmentalInfoAccessor.getIRODSServerProperties(refresh);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
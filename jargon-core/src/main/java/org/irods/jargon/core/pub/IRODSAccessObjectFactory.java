@@ -5,6 +5,7 @@ import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSServerProperties;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.JargonProperties;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.connection.auth.AuthResponse;
 import org.irods.jargon.core.exception.AuthenticationException;
 import org.irods.jargon.core.exception.JargonException;
@@ -545,4 +546,17 @@ public interface IRODSAccessObjectFactory {
 	 */
 	ApiPluginExecutor getApiPluginExecutor(final IRODSAccount irodsAccount) throws JargonException;
 
+	/**
+	 * Get the shared set of extra connections used to run independent read-only
+	 * calls for an account at the same time, so that several queries for one view
+	 * take about the time of the slowest rather than the sum. Sized by the
+	 * {@code read.only.connections.per.account} jargon property, with 0 running
+	 * calls on the caller's thread.
+	 *
+	 * @param irodsAccount {@link IRODSAccount} with the authenticating principal
+	 * @return {@link ReadOnlyConnectionSet}
+	 * @throws JargonException {@link JargonException}
+	 */
+	ReadOnlyConnectionSet getReadOnlyConnectionSet(IRODSAccount irodsAccount) throws JargonException;
+
 }
@@ -5,6 +5,7 @@ import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSServerProperties;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.JargonProperties;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.connection.auth.AuthResponse;
 import org.irods.jargon.core.exception.AuthenticationException;
 import org.irods.jargon.core.exception.JargonException;
@@ -676,4 +677,16 @@ public final class IRODSAccessObjectFactoryImpl implements IRODSAccessObjectFact
 		return getIrodsSession().isUsingDynamicServerPropertiesCache();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.irods.jargon.core.pub.IRODSAccessObjectFactory#
+	 * getReadOnlyConnectionSet(org.irods.jargon.core.connection.IRODSAccount)
+	 */
+	@Override
+	public ReadOnlyConnectionSet getReadOnlyConnectionSet(final IRODSAccount irodsAccount) throws JargonException {
+		checkIrodsSessionSet();
+		return getIrodsSession().getReadOnlyConnectionSet(irodsAccount);
+	}
+
 }
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
 
+import org.irods.jargon.core.connection.AccessControlCache;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.ReplicaTokenCacheEntry;
@@ -35,6 +36,7 @@ import org.irods.jargon.core.pub.domain.Resource;
 import org.irods.jargon.core.pub.domain.pluggable.DataObjectOpen;
 import org.irods.jargon.core.pub.io.IRODSFile;
 import org.irods.jargon.core.pub.io.IRODSFileSystemAOHelper;
+import org.irods.jargon.core.query.BoundIRODSGenQuery;
 import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry;
 import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry.ObjectType;
 import org.irods.jargon.core.query.GenQueryBuilderException;
@@ -43,8 +45,6 @@ import org.irods.jargon.core.query.IRODSGenQueryFromBuilder;
 import org.irods.jargon.core.query.IRODSQueryResultRow;
 import org.irods.jargon.core.query.IRODSQueryResultSet;
 import org.irods.jargon.core.query.JargonQueryException;
-import org.irods.jargon.core.query.QueryConditionOperators;
-import org.irods.jargon.core.query.RodsGenQueryEnum;
 import org.irods.jargon.core.utils.IRODSConstants;
 import org.irods.jargon.core.utils.MiscIRODSUtils;
 import org.slf4j.Logger;
@@ -100,17 +100,7 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 
 		log.info("checking read permissions on:{}", irodsFile);
 
-		int filePermissions = 0;
-
-		log.info("checking if isFile or isDirectory to properly build permissions query...");
-
-		if (irodsFile.isFile()) {
-			log.debug("getting file permissions");
-			filePermissions = getFilePermissions(irodsFile);
-		} else if (irodsFile.isDirectory()) {
-			log.debug("getting directory permissions");
-			filePermissions = getDirectoryPermissions(irodsFile);
-		}
+		int filePermissions = getPermissionsOfFileOrDirectory(irodsFile);
 
 		if (filePermissions >= IRODSFile.READ_PERMISSIONS) {
 			readable = true;
@@ -160,22 +150,17 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 	private boolean checkIfDataObjectExecutable(final IRODSFile irodsFile) throws JargonException {
 
 		log.info("checkIfDataObjectExecutable");
-		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
 
 		IRODSQueryResultSet resultSet;
 		try {
-			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_MODE)
-					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL,
-							irodsFile.getParent())
-					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL,
-							irodsFile.getName());
+			BoundIRODSGenQuery irodsQuery = IRODSFileSystemAOHelper.prepareQueryDataObjectMode().bind(100,
+					irodsFile.getParent(), irodsFile.getName());
 			CollectionAndDataObjectListAndSearchAO listAndSearchAO = getIRODSAccessObjectFactory()
 					.getCollectionAndDataObjectListAndSearchAO(getIRODSAccount());
 			ObjStat objStat = listAndSearchAO.retrieveObjectStatForPath(irodsFile.getAbsolutePath());
 
 			String absPath = MiscIRODSUtils.determineAbsolutePathBasedOnCollTypeInObjectStat(objStat);
 
-			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(100);
 			boolean executable = false;
 			resultSet = irodsGenQueryExecutor.executeIRODSQueryAndCloseResultInZone(irodsQuery, 0,
 					MiscIRODSUtils.getZoneInPath(absPath));
@@ -214,20 +199,41 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			log.info("checking write permissions on:" + irodsFile);
 		}
 
-		int filePermissions = 0;
+		int filePermissions = getPermissionsOfFileOrDirectory(irodsFile);
+
+		if (filePermissions >= IRODSFile.WRITE_PERMISSIONS) {
+			writeable = true;
+		}
+		return writeable;
+	}
+
+	/**
+	 * Get the permissions of the account user on a file or directory. The ACL
+	 * cache (if in use) is keyed on the path alone, so it is checked before the
+	 * type of the file is looked up, and a cached path costs no round trips.
+	 *
+	 * @param irodsFile {@link IRODSFile}
+	 * @return {@code int} with the numeric permission, 0 if the file does not
+	 *         exist
+	 * @throws JargonException for iRODS error
+	 */
+	private int getPermissionsOfFileOrDirectory(final IRODSFile irodsFile) throws JargonException {
+		String userName = getIRODSAccount().getUserName();
+		Integer cachedPermission = retrieveCachedPermission(irodsFile, userName);
+		if (cachedPermission != null) {
+			return cachedPermission;
+		}
+
+		log.info("checking if isFile or isDirectory to properly build permissions query...");
 
 		if (irodsFile.isFile()) {
 			log.debug("getting file permissions");
-			filePermissions = getFilePermissions(irodsFile);
+			return queryFilePermissions(irodsFile, userName);
 		} else if (irodsFile.isDirectory()) {
 			log.debug("getting directory permissions");
-			filePermissions = getDirectoryPermissions(irodsFile);
-		}
-
-		if (filePermissions >= IRODSFile.WRITE_PERMISSIONS) {
-			writeable = true;
+			return queryDirectoryPermissions(irodsFile, userName);
 		}
-		return writeable;
+		return 0;
 	}
 
 	/*
@@ -270,16 +276,25 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			throw new IllegalArgumentException("null or empty userName");
 		}
 
+		Integer cachedPermission = retrieveCachedPermission(irodsFile, userName);
+		if (cachedPermission != null) {
+			return cachedPermission;
+		}
+
+		return queryFilePermissions(irodsFile, userName);
+	}
+
+	/**
+	 * Query the permission of a user on a data object, and cache it in the ACL
+	 * cache (if in use)
+	 */
+	private int queryFilePermissions(final IRODSFile irodsFile, final String userName) throws JargonException {
 		DataObjectAO dataObjectAO = getIRODSAccessObjectFactory().getDataObjectAO(getIRODSAccount());
 
 		log.info("delegating to DataObjectAO");
 		FilePermissionEnum permissionEnum = dataObjectAO.getPermissionForDataObject(irodsFile.getAbsolutePath(),
 				userName, getIRODSAccount().getZone());
-		if (permissionEnum == null) {
-			return FilePermissionEnum.NONE.getPermissionNumericValue();
-		} else {
-			return permissionEnum.getPermissionNumericValue();
-		}
+		return cachePermission(irodsFile, userName, permissionEnum);
 	}
 
 	/*
@@ -316,16 +331,88 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			throw new IllegalArgumentException("null or empty userName");
 		}
 
+		Integer cachedPermission = retrieveCachedPermission(irodsFile, userName);
+		if (cachedPermission != null) {
+			return cachedPermission;
+		}
+
+		return queryDirectoryPermissions(irodsFile, userName);
+	}
+
+	/**
+	 * Query the permission of a user on a collection, and cache it in the ACL
+	 * cache (if in use)
+	 */
+	private int queryDirectoryPermissions(final IRODSFile irodsFile, final String userName) throws JargonException {
 		CollectionAO collectionAO = getIRODSAccessObjectFactory().getCollectionAO(getIRODSAccount());
 
 		log.info("delegating to CollectionAO");
 		FilePermissionEnum permissionEnum = collectionAO.getPermissionForCollection(irodsFile.getAbsolutePath(),
 				userName, getIRODSAccount().getZone());
+		return cachePermission(irodsFile, userName, permissionEnum);
+	}
+
+	/**
+	 * Look in the ACL cache (if in use) for a permission for the user and file
+	 *
+	 * @param irodsFile {@link IRODSFile}
+	 * @param userName  {@code String} with the user name
+	 * @return {@code Integer} with the cached numeric permission, or {@code null}
+	 */
+	private Integer retrieveCachedPermission(final IRODSFile irodsFile, final String userName) {
+		AccessControlCache accessControlCache = getIRODSSession().getAccessControlCache();
+		if (accessControlCache == null) {
+			return null;
+		}
+
+		Integer cachedPermission = accessControlCache.retrievePermission(getIRODSAccount().getHost(),
+				getIRODSAccount().getZone(), userName, irodsFile.getAbsolutePath());
+		if (cachedPermission != null) {
+			log.debug("permission found in acl cache");
+		}
+		return cachedPermission;
+	}
+
+	/**
+	 * Translate the permission to its numeric value and cache it in the ACL cache
+	 * (if in use)
+	 *
+	 * @param irodsFile      {@link IRODSFile}
+	 * @param userName       {@code String} with the user name
+	 * @param permissionEnum {@link FilePermissionEnum}, may be {@code null} for no
+	 *                       permission
+	 * @return {@code int} with the numeric permission
+	 */
+	private int cachePermission(final IRODSFile irodsFile, final String userName,
+			final FilePermissionEnum permissionEnum) {
+		int permission;
 		if (permissionEnum == null) {
-			return FilePermissionEnum.NONE.getPermissionNumericValue();
+			permission = FilePermissionEnum.NONE.getPermissionNumericValue();
 		} else {
-			return permissionEnum.getPermissionNumericValue();
+			permission = permissionEnum.getPermissionNumericValue();
 		}
+
+		AccessControlCache accessControlCache = getIRODSSession().getAccessControlCache();
+		if (accessControlCache != null) {
+			accessControlCache.cachePermission(getIRODSAccount().getHost(), getIRODSAccount().getZone(), userName,
+					irodsFile.getAbsolutePath(), permission);
+		}
+		return permission;
+	}
+
+	/**
+	 * Drop cached permissions (if the ACL cache is in use) for both paths of a
+	 * rename, as the target may have replaced an existing file
+	 *
+	 * @param fromFile  {@link IRODSFile} renamed
+	 * @param toFile    {@link IRODSFile} with the new name
+	 * @param recursive {@code boolean} of {@code true} for a collection, to also
+	 *                  drop the permissions of the paths underneath
+	 */
+	private void invalidateCachedPermissionsForRename(final IRODSFile fromFile, final IRODSFile toFile,
+			final boolean recursive) {
+		invalidateCachedPermissionsForPath(fromFile.getAbsolutePath(), fromFile.getAbsolutePath(), recursive);
+		invalidateCachedPermissionsForPath(toFile.getAbsolutePath(), toFile.getAbsolutePath(), recursive);
 	}
 
 	/*
@@ -1112,6 +1199,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			log.warn(msg);
 		}
 
+		invalidateCachedPermissionsForPath(irodsFile.getAbsolutePath(), irodsFile.getAbsolutePath(), false);
+
 	}
 
 	/*
@@ -1148,6 +1237,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 					"duplicate data exception logged and ignored, see GForge: [#639] 809000 errors on delete operations when trash file already exists");
 		}
 
+		invalidateCachedPermissionsForPath(irodsFile.getAbsolutePath(), irodsFile.getAbsolutePath(), false);
+
 	}
 
 	/*
@@ -1181,6 +1272,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 
 		processClientStatusMessages(response);
 
+		invalidateCachedPermissionsForPath(irodsFile.getAbsolutePath(), irodsFile.getAbsolutePath(), true);
+
 		log.info("deletion successful");
 
 	}
@@ -1214,6 +1307,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 
 		processClientStatusMessages(response);
 
+		invalidateCachedPermissionsForPath(irodsFile.getAbsolutePath(), irodsFile.getAbsolutePath(), true);
+
 		log.info("deletion successful");
 
 	}
@@ -1281,6 +1376,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			log.warn("unexpected response from irods, expected null message - logged and ignored ");
 		}
 
+		invalidateCachedPermissionsForRename(fromFile, toFile, true);
+
 		log.debug("rename successful");
 	}
 
@@ -1311,6 +1408,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			log.warn("unexpected response from irods, expected null message - logged and ignored ");
 		}
 
+		invalidateCachedPermissionsForRename(fromFile, toFile, false);
+
 		log.debug("rename successful");
 
 	}
@@ -1338,6 +1437,8 @@ public final class IRODSFileSystemAOImpl extends IRODSGenericAO implements IRODS
 			log.warn("unexpected response from irods, expected null message - logged and ignored ");
 		}
 
+		invalidateCachedPermissionsForRename(fromFile, toFile, false);
+
 		log.debug("rename successful");
 
 	}
@@ -3,10 +3,14 @@
  */
 package org.irods.jargon.core.pub;
 
+import java.util.List;
+
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.query.AbstractIRODSGenQuery;
+import org.irods.jargon.core.query.FederatedQueryResult;
 import org.irods.jargon.core.query.IRODSQueryResultSet;
 import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.RowHandler;
 
 /**
  * Access object to process 'iquest-like' GenQuery.
@@ -203,6 +207,85 @@ public interface IRODSGenQueryExecutor extends IRODSAccessObject {
 	IRODSQueryResultSet executeIRODSQueryAndCloseResultInZone(AbstractIRODSGenQuery irodsQuery, int partialStartIndex,
 			String zoneName) throws JargonException, JargonQueryException;
 
+	/**
+	 * Execute a query to the end, handing each row to the given
+	 * {@link RowHandler} as each page of results arrives, rather than building
+	 * result sets. Memory use stays at one page however many rows the query
+	 * returns, which suits exports of large catalogs. The page size is the number
+	 * of results set in the query.
+	 * <p>
+	 * The query is closed in iRODS when the handler returns {@code false} or
+	 * throws.
+	 *
+	 * @param irodsQuery
+	 *            {@link AbstractIRODSGenQuery} that will wrap the given query
+	 * @param rowHandler
+	 *            {@link RowHandler} to receive the rows
+	 * @return {@code long} with the number of rows handed to the handler
+	 * @throws JargonException
+	 *             for iRODS error, or from the handler
+	 * @throws JargonQueryException
+	 *             for query error
+	 */
+	long executeIRODSQueryStreaming(AbstractIRODSGenQuery irodsQuery, RowHandler rowHandler)
+			throws JargonException, JargonQueryException;
+
+	/**
+	 * Execute a query to the end in the given zone, handing each row to the given
+	 * {@link RowHandler}, see
+	 * {@link #executeIRODSQueryStreaming(AbstractIRODSGenQuery, RowHandler)}
+	 *
+	 * @param irodsQuery
+	 *            {@link AbstractIRODSGenQuery} that will wrap the given query
+	 * @param rowHandler
+	 *            {@link RowHandler} to receive the rows
+	 * @param zoneName
+	 *            {@code String} ({@code null} or blank if not used) that indicates
+	 *            an optional zone for the query
+	 * @return {@code long} with the number of rows handed to the handler
+	 * @throws JargonException
+	 *             for iRODS error, or from the handler
+	 * @throws JargonQueryException
+	 *             for query error
+	 */
+	long executeIRODSQueryStreamingInZone(AbstractIRODSGenQuery irodsQuery, RowHandler rowHandler, String zoneName)
+			throws JargonException, JargonQueryException;
+
+	/**
+	 * Execute the same query against several zones and gather the results of
+	 * each zone. The result sets are closed, as in
+	 * {@link #executeIRODSQueryAndCloseResultInZone(AbstractIRODSGenQuery, int, String)}.
+	 * <p>
+	 * When {@code read.only.connections.per.account} is 0 the zones are queried
+	 * one after another on this connection, and the timeout is not applied.
+	 * Otherwise the zones are queried at once on threads made for this call, each
+	 * on a connection of its own, with at most
+	 * {@code read.only.connections.per.account} zones at a time. These
+	 * connections are not the ones of the account's
+	 * {@link org.irods.jargon.core.connection.ReadOnlyConnectionSet}, and are
+	 * returned when each zone answers.
+	 * <p>
+	 * A zone that fails or does not answer within the timeout is reported in the
+	 * {@link FederatedQueryResult} rather than failing the query, so the results
+	 * may be partial. The timeout is counted from the call, and includes any time
+	 * a zone waits for a free thread. The connection of a zone that times out is
+	 * closed, ending its query, and is discarded.
+	 *
+	 * @param irodsQuery
+	 *            {@link AbstractIRODSGenQuery} to run in each zone
+	 * @param zoneNames
+	 *            {@code List} of {@code String} with the zones to query
+	 * @param zoneTimeoutMillis
+	 *            {@code long} with the time to wait for the zones, 0 to wait
+	 *            until each answers
+	 * @return {@link FederatedQueryResult} with the results of each zone, in the
+	 *         order of the zones given
+	 * @throws JargonException
+	 *             if the query could not be started
+	 */
+	FederatedQueryResult executeIRODSQueryAcrossZones(AbstractIRODSGenQuery irodsQuery, List<String> zoneNames,
+			long zoneTimeoutMillis) throws JargonException;
+
 	/**
 	 * Get the next page of results
 	 *
@@ -1,12 +1,26 @@
 package org.irods.jargon.core.pub;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
 import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.QueryResultCache;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.query.AbstractIRODSGenQuery;
+import org.irods.jargon.core.query.FederatedQueryResult;
+import org.irods.jargon.core.query.FederatedQueryResult.ZoneResult;
 import org.irods.jargon.core.query.GenQueryProcessor;
 import org.irods.jargon.core.query.IRODSQueryResultSet;
 import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.RowHandler;
 import org.irods.jargon.core.query.TranslatedIRODSGenQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,7 +80,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	@Override
 	public IRODSQueryResultSet executeIRODSQuery(final AbstractIRODSGenQuery irodsQuery, final int continueIndex)
 			throws JargonException, JargonQueryException {
-		log.info("executeIRODSQuery()");
+		log.debug("executeIRODSQuery()");
 
 		return executeIRODSQueryInZone(irodsQuery, continueIndex, null);
 	}
@@ -81,7 +95,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet executeIRODSQueryInZone(final AbstractIRODSGenQuery irodsQuery, final int continueIndex,
 			final String zoneName) throws JargonException, JargonQueryException {
 
-		log.info("executeIRODSQueryInZone()");
+		log.debug("executeIRODSQueryInZone()");
 
 		if (irodsQuery == null) {
 			throw new IllegalArgumentException("null irodsQuery");
@@ -91,7 +105,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 			throw new IllegalArgumentException("continue index must be > 0");
 		}
 
-		log.info("query: {}", irodsQuery);
+		log.debug("query: {}", irodsQuery);
 
 		GenQueryProcessor genQueryProcessor = new GenQueryProcessor(getIRODSProtocol());
 
@@ -111,7 +125,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	@Override
 	public IRODSQueryResultSet executeIRODSQueryAndCloseResult(final AbstractIRODSGenQuery irodsQuery,
 			final int partialStartIndex) throws JargonException, JargonQueryException {
-		log.info("executeIRODSQueryAndCloseResult()");
+		log.debug("executeIRODSQueryAndCloseResult()");
 
 		return executeIRODSQueryAndCloseResultInZone(irodsQuery, partialStartIndex, null);
 	}
@@ -127,7 +141,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet executeIRODSQueryAndCloseResultInZone(final AbstractIRODSGenQuery irodsQuery,
 			final int partialStartIndex, final String zoneName) throws JargonException, JargonQueryException {
 
-		log.info("executeIRODSQueryAndCloseResultInZone()");
+		log.debug("executeIRODSQueryAndCloseResultInZone()");
 
 		if (irodsQuery == null) {
 			throw new IllegalArgumentException("null irodsQuery");
@@ -137,14 +151,228 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 			throw new IllegalArgumentException("continueIndex is < 0");
 		}
 
-		log.info("query: {}", irodsQuery);
+		log.debug("query: {}", irodsQuery);
+
+		GenQueryProcessor genQueryProcessor = new GenQueryProcessor(getIRODSProtocol());
+
+		TranslatedIRODSGenQuery translatedIRODSQuery = genQueryProcessor.translateProvidedQuery(irodsQuery);
+
+		return executeAndCloseWithCache(genQueryProcessor, translatedIRODSQuery, partialStartIndex, zoneName);
+	}
+
+	@Override
+	public long executeIRODSQueryStreaming(final AbstractIRODSGenQuery irodsQuery, final RowHandler rowHandler)
+			throws JargonException, JargonQueryException {
+		log.debug("executeIRODSQueryStreaming()");
+
+		return executeIRODSQueryStreamingInZone(irodsQuery, rowHandler, null);
+	}
+
+	@Override
+	public long executeIRODSQueryStreamingInZone(final AbstractIRODSGenQuery irodsQuery, final RowHandler rowHandler,
+			final String zoneName) throws JargonException, JargonQueryException {
+
+		log.debug("executeIRODSQueryStreamingInZone()");
+
+		if (irodsQuery == null) {
+			throw new IllegalArgumentException("null irodsQuery");
+		}
+
+		if (rowHandler == null) {
+			throw new IllegalArgumentException("null rowHandler");
+		}
+
+		log.debug("query: {}", irodsQuery);
 
 		GenQueryProcessor genQueryProcessor = new GenQueryProcessor(getIRODSProtocol());
 
 		TranslatedIRODSGenQuery translatedIRODSQuery = genQueryProcessor.translateProvidedQuery(irodsQuery);
 
-		return genQueryProcessor.executeTranslatedIRODSQuery(translatedIRODSQuery, 0, partialStartIndex,
-				QueryCloseBehavior.AUTO_CLOSE, zoneName);
+		return genQueryProcessor.executeTranslatedIRODSQueryStreaming(translatedIRODSQuery, zoneName, rowHandler);
+	}
+
+	@Override
+	public FederatedQueryResult executeIRODSQueryAcrossZones(final AbstractIRODSGenQuery irodsQuery,
+			final List<String> zoneNames, final long zoneTimeoutMillis) throws JargonException {
+
+		log.debug("executeIRODSQueryAcrossZones()");
+
+		if (irodsQuery == null) {
+			throw new IllegalArgumentException("null irodsQuery");
+		}
+
+		if (zoneNames == null || zoneNames.isEmpty()) {
+			throw new IllegalArgumentException("null or empty zoneNames");
+		}
+
+		if (zoneTimeoutMillis < 0) {
+			throw new IllegalArgumentException("zoneTimeoutMillis is < 0");
+		}
+
+		for (String zoneName : zoneNames) {
+			if (zoneName == null || zoneName.isEmpty()) {
+				throw new IllegalArgumentException("null or empty zone in zoneNames");
+			}
+		}
+
+		log.debug("query: {} in zones:{}", irodsQuery, zoneNames);
+
+		int connectionCount = Math.min(getJargonProperties().getReadOnlyConnectionsPerAccount(), zoneNames.size());
+		List<ZoneResult> zoneResults;
+		if (connectionCount == 0) {
+			log.debug("no read only connections, querying zones in turn without a timeout");
+			zoneResults = queryZonesInTurn(irodsQuery, zoneNames);
+		} else {
+			zoneResults = queryZonesAtOnce(irodsQuery, zoneNames, zoneTimeoutMillis, connectionCount);
+		}
+
+		FederatedQueryResult federatedQueryResult = new FederatedQueryResult(zoneResults);
+		if (!federatedQueryResult.isComplete()) {
+			log.warn("partial results, failed or timed out zones:{}", federatedQueryResult.getFailedZones());
+		}
+		return federatedQueryResult;
+	}
+
+	/**
+	 * Query the zones one after another on this connection
+	 */
+	private List<ZoneResult> queryZonesInTurn(final AbstractIRODSGenQuery irodsQuery, final List<String> zoneNames) {
+		List<ZoneResult> zoneResults = new ArrayList<ZoneResult>(zoneNames.size());
+		long start = System.currentTimeMillis();
+		for (String zoneName : zoneNames) {
+			try {
+				IRODSQueryResultSet resultSet = executeIRODSQueryAndCloseResultInZone(irodsQuery, 0, zoneName);
+				zoneResults.add(ZoneResult.success(zoneName, resultSet, System.currentTimeMillis() - start));
+			} catch (JargonException | JargonQueryException e) {
+				log.warn("query failed in zone:{}", zoneName, e);
+				JargonException error = e instanceof JargonException ? (JargonException) e
+						: new JargonException("query error in zone:" + zoneName, e);
+				zoneResults.add(ZoneResult.failure(zoneName, error, System.currentTimeMillis() - start));
+			}
+		}
+		return zoneResults;
+	}
+
+	/**
+	 * Query the zones on threads of an executor made for this call, each zone on
+	 * a connection of its own. A zone that does not answer by the deadline has
+	 * its connection closed, which ends the query, and the connection is
+	 * discarded rather than returned to the protocol manager.
+	 */
+	private List<ZoneResult> queryZonesAtOnce(final AbstractIRODSGenQuery irodsQuery, final List<String> zoneNames,
+			final long zoneTimeoutMillis, final int connectionCount) throws JargonException {
+		ExecutorService executor = Executors.newFixedThreadPool(connectionCount, runnable -> {
+			Thread thread = new Thread(runnable, "jargon-zone-query-" + getIRODSAccount().getUserName());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			long start = System.currentTimeMillis();
+			List<ZoneQuery> zoneQueries = new ArrayList<ZoneQuery>(zoneNames.size());
+			for (String zoneName : zoneNames) {
+				ZoneQuery zoneQuery = new ZoneQuery(zoneName);
+				zoneQuery.future = executor.submit(() -> runZoneQuery(irodsQuery, zoneQuery));
+				zoneQueries.add(zoneQuery);
+			}
+
+			List<ZoneResult> zoneResults = new ArrayList<ZoneResult>(zoneNames.size());
+			for (ZoneQuery zoneQuery : zoneQueries) {
+				zoneResults.add(waitForZone(zoneQuery, start, zoneTimeoutMillis));
+			}
+			return zoneResults;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Run the query for one zone on the current (executor) thread, holding a
+	 * connection only for the query
+	 */
+	private IRODSQueryResultSet runZoneQuery(final AbstractIRODSGenQuery irodsQuery, final ZoneQuery zoneQuery)
+			throws JargonException {
+		IRODSSession irodsSession = getIRODSSession();
+		try {
+			zoneQuery.connection = irodsSession.currentConnection(getIRODSAccount());
+			if (zoneQuery.abandoned) {
+				throw new JargonException("query abandoned in zone:" + zoneQuery.zoneName);
+			}
+			return getIRODSAccessObjectFactory().getIRODSGenQueryExecutor(getIRODSAccount())
+					.executeIRODSQueryAndCloseResultInZone(irodsQuery, 0, zoneQuery.zoneName);
+		} catch (JargonQueryException e) {
+			throw new JargonException("query error in zone:" + zoneQuery.zoneName, e);
+		} finally {
+			if (zoneQuery.abandoned) {
+				irodsSession.discardSessionForErrors(getIRODSAccount());
+			} else {
+				try {
+					irodsSession.closeSession(getIRODSAccount());
+				} catch (JargonException e) {
+					log.warn("error closing zone query connection, discarding it", e);
+					irodsSession.discardSessionForErrors(getIRODSAccount());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait for the query in one zone until the common deadline. A zone that does
+	 * not answer in time is abandoned, and its connection is closed so that the
+	 * query does not keep running.
+	 */
+	private ZoneResult waitForZone(final ZoneQuery zoneQuery, final long start, final long zoneTimeoutMillis)
+			throws JargonException {
+		try {
+			IRODSQueryResultSet resultSet;
+			if (zoneTimeoutMillis == 0) {
+				resultSet = zoneQuery.future.get();
+			} else {
+				long remaining = Math.max(0L, start + zoneTimeoutMillis - System.currentTimeMillis());
+				resultSet = zoneQuery.future.get(remaining, TimeUnit.MILLISECONDS);
+			}
+			return ZoneResult.success(zoneQuery.zoneName, resultSet, System.currentTimeMillis() - start);
+		} catch (TimeoutException e) {
+			log.warn("query in zone:{} timed out, closing its connection", zoneQuery.zoneName);
+			zoneQuery.abandon();
+			return ZoneResult.timeout(zoneQuery.zoneName, System.currentTimeMillis() - start);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JargonException("interrupted waiting for query in zone:" + zoneQuery.zoneName, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			log.warn("query failed in zone:{}", zoneQuery.zoneName, cause);
+			JargonException error = cause instanceof JargonException ? (JargonException) cause
+					: new JargonException("error in query in zone:" + zoneQuery.zoneName, cause);
+			return ZoneResult.failure(zoneQuery.zoneName, error, System.currentTimeMillis() - start);
+		}
+	}
+
+	/**
+	 * The query of one zone in {@link #queryZonesAtOnce}, with the connection it
+	 * runs on once connected
+	 */
+	private static class ZoneQuery {
+		private final String zoneName;
+		private volatile Future<IRODSQueryResultSet> future;
+		private volatile IRODSMidLevelProtocol connection;
+		private volatile boolean abandoned = false;
+
+		ZoneQuery(final String zoneName) {
+			this.zoneName = zoneName;
+		}
+
+		/**
+		 * Stop waiting for the zone, closing the socket under a running query
+		 */
+		void abandon() {
+			abandoned = true;
+			future.cancel(true);
+			IRODSMidLevelProtocol abandonedConnection = connection;
+			if (abandonedConnection != null) {
+				abandonedConnection.abortConnection();
+			}
+		}
 	}
 
 	/*
@@ -158,7 +386,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet executeIRODSQueryWithPaging(final AbstractIRODSGenQuery irodsQuery,
 			final int partialStartIndex) throws JargonException, JargonQueryException {
 
-		log.info("executeIRODSQueryWithPaging()");
+		log.debug("executeIRODSQueryWithPaging()");
 		return executeIRODSQueryWithPagingInZone(irodsQuery, partialStartIndex, null);
 	}
 
@@ -173,18 +401,49 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet executeIRODSQueryWithPagingInZone(final AbstractIRODSGenQuery irodsQuery,
 			final int partialStartIndex, final String zoneName) throws JargonException, JargonQueryException {
 
-		log.info("executeIRODSQueryWithPagingInZone()");
+		log.debug("executeIRODSQueryWithPagingInZone()");
 
 		if (irodsQuery == null) {
 			throw new IllegalArgumentException("null irodsQuery");
 		}
 
-		log.info("query: {}", irodsQuery);
+		log.debug("query: {}", irodsQuery);
 		GenQueryProcessor genQueryProcessor = new GenQueryProcessor(getIRODSProtocol());
 		TranslatedIRODSGenQuery translatedIRODSQuery = genQueryProcessor.translateProvidedQuery(irodsQuery);
 
-		return genQueryProcessor.executeTranslatedIRODSQuery(translatedIRODSQuery, 0, partialStartIndex,
-				QueryCloseBehavior.AUTO_CLOSE, zoneName);
+		return executeAndCloseWithCache(genQueryProcessor, translatedIRODSQuery, partialStartIndex, zoneName);
+	}
+
+	/**
+	 * Run a query and close the result, serving it from the session's
+	 * {@link QueryResultCache} when that is turned on and the query only reads
+	 * cached catalog tables
+	 */
+	private IRODSQueryResultSet executeAndCloseWithCache(final GenQueryProcessor genQueryProcessor,
+			final TranslatedIRODSGenQuery translatedIRODSQuery, final int partialStartIndex, final String zoneName)
+			throws JargonException {
+
+		QueryResultCache queryResultCache = getIRODSSession().getQueryResultCache();
+		QueryResultCache.Key key = null;
+		if (queryResultCache != null) {
+			key = queryResultCache.keyFor(getIRODSAccount(), translatedIRODSQuery, partialStartIndex, zoneName);
+		}
+
+		if (key != null) {
+			IRODSQueryResultSet cached = queryResultCache.retrieve(key);
+			if (cached != null) {
+				log.debug("query result served from cache");
+				return cached;
+			}
+		}
+
+		IRODSQueryResultSet resultSet = genQueryProcessor.executeTranslatedIRODSQuery(translatedIRODSQuery, 0,
+				partialStartIndex, QueryCloseBehavior.AUTO_CLOSE, zoneName);
+
+		if (key != null) {
+			queryResultCache.cache(key, resultSet);
+		}
+		return resultSet;
 	}
 
 	/*
@@ -197,7 +456,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet getMoreResults(final IRODSQueryResultSet irodsQueryResultSet)
 			throws JargonException, JargonQueryException {
 
-		log.info("getting more results for query");
+		log.debug("getting more results for query");
 		if (irodsQueryResultSet == null) {
 			throw new JargonException("null irodsQueryResultSet");
 		}
@@ -222,7 +481,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	public IRODSQueryResultSet getMoreResultsInZone(final IRODSQueryResultSet irodsQueryResultSet,
 			final String zoneName) throws JargonException, JargonQueryException {
 
-		log.info("getting more results for query");
+		log.debug("getting more results for query");
 		if (irodsQueryResultSet == null) {
 			throw new JargonException("null irodsQueryResultSet");
 		}
@@ -246,7 +505,7 @@ public final class IRODSGenQueryExecutorImpl extends IRODSGenericAO implements I
 	@Override
 	public void closeResults(final IRODSQueryResultSet irodsQueryResultSet) throws JargonException {
 
-		log.info("closeResults()");
+		log.debug("closeResults()");
 		GenQueryProcessor genQueryProcessor = new GenQueryProcessor(getIRODSProtocol());
 		genQueryProcessor.closeResults(irodsQueryResultSet);
 	}
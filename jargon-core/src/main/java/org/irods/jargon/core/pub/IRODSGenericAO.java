@@ -3,11 +3,13 @@
  */
 package org.irods.jargon.core.pub;
 
+import org.irods.jargon.core.connection.AccessControlCache;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
 import org.irods.jargon.core.connection.IRODSServerProperties;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.JargonProperties;
+import org.irods.jargon.core.connection.QueryResultCache;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.packinstr.OperationComplete;
 import org.irods.jargon.core.packinstr.Tag;
@@ -228,6 +230,49 @@ public abstract class IRODSGenericAO implements IRODSAccessObject {
 
 	}
 
+	/**
+	 * Invalidate cached catalog query results that read any of the given
+	 * categories, if the query result cache is turned on. Called by access
+	 * objects that change resources, users or groups.
+	 *
+	 * @param categories {@link QueryResultCache.Category} values that have
+	 *                   changed
+	 */
+	protected void invalidateCachedQueryResults(final QueryResultCache.Category... categories) {
+		QueryResultCache queryResultCache = irodsSession.getQueryResultCache();
+		if (queryResultCache == null) {
+			return;
+		}
+
+		queryResultCache.invalidate(irodsAccount.getHost(), irodsAccount.getZone(), categories);
+	}
+
+	/**
+	 * If the ACL cache is in use, drop any cached permissions for the given path.
+	 * Called by access objects after they modify permissions.
+	 *
+	 * @param absolutePath         {@code String} with the iRODS absolute path as
+	 *                             requested by the caller
+	 * @param resolvedAbsolutePath {@code String} with the path after resolving
+	 *                             soft links, which may be the same as the
+	 *                             requested path
+	 * @param recursive            {@code boolean} indicating that permissions
+	 *                             under the path may have changed as well
+	 */
+	protected void invalidateCachedPermissionsForPath(final String absolutePath, final String resolvedAbsolutePath,
+			final boolean recursive) {
+		AccessControlCache accessControlCache = irodsSession.getAccessControlCache();
+		if (accessControlCache == null) {
+			return;
+		}
+
+		accessControlCache.invalidatePath(irodsAccount.getHost(), irodsAccount.getZone(), absolutePath, recursive);
+		if (!absolutePath.equals(resolvedAbsolutePath)) {
+			accessControlCache.invalidatePath(irodsAccount.getHost(), irodsAccount.getZone(), resolvedAbsolutePath,
+					recursive);
+		}
+	}
+
 	/**
 	 * This method serves as a shim to inject an {@link IRODSAccessObjectFactory}
 	 * when testing. While this is a code smell, it is a small one. The use of this
@@ -96,6 +96,42 @@ public class ListAndCount {
 		this.offsetStart = offsetStart;
 	}
 
+	/**
+	 * Set the total count from what is already known, so that a separate count
+	 * query is only needed when nothing is. The total is taken, in order, from the
+	 * total records iRODS returned with the page (for queries that ask for the
+	 * total row count), from the given total already known for the listing, or
+	 * from the record number of the last entry when the page is the last one. The
+	 * entries are set first.
+	 *
+	 * @param knownTotal
+	 *            {@code int} with a total already known for the listing, for
+	 *            example from the descriptor of an earlier page, or {@code 0} if
+	 *            not known
+	 * @return {@code boolean} of {@code true} if the total was set, {@code false}
+	 *         if it has to be counted
+	 */
+	public boolean resolveCountTotal(final int knownTotal) {
+		if (collectionAndDataObjectListingEntries == null || collectionAndDataObjectListingEntries.isEmpty()) {
+			countTotal = 0;
+			return true;
+		}
+
+		CollectionAndDataObjectListingEntry lastEntry = collectionAndDataObjectListingEntries
+				.get(collectionAndDataObjectListingEntries.size() - 1);
+
+		if (lastEntry.getTotalRecords() > 0) {
+			countTotal = lastEntry.getTotalRecords();
+		} else if (knownTotal > 0) {
+			countTotal = knownTotal;
+		} else if (lastEntry.isLastResult()) {
+			countTotal = lastEntry.getCount();
+		} else {
+			return false;
+		}
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
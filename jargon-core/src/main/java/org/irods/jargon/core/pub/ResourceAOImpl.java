@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.QueryResultCache.Category;
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
 import org.irods.jargon.core.exception.InvalidResourceException;
@@ -113,6 +114,7 @@ public final class ResourceAOImpl extends IRODSGenericAO implements ResourceAO {
 		GeneralAdminInpForResources adminPI = GeneralAdminInpForResources.instanceForAddResource(resource);
 		log.debug("executing admin PI");
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.RESOURCE);
 		getIRODSAccessObjectFactory().closeSession(getIRODSAccount());
 
 		log.info("complete");
@@ -164,6 +166,7 @@ public final class ResourceAOImpl extends IRODSGenericAO implements ResourceAO {
 		GeneralAdminInpForResources adminPI = GeneralAdminInpForResources.instanceForModifyResource(resource, what);
 		log.debug("executing admin PI");
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.RESOURCE);
 		getIRODSAccessObjectFactory().closeSession(getIRODSAccount());
 
 		log.info("complete");
@@ -188,6 +191,7 @@ public final class ResourceAOImpl extends IRODSGenericAO implements ResourceAO {
 		} catch (DataNotFoundException e) {
 			log.warn("data not found deleting resource, silently ignore", e);
 		}
+		invalidateCachedQueryResults(Category.RESOURCE);
 		getIRODSAccessObjectFactory().closeSession(getIRODSAccount());
 
 		log.info("complete");
@@ -237,6 +241,7 @@ public final class ResourceAOImpl extends IRODSGenericAO implements ResourceAO {
 				throw e;
 			}
 		}
+		invalidateCachedQueryResults(Category.RESOURCE);
 		getIRODSAccessObjectFactory().closeSession(getIRODSAccount());
 
 		log.info("complete");
@@ -272,6 +277,7 @@ public final class ResourceAOImpl extends IRODSGenericAO implements ResourceAO {
 				parent);
 		log.debug("executing admin PI");
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.RESOURCE);
 		getIRODSAccessObjectFactory().closeSession(getIRODSAccount());
 
 		log.info("complete");
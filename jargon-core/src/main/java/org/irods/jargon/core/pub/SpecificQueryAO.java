@@ -9,6 +9,7 @@ import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.domain.SpecificQueryDefinition;
 import org.irods.jargon.core.query.IRODSQueryResultSet;
 import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.RowHandler;
 import org.irods.jargon.core.query.SpecificQuery;
 import org.irods.jargon.core.query.SpecificQueryResultSet;
 
@@ -207,6 +208,55 @@ public interface SpecificQueryAO extends IRODSAccessObject {
 	SpecificQueryResultSet executeSpecificQueryUsingSql(SpecificQuery specificQuery, int maxRows, int userDefinedOffset)
 			throws DataNotFoundException, JargonException, JargonQueryException;
 
+	/**
+	 * Execute a specific query by alias to the end, handing each row to the given
+	 * {@link RowHandler} as each page of results arrives, rather than building
+	 * result sets. Memory use stays at one page however many rows the query
+	 * returns. The query is closed in iRODS when the handler returns
+	 * {@code false} or throws.
+	 *
+	 * @param specificQuery
+	 *            {@link SpecificQuery} that defines the query alias, and any
+	 *            associated parameters to use
+	 * @param pageSize
+	 *            {@code int} with the number of rows to ask for in each page
+	 * @param rowHandler
+	 *            {@link RowHandler} to receive the rows
+	 * @return {@code long} with the number of rows handed to the handler
+	 * @throws DataNotFoundException
+	 *             if the alias cannot be located
+	 * @throws JargonException
+	 *             general exception, or from the handler
+	 * @throws JargonQueryException
+	 *             exception in the forumulation of the query
+	 */
+	long executeSpecificQueryUsingAliasStreaming(SpecificQuery specificQuery, int pageSize, RowHandler rowHandler)
+			throws DataNotFoundException, JargonException, JargonQueryException;
+
+	/**
+	 * Execute a specific query by providing the exact sql that was registered in
+	 * iRODS to the end, handing each row to the given {@link RowHandler} as each
+	 * page of results arrives, see
+	 * {@link #executeSpecificQueryUsingAliasStreaming(SpecificQuery, int, RowHandler)}
+	 *
+	 * @param specificQuery
+	 *            {@link SpecificQuery} that defines the query sql, and any
+	 *            associated parameters to use
+	 * @param pageSize
+	 *            {@code int} with the number of rows to ask for in each page
+	 * @param rowHandler
+	 *            {@link RowHandler} to receive the rows
+	 * @return {@code long} with the number of rows handed to the handler
+	 * @throws DataNotFoundException
+	 *             if no rows are found
+	 * @throws JargonException
+	 *             general exception, or from the handler
+	 * @throws JargonQueryException
+	 *             exception in the forumulation of the query
+	 */
+	long executeSpecificQueryUsingSqlStreaming(SpecificQuery specificQuery, int pageSize, RowHandler rowHandler)
+			throws DataNotFoundException, JargonException, JargonQueryException;
+
 	/**
 	 * Given a portion of a query alias, find matching specific queries as stored in
 	 * iRODS. Note that wildcards in the 'like' statement are not imposed by this
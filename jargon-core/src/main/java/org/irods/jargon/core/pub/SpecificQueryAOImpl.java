@@ -17,8 +17,10 @@ import org.irods.jargon.core.pub.domain.SpecificQueryDefinition;
 import org.irods.jargon.core.query.IRODSQueryResultRow;
 import org.irods.jargon.core.query.JargonQueryException;
 import org.irods.jargon.core.query.QueryResultProcessingUtils;
+import org.irods.jargon.core.query.RowHandler;
 import org.irods.jargon.core.query.SpecificQuery;
 import org.irods.jargon.core.query.SpecificQueryResultSet;
+import org.irods.jargon.core.query.StreamingQueryRow;
 import org.irods.jargon.core.utils.MiscIRODSUtils;
 import org.irods.jargon.core.utils.Overheaded;
 import org.slf4j.Logger;
@@ -574,6 +576,113 @@ public class SpecificQueryAOImpl extends IRODSGenericAO implements SpecificQuery
 
 	}
 
+	@Override
+	public long executeSpecificQueryUsingAliasStreaming(final SpecificQuery specificQuery, final int pageSize,
+			final RowHandler rowHandler) throws DataNotFoundException, JargonException, JargonQueryException {
+
+		log.info("executeSpecificQueryUsingAliasStreaming()");
+		if (specificQuery == null) {
+			throw new IllegalArgumentException("null specific query");
+		}
+
+		checkSupportForSpecificQuery();
+
+		SpecificQueryDefinition specificQueryDefinition = findSpecificQueryByAlias(specificQuery.getQueryString(),
+				specificQuery.getZoneHint());
+
+		if (specificQuery.getArguments().size() != specificQueryDefinition.getArgumentCount()) {
+			log.error("number of parameters in query does not match number of parameters provided");
+			throw new JargonQueryException("mismatch between query parameters and number of arguments provided");
+		}
+
+		return streamSpecificQuery(specificQuery, pageSize, specificQueryDefinition.getColumnNames(), rowHandler,
+				true);
+	}
+
+	@Override
+	public long executeSpecificQueryUsingSqlStreaming(final SpecificQuery specificQuery, final int pageSize,
+			final RowHandler rowHandler) throws DataNotFoundException, JargonException, JargonQueryException {
+
+		log.info("executeSpecificQueryUsingSqlStreaming()");
+		if (specificQuery == null) {
+			throw new IllegalArgumentException("null specific query");
+		}
+
+		checkSupportForSpecificQuery();
+
+		List<String> columnNames = SpecificQueryAOImpl.parseColumnNamesFromQuery(specificQuery.getQueryString());
+		int numberOfParameters = SpecificQueryAOImpl.countArgumentsInQuery(specificQuery.getQueryString());
+
+		if (specificQuery.getArguments().size() != numberOfParameters) {
+			log.error("number of parameters in query does not match number of parameters provided");
+			throw new JargonQueryException("mismatch between query parameters and number of arguments provided");
+		}
+
+		return streamSpecificQuery(specificQuery, pageSize, columnNames, rowHandler, false);
+	}
+
+	/**
+	 * Run a specific query to the end, handing each row to the handler as each
+	 * page is decoded, and closing the query if the handler stops early or fails
+	 *
+	 * @param noRowsIsEmpty {@code boolean} of {@code true} if a no rows error from
+	 *                      iRODS is an empty result, as for a query by alias
+	 */
+	private long streamSpecificQuery(final SpecificQuery specificQuery, final int pageSize,
+			final List<String> columnNames, final RowHandler rowHandler, final boolean noRowsIsEmpty)
+			throws JargonException {
+
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("pageSize must be > 0");
+		}
+
+		if (rowHandler == null) {
+			throw new IllegalArgumentException("null rowHandler");
+		}
+
+		StreamingQueryRow row = new StreamingQueryRow(columnNames);
+		int continuation = specificQuery.getContinuationValue();
+		boolean keepGoing = true;
+		boolean failed = true;
+		try {
+			do {
+				SpecificQueryInp specificQueryInp = SpecificQueryInp.instance(specificQuery.getArguments(),
+						specificQuery.getQueryString(), pageSize, continuation, specificQuery.getZoneHint());
+				Tag response;
+				try {
+					response = getIRODSProtocol().irodsFunction(specificQueryInp);
+				} catch (DataNotFoundException e) {
+					continuation = 0;
+					if (noRowsIsEmpty || row.getRecordCount() > 0) {
+						log.debug("no more results from iRODS");
+						break;
+					}
+					throw e;
+				}
+
+				continuation = QueryResultProcessingUtils.getContinuationValue(response);
+				keepGoing = QueryResultProcessingUtils.streamResponseIntoHandler(response, row, continuation,
+						rowHandler);
+			} while (keepGoing && continuation > 0);
+			failed = false;
+		} finally {
+			if (continuation > 0) {
+				log.debug("closing streamed specific query stopped at record:{}", row.getRecordCount());
+				try {
+					getIRODSProtocol().irodsFunction(SpecificQueryInp.instanceForClose(continuation));
+				} catch (JargonException e) {
+					if (!failed) {
+						throw e;
+					}
+					log.warn("error closing failed streamed specific query, keeping the original error", e);
+				}
+			}
+		}
+
+		log.debug("streamed {} rows", row.getRecordCount());
+		return row.getRecordCount();
+	}
+
 	/**
 	 * Close the result set associated with the given specific query. This will
 	 * ignore calls if no continuation was in the result set.
@@ -87,13 +87,13 @@ final class TransferOperationsHelper {
 			final TransferControlBlock transferControlBlock)
 			throws OverwriteException, FileNotFoundException, JargonException {
 
-		log.info("recursively getting source file: {}", irodsSourceFile.getAbsolutePath());
-		log.info("    into iRODS file: {}", targetLocalFile.getAbsolutePath());
+		log.debug("recursively getting source file: {}", irodsSourceFile.getAbsolutePath());
+		log.debug("    into iRODS file: {}", targetLocalFile.getAbsolutePath());
 
 		for (File fileInSourceCollection : irodsSourceFile.listFiles()) {
 
 			if (Thread.interrupted()) {
-				log.info("cancellation detected, set cancelled in tcb");
+				log.debug("cancellation detected, set cancelled in tcb");
 				transferControlBlock.setCancelled(true);
 			}
 
@@ -111,7 +111,7 @@ final class TransferOperationsHelper {
 
 			// check for a cancel or pause at the top of the loop
 			if (transferControlBlock.isCancelled() || transferControlBlock.isPaused()) {
-				log.info("transfer cancelled or paused");
+				log.debug("transfer cancelled or paused");
 				if (transferStatusCallbackListener != null) {
 					TransferState interruptStatus;
 					if (transferControlBlock.shouldTransferBeAbandonedDueToNumberOfErrors()) {
@@ -144,7 +144,7 @@ final class TransferOperationsHelper {
 					sb.append(targetLocalFile.getAbsolutePath());
 					sb.append('/');
 					sb.append(fileInSourceCollection.getName());
-					log.info("recursively creating parent directory in local file system at: {}", sb.toString());
+					log.debug("recursively creating parent directory in local file system at: {}", sb.toString());
 
 					File newSubCollection = new File(sb.toString());
 					boolean success = newSubCollection.mkdirs();
@@ -167,7 +167,7 @@ final class TransferOperationsHelper {
 			} catch (Exception e) {
 				if (!transferControlBlock.isCancelled()) {
 
-					log.info("unanticipated exception will be transformed into a Jargon exception", e);
+					log.debug("unanticipated exception will be transformed into a Jargon exception", e);
 					throw new JargonException(e);
 				}
 			}
@@ -203,7 +203,7 @@ final class TransferOperationsHelper {
 			final TransferControlBlock transferControlBlock)
 			throws OverwriteException, FileNotFoundException, JargonException {
 
-		log.info("processGetOfSingleFile()");
+		log.debug("processGetOfSingleFile()");
 
 		if (irodsSourceFile == null) {
 			throw new IllegalArgumentException("null irodsSourceFile");
@@ -229,14 +229,14 @@ final class TransferOperationsHelper {
 			targetLocalFileAsFile = targetLocalFile;
 		}
 
-		log.info("get of single file...filtered?");
+		log.debug("get of single file...filtered?");
 
 		int totalFiles = 0;
 
 		totalFiles = transferControlBlock.getTotalFilesToTransfer();
 
 		if (!transferControlBlock.filter(irodsSourceFile.getAbsolutePath())) {
-			log.info("file is filtered and discarded: {}", irodsSourceFile.getAbsolutePath());
+			log.debug("file is filtered and discarded: {}", irodsSourceFile.getAbsolutePath());
 
 			transferControlBlock.incrementFilesSkippedSoFar();
 
@@ -254,7 +254,7 @@ final class TransferOperationsHelper {
 
 		// may have returned above if filtered
 
-		log.info("filter passed, process...");
+		log.debug("filter passed, process...");
 
 		try {
 
@@ -274,7 +274,7 @@ final class TransferOperationsHelper {
 
 				FileStatusCallbackResponse response = transferStatusCallbackListener.statusCallback(status);
 				if (response == FileStatusCallbackResponse.SKIP) {
-					log.info("file signalled as skipped in callback response:{}", irodsSourceFile.getAbsolutePath());
+					log.debug("file signalled as skipped in callback response:{}", irodsSourceFile.getAbsolutePath());
 					transferControlBlock.incrementFilesSkippedSoFar();
 					status = TransferStatus.instance(TransferType.GET, irodsSourceFile.getAbsolutePath(),
 							targetLocalFileAsFile.getAbsolutePath(), "", 0, 0,
@@ -388,9 +388,9 @@ final class TransferOperationsHelper {
 			throw new JargonException("source file is not a directory, cannot recursively put");
 		}
 
-		log.info("recursively putting source file: {}", sourceFile.getAbsolutePath());
-		log.info("    into iRODS file: {}", targetIrodsCollection.getAbsolutePath());
-		log.info("     to resource:{}", targetIrodsCollection.getResource());
+		log.debug("recursively putting source file: {}", sourceFile.getAbsolutePath());
+		log.debug("    into iRODS file: {}", targetIrodsCollection.getAbsolutePath());
+		log.debug("     to resource:{}", targetIrodsCollection.getResource());
 
 		try {
 			File[] files = sourceFile.listFiles();
@@ -398,13 +398,13 @@ final class TransferOperationsHelper {
 				for (File fileInSourceCollection : files) {
 
 					if (Thread.interrupted()) {
-						log.info("cancellation detected, set cancelled in tcb");
+						log.debug("cancellation detected, set cancelled in tcb");
 						transferControlBlock.setCancelled(true);
 					}
 
 					// check for a cancel or pause at the top of the loop
 					if (transferControlBlock.isCancelled() || transferControlBlock.isPaused()) {
-						log.info("will notify pause or cancel for this put");
+						log.debug("will notify pause or cancel for this put");
 						notifyPauseOrCancelCallbackForPut(targetIrodsCollection, transferStatusCallbackListener,
 								transferControlBlock, fileInSourceCollection);
 						break;
@@ -432,7 +432,7 @@ final class TransferOperationsHelper {
 			}
 		} catch (Exception e) {
 			if (!transferControlBlock.isCancelled()) {
-				log.info("unanticipated exception will be transformed into a Jargon exception", e);
+				log.debug("unanticipated exception will be transformed into a Jargon exception", e);
 				throw new JargonException(e);
 			}
 		}
@@ -456,7 +456,7 @@ final class TransferOperationsHelper {
 			final TransferStatusCallbackListener transferStatusCallbackListener,
 			final TransferControlBlock transferControlBlock, final File fileInSourceCollection) throws JargonException {
 
-		log.info("transfer cancelled or paused, signal with a callback");
+		log.debug("transfer cancelled or paused, signal with a callback");
 		if (transferStatusCallbackListener != null) {
 
 			TransferState interruptStatus;
@@ -475,7 +475,7 @@ final class TransferOperationsHelper {
 					transferControlBlock.getTotalFilesSkippedSoFar(), transferControlBlock.getTotalFilesToTransfer(),
 					interruptStatus, dataObjectAO.getIRODSAccount().getHost(),
 					dataObjectAO.getIRODSAccount().getZone());
-			log.info("status callback for cancel:{}", status);
+			log.debug("status callback for cancel:{}", status);
 			transferStatusCallbackListener.statusCallback(status);
 		}
 	}
@@ -517,7 +517,7 @@ final class TransferOperationsHelper {
 					filesSkippedSoFar, totalFiles, je, dataObjectAO.getIRODSAccount().getHost(),
 					dataObjectAO.getIRODSAccount().getZone());
 
-			log.info("status callback to be sent for error:{}", status);
+			log.debug("status callback to be sent for error:{}", status);
 			transferStatusCallbackListener.statusCallback(status);
 
 		} else {
@@ -544,7 +544,7 @@ final class TransferOperationsHelper {
 		sb.append(targetIrodsCollection.getAbsolutePath());
 		sb.append('/');
 		sb.append(fileInSourceCollection.getName());
-		log.info("recursively creating parent directory in irods at: {}", sb.toString());
+		log.debug("recursively creating parent directory in irods at: {}", sb.toString());
 
 		IRODSFile newSubCollection = collectionAO.instanceIRODSFileForCollectionPath(sb.toString());
 		newSubCollection.setResource(targetIrodsCollection.getResource());
@@ -604,19 +604,19 @@ final class TransferOperationsHelper {
 			throw new JargonException("source file is not a directory, cannot recursively replicate");
 		}
 
-		log.info("recursively replicating source file: {}", sourceFile.getAbsolutePath());
-		log.info("    into resource: {}", targetResource);
+		log.debug("recursively replicating source file: {}", sourceFile.getAbsolutePath());
+		log.debug("    into resource: {}", targetResource);
 
 		for (File fileInSourceCollection : sourceFile.listFiles()) {
 
 			if (Thread.interrupted()) {
-				log.info("cancellation detected, set cancelled in tcb");
+				log.debug("cancellation detected, set cancelled in tcb");
 				transferControlBlock.setCancelled(true);
 			}
 
 			// check for a cancel or pause at the top of the loop
 			if (transferControlBlock.isCancelled() || transferControlBlock.isPaused()) {
-				log.info("transfer cancelled or paused");
+				log.debug("transfer cancelled or paused");
 				if (transferStatusCallbackListener != null) {
 					TransferState interruptStatus;
 					if (transferControlBlock.shouldTransferBeAbandonedDueToNumberOfErrors()) {
@@ -646,7 +646,7 @@ final class TransferOperationsHelper {
 
 				// a pause will need to bubble back up
 				if (transferControlBlock.isCancelled() || transferControlBlock.isPaused()) {
-					log.info("returning, is paused or cancelled");
+					log.debug("returning, is paused or cancelled");
 					break;
 				}
 
@@ -735,7 +735,7 @@ final class TransferOperationsHelper {
 			final TransferControlBlock transferControlBlock)
 			throws OverwriteException, DataNotFoundException, JargonException {
 
-		log.info("put of single file");
+		log.debug("put of single file");
 
 		if (sourceFile == null) {
 			throw new IllegalArgumentException("null sourceFile");
@@ -801,7 +801,7 @@ final class TransferOperationsHelper {
 
 				FileStatusCallbackResponse response = transferStatusCallbackListener.statusCallback(status);
 				if (response == FileStatusCallbackResponse.SKIP) {
-					log.info("file signalled as skipped in callback response:{}", sourceFile.getAbsolutePath());
+					log.debug("file signalled as skipped in callback response:{}", sourceFile.getAbsolutePath());
 					transferControlBlock.incrementFilesSkippedSoFar();
 
 					status = TransferStatus.instance(TransferType.PUT, sourceFile.getAbsolutePath(),
@@ -887,10 +887,10 @@ final class TransferOperationsHelper {
 	void processReplicationOfSingleFile(final String irodsFileAbsolutePath, final String targetResource,
 			final TransferStatusCallbackListener transferStatusCallbackListener,
 			final TransferControlBlock transferControlBlock) throws JargonException {
-		log.info("replicate single file");
+		log.debug("replicate single file");
 
 		if (!transferControlBlock.filter(irodsFileAbsolutePath)) {
-			log.info("file is filtered and discarded: {}", irodsFileAbsolutePath);
+			log.debug("file is filtered and discarded: {}", irodsFileAbsolutePath);
 			transferControlBlock.incrementFilesSkippedSoFar();
 			TransferStatus status = TransferStatus.instance(TransferType.REPLICATE, irodsFileAbsolutePath, "",
 					targetResource, 0, 0, transferControlBlock.getTotalFilesTransferredSoFar(),
@@ -901,13 +901,13 @@ final class TransferOperationsHelper {
 			return;
 		}
 
-		log.info("filter passed, process...");
+		log.debug("filter passed, process...");
 
 		try {
 
 			dataObjectAO.replicateIrodsDataObject(irodsFileAbsolutePath, targetResource);
 
-			log.info("replicate successful for file: {}", irodsFileAbsolutePath);
+			log.debug("replicate successful for file: {}", irodsFileAbsolutePath);
 			transferControlBlock.incrementFilesTransferredSoFar();
 
 			// I do not track length during a replication
@@ -974,21 +974,21 @@ final class TransferOperationsHelper {
 			throw new JargonException("source file is not a directory, cannot recursively copy");
 		}
 
-		log.info("recursively copying source file: {}", irodsSourceFile.getAbsolutePath());
-		log.info("to target file: {}", targetIrodsFileAbsolutePath);
-		log.info("resource: {}", targetResource);
+		log.debug("recursively copying source file: {}", irodsSourceFile.getAbsolutePath());
+		log.debug("to target file: {}", targetIrodsFileAbsolutePath);
+		log.debug("resource: {}", targetResource);
 		IRODSFile childTargetFile = null;
 
 		for (File fileInSourceCollection : irodsSourceFile.listFiles()) {
 
 			if (Thread.interrupted()) {
-				log.info("cancellation detected, set cancelled in tcb");
+				log.debug("cancellation detected, set cancelled in tcb");
 				transferControlBlock.setCancelled(true);
 			}
 
 			// check for a cancel or pause at the top of the loop
 			if (transferControlBlock.isCancelled() || transferControlBlock.isPaused()) {
-				log.info("transfer cancelled or paused");
+				log.debug("transfer cancelled or paused");
 				if (transferStatusCallbackListener != null) {
 					TransferState interruptStatus;
 					if (transferControlBlock.shouldTransferBeAbandonedDueToNumberOfErrors()) {
@@ -1066,15 +1066,15 @@ final class TransferOperationsHelper {
 			final TransferControlBlock transferControlBlock)
 			throws OverwriteException, DataNotFoundException, JargonException {
 
-		log.info("processCopyOfSingleFile()");
-		log.info("irodsSourceFileAbsolutePath:{}", irodsSourceFileAbsolutePath);
-		log.info("targetResource:{}", targetResource);
-		log.info("irodsTargetFileAbsolutePath:{}", irodsTargetFileAbsolutePath);
+		log.debug("processCopyOfSingleFile()");
+		log.debug("irodsSourceFileAbsolutePath:{}", irodsSourceFileAbsolutePath);
+		log.debug("targetResource:{}", targetResource);
+		log.debug("irodsTargetFileAbsolutePath:{}", irodsTargetFileAbsolutePath);
 
 		try {
 
 			if (!transferControlBlock.filter(irodsSourceFileAbsolutePath)) {
-				log.info("file is filtered and discarded: {}", irodsTargetFileAbsolutePath);
+				log.debug("file is filtered and discarded: {}", irodsTargetFileAbsolutePath);
 				transferControlBlock.incrementFilesSkippedSoFar();
 				TransferStatus status = TransferStatus.instance(TransferType.COPY, irodsSourceFileAbsolutePath,
 						irodsTargetFileAbsolutePath, targetResource, 0, 0,
@@ -1086,7 +1086,7 @@ final class TransferOperationsHelper {
 				return;
 			}
 
-			log.info("filter passed, process...");
+			log.debug("filter passed, process...");
 
 			IRODSFile irodsSourceFile = dataObjectAO.getIRODSFileFactory()
 					.instanceIRODSFile(irodsSourceFileAbsolutePath);
@@ -1095,7 +1095,7 @@ final class TransferOperationsHelper {
 			irodsTargetFile.setResource(targetResource);
 			dataObjectAO.copyIRODSDataObject(irodsSourceFile, irodsTargetFile, transferControlBlock,
 					transferStatusCallbackListener);
-			log.info("copy successful for file: {}", irodsSourceFileAbsolutePath);
+			log.debug("copy successful for file: {}", irodsSourceFileAbsolutePath);
 			transferControlBlock.incrementFilesTransferredSoFar();
 
 			// I do not track length during a copy
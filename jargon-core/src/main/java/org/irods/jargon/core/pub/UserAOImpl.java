@@ -8,6 +8,7 @@ import java.util.List;
 
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.QueryResultCache.Category;
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
 import org.irods.jargon.core.exception.InvalidUserException;
@@ -205,6 +206,8 @@ public final class UserAOImpl extends IRODSGenericAO implements UserAO {
 					"no more rules interpereted as duplicate data exception for backwards compatibility");
 		}
 
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN, Category.USER_GROUP);
+
 		log.debug("user added, now process other fields");
 
 		if (!user.getComment().isEmpty()) {
@@ -567,6 +570,7 @@ public final class UserAOImpl extends IRODSGenericAO implements UserAO {
 		}
 
 		log.info("user {} removed", userName);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN, Category.USER_GROUP);
 	}
 
 	/*
@@ -938,6 +942,7 @@ public final class UserAOImpl extends IRODSGenericAO implements UserAO {
 	private void updateUserType(final User user) throws JargonException {
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForModifyUserType(user.getName(), user.getUserType());
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN, Category.USER_GROUP);
 	}
 
 	/*
@@ -964,6 +969,7 @@ public final class UserAOImpl extends IRODSGenericAO implements UserAO {
 
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForModifyUserDN(userName, userDN);
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN);
 	}
 
 	@Override
@@ -984,21 +990,25 @@ public final class UserAOImpl extends IRODSGenericAO implements UserAO {
 
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForRemoveUserDN(userName, userDN);
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN);
 	}
 
 	private void updateUserZone(final User user) throws JargonException {
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForModifyUserZone(user.getName(), user.getZone());
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN, Category.USER_GROUP);
 	}
 
 	private void updateUserComment(final User user) throws JargonException {
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForModifyUserComment(user.getName(), user.getComment());
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN);
 	}
 
 	private void updateUserInfo(final User user) throws JargonException {
 		GeneralAdminInp adminPI = GeneralAdminInp.instanceForModifyUserInfo(user.getName(), user.getInfo());
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER, Category.USER_DN);
 	}
 
 	private IRODSGenQueryExecutor getGenQueryExecutor() throws JargonException {
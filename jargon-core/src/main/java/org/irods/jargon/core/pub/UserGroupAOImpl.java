@@ -3,8 +3,10 @@ package org.irods.jargon.core.pub;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.irods.jargon.core.connection.AccessControlCache;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.QueryResultCache.Category;
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
 import org.irods.jargon.core.exception.InvalidGroupException;
@@ -88,6 +90,7 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 					"no more rules exception will be treated as duplicate user to normalize behavior for pre-2.5 iRODS servers");
 			throw new DuplicateDataException("no more rules exception interpreted as duplicate user", nmr);
 		}
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
 	}
 
 	@Override
@@ -125,6 +128,7 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 					"no more rules exception will be treated as duplicate user to normalize behavior for pre-2.5 iRODS servers");
 			throw new DuplicateDataException("no more rules exception interpreted as duplicate user", nmr);
 		}
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
 	}
 
 	@Override
@@ -187,6 +191,9 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 			log.debug("no more rules exception interpereted as user does not exist, just behave as if deleted");
 		}
 
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
+		invalidateAccessControlCache();
+
 	}
 
 	/*
@@ -463,6 +470,16 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 			return findUserGroups(userName);
 		}
 
+		AccessControlCache accessControlCache = getIRODSSession().getAccessControlCache();
+		if (accessControlCache != null) {
+			List<UserGroup> cached = accessControlCache.retrieveUserGroups(getIRODSAccount().getHost(),
+					getIRODSAccount().getZone(), userName, targetZone);
+			if (cached != null) {
+				log.debug("user groups found in acl cache");
+				return cached;
+			}
+		}
+
 		String zoneFromUserName = MiscIRODSUtils.getZoneInUserName(userName);
 		String userFromUserName = MiscIRODSUtils.getUserInUserName(userName);
 
@@ -516,6 +533,11 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 			userGroups.add(buildUserGroupFromResultSet(row));
 		}
 
+		if (accessControlCache != null) {
+			accessControlCache.cacheUserGroups(getIRODSAccount().getHost(), getIRODSAccount().getZone(), userName,
+					targetZone, userGroups);
+		}
+
 		return userGroups;
 	}
 
@@ -527,6 +549,16 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 
 		log.info("find user group with user name: {}", userName);
 
+		AccessControlCache accessControlCache = getIRODSSession().getAccessControlCache();
+		if (accessControlCache != null) {
+			List<UserGroup> cached = accessControlCache.retrieveUserGroups(getIRODSAccount().getHost(),
+					getIRODSAccount().getZone(), userName, "");
+			if (cached != null) {
+				log.debug("user groups found in acl cache");
+				return cached;
+			}
+		}
+
 		IRODSGenQueryExecutor irodsGenQueryExecutor = getGenQueryExecutor();
 
 		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
@@ -563,6 +595,11 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 			userGroups.add(buildUserGroupFromResultSet(row));
 		}
 
+		if (accessControlCache != null) {
+			accessControlCache.cacheUserGroups(getIRODSAccount().getHost(), getIRODSAccount().getZone(), userName,
+					"", userGroups);
+		}
+
 		return userGroups;
 	}
 
@@ -646,6 +683,8 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 		log.debug("executing admin PI");
 
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
+		invalidateAccessControlCache();
 	}
 
 	@Override
@@ -676,6 +715,8 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 		log.debug("executing admin PI");
 
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
+		invalidateAccessControlCache();
 	}
 
 	@Override
@@ -707,7 +748,20 @@ public final class UserGroupAOImpl extends IRODSGenericAO implements UserGroupAO
 		log.debug("executing admin PI");
 
 		getIRODSProtocol().irodsFunction(adminPI);
+		invalidateCachedQueryResults(Category.USER_GROUP, Category.USER);
+		invalidateAccessControlCache();
+
+	}
 
+	/**
+	 * Group membership changes can alter effective permissions anywhere, so clear
+	 * the ACL cache, if in use
+	 */
+	private void invalidateAccessControlCache() {
+		AccessControlCache accessControlCache = getIRODSSession().getAccessControlCache();
+		if (accessControlCache != null) {
+			accessControlCache.invalidateAll();
+		}
 	}
 
 	private IRODSGenQueryBuilder buildUserGroupSelects(final IRODSGenQueryBuilder builder)
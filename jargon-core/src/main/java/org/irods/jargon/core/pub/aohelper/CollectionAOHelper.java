@@ -98,6 +98,28 @@ public class CollectionAOHelper extends AOHelper {
 				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_TYPE);
 	}
 
+	/**
+	 * Add the selects for collection AVUs to the given builder, in the order
+	 * expected by
+	 * {@code AccessObjectQueryProcessingUtils.buildMetaDataAndDomainDataFromResultSetRow()}
+	 *
+	 * @param builder {@link IRODSGenQueryBuilder} to which the selects will be
+	 *                added
+	 * @return {@link IRODSGenQueryBuilder} with the selects added
+	 * @throws GenQueryBuilderException for query error
+	 */
+	public static IRODSGenQueryBuilder buildMetadataAndDomainDataSelectsByAppendingToBuilder(
+			final IRODSGenQueryBuilder builder) throws GenQueryBuilderException {
+		return builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_ID)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_CREATE_TIME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_MODIFY_TIME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_UNITS)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_COLL_ATTR_ID);
+	}
+
 	/**
 	 * Build a set of selects for collection metadata. This method does not add the
 	 * "select" statement or any trailing delimiter, and is handy when you want to
@@ -34,11 +34,31 @@ public class ObjStat {
 	 * lookup. In this case, the stand-ins are marked
 	 */
 	private boolean standInGeneratedObjStat = false;
+	/**
+	 * Marks a path that does not exist, as returned in batch lookups
+	 */
+	private boolean notFound = false;
 
 	public enum SpecColType {
 		NORMAL, STRUCT_FILE_COLL, MOUNTED_COLL, LINKED_COLL
 	}
 
+	/**
+	 * Create an {@code ObjStat} that marks a path as not found. This is used in
+	 * batch lookups, where a missing path is reported rather than thrown.
+	 *
+	 * @param absolutePath
+	 *            {@code String} with the iRODS absolute path that does not exist
+	 * @return {@link ObjStat} with {@link #isNotFound()} set
+	 */
+	public static ObjStat instanceForNotFound(final String absolutePath) {
+		ObjStat objStat = new ObjStat();
+		objStat.setAbsolutePath(absolutePath);
+		objStat.setObjectType(ObjectType.UNKNOWN);
+		objStat.setNotFound(true);
+		return objStat;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -115,6 +135,8 @@ public class ObjStat {
 		builder.append(replNumber);
 		builder.append(", standInGeneratedObjStat=");
 		builder.append(standInGeneratedObjStat);
+		builder.append(", notFound=");
+		builder.append(notFound);
 		builder.append("]");
 		return builder.toString();
 	}
@@ -396,4 +418,19 @@ public class ObjStat {
 		this.standInGeneratedObjStat = standInGeneratedObjStat;
 	}
 
+	/**
+	 * @return the notFound
+	 */
+	public boolean isNotFound() {
+		return notFound;
+	}
+
+	/**
+	 * @param notFound
+	 *            the notFound to set
+	 */
+	public void setNotFound(final boolean notFound) {
+		this.notFound = notFound;
+	}
+
 }
@@ -270,8 +270,8 @@ public class IRODSFileImpl extends File implements IRODSFile {
 			throw new NullPointerException("The file name cannot be null");
 		}
 
-		log.info("setting file name, given path = {}", filePath);
-		log.info("detected local separator = {}", localSeparator);
+		log.debug("setting file name, given path = {}", filePath);
+		log.debug("detected local separator = {}", localSeparator);
 
 		// replace local separators with iRODS separators.
 		if (!localSeparator.equals(PATH_SEPARATOR)) {
@@ -300,7 +300,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 			}
 		}
 
-		log.info("file name was set as: {}", fileName);
+		log.debug("file name was set as: {}", fileName);
 	}
 
 	/*
@@ -399,7 +399,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 					irodsFileSystemAO.directoryDeleteNoForce(this);
 				}
 			} catch (FileNotFoundException dnf) {
-				log.info("file not found, treat as unsuccessful");
+				log.debug("file not found, treat as unsuccessful");
 				successful = false;
 			} catch (JargonException e) {
 
@@ -436,7 +436,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 				irodsFileSystemAO.directoryDeleteForce(this);
 			}
 		} catch (FileNotFoundException fnf) {
-			log.info("file not found, treat as unsuccessful");
+			log.debug("file not found, treat as unsuccessful");
 			successful = false;
 		} catch (JargonException e) {
 			String msg = "JargonException caught and logged on delete:" + e.getMessage();
@@ -681,7 +681,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public boolean isDirectory() {
-		log.info("isDirectory() for path:{}", getAbsolutePath());
+		log.debug("isDirectory() for path:{}", getAbsolutePath());
 		boolean isDir = false;
 		try {
 
@@ -691,7 +691,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 				isDir = true;
 			}
 		} catch (FileNotFoundException fnf) {
-			log.info("file not found");
+			log.debug("file not found");
 		} catch (JargonException je) {
 			log.error("jargon exception, rethrow as unchecked", je);
 			throw new JargonRuntimeException(je);
@@ -708,7 +708,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	@Override
 	public boolean isFile() {
 
-		log.info("isFile() for path:{}", getAbsolutePath());
+		log.debug("isFile() for path:{}", getAbsolutePath());
 		boolean isFile = false;
 
 		try {
@@ -716,7 +716,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 			if (objStat == null) {
 
-				log.info("looking up objStat, not cached in file");
+				log.debug("looking up objStat, not cached in file");
 				objStat = irodsFileSystemAO.getObjStat(getAbsolutePath());
 			}
 
@@ -724,7 +724,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 				isFile = true;
 			}
 		} catch (FileNotFoundException fnf) {
-			log.info("file not found");
+			log.debug("file not found");
 		} catch (JargonException je) {
 			log.error("jargon exception, rethrow as unchecked", je);
 			throw new JargonRuntimeException(je);
@@ -760,7 +760,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public long lastModified() {
-		log.info("lastModified() for path:{}", getAbsolutePath());
+		log.debug("lastModified() for path:{}", getAbsolutePath());
 		long lastMod = 0L;
 		try {
 			ObjStat objStat = irodsFileSystemAO.getObjStat(getAbsolutePath());
@@ -783,7 +783,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	@Override
 	public long length() {
 
-		log.info("length() for path:{}", getAbsolutePath());
+		log.debug("length() for path:{}", getAbsolutePath());
 
 		long length = 0L;
 
@@ -918,7 +918,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 		try {
 			irodsFileSystemAO.mkdir(this, false);
 		} catch (DuplicateDataException e) {
-			log.info("duplicate data exception, return false from mkdir", e);
+			log.debug("duplicate data exception, return false from mkdir", e);
 			return false;
 		} catch (CatNoAccessException e) {
 			log.error("no access to create the given collection, false will be returned from method");
@@ -950,10 +950,10 @@ public class IRODSFileImpl extends File implements IRODSFile {
 			log.error("no access to create the given collection, false will be returned from method");
 			return false;
 		} catch (DuplicateDataException e) {
-			log.info("duplicate data exception, return false from mkdir", e);
+			log.debug("duplicate data exception, return false from mkdir", e);
 			return false;
 		} catch (JargonFileOrCollAlreadyExistsException e) {
-			log.info("duplicate data exception, return false from mkdir", e);
+			log.debug("duplicate data exception, return false from mkdir", e);
 			return false;
 		} catch (JargonException e) {
 			log.error("jargon exception, rethrow as unchecked", e);
@@ -984,8 +984,8 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 		IRODSFile destIRODSFile = dest;
 
-		if (log.isInfoEnabled()) {
-			log.info("renaming:" + getAbsolutePath() + " to:" + destIRODSFile.getAbsolutePath());
+		if (log.isDebugEnabled()) {
+			log.debug("renaming:" + getAbsolutePath() + " to:" + destIRODSFile.getAbsolutePath());
 		}
 
 		// if the path is different
@@ -995,7 +995,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 		} else {
 			// paths are the same, move to the new resource described by the
 			// dest file
-			log.info("doing a physical move");
+			log.debug("doing a physical move");
 			try {
 				irodsFileSystemAO.physicalMove(this, destIRODSFile.getResource());
 				success = true;
@@ -1009,7 +1009,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 	@Override
 	public boolean renameTo(final File dest) {
-		log.info("renameTo()");
+		log.debug("renameTo()");
 		if (dest == null) {
 			throw new IllegalArgumentException("dest is null");
 		}
@@ -1028,7 +1028,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	void renameFileOrDirectory(final IRODSFile destIRODSFile) throws JargonRuntimeException {
 		if (isDirectory()) {
-			log.info("paths different, and a directory is being renamed");
+			log.debug("paths different, and a directory is being renamed");
 			try {
 				irodsFileSystemAO.renameDirectory(this, destIRODSFile);
 			} catch (JargonException e) {
@@ -1036,7 +1036,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 				throw new JargonRuntimeException(e);
 			}
 		} else if (isFile()) {
-			log.info("paths different, and a file is being renamed");
+			log.debug("paths different, and a file is being renamed");
 			try {
 				irodsFileSystemAO.renameFile(this, destIRODSFile);
 			} catch (JargonException e) {
@@ -1183,7 +1183,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public URL toFileBasedURL() {
-		log.info("toFileBasedURL()");
+		log.debug("toFileBasedURL()");
 		StringBuilder sb = new StringBuilder();
 		sb.append("file://");
 		sb.append(getAbsolutePath());
@@ -1238,12 +1238,12 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 	private int openWithMode(final DataObjInp.OpenFlags openFlags) throws JargonException {
 
-		if (log.isInfoEnabled()) {
-			log.info("opening irodsFile:" + getAbsolutePath());
+		if (log.isDebugEnabled()) {
+			log.debug("opening irodsFile:" + getAbsolutePath());
 		}
 
 		if (getFileDescriptor() > 0) {
-			log.info("file is already open, use the given descriptor");
+			log.debug("file is already open, use the given descriptor");
 			return fileDescriptor;
 		}
 
@@ -1266,7 +1266,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	@Override
 	@Deprecated
 	public int openReadOnly() throws JargonException {
-		log.info("openReadOnly()");
+		log.debug("openReadOnly()");
 		return openWithMode(DataObjInp.OpenFlags.READ);
 	}
 
@@ -1277,7 +1277,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public int open() throws JargonException {
-		log.info("open()");
+		log.debug("open()");
 		return openWithMode(DataObjInp.OpenFlags.READ_WRITE);
 	}
 
@@ -1290,20 +1290,20 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public int open(final OpenFlags openFlags) throws JargonException {
-		log.info("open()");
+		log.debug("open()");
 		if (openFlags == null) {
 			throw new IllegalArgumentException("null openFlags");
 		}
 
 		this.openFlags = openFlags;
 
-		log.info("openFlags:{}", openFlags);
+		log.debug("openFlags:{}", openFlags);
 		return openWithMode(openFlags);
 	}
 
 	@Override
 	public int open(final OpenFlags openFlags, final boolean coordinated) throws JargonException {
-		log.info("open()");
+		log.debug("open()");
 
 		// FIXME: should I still mess w/replica tokens when a file is opened for read,
 		// etc?
@@ -1315,20 +1315,20 @@ public class IRODSFileImpl extends File implements IRODSFile {
 		this.openFlags = openFlags;
 		this.coordinated = coordinated;
 
-		log.info("openFlags:{}", openFlags);
-		log.info("coordinated:{}", coordinated);
+		log.debug("openFlags:{}", openFlags);
+		log.debug("coordinated:{}", coordinated);
 		return openWithMode(openFlags, coordinated);
 	}
 
 	public int openWithMode(OpenFlags openFlags, boolean coordinated) throws JargonException {
-		log.info("openWithMode()");
+		log.debug("openWithMode()");
 
-		log.info("openFlags:{}", openFlags);
-		log.info("coordinated:{}", coordinated);
+		log.debug("openFlags:{}", openFlags);
+		log.debug("coordinated:{}", coordinated);
 
 		/*
 		 * if (getFileDescriptor() > 0) {
-		 * log.info("file is already open, use the given descriptor"); return
+		 * log.debug("file is already open, use the given descriptor"); return
 		 * fileDescriptor; }
 		 */
 
@@ -1347,7 +1347,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	public void close(final boolean updateSize, final boolean updateStatus, final boolean computeChecksum,
 			final boolean sendNotifications, final boolean preserveReplicaStateTable) throws JargonException {
 
-		log.info("close() with flags");
+		log.debug("close() with flags");
 
 		/*
 		 * If I'm calling this on iRODS when it doesn't support replica tokens, then
@@ -1365,7 +1365,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 		// check if I have a replica token, in which case you will do a replica close
 		if (this.getReplicaToken() != null && this.coordinated) {
-			log.info("close with a replica token, see if this is the last close");
+			log.debug("close with a replica token, see if this is the last close");
 
 			final IRODSFileSystemAO fsys = this.getIrodsFileSystemAO();
 			final ReplicaTokenCacheManager cacheMgr = IRODSSession.replicaTokenCacheManager;
@@ -1398,7 +1398,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 								fsys.getJargonProperties().getReplicaTokenLockTimeoutSeconds());
 					}
 
-					log.info("is this is the final replica close?:true");
+					log.debug("is this is the final replica close?:true");
 
 					replicaClose.setPreserveReplicaStateTable(preserveReplicaStateTable);
 					replicaClose.setSendNotifications(sendNotifications);
@@ -1407,7 +1407,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 					replicaClose.setComputeChecksum(computeChecksum);
 				}
 				else {
-					log.info("is this is the final replica close?:false");
+					log.debug("is this is the final replica close?:false");
 					replicaClose.setPreserveReplicaStateTable(false);
 					replicaClose.setSendNotifications(false);
 					replicaClose.setUpdateSize(false);
@@ -1441,7 +1441,7 @@ public class IRODSFileImpl extends File implements IRODSFile {
 
 			if (openFlags == OpenFlags.WRITE || openFlags == OpenFlags.WRITE_FAIL_IF_EXISTS
 					|| openFlags == OpenFlags.WRITE_TRUNCATE) {
-				log.info("closing with putOpr, check if i need to use a replica close (4.2.9+");
+				log.debug("closing with putOpr, check if i need to use a replica close (4.2.9+");
 				irodsFileSystemAO.fileClose(getFileDescriptor(), true);
 			} else {
 				irodsFileSystemAO.fileClose(getFileDescriptor(), false);
@@ -1472,12 +1472,12 @@ public class IRODSFileImpl extends File implements IRODSFile {
 	 */
 	@Override
 	public void closeGivenDescriptor(final int fd) throws JargonException {
-		if (log.isInfoEnabled()) {
-			log.info("closing irodsFile given descriptor:" + fd);
+		if (log.isDebugEnabled()) {
+			log.debug("closing irodsFile given descriptor:" + fd);
 		}
 
 		if (fd <= 0) {
-			log.info("file is not open, silently ignore");
+			log.debug("file is not open, silently ignore");
 			setFileDescriptor(-1);
 			return;
 		}
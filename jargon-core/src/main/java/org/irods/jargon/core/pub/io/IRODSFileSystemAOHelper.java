@@ -8,6 +8,7 @@ import org.irods.jargon.core.pub.aohelper.AOHelper;
 import org.irods.jargon.core.pub.aohelper.CollectionAOHelper;
 import org.irods.jargon.core.query.GenQueryBuilderException;
 import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.PreparedIRODSGenQuery;
 import org.irods.jargon.core.query.QueryConditionOperators;
 import org.irods.jargon.core.query.RodsGenQueryEnum;
 import org.slf4j.Logger;
@@ -24,6 +25,76 @@ public class IRODSFileSystemAOHelper extends AOHelper {
 
 	static Logger log = LoggerFactory.getLogger(IRODSFileSystemAOHelper.class);
 
+	/*
+	 * prepared forms of the listing queries, built on first use. A race only
+	 * builds the same query twice
+	 */
+	private static volatile PreparedIRODSGenQuery listAllCollectionsQuery = null;
+	private static volatile PreparedIRODSGenQuery listAllDataObjectsWithSizeAndDateInfoQuery = null;
+	private static volatile PreparedIRODSGenQuery dataObjectModeQuery = null;
+
+	/**
+	 * Prepared form of {@link #buildQueryListAllCollections(String, IRODSGenQueryBuilder)},
+	 * with the total row count, to be bound with the parent collection path
+	 *
+	 * @return {@link PreparedIRODSGenQuery}
+	 * @throws GenQueryBuilderException
+	 *             for query error
+	 */
+	public static PreparedIRODSGenQuery prepareQueryListAllCollections() throws GenQueryBuilderException {
+		PreparedIRODSGenQuery prepared = listAllCollectionsQuery;
+		if (prepared == null) {
+			IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, true, null);
+			CollectionAOHelper.buildSelectsNeededForCollectionsInCollectionsAndDataObjectsListingEntry(builder);
+			builder.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_PARENT_NAME, QueryConditionOperators.EQUAL);
+			prepared = builder.prepare();
+			listAllCollectionsQuery = prepared;
+		}
+		return prepared;
+	}
+
+	/**
+	 * Prepared form of
+	 * {@link #buildQueryListAllDataObjectsWithSizeAndDateInfo(String, IRODSGenQueryBuilder)},
+	 * with the total row count, to be bound with the collection path
+	 *
+	 * @return {@link PreparedIRODSGenQuery}
+	 * @throws GenQueryBuilderException
+	 *             for query error
+	 */
+	public static PreparedIRODSGenQuery prepareQueryListAllDataObjectsWithSizeAndDateInfo()
+			throws GenQueryBuilderException {
+		PreparedIRODSGenQuery prepared = listAllDataObjectsWithSizeAndDateInfoQuery;
+		if (prepared == null) {
+			IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, true, null);
+			buildDataObjectQuerySelects(builder);
+			builder.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL);
+			prepared = builder.prepare();
+			listAllDataObjectsWithSizeAndDateInfoQuery = prepared;
+		}
+		return prepared;
+	}
+
+	/**
+	 * Prepared query for the mode of a data object, to be bound with the
+	 * collection path and the data object name
+	 *
+	 * @return {@link PreparedIRODSGenQuery}
+	 * @throws GenQueryBuilderException
+	 *             for query error
+	 */
+	public static PreparedIRODSGenQuery prepareQueryDataObjectMode() throws GenQueryBuilderException {
+		PreparedIRODSGenQuery prepared = dataObjectModeQuery;
+		if (prepared == null) {
+			prepared = new IRODSGenQueryBuilder(true, null).addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_MODE)
+					.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL)
+					.addConditionAsBindParameter(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL)
+					.prepare();
+			dataObjectModeQuery = prepared;
+		}
+		return prepared;
+	}
+
 	/**
 	 * List all directories under the path.
 	 *
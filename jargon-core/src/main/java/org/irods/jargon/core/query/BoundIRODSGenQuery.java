@@ -0,0 +1,83 @@
+/**
+ *
+ */
+package org.irods.jargon.core.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.irods.jargon.core.exception.JargonException;
+
+/**
+ * A {@link PreparedIRODSGenQuery} with values bound to its parameters, ready to
+ * run with the {@code IRODSGenQueryExecutor}. The translation is done when the
+ * values are bound, and the {@code GenQueryInp} encoding is filled in from the
+ * prepared query.
+ */
+public class BoundIRODSGenQuery extends AbstractIRODSGenQuery {
+
+	private final PreparedIRODSGenQuery preparedIRODSGenQuery;
+	private final TranslatedIRODSGenQuery translatedIRODSGenQuery;
+	private final String[] encodedValues;
+
+	BoundIRODSGenQuery(final PreparedIRODSGenQuery preparedIRODSGenQuery, final int numberOfResultsDesired,
+			final List<TranslatedGenQueryCondition> conditions, final String[] encodedValues)
+			throws JargonQueryException {
+		super(numberOfResultsDesired);
+		this.preparedIRODSGenQuery = preparedIRODSGenQuery;
+		this.encodedValues = encodedValues;
+
+		IRODSGenQueryBuilderQueryData queryData = preparedIRODSGenQuery.getQueryData();
+		try {
+			translatedIRODSGenQuery = TranslatedIRODSGenQuery.instance(queryData.getSelectFields(), conditions,
+					queryData.getOrderByFields(), this, queryData.isDistinct(), queryData.isUpperCase(),
+					queryData.isComputeTotalRowCount());
+		} catch (JargonException e) {
+			throw new JargonQueryException("error binding prepared query", e);
+		}
+	}
+
+	/**
+	 * @return {@link TranslatedIRODSGenQuery} for the bound query
+	 */
+	public TranslatedIRODSGenQuery getTranslatedIRODSGenQuery() {
+		return translatedIRODSGenQuery;
+	}
+
+	/**
+	 * @return {@link PreparedIRODSGenQuery} this was bound from
+	 */
+	public PreparedIRODSGenQuery getPreparedIRODSGenQuery() {
+		return preparedIRODSGenQuery;
+	}
+
+	/**
+	 * Produce the encoded {@code GenQueryInp} packing instruction for a run of
+	 * this query
+	 *
+	 * @param maxRows
+	 *            {@code int} with the max rows to return
+	 * @param continueIndex
+	 *            {@code int} with the continuation of a previous result, or 0
+	 * @param partialStartIndex
+	 *            {@code int} with an offset, or 0
+	 * @param zoneName
+	 *            {@code String} with an optional zone for the query, may be
+	 *            {@code null}
+	 * @return {@code String} with the encoded packing instruction
+	 */
+	public String encodeGenQueryInp(final int maxRows, final int continueIndex, final int partialStartIndex,
+			final String zoneName) {
+		return preparedIRODSGenQuery.encode(maxRows, continueIndex, partialStartIndex, zoneName, encodedValues);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("BoundIRODSGenQuery [preparedIRODSGenQuery=").append(preparedIRODSGenQuery)
+				.append(", encodedValues=").append(Arrays.toString(encodedValues)).append(", numberOfResultsDesired=")
+				.append(numberOfResultsDesired).append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,243 @@
+/**
+ *
+ */
+package org.irods.jargon.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.irods.jargon.core.exception.JargonException;
+
+/**
+ * Results of running one general query against several zones, with the result
+ * (or failure) of each zone, and the rows of all zones merged with the zone
+ * they came from. A zone that failed or timed out does not fail the whole
+ * query, so the results may be partial, see {@link #isComplete()}.
+ */
+public class FederatedQueryResult {
+
+	private final List<ZoneResult> zoneResults;
+
+	/**
+	 * @param zoneResults
+	 *            {@code List} of {@link ZoneResult}, in the order the zones were
+	 *            given
+	 */
+	public FederatedQueryResult(final List<ZoneResult> zoneResults) {
+		if (zoneResults == null) {
+			throw new IllegalArgumentException("null zoneResults");
+		}
+		this.zoneResults = Collections.unmodifiableList(new ArrayList<ZoneResult>(zoneResults));
+	}
+
+	/**
+	 * @return {@code List} of {@link ZoneResult}, in the order the zones were
+	 *         given
+	 */
+	public List<ZoneResult> getZoneResults() {
+		return zoneResults;
+	}
+
+	/**
+	 * @param zone
+	 *            {@code String} with the zone name
+	 * @return {@link ZoneResult} for the zone, or {@code null} if the zone was not
+	 *         queried
+	 */
+	public ZoneResult getZoneResult(final String zone) {
+		for (ZoneResult zoneResult : zoneResults) {
+			if (zoneResult.getZone().equals(zone)) {
+				return zoneResult;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return {@code List} of {@link ZoneRow} with the rows of each zone that
+	 *         answered, in zone order
+	 */
+	public List<ZoneRow> getRows() {
+		List<ZoneRow> rows = new ArrayList<ZoneRow>();
+		for (ZoneResult zoneResult : zoneResults) {
+			if (zoneResult.getResultSet() == null) {
+				continue;
+			}
+			for (IRODSQueryResultRow row : zoneResult.getResultSet().getResults()) {
+				rows.add(new ZoneRow(zoneResult.getZone(), row));
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} if every zone answered
+	 */
+	public boolean isComplete() {
+		for (ZoneResult zoneResult : zoneResults) {
+			if (!zoneResult.isSuccessful()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return {@code List} of {@code String} with the zones that failed or timed
+	 *         out
+	 */
+	public List<String> getFailedZones() {
+		List<String> failed = new ArrayList<String>();
+		for (ZoneResult zoneResult : zoneResults) {
+			if (!zoneResult.isSuccessful()) {
+				failed.add(zoneResult.getZone());
+			}
+		}
+		return failed;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("FederatedQueryResult [zoneResults=").append(zoneResults).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Result of the query in one zone
+	 */
+	public static class ZoneResult {
+
+		private final String zone;
+		private final IRODSQueryResultSet resultSet;
+		private final JargonException error;
+		private final boolean timedOut;
+		private final long elapsedMillis;
+
+		/**
+		 * @param zone
+		 *            {@code String} with the zone name
+		 * @param resultSet
+		 *            {@link IRODSQueryResultSet} from the zone
+		 * @param elapsedMillis
+		 *            {@code long} with the time the zone took
+		 * @return {@link ZoneResult} for a zone that answered
+		 */
+		public static ZoneResult success(final String zone, final IRODSQueryResultSet resultSet,
+				final long elapsedMillis) {
+			if (resultSet == null) {
+				throw new IllegalArgumentException("null resultSet");
+			}
+			return new ZoneResult(zone, resultSet, null, false, elapsedMillis);
+		}
+
+		/**
+		 * @param zone
+		 *            {@code String} with the zone name
+		 * @param error
+		 *            {@link JargonException} from the zone
+		 * @param elapsedMillis
+		 *            {@code long} with the time the zone took
+		 * @return {@link ZoneResult} for a zone that failed
+		 */
+		public static ZoneResult failure(final String zone, final JargonException error, final long elapsedMillis) {
+			if (error == null) {
+				throw new IllegalArgumentException("null error");
+			}
+			return new ZoneResult(zone, null, error, false, elapsedMillis);
+		}
+
+		/**
+		 * @param zone
+		 *            {@code String} with the zone name
+		 * @param elapsedMillis
+		 *            {@code long} with the time waited for the zone
+		 * @return {@link ZoneResult} for a zone that did not answer in time
+		 */
+		public static ZoneResult timeout(final String zone, final long elapsedMillis) {
+			return new ZoneResult(zone, null, null, true, elapsedMillis);
+		}
+
+		private ZoneResult(final String zone, final IRODSQueryResultSet resultSet, final JargonException error,
+				final boolean timedOut, final long elapsedMillis) {
+			if (zone == null || zone.isEmpty()) {
+				throw new IllegalArgumentException("null or empty zone");
+			}
+			this.zone = zone;
+			this.resultSet = resultSet;
+			this.error = error;
+			this.timedOut = timedOut;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public String getZone() {
+			return zone;
+		}
+
+		/**
+		 * @return {@link IRODSQueryResultSet}, or {@code null} if the zone failed or
+		 *         timed out
+		 */
+		public IRODSQueryResultSet getResultSet() {
+			return resultSet;
+		}
+
+		/**
+		 * @return {@link JargonException} from the zone, or {@code null}
+		 */
+		public JargonException getError() {
+			return error;
+		}
+
+		public boolean isTimedOut() {
+			return timedOut;
+		}
+
+		public long getElapsedMillis() {
+			return elapsedMillis;
+		}
+
+		public boolean isSuccessful() {
+			return resultSet != null;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			builder.append("ZoneResult [zone=").append(zone).append(", rows=")
+					.append(resultSet == null ? 0 : resultSet.getResults().size()).append(", error=").append(error)
+					.append(", timedOut=").append(timedOut).append(", elapsedMillis=").append(elapsedMillis)
+					.append("]");
+			return builder.toString();
+		}
+	}
+
+	/**
+	 * A result row with the zone it came from
+	 */
+	public static class ZoneRow {
+
+		private final String zone;
+		private final IRODSQueryResultRow row;
+
+		public ZoneRow(final String zone, final IRODSQueryResultRow row) {
+			this.zone = zone;
+			this.row = row;
+		}
+
+		public String getZone() {
+			return zone;
+		}
+
+		public IRODSQueryResultRow getRow() {
+			return row;
+		}
+
+		@Override
+		public String toString() {
+			return "ZoneRow [zone=" + zone + ", row=" + row + "]";
+		}
+	}
+
+}
@@ -18,6 +18,11 @@ class GenQueryBuilderCondition {
 	private final String selectFieldNumericTranslation;
 	private final QueryConditionOperators operator;
 	private final String value;
+	/**
+	 * Indicates a condition whose value is supplied when a
+	 * {@link PreparedIRODSGenQuery} is bound
+	 */
+	private final boolean bindParameter;
 
 	@Override
 	public String toString() {
@@ -33,6 +38,8 @@ class GenQueryBuilderCondition {
 		sb.append(operator);
 		sb.append("\n\t value:");
 		sb.append(value);
+		sb.append("\n\t bindParameter:");
+		sb.append(bindParameter);
 		return sb.toString();
 	}
 
@@ -58,7 +65,31 @@ class GenQueryBuilderCondition {
 			final QueryConditionOperators operator, final String value) {
 
 		return new GenQueryBuilderCondition(selectFieldColumnName, selectFieldSource, selectFieldNumericTranslation,
-				operator, value);
+				operator, value, false);
+	}
+
+	/**
+	 * Create a condition whose value is left open, to be supplied each time a
+	 * {@link PreparedIRODSGenQuery} is bound
+	 *
+	 * @param selectFieldColumnName
+	 *            {@code String} with the column name
+	 * @param selectFieldSource
+	 *            {@link SelectFieldSource} that reflects the type of field
+	 * @param selectFieldNumericTranslation
+	 *            {@code String} with the numeric iRODS gen query protocol value
+	 *            that maps to this field
+	 * @param operator
+	 *            {@link QueryConditionOperators} value with the operation for the
+	 *            condition
+	 * @return {@link GenQueryBuilderCondition}
+	 */
+	static GenQueryBuilderCondition instanceForBindParameter(final String selectFieldColumnName,
+			final SelectFieldSource selectFieldSource, final String selectFieldNumericTranslation,
+			final QueryConditionOperators operator) {
+
+		return new GenQueryBuilderCondition(selectFieldColumnName, selectFieldSource, selectFieldNumericTranslation,
+				operator, null, true);
 	}
 
 	private static String stackListValues(final List<String> valuesWithoutQuotes) {
@@ -107,16 +138,18 @@ class GenQueryBuilderCondition {
 		}
 
 		return new GenQueryBuilderCondition(selectFieldColumnName, selectFieldSource, selectFieldNumericTranslation,
-				operator, stackListValues(valuesWithoutQuotes));
+				operator, stackListValues(valuesWithoutQuotes), false);
 	}
 
 	private GenQueryBuilderCondition(final String selectFieldColumnName, final SelectFieldSource selectFieldSource,
-			final String selectFieldNumericTranslation, final QueryConditionOperators operator, final String value) {
+			final String selectFieldNumericTranslation, final QueryConditionOperators operator, final String value,
+			final boolean bindParameter) {
 		this.selectFieldColumnName = selectFieldColumnName;
 		this.selectFieldSource = selectFieldSource;
 		this.selectFieldNumericTranslation = selectFieldNumericTranslation;
 		this.operator = operator;
 		this.value = value;
+		this.bindParameter = bindParameter;
 	}
 
 	/**
@@ -154,4 +187,12 @@ class GenQueryBuilderCondition {
 		return value;
 	}
 
+	/**
+	 * @return {@code boolean} of {@code true} if the value is supplied when a
+	 *         prepared query is bound
+	 */
+	boolean isBindParameter() {
+		return bindParameter;
+	}
+
 }
@@ -119,6 +119,72 @@ public class GenQueryProcessor {
 		}
 	}
 
+	/**
+	 * Run a query to the end, handing each row to a {@link RowHandler} as each
+	 * page is decoded, and asking for the next page once the handler has seen the
+	 * rows. Only one page is held at a time. The query is closed in iRODS if the
+	 * handler stops early or fails.
+	 *
+	 * @param translatedIRODSQuery {@link TranslatedIRODSGenQuery} to be run
+	 * @param zoneName             {@code String} ({@code null} or blank if not
+	 *                             used) that indicates an optional zone for the
+	 *                             query
+	 * @param rowHandler           {@link RowHandler} to receive the rows
+	 * @return {@code long} with the number of rows handed to the handler
+	 * @throws JargonException {@link JargonException}
+	 */
+	public long executeTranslatedIRODSQueryStreaming(final TranslatedIRODSGenQuery translatedIRODSQuery,
+			final String zoneName, final RowHandler rowHandler) throws JargonException {
+
+		if (rowHandler == null) {
+			throw new IllegalArgumentException("null rowHandler");
+		}
+
+		List<String> columnNames = new ArrayList<String>();
+		for (GenQuerySelectField selectField : translatedIRODSQuery.getSelectFields()) {
+			columnNames.add(selectField.getSelectFieldColumnName());
+		}
+
+		StreamingQueryRow row = new StreamingQueryRow(columnNames);
+		int continuation = 0;
+		boolean keepGoing = true;
+		boolean failed = true;
+		try {
+			do {
+				Tag response;
+				try {
+					response = sendGenQueryAndReturnResponse(
+							GenQueryInp.instance(translatedIRODSQuery, continuation, zoneName));
+				} catch (DataNotFoundException dnf) {
+					log.debug("response from IRODS call indicates no more rows found");
+					continuation = 0;
+					break;
+				}
+
+				continuation = QueryResultProcessingUtils.getContinuationValue(response);
+				keepGoing = QueryResultProcessingUtils.streamResponseIntoHandler(response, row, continuation,
+						rowHandler);
+			} while (keepGoing && continuation > 0);
+			failed = false;
+		} finally {
+			if (continuation > 0) {
+				log.debug("closing streamed query stopped at record:{}", row.getRecordCount());
+				try {
+					sendGenQueryAndReturnResponse(
+							GenQueryInp.instanceForCloseQuery(translatedIRODSQuery, continuation));
+				} catch (JargonException e) {
+					if (!failed) {
+						throw e;
+					}
+					log.warn("error closing failed streamed query, keeping the original error", e);
+				}
+			}
+		}
+
+		log.debug("streamed {} rows", row.getRecordCount());
+		return row.getRecordCount();
+	}
+
 	/**
 	 * Send the query
 	 *
@@ -175,6 +241,8 @@ public class GenQueryProcessor {
 					irodsCommands.getIRODSServerProperties());
 			translatedIRODSQuery = irodsQueryTranslator.getTranslatedQuery((IRODSGenQuery) irodsQuery);
 
+		} else if (irodsQuery instanceof BoundIRODSGenQuery) {
+			translatedIRODSQuery = ((BoundIRODSGenQuery) irodsQuery).getTranslatedIRODSGenQuery();
 		} else if (irodsQuery instanceof IRODSGenQueryFromBuilder) {
 			try {
 				translatedIRODSQuery = ((IRODSGenQueryFromBuilder) irodsQuery).convertToTranslatedIRODSGenQuery();
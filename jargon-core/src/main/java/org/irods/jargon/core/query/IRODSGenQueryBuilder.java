@@ -19,6 +19,10 @@ import org.irods.jargon.core.query.GenQueryOrderByField.OrderByType;
  * This class is not thread-safe, but really does not need to be. The queries
  * produced by the builder are immutable references to the fields in this
  * builder.
+ * <p>
+ * Queries run often with only the condition values changing may add those
+ * conditions with {@link #addConditionAsBindParameter(RodsGenQueryEnum, QueryConditionOperators)}
+ * and be {@link #prepare()}d once, then bound with values for each run.
  *
  * @author Mike Conway - DICE (www.irods.org)
  *
@@ -330,6 +334,44 @@ public class IRODSGenQueryBuilder {
 
 	}
 
+	/**
+	 * Add a gen query condition whose value is supplied later, when the
+	 * {@link PreparedIRODSGenQuery} from {@link #prepare()} is bound. Values are
+	 * quoted as in {@link #addConditionAsGenQueryField(RodsGenQueryEnum, QueryConditionOperators, String)}.
+	 * Multi-value and {@code IS NULL} operators cannot be bound.
+	 *
+	 * @param rodsGenQueryEnumValue
+	 *            {@link RodsGenQueryEnum} for the condition
+	 * @param operator
+	 *            {@link QueryConditionOperators} enum value for the operator of the
+	 *            condition
+	 * @return a reference to this builder, so that builder statements may be
+	 *         chained
+	 */
+	public IRODSGenQueryBuilder addConditionAsBindParameter(final RodsGenQueryEnum rodsGenQueryEnumValue,
+			final QueryConditionOperators operator) {
+
+		if (rodsGenQueryEnumValue == null) {
+			throw new IllegalArgumentException("null rodsGenQueryEnumValue");
+		}
+
+		if (operator == null) {
+			throw new IllegalArgumentException("null operator");
+		}
+
+		if (operator == QueryConditionOperators.IN || operator == QueryConditionOperators.NOT_IN
+				|| operator == QueryConditionOperators.BETWEEN || operator == QueryConditionOperators.NOT_BETWEEN
+				|| operator == QueryConditionOperators.IS_NULL) {
+			throw new IllegalArgumentException("operator cannot be used with a bind parameter:" + operator);
+		}
+
+		conditions.add(GenQueryBuilderCondition.instanceForBindParameter(rodsGenQueryEnumValue.getName(),
+				SelectFieldSource.DEFINED_QUERY_FIELD, String.valueOf(rodsGenQueryEnumValue.getNumericValue()),
+				operator));
+		return this;
+
+	}
+
 	/**
 	 * Add an order by field. Note that this field has to be already in the selects,
 	 * and must be ascending or descending
@@ -439,9 +481,37 @@ public class IRODSGenQueryBuilder {
 			throw new GenQueryBuilderException("query is not valid, cannot export");
 		}
 
+		for (GenQueryBuilderCondition condition : conditions) {
+			if (condition.isBindParameter()) {
+				throw new GenQueryBuilderException("query has bind parameters, use prepare()");
+			}
+		}
+
 		return IRODSGenQueryFromBuilder.instance(queryData, numberOfResultsDesired);
 	}
 
+	/**
+	 * Translate and encode the query once, leaving the bind parameter conditions
+	 * open. The returned query is immutable and may be kept and shared between
+	 * threads, with {@link PreparedIRODSGenQuery#bind(int, String...)} called
+	 * for each run.
+	 *
+	 * @return {@link PreparedIRODSGenQuery}
+	 * @throws GenQueryBuilderException
+	 *             if the query cannot be built
+	 */
+	public PreparedIRODSGenQuery prepare() throws GenQueryBuilderException {
+		IRODSGenQueryBuilderQueryData queryData = IRODSGenQueryBuilderQueryData.instance(
+				new ArrayList<GenQuerySelectField>(selectFields), new ArrayList<GenQueryBuilderCondition>(conditions),
+				new ArrayList<GenQueryOrderByField>(orderByFields), distinct, upperCase, computeTotalRowCount);
+
+		if (!queryData.isQueryValid()) {
+			throw new GenQueryBuilderException("query is not valid, cannot prepare");
+		}
+
+		return PreparedIRODSGenQuery.instance(queryData);
+	}
+
 	/**
 	 * Is this a case-insensitive query? (supported in iRODS 3.2 and higher)
 	 *
@@ -0,0 +1,273 @@
+/**
+ *
+ */
+package org.irods.jargon.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.packinstr.GenQueryInp;
+import org.irods.jargon.core.packinstr.Tag;
+
+/**
+ * An iRODS general query from the {@link IRODSGenQueryBuilder} that has been
+ * translated and encoded once, with some condition values left open as bind
+ * parameters. Each run binds the values with {@link #bind(int, String...)},
+ * and the encoded {@code GenQueryInp} is produced by filling the values into
+ * the kept encoding, rather than building, translating and serializing the
+ * query again.
+ * <p>
+ * This is immutable, and is meant to be built once and kept, e.g. in a static
+ * field, for queries on hot paths such as collection listings.
+ *
+ * <pre>
+ * PreparedIRODSGenQuery prepared = new IRODSGenQueryBuilder(true, null)
+ * 		.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_DATA_MODE)
+ * 		.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL)
+ * 		.addConditionAsBindParameter(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL).prepare();
+ * irodsGenQueryExecutor.executeIRODSQueryAndCloseResult(prepared.bind(100, parent, name), 0);
+ * </pre>
+ */
+public class PreparedIRODSGenQuery {
+
+	/**
+	 * Marks the place of a bind value in the template encoding, cannot occur in
+	 * a query value
+	 */
+	private static final char BIND_MARKER = '\u0000';
+
+	private final IRODSGenQueryBuilderQueryData queryData;
+	/**
+	 * Translated conditions, with {@code null} in place of each bind parameter
+	 */
+	private final List<TranslatedGenQueryCondition> templateConditions;
+	/**
+	 * Index in the conditions of each bind parameter, in order
+	 */
+	private final int[] bindConditionIndexes;
+	/**
+	 * Encoded query, split around the zone and each bind value. The first segment
+	 * follows the row count and index tags that start the encoding.
+	 */
+	private final String[] encodedSegments;
+	private final String encodedNoZone;
+
+	/**
+	 * Translate and encode a query
+	 *
+	 * @param queryData
+	 *            {@link IRODSGenQueryBuilderQueryData} with the query
+	 * @return {@link PreparedIRODSGenQuery}
+	 * @throws GenQueryBuilderException
+	 *             if the query cannot be translated
+	 */
+	static PreparedIRODSGenQuery instance(final IRODSGenQueryBuilderQueryData queryData)
+			throws GenQueryBuilderException {
+		return new PreparedIRODSGenQuery(queryData);
+	}
+
+	private PreparedIRODSGenQuery(final IRODSGenQueryBuilderQueryData queryData) throws GenQueryBuilderException {
+		if (queryData == null) {
+			throw new IllegalArgumentException("null queryData");
+		}
+
+		this.queryData = queryData;
+
+		List<GenQueryBuilderCondition> conditions = queryData.getConditions();
+		List<TranslatedGenQueryCondition> template = new ArrayList<TranslatedGenQueryCondition>(conditions.size());
+		List<TranslatedGenQueryCondition> marked = new ArrayList<TranslatedGenQueryCondition>(conditions.size());
+		List<Integer> bindIndexes = new ArrayList<Integer>();
+
+		try {
+			for (GenQueryBuilderCondition condition : conditions) {
+				if (condition.isBindParameter()) {
+					String marker = BIND_MARKER + String.valueOf(bindIndexes.size()) + BIND_MARKER;
+					bindIndexes.add(template.size());
+					template.add(null);
+					marked.add(translateCondition(condition, marker));
+				} else {
+					String value = queryData.isUpperCase() ? condition.getValue().toUpperCase()
+							: condition.getValue();
+					TranslatedGenQueryCondition translated = translateCondition(condition, value);
+					template.add(translated);
+					marked.add(translated);
+				}
+			}
+		} catch (JargonQueryException e) {
+			throw new GenQueryBuilderException("error translating prepared query", e);
+		}
+
+		templateConditions = Collections.unmodifiableList(template);
+		bindConditionIndexes = new int[bindIndexes.size()];
+		for (int i = 0; i < bindConditionIndexes.length; i++) {
+			bindConditionIndexes[i] = bindIndexes.get(i);
+		}
+
+		encodedNoZone = Tag.createKeyValueTag(null).parseTag();
+		encodedSegments = encodeTemplate(marked);
+	}
+
+	/**
+	 * Bind values to the bind parameters, giving a query that can be run by the
+	 * {@code IRODSGenQueryExecutor}
+	 *
+	 * @param numberOfResultsDesired
+	 *            {@code int} with the number of results desired from the query
+	 * @param values
+	 *            {@code String} values, without quotes, for the bind parameters
+	 *            in the order they were added
+	 * @return {@link BoundIRODSGenQuery}
+	 * @throws JargonQueryException
+	 *             if a value cannot be used
+	 */
+	public BoundIRODSGenQuery bind(final int numberOfResultsDesired, final String... values)
+			throws JargonQueryException {
+		if (values == null || values.length != bindConditionIndexes.length) {
+			throw new IllegalArgumentException("expected " + bindConditionIndexes.length + " bind values");
+		}
+
+		List<TranslatedGenQueryCondition> conditions = new ArrayList<TranslatedGenQueryCondition>(
+				templateConditions);
+		String[] encodedValues = new String[values.length];
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == null) {
+				throw new IllegalArgumentException("null bind value at:" + i);
+			}
+			String value = "'" + values[i] + "'";
+			if (queryData.isUpperCase()) {
+				value = value.toUpperCase();
+			}
+			GenQueryBuilderCondition condition = queryData.getConditions().get(bindConditionIndexes[i]);
+			conditions.set(bindConditionIndexes[i], translateCondition(condition, value));
+			encodedValues[i] = encodeConditionValue(condition, value);
+		}
+
+		return new BoundIRODSGenQuery(this, numberOfResultsDesired, conditions, encodedValues);
+	}
+
+	/**
+	 * @return {@code int} with the number of bind parameters
+	 */
+	public int getBindParameterCount() {
+		return bindConditionIndexes.length;
+	}
+
+	IRODSGenQueryBuilderQueryData getQueryData() {
+		return queryData;
+	}
+
+	/**
+	 * Fill in the kept encoding of the {@code GenQueryInp} for a run of the
+	 * query. The result is the same as the {@code GenQueryInp} would produce by
+	 * serializing the query itself.
+	 */
+	String encode(final int maxRows, final int continueIndex, final int partialStartIndex, final String zoneName,
+			final String[] encodedValues) {
+		int length = 128 + encodedNoZone.length();
+		for (String segment : encodedSegments) {
+			length += segment.length();
+		}
+		for (String encodedValue : encodedValues) {
+			length += encodedValue.length();
+		}
+
+		StringBuilder sb = new StringBuilder(length);
+		sb.append(Tag.OPEN_START_TAG).append(GenQueryInp.PI_TAG).append(Tag.CLOSE_START_TAG);
+		appendIntTag(sb, GenQueryInp.MAX_ROWS, maxRows);
+		appendIntTag(sb, GenQueryInp.CONTINUE_INX, continueIndex);
+		appendIntTag(sb, GenQueryInp.PARTIAL_START_INDEX, partialStartIndex);
+		sb.append(encodedSegments[0]);
+		if (zoneName == null || zoneName.isEmpty()) {
+			sb.append(encodedNoZone);
+		} else {
+			sb.append(Tag.createKeyValueTag("zone", zoneName).parseTag());
+		}
+		sb.append(encodedSegments[1]);
+		for (int i = 0; i < encodedValues.length; i++) {
+			sb.append(encodedValues[i]).append(encodedSegments[i + 2]);
+		}
+		return sb.toString();
+	}
+
+	private static void appendIntTag(final StringBuilder sb, final String tagName, final int value) {
+		sb.append(Tag.OPEN_START_TAG).append(tagName).append(Tag.CLOSE_START_TAG).append(value)
+				.append(Tag.OPEN_END_TAG).append(tagName).append(Tag.CLOSE_END_TAG).append('\n');
+	}
+
+	/**
+	 * Serialize the query once with markers for the zone and bind values, and
+	 * split it around them
+	 */
+	private String[] encodeTemplate(final List<TranslatedGenQueryCondition> markedConditions)
+			throws GenQueryBuilderException {
+		String encoded;
+		String header;
+		try {
+			TranslatedIRODSGenQuery translated = TranslatedIRODSGenQuery.instance(queryData.getSelectFields(),
+					markedConditions, queryData.getOrderByFields(), new AbstractIRODSGenQuery(1),
+					queryData.isDistinct(), queryData.isUpperCase(), queryData.isComputeTotalRowCount());
+			Tag message = GenQueryInp.instance(translated, 0, null).getTagValue();
+			encoded = message.parseTag();
+			StringBuilder sb = new StringBuilder();
+			sb.append(Tag.OPEN_START_TAG).append(GenQueryInp.PI_TAG).append(Tag.CLOSE_START_TAG);
+			appendIntTag(sb, GenQueryInp.MAX_ROWS, 1);
+			appendIntTag(sb, GenQueryInp.CONTINUE_INX, 0);
+			appendIntTag(sb, GenQueryInp.PARTIAL_START_INDEX, 0);
+			header = sb.toString();
+		} catch (JargonException e) {
+			throw new GenQueryBuilderException("error encoding prepared query", e);
+		}
+
+		if (!encoded.startsWith(header)) {
+			throw new GenQueryBuilderException("unexpected encoding of prepared query");
+		}
+
+		String[] segments = new String[bindConditionIndexes.length + 2];
+		int start = header.length();
+		for (int i = 0; i <= bindConditionIndexes.length; i++) {
+			String slot;
+			if (i == 0) {
+				slot = encodedNoZone;
+			} else {
+				int bindIndex = bindConditionIndexes[i - 1];
+				slot = encodeConditionValue(queryData.getConditions().get(bindIndex),
+						markedConditions.get(bindIndex).getValue());
+			}
+
+			int found = encoded.indexOf(slot, start);
+			if (found < 0) {
+				throw new GenQueryBuilderException("unexpected encoding of prepared query");
+			}
+			segments[i] = encoded.substring(start, found);
+			start = found + slot.length();
+		}
+		segments[segments.length - 1] = encoded.substring(start);
+		return segments;
+	}
+
+	private static TranslatedGenQueryCondition translateCondition(final GenQueryBuilderCondition condition,
+			final String value) throws JargonQueryException {
+		return TranslatedGenQueryCondition.instanceWithFieldNameAndNumericTranslation(
+				condition.getSelectFieldColumnName(), condition.getOperator().getOperatorAsString(), value,
+				condition.getSelectFieldNumericTranslation());
+	}
+
+	/**
+	 * Encode a condition value as the {@code GenQueryInp} does
+	 */
+	private static String encodeConditionValue(final GenQueryBuilderCondition condition, final String value) {
+		return new Tag(GenQueryInp.SVALUE, " " + condition.getOperator().getOperatorAsString() + " " + value + " ")
+				.parseTag();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("PreparedIRODSGenQuery [queryData=").append(queryData).append(", bindParameterCount=")
+				.append(bindConditionIndexes.length).append("]");
+		return builder.toString();
+	}
+
+}
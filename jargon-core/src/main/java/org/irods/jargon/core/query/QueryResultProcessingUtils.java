@@ -49,12 +49,12 @@ public class QueryResultProcessingUtils {
 
 		if (queryResponse == null) {
 			// no response, create an empty result set, and never return null
-			log.info("empty result set from query, returning as an empty result set ( no rows found)");
+			log.debug("empty result set from query, returning as an empty result set ( no rows found)");
 			return new ArrayList<IRODSQueryResultRow>();
 		}
 
 		int rows = queryResponse.getTag(GenQueryOut.ROW_CNT).getIntValue();
-		log.info("rows returned from iRODS query: {}", rows);
+		log.debug("rows returned from iRODS query: {}", rows);
 
 		List<IRODSQueryResultRow> resultSet = new ArrayList<IRODSQueryResultRow>(rows);
 		List<String> row;
@@ -69,14 +69,13 @@ public class QueryResultProcessingUtils {
 		boolean lastRecord = (continuation == 0);
 		log.debug("is this the last record? {}", lastRecord);
 
-		int attributes = queryResponse.getTag(GenQueryOut.ATTRIB_CNT).getIntValue();
+		Tag[][] columnValues = getColumnValues(queryResponse);
 
 		for (int i = 0; i < rows; i++) {
 			// new row
-			row = new ArrayList<String>();
-			for (int j = 0; j < attributes; j++) {
-
-				row.add(queryResponse.getTags()[4 + j].getTags()[2 + i].getStringValue());
+			row = new ArrayList<String>(columnValues.length);
+			for (Tag[] column : columnValues) {
+				row.add(column[2 + i].getStringValue());
 			}
 
 			resultSet.add(IRODSQueryResultRow.instance(row, columnNames, recordCount++, lastRecord));
@@ -86,6 +85,59 @@ public class QueryResultProcessingUtils {
 
 	}
 
+	/**
+	 * Hand each row of the raw response from iRODS to a {@link RowHandler},
+	 * without building result rows
+	 *
+	 * @param queryResponse
+	 *            {@code Tag} set with the raw GenQuery response from iRODS, may be
+	 *            {@code null} if no rows
+	 * @param row
+	 *            {@link StreamingQueryRow} that is moved along the rows, and keeps
+	 *            the record count across pages
+	 * @param continuation
+	 *            {@code int} with the continuation of the response
+	 * @param rowHandler
+	 *            {@link RowHandler} to receive the rows
+	 * @return {@code boolean} of {@code false} if the handler asked to stop
+	 * @throws JargonException
+	 *             for iRODS error, or from the handler
+	 */
+	public static boolean streamResponseIntoHandler(final Tag queryResponse, final StreamingQueryRow row,
+			final int continuation, final RowHandler rowHandler) throws JargonException {
+
+		if (queryResponse == null) {
+			log.debug("empty result set from query, no rows to stream");
+			return true;
+		}
+
+		int rows = queryResponse.getTag(GenQueryOut.ROW_CNT).getIntValue();
+		log.debug("rows returned from iRODS query: {}", rows);
+
+		row.startPage(getColumnValues(queryResponse), continuation == 0);
+		for (int i = 0; i < rows; i++) {
+			row.nextRow();
+			if (!rowHandler.handleRow(row)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the value tags of each column of the response once, rather than per
+	 * value, since {@link Tag#getTags()} copies the tags
+	 */
+	private static Tag[][] getColumnValues(final Tag queryResponse) {
+		int attributes = queryResponse.getTag(GenQueryOut.ATTRIB_CNT).getIntValue();
+		Tag[] tags = queryResponse.getTags();
+		Tag[][] columnValues = new Tag[attributes][];
+		for (int j = 0; j < attributes; j++) {
+			columnValues[j] = tags[4 + j].getTags();
+		}
+		return columnValues;
+	}
+
 	/**
 	 * Get the continuation value from the query response
 	 *
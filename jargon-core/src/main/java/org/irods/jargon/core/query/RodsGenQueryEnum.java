@@ -68,6 +68,7 @@ public enum RodsGenQueryEnum {
 	// collection metadata
 	COL_META_COLL_ATTR_NAME("META_COLL_ATTR_NAME", 610), COL_META_COLL_ATTR_VALUE("META_COLL_ATTR_VALUE", 611),
 	COL_META_COLL_ATTR_UNITS("META_COLL_ATTR_UNITS", 612), COL_META_COLL_ATTR_ID("META_COLL_ATTR_ID", 613),
+	COL_META_COLL_CREATE_TIME("META_COLL_CREATE_TIME", 614), COL_META_COLL_MODIFY_TIME("META_COLL_MODIFY_TIME", 615),
 
 	COL_META_NAMESPACE_COLL("META_NAMESPACE_COLL", 620), COL_META_NAMESPACE_DATA("META_NAMESPACE_DATA", 621),
 	COL_META_NAMESPACE_RESC("META_NAMESPACE_RESC", 622), COL_META_NAMESPACE_USER("META_NAMESPACE_USER", 623),
@@ -0,0 +1,30 @@
+/**
+ *
+ */
+package org.irods.jargon.core.query;
+
+import org.irods.jargon.core.exception.JargonException;
+
+/**
+ * Receives the rows of a streamed query one at a time, as each page of results
+ * is decoded, so that large result sets can be processed without holding them
+ * in memory.
+ * <p>
+ * The {@link StreamingQueryRow} given to the handler is reused for each row,
+ * and is only valid for the call. Use {@link StreamingQueryRow#toResultRow()}
+ * to keep a row.
+ */
+public interface RowHandler {
+
+	/**
+	 * Called for each row of the results, in order
+	 *
+	 * @param row {@link StreamingQueryRow} positioned on the row
+	 * @return {@code boolean} of {@code true} to continue, {@code false} to stop
+	 *         the query, which closes it in iRODS
+	 * @throws JargonException to stop the query with an error, the query is
+	 *                         closed in iRODS before the error is passed on
+	 */
+	boolean handleRow(StreamingQueryRow row) throws JargonException;
+
+}
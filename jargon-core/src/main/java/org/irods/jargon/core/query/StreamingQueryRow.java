@@ -0,0 +1,163 @@
+/**
+ *
+ */
+package org.irods.jargon.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.packinstr.Tag;
+import org.irods.jargon.core.utils.IRODSDataConversionUtil;
+
+/**
+ * A view of one row of a streamed query, read straight from the decoded
+ * {@code GenQueryOut} page rather than copied into an
+ * {@link IRODSQueryResultRow}. One instance is moved along the rows of each
+ * page and handed to the {@link RowHandler}, so it must not be kept past the
+ * call.
+ */
+public class StreamingQueryRow {
+
+	/**
+	 * Offset of the first value in each column of a {@code GenQueryOut}, after
+	 * the attribute index and result length
+	 */
+	private static final int FIRST_VALUE_OFFSET = 2;
+
+	private final List<String> columnNames;
+	/**
+	 * value tags of each column of the current page
+	 */
+	private Tag[][] columnValues = new Tag[0][];
+	private int rowIndex;
+	private int recordCount;
+	private boolean lastResult;
+
+	/**
+	 * @param columnNames {@code List<String>} with the column names
+	 */
+	public StreamingQueryRow(final List<String> columnNames) {
+		if (columnNames == null) {
+			throw new IllegalArgumentException("null columnNames");
+		}
+		this.columnNames = Collections.unmodifiableList(columnNames);
+	}
+
+	/**
+	 * Move to a new page of results
+	 *
+	 * @param columnValues {@code Tag[][]} with the value tags of each column
+	 * @param lastPage     {@code boolean} of {@code true} if no more pages follow
+	 */
+	void startPage(final Tag[][] columnValues, final boolean lastPage) {
+		this.columnValues = columnValues;
+		lastResult = lastPage;
+		rowIndex = -1;
+	}
+
+	/**
+	 * Move to the next row of the page
+	 */
+	void nextRow() {
+		rowIndex++;
+		recordCount++;
+	}
+
+	/**
+	 * @param columnNumber {@code int} with the location of the desired field
+	 * @return {@code String} with the value of the column
+	 * @throws JargonException if the column is out of range
+	 */
+	public String getColumn(final int columnNumber) throws JargonException {
+		if (columnNumber < 0 || columnNumber >= columnValues.length) {
+			throw new JargonException("column out of range");
+		}
+		return columnValues[columnNumber][FIRST_VALUE_OFFSET + rowIndex].getStringValue();
+	}
+
+	/**
+	 * @param columnName {@code String} with the name of the desired field
+	 * @return {@code String} with the value of the column
+	 * @throws JargonException if the column is not in the results
+	 */
+	public String getColumn(final String columnName) throws JargonException {
+		if (columnName == null || columnName.isEmpty()) {
+			throw new JargonException("columnName is null or empty");
+		}
+
+		int idx = columnNames.indexOf(columnName);
+		if (idx == -1) {
+			throw new JargonException("column name not found in result set:" + columnName);
+		}
+		return getColumn(idx);
+	}
+
+	/**
+	 * @param column {@code int} as column position
+	 * @return {@code int} or 0 if null
+	 * @throws JargonException for iRODS error
+	 */
+	public int getColumnAsIntOrZero(final int column) throws JargonException {
+		return IRODSDataConversionUtil.getIntOrZeroFromIRODSValue(getColumn(column));
+	}
+
+	/**
+	 * @param column {@code int} as column position
+	 * @return {@code long} or 0 if null
+	 * @throws JargonException for iRODS error
+	 */
+	public long getColumnAsLongOrZero(final int column) throws JargonException {
+		return IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(getColumn(column));
+	}
+
+	/**
+	 * @return {@code int} with the number of columns
+	 */
+	public int getColumnCount() {
+		return columnValues.length;
+	}
+
+	public List<String> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * @return {@code int} with the 1-based index of this row in the whole result
+	 */
+	public int getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} if the row is on the last page of
+	 *         results
+	 */
+	public boolean isLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Copy the current row, so it can be kept after the handler returns
+	 *
+	 * @return {@link IRODSQueryResultRow} with the values of the row
+	 * @throws JargonException for iRODS error
+	 */
+	public IRODSQueryResultRow toResultRow() throws JargonException {
+		List<String> values = new ArrayList<String>(columnValues.length);
+		for (int i = 0; i < columnValues.length; i++) {
+			values.add(getColumn(i));
+		}
+		return IRODSQueryResultRow.instance(values, columnNames, recordCount, lastResult);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("StreamingQueryRow [columnNames=").append(columnNames).append(", recordCount=")
+				.append(recordCount).append(", lastResult=").append(lastResult).append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,157 @@
+/**
+ *
+ */
+package org.irods.jargon.core.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregate counts and sizes for a collection subtree, as computed by the
+ * {@link CollectionTreeStatisticsService}.
+ * <p>
+ * Data object counts and bytes count each data object once (by its replica
+ * number 0, consistent with the other count and size methods in Jargon). The
+ * per resource breakdown counts every replica on each resource, so it adds up
+ * to more than the totals when data is replicated.
+ */
+public class CollectionTreeStatistics {
+
+	private final String absolutePath;
+	private long collectionCount = 0L;
+	private long dataObjectCount = 0L;
+	private long totalBytes = 0L;
+	private final Map<String, ResourceStatistics> resourceStatistics = new TreeMap<String, ResourceStatistics>();
+
+	/**
+	 * @param absolutePath {@code String} with the iRODS absolute path the
+	 *                     statistics cover
+	 */
+	public CollectionTreeStatistics(final String absolutePath) {
+		if (absolutePath == null || absolutePath.isEmpty()) {
+			throw new IllegalArgumentException("null or empty absolutePath");
+		}
+		this.absolutePath = absolutePath;
+	}
+
+	/**
+	 * Add the counts from another set of statistics (e.g. for a partition of the
+	 * tree) to these
+	 *
+	 * @param other {@link CollectionTreeStatistics} to add
+	 */
+	public void add(final CollectionTreeStatistics other) {
+		if (other == null) {
+			throw new IllegalArgumentException("null other");
+		}
+
+		collectionCount += other.collectionCount;
+		dataObjectCount += other.dataObjectCount;
+		totalBytes += other.totalBytes;
+		for (ResourceStatistics stats : other.resourceStatistics.values()) {
+			addResourceStatistics(stats.getResourceName(), stats.getReplicaCount(), stats.getReplicaBytes());
+		}
+	}
+
+	/**
+	 * Add replica counts for a resource
+	 *
+	 * @param resourceName {@code String} with the resource name
+	 * @param replicaCount {@code long} with the number of replicas
+	 * @param replicaBytes {@code long} with the bytes in those replicas
+	 */
+	public void addResourceStatistics(final String resourceName, final long replicaCount, final long replicaBytes) {
+		if (resourceName == null) {
+			throw new IllegalArgumentException("null resourceName");
+		}
+
+		ResourceStatistics stats = resourceStatistics.get(resourceName);
+		if (stats == null) {
+			stats = new ResourceStatistics(resourceName);
+			resourceStatistics.put(resourceName, stats);
+		}
+		stats.replicaCount += replicaCount;
+		stats.replicaBytes += replicaBytes;
+	}
+
+	public String getAbsolutePath() {
+		return absolutePath;
+	}
+
+	public long getCollectionCount() {
+		return collectionCount;
+	}
+
+	public void setCollectionCount(final long collectionCount) {
+		this.collectionCount = collectionCount;
+	}
+
+	public long getDataObjectCount() {
+		return dataObjectCount;
+	}
+
+	public void setDataObjectCount(final long dataObjectCount) {
+		this.dataObjectCount = dataObjectCount;
+	}
+
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+
+	public void setTotalBytes(final long totalBytes) {
+		this.totalBytes = totalBytes;
+	}
+
+	/**
+	 * @return {@code Map} of resource name to {@link ResourceStatistics}, sorted
+	 *         by resource name
+	 */
+	public Map<String, ResourceStatistics> getResourceStatistics() {
+		return Collections.unmodifiableMap(resourceStatistics);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CollectionTreeStatistics [absolutePath=").append(absolutePath).append(", collectionCount=")
+				.append(collectionCount).append(", dataObjectCount=").append(dataObjectCount)
+				.append(", totalBytes=").append(totalBytes).append(", resourceStatistics=")
+				.append(resourceStatistics.values()).append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Replica count and bytes held on one resource
+	 */
+	public static class ResourceStatistics {
+		private final String resourceName;
+		private long replicaCount = 0L;
+		private long replicaBytes = 0L;
+
+		ResourceStatistics(final String resourceName) {
+			this.resourceName = resourceName;
+		}
+
+		public String getResourceName() {
+			return resourceName;
+		}
+
+		public long getReplicaCount() {
+			return replicaCount;
+		}
+
+		public long getReplicaBytes() {
+			return replicaBytes;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			builder.append("ResourceStatistics [resourceName=").append(resourceName).append(", replicaCount=")
+					.append(replicaCount).append(", replicaBytes=").append(replicaBytes).append("]");
+			return builder.toString();
+		}
+	}
+
+}
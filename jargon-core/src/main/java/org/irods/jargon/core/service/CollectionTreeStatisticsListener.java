@@ -0,0 +1,25 @@
+/**
+ *
+ */
+package org.irods.jargon.core.service;
+
+/**
+ * Receives progress as the {@link CollectionTreeStatisticsService} finishes
+ * each partition of a collection subtree. Callbacks arrive on worker threads,
+ * so implementations must be thread safe.
+ */
+public interface CollectionTreeStatisticsListener {
+
+	/**
+	 * Called when the statistics for one partition of the tree are complete
+	 *
+	 * @param partitionStatistics {@link CollectionTreeStatistics} for the
+	 *                            partition
+	 * @param completedPartitions {@code int} with the number of partitions
+	 *                            completed so far
+	 * @param totalPartitions     {@code int} with the total number of partitions
+	 */
+	void partitionCompleted(CollectionTreeStatistics partitionStatistics, int completedPartitions,
+			int totalPartitions);
+
+}
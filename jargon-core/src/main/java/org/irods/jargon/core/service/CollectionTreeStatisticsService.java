@@ -0,0 +1,381 @@
+/**
+ *
+ */
+package org.irods.jargon.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.exception.FileNotFoundException;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.core.pub.IRODSGenQueryExecutor;
+import org.irods.jargon.core.pub.domain.ObjStat;
+import org.irods.jargon.core.query.GenQueryBuilderException;
+import org.irods.jargon.core.query.GenQueryField.SelectFieldTypes;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSGenQueryFromBuilder;
+import org.irods.jargon.core.query.IRODSQueryResultRow;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.core.utils.IRODSDataConversionUtil;
+import org.irods.jargon.core.utils.MiscIRODSUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes counts and sizes for a whole collection subtree, with a per resource
+ * breakdown, for uses such as quota dashboards and pre-transfer estimates.
+ * <p>
+ * Rather than one large query over the whole tree, the subtree is split into a
+ * partition per immediate child collection (plus the data objects directly in
+ * the given collection), and the partitions are aggregated concurrently. Each
+ * worker thread uses its own connection, so the number of threads bounds the
+ * number of connections used, and each worker closes its connection when
+ * there are no more partitions. Progress may be followed through a
+ * {@link CollectionTreeStatisticsListener}.
+ * <p>
+ * This object holds a thread pool and should be shut down via
+ * {@link #shutdown()} when no longer needed.
+ */
+public class CollectionTreeStatisticsService extends AbstractJargonService {
+
+	public static final Logger log = LoggerFactory.getLogger(CollectionTreeStatisticsService.class);
+
+	/**
+	 * Default number of partitions aggregated at once
+	 */
+	public static final int DEFAULT_NUMBER_OF_THREADS = 4;
+
+	private final ExecutorService executorService;
+	private final int numberOfThreads;
+
+	/**
+	 * Create a service with the default number of threads
+	 *
+	 * @param irodsAccessObjectFactory {@link IRODSAccessObjectFactory}
+	 * @param irodsAccount             {@link IRODSAccount}
+	 */
+	public CollectionTreeStatisticsService(final IRODSAccessObjectFactory irodsAccessObjectFactory,
+			final IRODSAccount irodsAccount) {
+		this(irodsAccessObjectFactory, irodsAccount, DEFAULT_NUMBER_OF_THREADS);
+	}
+
+	/**
+	 * Create a service with a given number of threads
+	 *
+	 * @param irodsAccessObjectFactory {@link IRODSAccessObjectFactory}
+	 * @param irodsAccount             {@link IRODSAccount}
+	 * @param numberOfThreads          {@code int} with the max number of
+	 *                                 partitions (and connections) worked at once
+	 */
+	public CollectionTreeStatisticsService(final IRODSAccessObjectFactory irodsAccessObjectFactory,
+			final IRODSAccount irodsAccount, final int numberOfThreads) {
+		super(irodsAccessObjectFactory, irodsAccount);
+
+		if (numberOfThreads <= 0) {
+			throw new IllegalArgumentException("numberOfThreads must be > 0");
+		}
+
+		this.numberOfThreads = numberOfThreads;
+		executorService = Executors.newFixedThreadPool(numberOfThreads, new TreeStatisticsThreadFactory());
+	}
+
+	/**
+	 * Compute statistics for the collection at the given path and everything
+	 * underneath it
+	 *
+	 * @param irodsAbsolutePath {@code String} with the absolute path to an iRODS
+	 *                          collection
+	 * @param listener          {@link CollectionTreeStatisticsListener} for
+	 *                          progress, may be {@code null}
+	 * @return {@link CollectionTreeStatistics} for the whole subtree. The given
+	 *         collection itself is not included in the collection count
+	 * @throws FileNotFoundException if the collection does not exist
+	 * @throws JargonException       for iRODS error
+	 */
+	public CollectionTreeStatistics computeStatisticsForCollection(final String irodsAbsolutePath,
+			final CollectionTreeStatisticsListener listener) throws FileNotFoundException, JargonException {
+
+		log.info("computeStatisticsForCollection()");
+
+		if (irodsAbsolutePath == null || irodsAbsolutePath.isEmpty()) {
+			throw new IllegalArgumentException("null or empty irodsAbsolutePath");
+		}
+
+		log.info("irodsAbsolutePath:{}", irodsAbsolutePath);
+
+		ObjStat objStat = irodsAccessObjectFactory.getCollectionAndDataObjectListAndSearchAO(irodsAccount)
+				.retrieveObjectStatForPath(irodsAbsolutePath);
+		MiscIRODSUtils.evaluateSpecCollSupport(objStat);
+
+		if (!objStat.isSomeTypeOfCollection()) {
+			log.error("this is a file, not a collection: {}", irodsAbsolutePath);
+			throw new JargonException("attempting to compute tree statistics for a file at path:" + irodsAbsolutePath);
+		}
+
+		final String effectiveAbsolutePath = MiscIRODSUtils.determineAbsolutePathBasedOnCollTypeInObjectStat(objStat);
+		final String zone = MiscIRODSUtils.getZoneInPath(effectiveAbsolutePath);
+		log.info("determined effectiveAbsolutePathToBe:{}", effectiveAbsolutePath);
+
+		List<String> children = listChildCollections(effectiveAbsolutePath, zone);
+		final int totalPartitions = children.size() + 1;
+		log.info("split into {} partitions", totalPartitions);
+
+		final AtomicInteger completedPartitions = new AtomicInteger();
+		CollectionTreeStatistics treeStatistics = new CollectionTreeStatistics(irodsAbsolutePath);
+
+		/*
+		 * data objects directly in the collection are done here, the child subtrees
+		 * by the workers
+		 */
+		CollectionTreeStatistics topStatistics = new CollectionTreeStatistics(effectiveAbsolutePath);
+		addDataObjectStatistics(topStatistics, zone, QueryConditionOperators.EQUAL, effectiveAbsolutePath);
+		treeStatistics.add(topStatistics);
+		notifyListener(listener, topStatistics, completedPartitions.incrementAndGet(), totalPartitions);
+
+		if (children.isEmpty()) {
+			log.info("no child collections:{}", treeStatistics);
+			return treeStatistics;
+		}
+
+		final Queue<String> partitions = new ConcurrentLinkedQueue<String>(children);
+		final Queue<CollectionTreeStatistics> results = new ConcurrentLinkedQueue<CollectionTreeStatistics>();
+		final AtomicBoolean failed = new AtomicBoolean(false);
+		List<Future<Void>> workers = new ArrayList<Future<Void>>();
+
+		for (int i = 0; i < Math.min(numberOfThreads, children.size()); i++) {
+			workers.add(executorService.submit(() -> {
+				try {
+					String partition;
+					while (!failed.get() && (partition = partitions.poll()) != null) {
+						CollectionTreeStatistics partitionStatistics = computePartition(partition, zone);
+						results.add(partitionStatistics);
+						notifyListener(listener, partitionStatistics, completedPartitions.incrementAndGet(),
+								totalPartitions);
+					}
+				} catch (Exception e) {
+					failed.set(true);
+					throw e;
+				} finally {
+					irodsAccessObjectFactory.closeSessionAndEatExceptions(irodsAccount);
+				}
+				return null;
+			}));
+		}
+
+		try {
+			for (Future<Void> worker : workers) {
+				worker.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failed.set(true);
+			throw new JargonException("interrupted computing tree statistics", e);
+		} catch (ExecutionException e) {
+			failed.set(true);
+			if (e.getCause() instanceof JargonException) {
+				throw (JargonException) e.getCause();
+			}
+			throw new JargonException("error computing tree statistics", e.getCause());
+		}
+
+		for (CollectionTreeStatistics partitionStatistics : results) {
+			treeStatistics.add(partitionStatistics);
+		}
+
+		log.info("tree statistics:{}", treeStatistics);
+		return treeStatistics;
+	}
+
+	/**
+	 * Shut down the worker threads
+	 */
+	public void shutdown() {
+		executorService.shutdown();
+	}
+
+	/**
+	 * Statistics for a child collection and everything under it
+	 */
+	private CollectionTreeStatistics computePartition(final String childPath, final String zone)
+			throws JargonException {
+		log.debug("computePartition():{}", childPath);
+		// wildcards in the child name would also match sibling collections
+		String childPrefix = MiscIRODSUtils.escapeGenQueryLikeWildcards(childPath) + "/%";
+		CollectionTreeStatistics partitionStatistics = new CollectionTreeStatistics(childPath);
+		addDataObjectStatistics(partitionStatistics, zone, QueryConditionOperators.EQUAL, childPath);
+		addDataObjectStatistics(partitionStatistics, zone, QueryConditionOperators.LIKE, childPrefix);
+		partitionStatistics.setCollectionCount(partitionStatistics.getCollectionCount() + 1
+				+ countCollections(zone, childPrefix));
+		return partitionStatistics;
+	}
+
+	private List<String> listChildCollections(final String parentPath, final String zone) throws JargonException {
+		IRODSGenQueryExecutor irodsGenQueryExecutor = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		List<String> children = new ArrayList<String>();
+		IRODSQueryResultSet resultSet = null;
+
+		try {
+			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME).addConditionAsGenQueryField(
+					RodsGenQueryEnum.COL_COLL_PARENT_NAME, QueryConditionOperators.EQUAL, parentPath);
+			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
+					irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax());
+			resultSet = irodsGenQueryExecutor.executeIRODSQueryWithPagingInZone(irodsQuery, 0, zone);
+			addChildren(resultSet, children);
+
+			while (resultSet.isHasMoreRecords()) {
+				log.debug("more child collections, requerying");
+				resultSet = irodsGenQueryExecutor.getMoreResultsInZone(resultSet, zone);
+				addChildren(resultSet, children);
+			}
+		} catch (JargonQueryException | GenQueryBuilderException e) {
+			log.error("query exception listing child collections", e);
+			throw new JargonException("error listing child collections", e);
+		} finally {
+			if (resultSet != null) {
+				irodsGenQueryExecutor.closeResults(resultSet);
+			}
+		}
+
+		return children;
+	}
+
+	private void addChildren(final IRODSQueryResultSet resultSet, final List<String> children)
+			throws JargonException {
+		for (IRODSQueryResultRow row : resultSet.getResults()) {
+			String child = row.getColumn(0);
+			/*
+			 * the root comes back as a child of itself, skip it
+			 */
+			if (!child.equals("/")) {
+				children.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Add the logical (replica 0) and per resource (all replicas) counts and
+	 * sizes for data objects whose collection matches the condition
+	 */
+	private void addDataObjectStatistics(final CollectionTreeStatistics statistics, final String zone,
+			final QueryConditionOperators operator, final String collectionCondition) throws JargonException {
+
+		IRODSGenQueryExecutor irodsGenQueryExecutor = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+
+		try {
+			IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+			builder.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_DATA_ID, SelectFieldTypes.COUNT)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE, SelectFieldTypes.SUM)
+					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, operator, collectionCondition)
+					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_REPL_NUM, QueryConditionOperators.EQUAL,
+							"0");
+			IRODSQueryResultSet resultSet = irodsGenQueryExecutor
+					.executeIRODSQueryAndCloseResultInZone(builder.exportIRODSQueryFromBuilder(1), 0, zone);
+
+			if (!resultSet.getResults().isEmpty()) {
+				IRODSQueryResultRow row = resultSet.getFirstResult();
+				statistics.setDataObjectCount(statistics.getDataObjectCount()
+						+ IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(row.getColumn(0)));
+				statistics.setTotalBytes(statistics.getTotalBytes()
+						+ IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(row.getColumn(1)));
+			}
+
+			builder = new IRODSGenQueryBuilder(true, null);
+			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_RESC_NAME)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_DATA_ID, SelectFieldTypes.COUNT)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE, SelectFieldTypes.SUM)
+					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, operator, collectionCondition);
+			resultSet = irodsGenQueryExecutor.executeIRODSQueryWithPagingInZone(
+					builder.exportIRODSQueryFromBuilder(
+							irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax()),
+					0, zone);
+
+			try {
+				addResourceStatistics(resultSet, statistics);
+				while (resultSet.isHasMoreRecords()) {
+					log.debug("more resources, requerying");
+					resultSet = irodsGenQueryExecutor.getMoreResultsInZone(resultSet, zone);
+					addResourceStatistics(resultSet, statistics);
+				}
+			} finally {
+				irodsGenQueryExecutor.closeResults(resultSet);
+			}
+		} catch (JargonQueryException | GenQueryBuilderException e) {
+			log.error("query exception computing data object statistics", e);
+			throw new JargonException("error computing data object statistics", e);
+		}
+	}
+
+	private void addResourceStatistics(final IRODSQueryResultSet resultSet,
+			final CollectionTreeStatistics statistics) throws JargonException {
+		for (IRODSQueryResultRow row : resultSet.getResults()) {
+			statistics.addResourceStatistics(row.getColumn(0),
+					IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(row.getColumn(1)),
+					IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(row.getColumn(2)));
+		}
+	}
+
+	private long countCollections(final String zone, final String collectionPrefix) throws JargonException {
+		IRODSGenQueryExecutor irodsGenQueryExecutor = irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+
+		try {
+			builder.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_COLL_ID, SelectFieldTypes.COUNT)
+					.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE,
+							collectionPrefix);
+			IRODSQueryResultSet resultSet = irodsGenQueryExecutor
+					.executeIRODSQueryAndCloseResultInZone(builder.exportIRODSQueryFromBuilder(1), 0, zone);
+
+			if (resultSet.getResults().isEmpty()) {
+				return 0L;
+			}
+			return IRODSDataConversionUtil.getLongOrZeroFromIRODSValue(resultSet.getFirstResult().getColumn(0));
+		} catch (JargonQueryException | GenQueryBuilderException e) {
+			log.error("query exception counting collections", e);
+			throw new JargonException("error counting collections", e);
+		}
+	}
+
+	private void notifyListener(final CollectionTreeStatisticsListener listener,
+			final CollectionTreeStatistics partitionStatistics, final int completedPartitions,
+			final int totalPartitions) {
+		if (listener == null) {
+			return;
+		}
+
+		try {
+			listener.partitionCompleted(partitionStatistics, completedPartitions, totalPartitions);
+		} catch (Exception e) {
+			log.warn("exception in tree statistics listener, ignored", e);
+		}
+	}
+
+	/**
+	 * Daemon threads so an un-shutdown service does not hold the JVM open
+	 */
+	private static class TreeStatisticsThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable r) {
+			Thread thread = new Thread(r, "jargon-tree-statistics-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -0,0 +1,841 @@
+/**
+ *
+ */
+package org.irods.jargon.core.sql;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.IRODSGenQueryExecutor;
+import org.irods.jargon.core.query.AbstractIRODSGenQuery;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.JargonQueryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A forward-only, read-only {@code java.sql.ResultSet} over a GenQuery. Only
+ * one page of results is held at a time. When the rows of a page are used up,
+ * the next page is requested from iRODS with the continuation of the query, so
+ * large results can be read with bounded memory. The page size is the number of
+ * results of the query, which {@link GenQueryStatement} sets from its fetch
+ * size.
+ * <p>
+ * GenQuery values are all strings. The typed getters convert the value of the
+ * current row directly, and column names are looked up once for the result
+ * set. iRODS does not tell an empty value from a missing one, so an empty value
+ * is returned as an empty {@code String}, and as 0 (with {@link #wasNull()}
+ * {@code true}) or {@code null} by the other getters. Times are converted from
+ * the iRODS seconds since the epoch.
+ * <p>
+ * Continuations use the connection of the thread that ran the query, so the
+ * result set must be read on that thread. Closing the result set before the last
+ * page closes the query in iRODS.
+ */
+public class GenQueryResultSet extends AbstractIRODSSqlResultSet {
+
+	public static final Logger log = LoggerFactory.getLogger(GenQueryResultSet.class);
+
+	private final IRODSGenQueryExecutor irodsGenQueryExecutor;
+	private final String zoneName;
+	private final Statement statement;
+	private final List<String> columnNames;
+	/**
+	 * 1 based column index by upper case column name
+	 */
+	private final Map<String, Integer> columnIndexes;
+	private final int maxRows;
+	private final int fetchSize;
+	private IRODSQueryResultSet page;
+	private int pageIndex = -1;
+	private List<String> currentRow = null;
+	private int row = 0;
+	private boolean afterLast = false;
+	private boolean queryClosed = false;
+	private boolean closed = false;
+	private boolean wasNull = false;
+
+	/**
+	 * Run a GenQuery and position a result set before its first row
+	 *
+	 * @param irodsGenQueryExecutor {@link IRODSGenQueryExecutor} to run the query
+	 *                              and its continuations
+	 * @param irodsQuery            {@link AbstractIRODSGenQuery} to run, its
+	 *                              number of results is the page size
+	 * @param zoneName              {@code String} with the optional zone of the
+	 *                              query, may be {@code null}
+	 * @param statement             {@link Statement} that created the result set,
+	 *                              may be {@code null}
+	 * @param maxRows               {@code int} with the most rows to return, 0 for
+	 *                              no limit
+	 * @return {@link GenQueryResultSet}
+	 * @throws SQLException if the query is invalid or fails
+	 */
+	public static GenQueryResultSet instance(final IRODSGenQueryExecutor irodsGenQueryExecutor,
+			final AbstractIRODSGenQuery irodsQuery, final String zoneName, final Statement statement,
+			final int maxRows) throws SQLException {
+		if (irodsGenQueryExecutor == null) {
+			throw new IllegalArgumentException("null irodsGenQueryExecutor");
+		}
+
+		if (irodsQuery == null) {
+			throw new IllegalArgumentException("null irodsQuery");
+		}
+
+		IRODSQueryResultSet firstPage;
+		try {
+			if (zoneName == null || zoneName.isEmpty()) {
+				firstPage = irodsGenQueryExecutor.executeIRODSQuery(irodsQuery, 0);
+			} else {
+				firstPage = irodsGenQueryExecutor.executeIRODSQueryInZone(irodsQuery, 0, zoneName);
+			}
+		} catch (JargonQueryException e) {
+			throw new SQLSyntaxErrorException(e.getMessage(), e);
+		} catch (JargonException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+
+		return new GenQueryResultSet(irodsGenQueryExecutor, firstPage, zoneName, statement, maxRows);
+	}
+
+	/**
+	 * Create a result set positioned before the first row of a page already
+	 * retrieved
+	 *
+	 * @param irodsGenQueryExecutor {@link IRODSGenQueryExecutor} for the
+	 *                              continuations
+	 * @param firstPage             {@link IRODSQueryResultSet} with the first page
+	 * @param zoneName              {@code String} with the optional zone of the
+	 *                              query, may be {@code null}
+	 * @param statement             {@link Statement} that created the result set,
+	 *                              may be {@code null}
+	 * @param maxRows               {@code int} with the most rows to return, 0 for
+	 *                              no limit
+	 */
+	GenQueryResultSet(final IRODSGenQueryExecutor irodsGenQueryExecutor, final IRODSQueryResultSet firstPage,
+			final String zoneName, final Statement statement, final int maxRows) {
+		if (irodsGenQueryExecutor == null) {
+			throw new IllegalArgumentException("null irodsGenQueryExecutor");
+		}
+
+		if (firstPage == null) {
+			throw new IllegalArgumentException("null firstPage");
+		}
+
+		if (maxRows < 0) {
+			throw new IllegalArgumentException("negative maxRows");
+		}
+
+		this.irodsGenQueryExecutor = irodsGenQueryExecutor;
+		page = firstPage;
+		this.zoneName = zoneName == null || zoneName.isEmpty() ? null : zoneName;
+		this.statement = statement;
+		this.maxRows = maxRows;
+		fetchSize = firstPage.getTranslatedIRODSQuery().getIrodsQuery().getNumberOfResultsDesired();
+		columnNames = Collections.unmodifiableList(firstPage.getColumnNames());
+		columnIndexes = new HashMap<String, Integer>(columnNames.size() * 2);
+		for (int i = 0; i < columnNames.size(); i++) {
+			columnIndexes.put(columnNames.get(i).toUpperCase(Locale.ROOT), i + 1);
+		}
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		checkOpen();
+
+		if (afterLast) {
+			return false;
+		}
+
+		if (maxRows > 0 && row >= maxRows) {
+			moveAfterLast();
+			return false;
+		}
+
+		pageIndex++;
+		while (pageIndex >= page.getResults().size()) {
+			if (!page.isHasMoreRecords()) {
+				moveAfterLast();
+				return false;
+			}
+			fetchNextPage();
+		}
+
+		currentRow = page.getResults().get(pageIndex).getColumnsAsList();
+		row++;
+		return true;
+	}
+
+	private void fetchNextPage() throws SQLException {
+		log.debug("fetching next page after row:{}", row);
+		try {
+			if (zoneName == null) {
+				page = irodsGenQueryExecutor.getMoreResults(page);
+			} else {
+				page = irodsGenQueryExecutor.getMoreResultsInZone(page, zoneName);
+			}
+		} catch (JargonException | JargonQueryException e) {
+			throw new SQLException("error getting next page of results", e);
+		}
+		pageIndex = 0;
+	}
+
+	private void moveAfterLast() throws SQLException {
+		currentRow = null;
+		afterLast = true;
+		closeQuery();
+	}
+
+	/*
+	 * Close the query in iRODS if it has more pages
+	 */
+	private void closeQuery() throws SQLException {
+		if (queryClosed || !page.isHasMoreRecords()) {
+			return;
+		}
+
+		queryClosed = true;
+		try {
+			irodsGenQueryExecutor.closeResults(page);
+		} catch (JargonException e) {
+			throw new SQLException("error closing query", e);
+		}
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		currentRow = null;
+		try {
+			closeQuery();
+		} finally {
+			if (statement instanceof GenQueryStatement) {
+				((GenQueryStatement) statement).resultSetClosed(this);
+			}
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return closed;
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		checkOpen();
+		return statement;
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		checkOpen();
+		return new GenQueryResultSetMetaData(columnNames);
+	}
+
+	@Override
+	public int findColumn(final String columnLabel) throws SQLException {
+		checkOpen();
+		if (columnLabel == null) {
+			throw new SQLException("null columnLabel");
+		}
+
+		Integer columnIndex = columnIndexes.get(columnLabel.toUpperCase(Locale.ROOT));
+		if (columnIndex == null) {
+			throw new SQLException("column not in results:" + columnLabel);
+		}
+		return columnIndex;
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		checkOpen();
+		return wasNull;
+	}
+
+	/*
+	 * Value of a column of the current row, with wasNull set if it is empty
+	 */
+	private String value(final int columnIndex) throws SQLException {
+		checkOpen();
+		if (currentRow == null) {
+			throw new SQLException("not positioned on a row");
+		}
+
+		if (columnIndex < 1 || columnIndex > currentRow.size()) {
+			throw new SQLException("column index out of range:" + columnIndex);
+		}
+
+		String value = currentRow.get(columnIndex - 1);
+		wasNull = value == null || value.isEmpty();
+		return value;
+	}
+
+	private long longValue(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		if (wasNull) {
+			return 0L;
+		}
+
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			throw new SQLException("value of column " + columnIndex + " is not an integer:" + value, e);
+		}
+	}
+
+	private double doubleValue(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		if (wasNull) {
+			return 0D;
+		}
+
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			throw new SQLException("value of column " + columnIndex + " is not a number:" + value, e);
+		}
+	}
+
+	/*
+	 * iRODS times are seconds since the epoch
+	 */
+	private long timeMillisValue(final int columnIndex) throws SQLException {
+		return longValue(columnIndex) * 1000L;
+	}
+
+	@Override
+	public String getString(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		return value == null ? "" : value;
+	}
+
+	@Override
+	public String getString(final String columnLabel) throws SQLException {
+		return getString(findColumn(columnLabel));
+	}
+
+	@Override
+	public String getNString(final int columnIndex) throws SQLException {
+		return getString(columnIndex);
+	}
+
+	@Override
+	public String getNString(final String columnLabel) throws SQLException {
+		return getString(findColumn(columnLabel));
+	}
+
+	@Override
+	public boolean getBoolean(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		if (wasNull) {
+			return false;
+		}
+		String trimmed = value.trim();
+		return trimmed.equals("1") || trimmed.equalsIgnoreCase("true");
+	}
+
+	@Override
+	public boolean getBoolean(final String columnLabel) throws SQLException {
+		return getBoolean(findColumn(columnLabel));
+	}
+
+	@Override
+	public byte getByte(final int columnIndex) throws SQLException {
+		return (byte) longValue(columnIndex);
+	}
+
+	@Override
+	public byte getByte(final String columnLabel) throws SQLException {
+		return getByte(findColumn(columnLabel));
+	}
+
+	@Override
+	public short getShort(final int columnIndex) throws SQLException {
+		return (short) longValue(columnIndex);
+	}
+
+	@Override
+	public short getShort(final String columnLabel) throws SQLException {
+		return getShort(findColumn(columnLabel));
+	}
+
+	@Override
+	public int getInt(final int columnIndex) throws SQLException {
+		return (int) longValue(columnIndex);
+	}
+
+	@Override
+	public int getInt(final String columnLabel) throws SQLException {
+		return getInt(findColumn(columnLabel));
+	}
+
+	@Override
+	public long getLong(final int columnIndex) throws SQLException {
+		return longValue(columnIndex);
+	}
+
+	@Override
+	public long getLong(final String columnLabel) throws SQLException {
+		return getLong(findColumn(columnLabel));
+	}
+
+	@Override
+	public float getFloat(final int columnIndex) throws SQLException {
+		return (float) doubleValue(columnIndex);
+	}
+
+	@Override
+	public float getFloat(final String columnLabel) throws SQLException {
+		return getFloat(findColumn(columnLabel));
+	}
+
+	@Override
+	public double getDouble(final int columnIndex) throws SQLException {
+		return doubleValue(columnIndex);
+	}
+
+	@Override
+	public double getDouble(final String columnLabel) throws SQLException {
+		return getDouble(findColumn(columnLabel));
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		if (wasNull) {
+			return null;
+		}
+
+		try {
+			return new BigDecimal(value.trim());
+		} catch (NumberFormatException e) {
+			throw new SQLException("value of column " + columnIndex + " is not a number:" + value, e);
+		}
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+		return getBigDecimal(findColumn(columnLabel));
+	}
+
+	@Override
+	@Deprecated
+	public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+		BigDecimal value = getBigDecimal(columnIndex);
+		return value == null ? null : value.setScale(scale, BigDecimal.ROUND_HALF_UP);
+	}
+
+	@Override
+	@Deprecated
+	public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+		return getBigDecimal(findColumn(columnLabel), scale);
+	}
+
+	@Override
+	public byte[] getBytes(final int columnIndex) throws SQLException {
+		String value = value(columnIndex);
+		return wasNull ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public byte[] getBytes(final String columnLabel) throws SQLException {
+		return getBytes(findColumn(columnLabel));
+	}
+
+	@Override
+	public Date getDate(final int columnIndex) throws SQLException {
+		long millis = timeMillisValue(columnIndex);
+		return wasNull ? null : new Date(millis);
+	}
+
+	@Override
+	public Date getDate(final String columnLabel) throws SQLException {
+		return getDate(findColumn(columnLabel));
+	}
+
+	@Override
+	public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+		return getDate(columnIndex);
+	}
+
+	@Override
+	public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+		return getDate(findColumn(columnLabel));
+	}
+
+	@Override
+	public Time getTime(final int columnIndex) throws SQLException {
+		long millis = timeMillisValue(columnIndex);
+		return wasNull ? null : new Time(millis);
+	}
+
+	@Override
+	public Time getTime(final String columnLabel) throws SQLException {
+		return getTime(findColumn(columnLabel));
+	}
+
+	@Override
+	public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+		return getTime(columnIndex);
+	}
+
+	@Override
+	public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+		return getTime(findColumn(columnLabel));
+	}
+
+	@Override
+	public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+		long millis = timeMillisValue(columnIndex);
+		return wasNull ? null : new Timestamp(millis);
+	}
+
+	@Override
+	public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+		return getTimestamp(findColumn(columnLabel));
+	}
+
+	@Override
+	public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+		return getTimestamp(columnIndex);
+	}
+
+	@Override
+	public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+		return getTimestamp(findColumn(columnLabel));
+	}
+
+	@Override
+	public Reader getCharacterStream(final int columnIndex) throws SQLException {
+		return new StringReader(getString(columnIndex));
+	}
+
+	@Override
+	public Reader getCharacterStream(final String columnLabel) throws SQLException {
+		return getCharacterStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+		return getCharacterStream(columnIndex);
+	}
+
+	@Override
+	public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+		return getCharacterStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public Object getObject(final int columnIndex) throws SQLException {
+		return getString(columnIndex);
+	}
+
+	@Override
+	public Object getObject(final String columnLabel) throws SQLException {
+		return getObject(findColumn(columnLabel));
+	}
+
+	@Override
+	public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+		return getObject(columnIndex);
+	}
+
+	@Override
+	public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+		return getObject(findColumn(columnLabel));
+	}
+
+	@Override
+	public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+		if (type == null) {
+			throw new SQLException("null type");
+		}
+
+		Object value;
+		if (type == String.class) {
+			value = getString(columnIndex);
+		} else if (type == Integer.class) {
+			value = getInt(columnIndex);
+		} else if (type == Long.class) {
+			value = getLong(columnIndex);
+		} else if (type == Short.class) {
+			value = getShort(columnIndex);
+		} else if (type == Byte.class) {
+			value = getByte(columnIndex);
+		} else if (type == Double.class) {
+			value = getDouble(columnIndex);
+		} else if (type == Float.class) {
+			value = getFloat(columnIndex);
+		} else if (type == Boolean.class) {
+			value = getBoolean(columnIndex);
+		} else if (type == BigDecimal.class) {
+			value = getBigDecimal(columnIndex);
+		} else if (type == Timestamp.class) {
+			value = getTimestamp(columnIndex);
+		} else if (type == Date.class) {
+			value = getDate(columnIndex);
+		} else if (type == Time.class) {
+			value = getTime(columnIndex);
+		} else if (type == byte[].class) {
+			value = getBytes(columnIndex);
+		} else {
+			throw new SQLFeatureNotSupportedException("conversion not supported:" + type.getName());
+		}
+		return wasNull && type != String.class ? null : type.cast(value);
+	}
+
+	@Override
+	public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+		return getObject(findColumn(columnLabel), type);
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		checkOpen();
+		return currentRow == null ? 0 : row;
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		checkOpen();
+		return row == 0 && !afterLast && (!page.getResults().isEmpty() || page.isHasMoreRecords());
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		checkOpen();
+		return afterLast && row > 0;
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		checkOpen();
+		return currentRow != null && row == 1;
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		checkOpen();
+		if (currentRow == null) {
+			return false;
+		}
+
+		if (maxRows > 0 && row >= maxRows) {
+			return true;
+		}
+
+		return pageIndex == page.getResults().size() - 1 && !page.isHasMoreRecords();
+	}
+
+	@Override
+	public void setFetchSize(final int rows) throws SQLException {
+		checkOpen();
+		if (rows < 0) {
+			throw new SQLException("negative fetch size");
+		}
+		// the page size is fixed once the query has run, so this is only a hint
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		checkOpen();
+		return fetchSize;
+	}
+
+	@Override
+	public void setFetchDirection(final int direction) throws SQLException {
+		if (direction != FETCH_FORWARD) {
+			throw new SQLException("result set is forward only");
+		}
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		checkOpen();
+		return null;
+	}
+
+	@Override
+	public boolean absolute(final int rowNumber) throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public boolean relative(final int rows) throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		throw new SQLException("result set is forward only");
+	}
+
+	@Override
+	public Array getArray(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Array getArray(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	@Deprecated
+	public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	@Deprecated
+	public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Blob getBlob(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Blob getBlob(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Clob getClob(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Clob getClob(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public NClob getNClob(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public NClob getNClob(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public SQLXML getSQLXML(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public SQLXML getSQLXML(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public URL getURL(final int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public URL getURL(final String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+		return iface != null && iface.isInstance(this);
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> iface) throws SQLException {
+		if (!isWrapperFor(iface)) {
+			throw new SQLException("not a wrapper for:" + iface);
+		}
+		return iface.cast(this);
+	}
+
+	private void checkOpen() throws SQLException {
+		if (closed) {
+			throw new SQLException("result set is closed");
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GenQueryResultSet [columnNames=").append(columnNames).append(", zoneName=").append(zoneName)
+				.append(", row=").append(row).append(", afterLast=").append(afterLast).append(", closed=")
+				.append(closed).append("]");
+		return builder.toString();
+	}
+
+}
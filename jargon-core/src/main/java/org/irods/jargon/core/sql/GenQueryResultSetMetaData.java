@@ -0,0 +1,170 @@
+/**
+ *
+ */
+package org.irods.jargon.core.sql;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Metadata for a {@link GenQueryResultSet}. GenQuery returns every value as a
+ * string, so every column is described as a nullable {@code VARCHAR} named by
+ * its GenQuery column.
+ */
+class GenQueryResultSetMetaData implements ResultSetMetaData {
+
+	private final List<String> columnNames;
+
+	GenQueryResultSetMetaData(final List<String> columnNames) {
+		if (columnNames == null) {
+			throw new IllegalArgumentException("null columnNames");
+		}
+		this.columnNames = columnNames;
+	}
+
+	private String columnName(final int column) throws SQLException {
+		if (column < 1 || column > columnNames.size()) {
+			throw new SQLException("column index out of range:" + column);
+		}
+		return columnNames.get(column - 1);
+	}
+
+	@Override
+	public int getColumnCount() throws SQLException {
+		return columnNames.size();
+	}
+
+	@Override
+	public String getColumnName(final int column) throws SQLException {
+		return columnName(column);
+	}
+
+	@Override
+	public String getColumnLabel(final int column) throws SQLException {
+		return columnName(column);
+	}
+
+	@Override
+	public int getColumnType(final int column) throws SQLException {
+		columnName(column);
+		return Types.VARCHAR;
+	}
+
+	@Override
+	public String getColumnTypeName(final int column) throws SQLException {
+		columnName(column);
+		return "VARCHAR";
+	}
+
+	@Override
+	public String getColumnClassName(final int column) throws SQLException {
+		columnName(column);
+		return String.class.getName();
+	}
+
+	@Override
+	public int isNullable(final int column) throws SQLException {
+		columnName(column);
+		return columnNullable;
+	}
+
+	@Override
+	public boolean isAutoIncrement(final int column) throws SQLException {
+		columnName(column);
+		return false;
+	}
+
+	@Override
+	public boolean isCaseSensitive(final int column) throws SQLException {
+		columnName(column);
+		return true;
+	}
+
+	@Override
+	public boolean isSearchable(final int column) throws SQLException {
+		columnName(column);
+		return true;
+	}
+
+	@Override
+	public boolean isCurrency(final int column) throws SQLException {
+		columnName(column);
+		return false;
+	}
+
+	@Override
+	public boolean isSigned(final int column) throws SQLException {
+		columnName(column);
+		return false;
+	}
+
+	@Override
+	public int getColumnDisplaySize(final int column) throws SQLException {
+		columnName(column);
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public String getSchemaName(final int column) throws SQLException {
+		columnName(column);
+		return "";
+	}
+
+	@Override
+	public int getPrecision(final int column) throws SQLException {
+		columnName(column);
+		return 0;
+	}
+
+	@Override
+	public int getScale(final int column) throws SQLException {
+		columnName(column);
+		return 0;
+	}
+
+	@Override
+	public String getTableName(final int column) throws SQLException {
+		columnName(column);
+		return "";
+	}
+
+	@Override
+	public String getCatalogName(final int column) throws SQLException {
+		columnName(column);
+		return "";
+	}
+
+	@Override
+	public boolean isReadOnly(final int column) throws SQLException {
+		columnName(column);
+		return true;
+	}
+
+	@Override
+	public boolean isWritable(final int column) throws SQLException {
+		columnName(column);
+		return false;
+	}
+
+	@Override
+	public boolean isDefinitelyWritable(final int column) throws SQLException {
+		columnName(column);
+		return false;
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+		return iface != null && iface.isInstance(this);
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> iface) throws SQLException {
+		if (!isWrapperFor(iface)) {
+			throw new SQLException("not a wrapper for:" + iface);
+		}
+		return iface.cast(this);
+	}
+
+}
@@ -0,0 +1,382 @@
+/**
+ *
+ */
+package org.irods.jargon.core.sql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.IRODSGenQueryExecutor;
+import org.irods.jargon.core.query.IRODSGenQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only {@code java.sql.Statement} that runs GenQuery strings (e.g.
+ * {@code select COLL_NAME, DATA_NAME where DATA_SIZE > '1000'}) and returns a
+ * forward-only {@link GenQueryResultSet}.
+ * <p>
+ * The fetch size is the GenQuery page size, that is the number of rows asked of
+ * iRODS at a time, and defaults to the {@code max.files.and.dirs.query.max}
+ * jargon property. There is no {@code Connection}, the statement runs on the
+ * connection of the calling thread through the given
+ * {@link IRODSGenQueryExecutor}. Updates and batches are not supported.
+ */
+public class GenQueryStatement implements Statement {
+
+	public static final Logger log = LoggerFactory.getLogger(GenQueryStatement.class);
+
+	private final IRODSGenQueryExecutor irodsGenQueryExecutor;
+	private final String zoneName;
+	private int fetchSize;
+	private int maxRows = 0;
+	private GenQueryResultSet resultSet = null;
+	private boolean closed = false;
+	private boolean closeOnCompletion = false;
+
+	/**
+	 * @param irodsGenQueryExecutor {@link IRODSGenQueryExecutor} to run queries
+	 * @param zoneName              {@code String} with the optional zone to query,
+	 *                              may be {@code null} for the zone of the account
+	 */
+	public GenQueryStatement(final IRODSGenQueryExecutor irodsGenQueryExecutor, final String zoneName) {
+		if (irodsGenQueryExecutor == null) {
+			throw new IllegalArgumentException("null irodsGenQueryExecutor");
+		}
+		this.irodsGenQueryExecutor = irodsGenQueryExecutor;
+		this.zoneName = zoneName;
+		fetchSize = irodsGenQueryExecutor.getJargonProperties().getMaxFilesAndDirsQueryMax();
+	}
+
+	@Override
+	public ResultSet executeQuery(final String sql) throws SQLException {
+		checkOpen();
+		if (sql == null || sql.isEmpty()) {
+			throw new SQLException("null or empty sql");
+		}
+
+		closeResultSet();
+		log.debug("executeQuery:{} fetchSize:{}", sql, fetchSize);
+
+		IRODSGenQuery irodsQuery;
+		try {
+			irodsQuery = IRODSGenQuery.instance(sql, fetchSize);
+		} catch (JargonException | IllegalArgumentException e) {
+			throw new SQLSyntaxErrorException(e.getMessage(), e);
+		}
+
+		resultSet = GenQueryResultSet.instance(irodsGenQueryExecutor, irodsQuery, zoneName, this, maxRows);
+		return resultSet;
+	}
+
+	@Override
+	public boolean execute(final String sql) throws SQLException {
+		executeQuery(sql);
+		return true;
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		checkOpen();
+		return resultSet;
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		checkOpen();
+		return -1;
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		return getMoreResults(CLOSE_CURRENT_RESULT);
+	}
+
+	@Override
+	public boolean getMoreResults(final int current) throws SQLException {
+		checkOpen();
+		if (current != KEEP_CURRENT_RESULT) {
+			closeResultSet();
+		}
+		resultSet = null;
+		return false;
+	}
+
+	@Override
+	public void setFetchSize(final int rows) throws SQLException {
+		checkOpen();
+		if (rows < 0) {
+			throw new SQLException("negative fetch size");
+		}
+
+		if (rows == 0) {
+			fetchSize = irodsGenQueryExecutor.getJargonProperties().getMaxFilesAndDirsQueryMax();
+		} else {
+			fetchSize = rows;
+		}
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		checkOpen();
+		return fetchSize;
+	}
+
+	@Override
+	public void setMaxRows(final int max) throws SQLException {
+		checkOpen();
+		if (max < 0) {
+			throw new SQLException("negative max rows");
+		}
+		maxRows = max;
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		checkOpen();
+		return maxRows;
+	}
+
+	@Override
+	public void setFetchDirection(final int direction) throws SQLException {
+		checkOpen();
+		if (direction != ResultSet.FETCH_FORWARD) {
+			throw new SQLException("results are forward only");
+		}
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		checkOpen();
+		return ResultSet.FETCH_FORWARD;
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		checkOpen();
+		return ResultSet.CONCUR_READ_ONLY;
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		checkOpen();
+		return ResultSet.TYPE_FORWARD_ONLY;
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		checkOpen();
+		return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		checkOpen();
+		return 0;
+	}
+
+	@Override
+	public void setMaxFieldSize(final int max) throws SQLException {
+		checkOpen();
+		if (max != 0) {
+			throw new SQLFeatureNotSupportedException("max field size not supported");
+		}
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		checkOpen();
+		return 0;
+	}
+
+	@Override
+	public void setQueryTimeout(final int seconds) throws SQLException {
+		checkOpen();
+		if (seconds != 0) {
+			throw new SQLFeatureNotSupportedException("query timeout not supported");
+		}
+	}
+
+	@Override
+	public void setEscapeProcessing(final boolean enable) throws SQLException {
+		checkOpen();
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		checkOpen();
+		return null;
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		checkOpen();
+	}
+
+	@Override
+	public void setCursorName(final String name) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		checkOpen();
+		return null;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		closeResultSet();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return closed;
+	}
+
+	@Override
+	public void setPoolable(final boolean poolable) throws SQLException {
+		checkOpen();
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		checkOpen();
+		return false;
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		checkOpen();
+		closeOnCompletion = true;
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		checkOpen();
+		return closeOnCompletion;
+	}
+
+	@Override
+	public int executeUpdate(final String sql) throws SQLException {
+		throw new SQLFeatureNotSupportedException("updates not supported");
+	}
+
+	@Override
+	public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+		throw new SQLFeatureNotSupportedException("updates not supported");
+	}
+
+	@Override
+	public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+		throw new SQLFeatureNotSupportedException("updates not supported");
+	}
+
+	@Override
+	public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
+		throw new SQLFeatureNotSupportedException("updates not supported");
+	}
+
+	@Override
+	public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
+		if (autoGeneratedKeys != NO_GENERATED_KEYS) {
+			throw new SQLFeatureNotSupportedException("generated keys not supported");
+		}
+		return execute(sql);
+	}
+
+	@Override
+	public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
+		throw new SQLFeatureNotSupportedException("generated keys not supported");
+	}
+
+	@Override
+	public boolean execute(final String sql, final String[] columnNames) throws SQLException {
+		throw new SQLFeatureNotSupportedException("generated keys not supported");
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		throw new SQLFeatureNotSupportedException("generated keys not supported");
+	}
+
+	@Override
+	public void addBatch(final String sql) throws SQLException {
+		throw new SQLFeatureNotSupportedException("batches not supported");
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		throw new SQLFeatureNotSupportedException("batches not supported");
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		throw new SQLFeatureNotSupportedException("batches not supported");
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+		return iface != null && iface.isInstance(this);
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> iface) throws SQLException {
+		if (!isWrapperFor(iface)) {
+			throw new SQLException("not a wrapper for:" + iface);
+		}
+		return iface.cast(this);
+	}
+
+	/**
+	 * Called by a result set of this statement when it is closed, closing the
+	 * statement if {@link #closeOnCompletion()} was asked for
+	 *
+	 * @param closedResultSet {@link GenQueryResultSet} that was closed
+	 * @throws SQLException if the statement cannot be closed
+	 */
+	void resultSetClosed(final GenQueryResultSet closedResultSet) throws SQLException {
+		if (closedResultSet == resultSet && closeOnCompletion) {
+			resultSet = null;
+			close();
+		}
+	}
+
+	private void closeResultSet() throws SQLException {
+		GenQueryResultSet current = resultSet;
+		resultSet = null;
+		if (current != null) {
+			current.close();
+		}
+	}
+
+	private void checkOpen() throws SQLException {
+		if (closed) {
+			throw new SQLException("statement is closed");
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("GenQueryStatement [zoneName=").append(zoneName).append(", fetchSize=").append(fetchSize)
+				.append(", maxRows=").append(maxRows).append(", closed=").append(closed).append("]");
+		return builder.toString();
+	}
+
+}
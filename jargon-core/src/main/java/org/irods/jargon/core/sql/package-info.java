@@ -1,9 +1,12 @@
 /**
- * <b>NOTE:Experimental:</b> New development, this may not be incorporated into
- * the released API.
+ * Implementations of {@code java.sql.*} interfaces presenting iRODS queries as
+ * standard result sets.
  * <p>
- * This package will hold implementations of {@code java.sql.*} interfaces. At
- * the current time, the primary focus is the presentation of various iRODS
- * query types as a standard result set.
+ * {@link org.irods.jargon.core.sql.GenQueryStatement} runs a GenQuery string
+ * and returns a forward-only {@link org.irods.jargon.core.sql.GenQueryResultSet}
+ * that pages through the results with bounded memory.
+ * <p>
+ * <b>NOTE:Experimental:</b> {@code IRODSQueryArrayBackedResultSet} is new
+ * development, and may not be incorporated into the released API.
  */
 package org.irods.jargon.core.sql;
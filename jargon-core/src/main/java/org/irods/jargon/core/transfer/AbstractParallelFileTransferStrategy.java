@@ -1,6 +1,8 @@
 package org.irods.jargon.core.transfer;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.irods.jargon.core.connection.ConnectionProgressStatusListener;
 import org.irods.jargon.core.connection.JargonProperties;
@@ -54,6 +56,7 @@ public abstract class AbstractParallelFileTransferStrategy {
 	private ConnectionProgressStatusListener connectionProgressStatusListener = null;
 	private final int parallelSocketTimeoutInSecs;
 	private final JargonProperties jargonProperties;
+	private ParallelTransferStatistics parallelTransferStatistics = null;
 
 	/**
 	 * Constructor for a parallel file transfer runner. This runner will create the
@@ -335,6 +338,52 @@ public abstract class AbstractParallelFileTransferStrategy {
 		return pipelineConfiguration;
 	}
 
+	/**
+	 * Get the telemetry for this transfer, once {@code transfer()} has returned
+	 *
+	 * @return {@link ParallelTransferStatistics}, or {@code null} if the transfer
+	 *         has not run
+	 */
+	public synchronized ParallelTransferStatistics getParallelTransferStatistics() {
+		return parallelTransferStatistics;
+	}
+
+	/**
+	 * Summarize the streams of a finished transfer, successful or not, and hand
+	 * the summary to the transfer control block and, if {@code jargon.instrument}
+	 * is set, the session's connection metrics registry
+	 *
+	 * @param transferType    {@link TransferType} of the transfer
+	 * @param startNanos      {@code long} with the start of the transfer from
+	 *                        {@code System.nanoTime()}
+	 * @param successful      {@code boolean} that is {@code true} if every
+	 *                        stream completed
+	 * @param transferThreads {@code List} of the
+	 *                        {@link AbstractParallelTransferThread} that did the
+	 *                        transfer
+	 */
+	protected void completeTransferStatistics(final TransferType transferType, final long startNanos,
+			final boolean successful, final List<? extends AbstractParallelTransferThread> transferThreads) {
+		List<ParallelTransferStreamStatistics> streamStatistics = new ArrayList<ParallelTransferStreamStatistics>();
+		for (AbstractParallelTransferThread transferThread : transferThreads) {
+			streamStatistics.add(transferThread.getStreamStatistics());
+		}
+
+		ParallelTransferStatistics statistics = new ParallelTransferStatistics(transferType,
+				localFile.getAbsolutePath(), transferLength, System.nanoTime() - startNanos, successful,
+				streamStatistics);
+		log.info("parallel transfer statistics:{}", statistics);
+
+		synchronized (this) {
+			parallelTransferStatistics = statistics;
+		}
+		transferControlBlock.addParallelTransferStatistics(statistics);
+		if (pipelineConfiguration.isInstrument()) {
+			irodsAccessObjectFactory.getIrodsSession().getConnectionMetricsRegistry()
+					.recordParallelTransfer(statistics);
+		}
+	}
+
 	/**
 	 * Provides individual threads a hook to create the appropriate encryption
 	 * cipher if needed.
@@ -32,11 +32,17 @@ public class AbstractParallelTransferThread {
 	 */
 	private final int threadNumber;
 
+	/**
+	 * Telemetry for the stream handled by this thread
+	 */
+	private final ParallelTransferStreamStatistics streamStatistics;
+
 	public static final Logger log = LoggerFactory.getLogger(AbstractParallelTransferThread.class);
 
 	protected AbstractParallelTransferThread(final int threadNumber) {
 		super();
 		this.threadNumber = threadNumber;
+		streamStatistics = new ParallelTransferStreamStatistics(threadNumber);
 	}
 
 	protected int readInt() throws JargonException {
@@ -143,6 +149,16 @@ public class AbstractParallelTransferThread {
 		this.exceptionInTransfer = exceptionInTransfer;
 	}
 
+	/**
+	 * Telemetry for the stream handled by this thread, complete once the thread
+	 * has finished
+	 *
+	 * @return {@link ParallelTransferStreamStatistics}
+	 */
+	public ParallelTransferStreamStatistics getStreamStatistics() {
+		return streamStatistics;
+	}
+
 	/**
 	 * @return the threadNumber
 	 */
@@ -1,5 +1,9 @@
 package org.irods.jargon.core.transfer;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.packinstr.TransferOptions;
 import org.slf4j.Logger;
@@ -44,6 +48,14 @@ public class DefaultTransferControlBlock implements TransferControlBlock {
 	private long totalBytesTransferredSoFar = 0L;
 	private long totalBytesToTransfer = 0L;
 
+	/**
+	 * Max number of parallel transfer summaries kept, the oldest are dropped
+	 * first
+	 */
+	public static final int MAX_PARALLEL_TRANSFER_STATISTICS = 100;
+
+	private final LinkedList<ParallelTransferStatistics> parallelTransferStatistics = new LinkedList<ParallelTransferStatistics>();
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -58,6 +70,7 @@ public class DefaultTransferControlBlock implements TransferControlBlock {
 		totalFilesTransferredSoFar = 0;
 		totalBytesTransferredSoFar = 0;
 		totalBytesToTransfer = 0;
+		parallelTransferStatistics.clear();
 	}
 
 	/**
@@ -417,4 +430,21 @@ public class DefaultTransferControlBlock implements TransferControlBlock {
 		return totalFilesTransferredSoFar - totalFilesSkippedSoFar;
 	}
 
+	@Override
+	public synchronized void addParallelTransferStatistics(
+			final ParallelTransferStatistics parallelTransferStatistics) {
+		if (parallelTransferStatistics == null) {
+			throw new IllegalArgumentException("null parallelTransferStatistics");
+		}
+		this.parallelTransferStatistics.add(parallelTransferStatistics);
+		if (this.parallelTransferStatistics.size() > MAX_PARALLEL_TRANSFER_STATISTICS) {
+			this.parallelTransferStatistics.removeFirst();
+		}
+	}
+
+	@Override
+	public synchronized List<ParallelTransferStatistics> getParallelTransferStatistics() {
+		return new ArrayList<ParallelTransferStatistics>(parallelTransferStatistics);
+	}
+
 }
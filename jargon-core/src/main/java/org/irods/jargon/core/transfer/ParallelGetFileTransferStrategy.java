@@ -137,6 +137,8 @@ public final class ParallelGetFileTransferStrategy extends AbstractParallelFileT
 
 	private void transferWithExecutor(final ExecutorService executor) throws JargonException {
 		final List<ParallelGetTransferThread> parallelGetTransferThreads = new ArrayList<ParallelGetTransferThread>();
+		long startNanos = System.nanoTime();
+		boolean successful = false;
 
 		try {
 
@@ -158,12 +160,15 @@ public final class ParallelGetFileTransferStrategy extends AbstractParallelFileT
 			}
 
 			log.info("executor completed");
+			successful = true;
 		} catch (InterruptedException e) {
 			log.error("interrupted exception in thread", e);
 			throw new JargonException(e);
 		} catch (Exception e) {
 			log.error("an error occurred in a parallel get", e);
 			throw new JargonException(e);
+		} finally {
+			completeTransferStatistics(TransferType.GET_TRANSFER, startNanos, successful, parallelGetTransferThreads);
 		}
 	}
 
@@ -71,7 +71,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 		}
 
 		this.parallelGetFileTransferStrategy = parallelGetFileTransferStrategy;
-		log.info("setting up the encryption if so negotiated");
+		log.debug("setting up the encryption if so negotiated");
 		if (this.parallelGetFileTransferStrategy.doEncryption()) {
 			log.debug("am doing encryption, enable the cypher");
 			parallelDecryptionCipherWrapper = this.parallelGetFileTransferStrategy.initializeCypherForDecryption();
@@ -114,6 +114,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 			s.setTcpNoDelay(false);
 			s.connect(address);
 			setS(s);
+			getStreamStatistics().recordSocketSettings(s);
 			byte[] outputBuffer = new byte[4];
 			Host.copyInt(parallelGetFileTransferStrategy.getPassword(), outputBuffer);
 
@@ -142,10 +143,15 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 			getOut().write(outputBuffer);
 			getOut().flush();
 			log.debug("cookie written");
-			log.info("sockets are open and password sent, now begin the get operation");
+			log.debug("sockets are open and password sent, now begin the get operation");
 
-			get();
-			log.info("exiting get and returning the finish object");
+			getStreamStatistics().start();
+			try {
+				get();
+			} finally {
+				getStreamStatistics().finish();
+			}
+			log.debug("exiting get and returning the finish object");
 			ParallelTransferResult result = new ParallelTransferResult();
 			result.transferException = getExceptionInTransfer();
 			return result;
@@ -162,20 +168,20 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 	}
 
 	public void get() throws JargonException {
-		log.info("parallel transfer get");
+		log.debug("parallel transfer get");
 
 		if (parallelGetFileTransferStrategy.getConnectionProgressStatusListener() == null) {
-			log.info("no connection progress status listener configured, no detailed callbacks");
+			log.debug("no connection progress status listener configured, no detailed callbacks");
 		} else {
-			log.info("connection listener configured, will produce callbacks");
+			log.debug("connection listener configured, will produce callbacks");
 		}
 
 		RandomAccessFile local = null;
 
 		try {
-			log.info("opening local randomAccessFile");
+			log.debug("opening local randomAccessFile");
 			local = new RandomAccessFile(parallelGetFileTransferStrategy.getLocalFile(), "rw");
-			log.info("random access file opened rw mode");
+			log.debug("random access file opened rw mode");
 			processingLoopForGetData(local);
 
 		} catch (JargonException je) {
@@ -185,15 +191,15 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 			log.error("Exception closing local file", e);
 			throw new JargonException("IOException closing local file");
 		} finally {
-			log.info("parallel thread closing out local random access file stream");
+			log.debug("parallel thread closing out local random access file stream");
 			try {
-				log.info("closing sockets, this close eats exceptions");
+				log.debug("closing sockets, this close eats exceptions");
 				close();
-				log.info("closing local file");
+				log.debug("closing local file");
 				if (local != null) {
 					local.close();
 				}
-				log.info("local file closed, exiting get() method");
+				log.debug("local file closed, exiting get() method");
 			} catch (IOException e) {
 			}
 		}
@@ -204,11 +210,12 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 	 * @throws JargonException
 	 */
 	private void processingLoopForGetData(final RandomAccessFile local) throws JargonException {
-		// log.info("reading header info...");
+		// log.debug("reading header info...");
 
 		// read the header
+		long networkStart = System.nanoTime();
 		int operation = readInt();
-		// log.info(" operation:{}", operation);
+		// log.debug(" operation:{}", operation);
 
 		readInt();
 
@@ -217,9 +224,11 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 
 		// How much to read/write
 		long length = readLong();
+		getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
+		getStreamStatistics().incrementSegmentCount();
 		// length
-		log.info(">>>new offset:{}", offset);
-		log.info(">>>new length:{}", length);
+		log.debug(">>>new offset:{}", offset);
+		log.debug(">>>new length:{}", length);
 
 		// Holds all the data for transfer
 		byte[] buffer = null;
@@ -230,7 +239,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 			throw new JargonException("parallel get transfer, unexpected transfer type from iRODS:" + operation);
 		}
 
-		log.info("seeking to offset: {}", offset);
+		log.debug("seeking to offset: {}", offset);
 		try {
 
 			seekToOffset(local, offset);
@@ -254,6 +263,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 				 * may change the length of the data
 				 */
 
+				networkStart = System.nanoTime();
 				if (parallelGetFileTransferStrategy.doEncryption()) {
 					// length is littleEndian
 					newSize = Integer.reverseBytes(readInt());
@@ -276,14 +286,17 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 				}
 
 				read = myRead(getIn(), buffer, newSize);
+				getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
 
 				/*
 				 * If encrypted, strip off the iv and decrypt before writing
 				 */
 
 				if (parallelGetFileTransferStrategy.doEncryption()) {
+					long encryptionStart = System.nanoTime();
 					buffer = parallelDecryptionCipherWrapper.decrypt(buffer);
 					read = buffer.length;
+					getStreamStatistics().addEncryptionNanos(System.nanoTime() - encryptionStart);
 
 				}
 
@@ -291,9 +304,10 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 
 				if (read > 0) {
 					length -= read;
+					getStreamStatistics().addBytesTransferred(read);
 					if (length == 0) {
 
-						local.write(buffer, 0, read);
+						writeToLocalFile(local, buffer, read);
 
 						/*
 						 * Make an intra-file status call-back if a listener is configured
@@ -310,23 +324,28 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 									parallelGetFileTransferStrategy.getFileRestartInfo().identifierFromThisInfo(),
 									getThreadNumber(), totalWrittenSinceLastRestartUpdate);
 							totalWrittenSinceLastRestartUpdate = 0;
+							getStreamStatistics().incrementRestartCheckpoints();
 							log.debug("signal storage of new info");
 
 						}
 
 						// read the next header
+						networkStart = System.nanoTime();
 						operation = readInt();
 						readInt();
 						offset = readLong();
 						length = readLong();
+						getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
 
-						log.info(">>>new offset:{}", offset);
-						log.info(">>>new length:{}", length);
+						log.debug(">>>new offset:{}", offset);
+						log.debug(">>>new length:{}", length);
 
 						if (operation == DONE_OPR) {
 							break;
 						}
 
+						getStreamStatistics().incrementSegmentCount();
+
 						/*
 						 * If restarting, maintain a reference to the offset
 						 */
@@ -339,7 +358,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 						throw new JargonException(msg);
 					} else {
 
-						local.write(buffer, 0, read);
+						writeToLocalFile(local, buffer, read);
 						/*
 						 * Make an intra-file status call-back if a listener is configured
 						 */
@@ -369,6 +388,13 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 		}
 	}
 
+	private void writeToLocalFile(final RandomAccessFile local, final byte[] buffer, final int length)
+			throws IOException {
+		long diskStart = System.nanoTime();
+		local.write(buffer, 0, length);
+		getStreamStatistics().addDiskNanos(System.nanoTime() - diskStart);
+	}
+
 	private int myRead(final InputStream in, final byte[] buffer, final int length)
 			throws IOException, JargonException {
 		int myLength = length;
@@ -381,7 +407,7 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 		}
 
 		while (myLength > 0) {
-			log.info(" top of while, my length:{} ", myLength);
+			log.debug(" top of while, my length:{} ", myLength);
 			if (ptr > buffer.length) {
 				log.error("ptr out of synch");
 				log.error("buffer size:{}", buffer.length);
@@ -391,13 +417,13 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 				throw new JargonException("pointer is pointing out of range of the buffer");
 			}
 
-			log.info("===========================");
-			log.info("ptr:{}", ptr);
-			log.info("myLength:{}", myLength);
+			log.debug("===========================");
+			log.debug("ptr:{}", ptr);
+			log.debug("myLength:{}", myLength);
 
 			read = in.read(buffer, ptr, myLength);
 
-			log.info(">>> read:{}", read);
+			log.debug(">>> read:{}", read);
 
 			if (read < 0) {
 				log.error("read < 0");
@@ -408,9 +434,9 @@ public final class ParallelGetTransferThread extends AbstractParallelTransferThr
 			totalRead += read;
 			ptr += read;
 
-			log.info("total read now:{}", totalRead);
-			log.info("out of original length:{}", length);
-			log.info("makes my length:{}", myLength);
+			log.debug("total read now:{}", totalRead);
+			log.debug("out of original length:{}", length);
+			log.debug("makes my length:{}", myLength);
 
 		}
 
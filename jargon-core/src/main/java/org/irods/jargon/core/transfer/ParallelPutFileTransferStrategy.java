@@ -151,6 +151,8 @@ public final class ParallelPutFileTransferStrategy extends AbstractParallelFileT
 
 		}
 
+		long startNanos = System.nanoTime();
+		boolean successful = false;
 		try {
 			log.info("invoking executor threads for put");
 			List<Future<ParallelTransferResult>> transferThreadStates = executor.invokeAll(parallelPutTransferThreads);
@@ -164,12 +166,15 @@ public final class ParallelPutFileTransferStrategy extends AbstractParallelFileT
 			}
 
 			log.info("executor completed");
+			successful = true;
 		} catch (InterruptedException e) {
 			log.error("interrupted exception in thread", e);
 			throw new JargonException(e);
 		} catch (Exception e) {
 			log.error("an error occurred in a parallel put", e);
 			throw new JargonException(e);
+		} finally {
+			completeTransferStatistics(TransferType.PUT_TRANSFER, startNanos, successful, parallelPutTransferThreads);
 		}
 	}
 }
@@ -70,7 +70,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 		this.parallelPutFileTransferStrategy = parallelPutFileTransferStrategy;
 
 		try {
-			log.info("opening socket to parallel transfer (high) port at port:{}",
+			log.debug("opening socket to parallel transfer (high) port at port:{}",
 					parallelPutFileTransferStrategy.getPort());
 			Socket s = new Socket();
 			if (parallelPutFileTransferStrategy.getPipelineConfiguration().getParallelTcpSendWindowSize() > 0) {
@@ -104,6 +104,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 			s.setTcpNoDelay(false);
 			s.connect(address);
 			setS(s);
+			getStreamStatistics().recordSocketSettings(s);
 			int inputBuffSize = this.parallelPutFileTransferStrategy.getJargonProperties()
 					.getInternalInputStreamBufferSize();
 			int outputBuffSize = this.parallelPutFileTransferStrategy.getJargonProperties()
@@ -125,7 +126,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 				setOut(new BufferedOutputStream(getS().getOutputStream(), outputBuffSize));
 			}
 
-			log.info("setting up the encryption if so negotiated");
+			log.debug("setting up the encryption if so negotiated");
 			if (this.parallelPutFileTransferStrategy.doEncryption()) {
 				log.debug("am doing encryption, enable the cypher");
 				parallelEncryptionCipherWrapper = this.parallelPutFileTransferStrategy.initializeCypherForEncryption();
@@ -143,11 +144,11 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 
 		try {
 
-			log.info("getting random access file for local file");
+			log.debug("getting random access file for local file");
 
 			localRandomAccessFile = new RandomAccessFile(parallelPutFileTransferStrategy.getLocalFile(), "r");
 
-			log.info("writing the cookie (password) for the output thread");
+			log.debug("writing the cookie (password) for the output thread");
 
 			// write the cookie
 			byte b[] = new byte[4];
@@ -156,7 +157,12 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 			getOut().flush();
 
 			log.debug("cookie written for output thread...calling put() to start read/write loop");
-			put();
+			getStreamStatistics().start();
+			try {
+				put();
+			} finally {
+				getStreamStatistics().finish();
+			}
 			log.debug("put operation completed");
 			ParallelTransferResult result = new ParallelTransferResult();
 			return result;
@@ -165,13 +171,13 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 			log.error("An exception occurred during a parallel file put operation", e);
 			throw new JargonException("error during parallel file put", e);
 		} finally {
-			log.info("closing sockets, this eats any exceptions");
+			log.debug("closing sockets, this eats any exceptions");
 			close();
-			log.info("socket conns for parallel transfer closed, now close the file stream");
+			log.debug("socket conns for parallel transfer closed, now close the file stream");
 			// close file stream
 			try {
 				localRandomAccessFile.close();
-				log.info("streams and files closed");
+				log.debug("streams and files closed");
 			} catch (IOException e) {
 			}
 		}
@@ -190,7 +196,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 	}
 
 	private void put() throws JargonException {
-		log.info("put()..");
+		log.debug("put()..");
 
 		byte[] buffer = null;
 		boolean done = false;
@@ -211,15 +217,17 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 				log.debug("in main put() loop, reading header data");
 
 				// read the header
+				long networkStart = System.nanoTime();
 				int operation = readInt();
-				if (log.isInfoEnabled()) {
-					log.info("   operation:" + operation);
+				if (log.isDebugEnabled()) {
+					log.debug("   operation:" + operation);
 				}
 
 				if (operation == AbstractParallelTransferThread.PUT_OPR) {
 					log.debug("put operation");
 				} else if (operation == AbstractParallelTransferThread.DONE_OPR) {
-					log.info("done received");
+					getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
+					log.debug("done received");
 					done = true;
 					break;
 				} else {
@@ -228,13 +236,13 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 
 				// read the flags
 				int flags = readInt();
-				if (log.isInfoEnabled()) {
-					log.info("   flags:" + flags);
+				if (log.isDebugEnabled()) {
+					log.debug("   flags:" + flags);
 				}
 				// Where to seek into the data
 				long offset = readLong();
-				if (log.isInfoEnabled()) {
-					log.info("   offset:" + offset);
+				if (log.isDebugEnabled()) {
+					log.debug("   offset:" + offset);
 				}
 
 				/*
@@ -249,9 +257,11 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 
 				// How much to read/write
 				long length = readLong();
-				if (log.isInfoEnabled()) {
-					log.info("   length:" + length);
+				if (log.isDebugEnabled()) {
+					log.debug("   length:" + length);
 				}
+				getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
+				getStreamStatistics().incrementSegmentCount();
 
 				if (offset != currentOffset) {
 					// seekToStartingPoint(offset - currentOffset); // FIXME:
@@ -260,7 +270,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 					currentOffset = offset;
 				}
 
-				log.info("buffer length for put is: {}", buffer.length);
+				log.debug("buffer length for put is: {}", buffer.length);
 
 				/*
 				 * Read/write loop moves data from file starting at offset down the socket until
@@ -296,10 +306,12 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 
 				log.debug("read/write loop at top");
 
+				long diskStart = System.nanoTime();
 				read = localRandomAccessFile.read(buffer, 0,
 						(int) Math.min(
 								parallelPutFileTransferStrategy.getJargonProperties().getParallelCopyBufferSize(),
 								transferLength));
+				getStreamStatistics().addDiskNanos(System.nanoTime() - diskStart);
 
 				log.debug("bytes read: {}", read);
 
@@ -315,8 +327,11 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 
 					if (parallelPutFileTransferStrategy.doEncryption()) {
 						log.debug("put with encryption, encrypt this buffer");
+						long encryptionStart = System.nanoTime();
 						EncryptionBuffer encryptedBuff = parallelEncryptionCipherWrapper
 								.encrypt(Arrays.copyOf(buffer, read));
+						getStreamStatistics().addEncryptionNanos(System.nanoTime() - encryptionStart);
+						long networkStart = System.nanoTime();
 						log.debug("iv length:{}", encryptedBuff.getInitializationVector().length);
 						// sendInNetworkOrder(encryptedBuff.getEncryptedData().length
 						// + encryptedBuff.getInitializationVector().length);
@@ -334,9 +349,13 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 						buffOut.writeTo(getOut());
 						// getOut().write(encryptedBuff.getInitializationVector());
 						// getOut().write(encryptedBuff.getEncryptedData());
+						getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
 					} else {
+						long networkStart = System.nanoTime();
 						getOut().write(buffer, 0, read);
+						getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
 					}
+					getStreamStatistics().addBytesTransferred(read);
 
 					/*
 					 * Make an intra-file status call-back if a listener is configured
@@ -362,6 +381,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 									parallelPutFileTransferStrategy.getFileRestartInfo().identifierFromThisInfo(),
 									getThreadNumber(), totalWrittenSinceLastRestartUpdate);
 							totalWrittenSinceLastRestartUpdate = 0;
+							getStreamStatistics().incrementRestartCheckpoints();
 							log.debug("signal storage of new info");
 						}
 
@@ -377,12 +397,14 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 				Thread.yield();
 			}
 
-			log.info("final flush of output buffer");
+			log.debug("final flush of output buffer");
+			long networkStart = System.nanoTime();
 			getOut().flush();
+			getStreamStatistics().addNetworkNanos(System.nanoTime() - networkStart);
 
-			log.info("for thread, total read: {}", totalRead);
-			log.info("   total written: {}", totalWritten);
-			log.info("   transferLength: {}", transferLength);
+			log.debug("for thread, total read: {}", totalRead);
+			log.debug("   total written: {}", totalWritten);
+			log.debug("   transferLength: {}", transferLength);
 
 			if (parallelPutFileTransferStrategy.getFileRestartInfo() != null) {
 				log.debug("checking total written for this thread");
@@ -390,6 +412,7 @@ public final class ParallelPutTransferThread extends AbstractParallelTransferThr
 					parallelPutFileTransferStrategy.getRestartManager().updateLengthForSegment(
 							parallelPutFileTransferStrategy.getFileRestartInfo().identifierFromThisInfo(),
 							getThreadNumber(), totalWrittenSinceLastRestartUpdate);
+					getStreamStatistics().incrementRestartCheckpoints();
 					log.debug("signal storage of new info");
 				}
 
@@ -0,0 +1,141 @@
+package org.irods.jargon.core.transfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.irods.jargon.core.transfer.AbstractParallelFileTransferStrategy.TransferType;
+
+/**
+ * Summary of one parallel file transfer, with the
+ * {@link ParallelTransferStreamStatistics} for each of its streams. These are
+ * added to the {@link TransferControlBlock} of the transfer, so a caller of
+ * {@link org.irods.jargon.core.pub.DataTransferOperations} can see how each
+ * stream performed, and are sent to the session's
+ * {@link org.irods.jargon.core.connection.ConnectionMetricsRegistry} when
+ * {@code jargon.instrument} is set.
+ */
+public class ParallelTransferStatistics {
+
+	private final TransferType transferType;
+	private final String localAbsolutePath;
+	private final long transferLength;
+	private final long elapsedNanos;
+	private final boolean successful;
+	private final List<ParallelTransferStreamStatistics> streamStatistics;
+
+	/**
+	 * @param transferType      {@link TransferType} of the transfer
+	 * @param localAbsolutePath {@code String} with the local file path
+	 * @param transferLength    {@code long} with the length of the file
+	 * @param elapsedNanos      {@code long} with the elapsed time of the whole
+	 *                          transfer
+	 * @param successful        {@code boolean} that is {@code true} if every
+	 *                          stream completed
+	 * @param streamStatistics  {@code List} of
+	 *                          {@link ParallelTransferStreamStatistics}, one per
+	 *                          stream
+	 */
+	public ParallelTransferStatistics(final TransferType transferType, final String localAbsolutePath,
+			final long transferLength, final long elapsedNanos, final boolean successful,
+			final List<ParallelTransferStreamStatistics> streamStatistics) {
+		if (transferType == null) {
+			throw new IllegalArgumentException("null transferType");
+		}
+		if (streamStatistics == null) {
+			throw new IllegalArgumentException("null streamStatistics");
+		}
+		this.transferType = transferType;
+		this.localAbsolutePath = localAbsolutePath;
+		this.transferLength = transferLength;
+		this.elapsedNanos = elapsedNanos;
+		this.successful = successful;
+		this.streamStatistics = Collections
+				.unmodifiableList(new ArrayList<ParallelTransferStreamStatistics>(streamStatistics));
+	}
+
+	public TransferType getTransferType() {
+		return transferType;
+	}
+
+	public String getLocalAbsolutePath() {
+		return localAbsolutePath;
+	}
+
+	public long getTransferLength() {
+		return transferLength;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public boolean isSuccessful() {
+		return successful;
+	}
+
+	public List<ParallelTransferStreamStatistics> getStreamStatistics() {
+		return streamStatistics;
+	}
+
+	/**
+	 * @return {@code long} with the bytes moved across all streams
+	 */
+	public long getTotalBytesTransferred() {
+		long total = 0L;
+		for (ParallelTransferStreamStatistics stream : streamStatistics) {
+			total += stream.getBytesTransferred();
+		}
+		return total;
+	}
+
+	/**
+	 * @return {@code long} with the bytes per second for the whole transfer, or 0
+	 *         if no time was recorded
+	 */
+	public long getBytesPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0L;
+		}
+		return (long) (getTotalBytesTransferred() / (elapsedNanos / 1000000000.0));
+	}
+
+	/**
+	 * @return {@code long} with the stall time summed across all streams
+	 */
+	public long getTotalStallNanos() {
+		long total = 0L;
+		for (ParallelTransferStreamStatistics stream : streamStatistics) {
+			total += stream.getStallNanos();
+		}
+		return total;
+	}
+
+	/**
+	 * @return {@link ParallelTransferStreamStatistics} for the stream with the
+	 *         lowest throughput, or {@code null} if there are no streams
+	 */
+	public ParallelTransferStreamStatistics getSlowestStream() {
+		ParallelTransferStreamStatistics slowest = null;
+		for (ParallelTransferStreamStatistics stream : streamStatistics) {
+			if (slowest == null || stream.getBytesPerSecond() < slowest.getBytesPerSecond()) {
+				slowest = stream;
+			}
+		}
+		return slowest;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ParallelTransferStatistics [transferType=").append(transferType)
+				.append(", localAbsolutePath=").append(localAbsolutePath).append(", transferLength=")
+				.append(transferLength).append(", elapsedMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(", bytesPerSecond=")
+				.append(getBytesPerSecond()).append(", successful=").append(successful)
+				.append(", streamStatistics=").append(streamStatistics).append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,198 @@
+package org.irods.jargon.core.transfer;
+
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Telemetry for one stream (thread and socket) of a parallel transfer: bytes
+ * moved, how the elapsed time split between the network, local disk I/O and
+ * encryption, time stalled on the network, restart checkpoints saved, and the
+ * socket settings actually in effect after connecting (the OS may adjust
+ * requested buffer sizes).
+ * <p>
+ * A network read or write that blocks for longer than
+ * {@link #STALL_THRESHOLD_MILLIS} counts in full as stall time. Network time
+ * includes waiting on iRODS for each segment header.
+ * <p>
+ * Values are updated only by the transfer thread that owns the stream, and
+ * should be read once the transfer is complete.
+ */
+public class ParallelTransferStreamStatistics {
+
+	/**
+	 * A single network read or write longer than this is counted as a stall
+	 */
+	public static final long STALL_THRESHOLD_MILLIS = 1000L;
+
+	private static final long STALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(STALL_THRESHOLD_MILLIS);
+
+	private final int threadNumber;
+	private long startNanos = 0L;
+	private long elapsedNanos = 0L;
+	private long bytesTransferred = 0L;
+	private int segmentCount = 0;
+	private int restartCheckpoints = 0;
+	private long networkNanos = 0L;
+	private long stallNanos = 0L;
+	private long diskNanos = 0L;
+	private long encryptionNanos = 0L;
+	private int sendBufferSize = 0;
+	private int receiveBufferSize = 0;
+	private int soTimeoutMillis = 0;
+	private boolean tcpNoDelay = false;
+	private boolean keepAlive = false;
+
+	/**
+	 * @param threadNumber {@code int} with the 0 based index of the transfer
+	 *                     thread
+	 */
+	public ParallelTransferStreamStatistics(final int threadNumber) {
+		this.threadNumber = threadNumber;
+	}
+
+	void start() {
+		startNanos = System.nanoTime();
+	}
+
+	void finish() {
+		if (startNanos != 0L) {
+			elapsedNanos = System.nanoTime() - startNanos;
+		}
+	}
+
+	void addBytesTransferred(final long bytes) {
+		bytesTransferred += bytes;
+	}
+
+	void incrementSegmentCount() {
+		segmentCount++;
+	}
+
+	void incrementRestartCheckpoints() {
+		restartCheckpoints++;
+	}
+
+	void addNetworkNanos(final long nanos) {
+		networkNanos += nanos;
+		if (nanos > STALL_THRESHOLD_NANOS) {
+			stallNanos += nanos;
+		}
+	}
+
+	void addDiskNanos(final long nanos) {
+		diskNanos += nanos;
+	}
+
+	void addEncryptionNanos(final long nanos) {
+		encryptionNanos += nanos;
+	}
+
+	/**
+	 * Capture the settings in effect on a connected socket
+	 *
+	 * @param socket {@link Socket} for this stream
+	 * @throws SocketException if the settings cannot be read
+	 */
+	void recordSocketSettings(final Socket socket) throws SocketException {
+		sendBufferSize = socket.getSendBufferSize();
+		receiveBufferSize = socket.getReceiveBufferSize();
+		soTimeoutMillis = socket.getSoTimeout();
+		tcpNoDelay = socket.getTcpNoDelay();
+		keepAlive = socket.getKeepAlive();
+	}
+
+	public int getThreadNumber() {
+		return threadNumber;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getBytesTransferred() {
+		return bytesTransferred;
+	}
+
+	/**
+	 * @return {@code long} with the bytes per second over the life of the stream,
+	 *         or 0 if no time was recorded
+	 */
+	public long getBytesPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0L;
+		}
+		return (long) (bytesTransferred / (elapsedNanos / 1000000000.0));
+	}
+
+	/**
+	 * @return {@code int} with the number of segments iRODS directed this stream
+	 *         to move
+	 */
+	public int getSegmentCount() {
+		return segmentCount;
+	}
+
+	/**
+	 * @return {@code int} with the number of times restart information was saved
+	 *         for this stream
+	 */
+	public int getRestartCheckpoints() {
+		return restartCheckpoints;
+	}
+
+	public long getNetworkNanos() {
+		return networkNanos;
+	}
+
+	public long getStallNanos() {
+		return stallNanos;
+	}
+
+	public long getDiskNanos() {
+		return diskNanos;
+	}
+
+	public long getEncryptionNanos() {
+		return encryptionNanos;
+	}
+
+	public int getSendBufferSize() {
+		return sendBufferSize;
+	}
+
+	public int getReceiveBufferSize() {
+		return receiveBufferSize;
+	}
+
+	public int getSoTimeoutMillis() {
+		return soTimeoutMillis;
+	}
+
+	public boolean isTcpNoDelay() {
+		return tcpNoDelay;
+	}
+
+	public boolean isKeepAlive() {
+		return keepAlive;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ParallelTransferStreamStatistics [threadNumber=").append(threadNumber)
+				.append(", bytesTransferred=").append(bytesTransferred).append(", bytesPerSecond=")
+				.append(getBytesPerSecond()).append(", elapsedMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(", networkMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(networkNanos)).append(", stallMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(stallNanos)).append(", diskMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(diskNanos)).append(", encryptionMillis=")
+				.append(TimeUnit.NANOSECONDS.toMillis(encryptionNanos)).append(", segmentCount=")
+				.append(segmentCount).append(", restartCheckpoints=").append(restartCheckpoints)
+				.append(", sendBufferSize=").append(sendBufferSize).append(", receiveBufferSize=")
+				.append(receiveBufferSize).append(", soTimeoutMillis=").append(soTimeoutMillis)
+				.append(", tcpNoDelay=").append(tcpNoDelay).append(", keepAlive=").append(keepAlive).append("]");
+		return builder.toString();
+	}
+
+}
@@ -1,5 +1,8 @@
 package org.irods.jargon.core.transfer;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.packinstr.TransferOptions;
 
@@ -253,4 +256,25 @@ public interface TransferControlBlock {
 	 */
 	void setTotalFilesSkippedSoFar(int totalFilesSkippedSoFar);
 
+	/**
+	 * Add the telemetry for a parallel file transfer done under this control
+	 * block. This is called by the transfer process. By default the telemetry is
+	 * not kept.
+	 *
+	 * @param parallelTransferStatistics
+	 *            {@link ParallelTransferStatistics} for the transfer
+	 */
+	default void addParallelTransferStatistics(final ParallelTransferStatistics parallelTransferStatistics) {
+	}
+
+	/**
+	 * Get the telemetry for the parallel file transfers done under this control
+	 * block, oldest first. Files moved without parallel streams are not included.
+	 *
+	 * @return {@code List} of {@link ParallelTransferStatistics}, empty by default
+	 */
+	default List<ParallelTransferStatistics> getParallelTransferStatistics() {
+		return Collections.emptyList();
+	}
+
 }
@@ -0,0 +1,352 @@
+/**
+ *
+ */
+package org.irods.jargon.core.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Small, bounded, thread-safe cache with a time-to-live on each entry and
+ * least-recently-used eviction once the maximum number of entries is reached.
+ * <p>
+ * This is meant for the modest caches Jargon keeps of catalog facts (ACLs,
+ * group membership and the like) where the number of entries is in the
+ * thousands, so a single lock around an access-ordered {@link LinkedHashMap}
+ * is sufficient. Expired entries are dropped lazily when they are looked up,
+ * or in bulk via {@link #purgeExpired()}.
+ * <p>
+ * Entries may be given a weight, such as the number of rows in a cached query
+ * result, and the cache may be bounded by total weight as well as by number of
+ * entries. Least recently used entries are evicted until both bounds hold.
+ * <p>
+ * Hit, miss and eviction counts are kept so that callers can report cache
+ * effectiveness.
+ *
+ * @param <K>
+ *            key type, must have sensible {@code equals} and {@code hashCode}
+ * @param <V>
+ *            value type
+ */
+public class ExpiringLruCache<K, V> {
+
+	private final int maxEntries;
+	private final long timeToLiveMillis;
+	private final long maxWeight;
+	private final LinkedHashMap<K, Entry<V>> cache;
+
+	private long totalWeight = 0L;
+	private long hits = 0L;
+	private long misses = 0L;
+	private long evictions = 0L;
+
+	/**
+	 * Create a cache
+	 *
+	 * @param maxEntries
+	 *            {@code int} with the maximum number of entries to hold before
+	 *            evicting the least recently used
+	 * @param timeToLiveMillis
+	 *            {@code long} with the number of milliseconds an entry is valid
+	 *            after it is put
+	 */
+	public ExpiringLruCache(final int maxEntries, final long timeToLiveMillis) {
+		this(maxEntries, timeToLiveMillis, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Create a cache bounded by total weight as well as number of entries
+	 *
+	 * @param maxEntries
+	 *            {@code int} with the maximum number of entries to hold before
+	 *            evicting the least recently used
+	 * @param timeToLiveMillis
+	 *            {@code long} with the number of milliseconds an entry is valid
+	 *            after it is put
+	 * @param maxWeight
+	 *            {@code long} with the maximum total weight of the entries held,
+	 *            see {@link #put(Object, Object, long, long)}
+	 */
+	public ExpiringLruCache(final int maxEntries, final long timeToLiveMillis, final long maxWeight) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries must be > 0");
+		}
+
+		if (timeToLiveMillis <= 0) {
+			throw new IllegalArgumentException("timeToLiveMillis must be > 0");
+		}
+
+		if (maxWeight <= 0) {
+			throw new IllegalArgumentException("maxWeight must be > 0");
+		}
+
+		this.maxEntries = maxEntries;
+		this.timeToLiveMillis = timeToLiveMillis;
+		this.maxWeight = maxWeight;
+		cache = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+				if (size() > ExpiringLruCache.this.maxEntries) {
+					evictions++;
+					totalWeight -= eldest.getValue().weight;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Get a value if it is cached and not expired
+	 *
+	 * @param key
+	 *            key to look up
+	 * @return value, or {@code null} if not cached or expired
+	 */
+	public synchronized V get(final K key) {
+		Entry<V> entry = cache.get(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+
+		if (entry.isExpired(System.currentTimeMillis())) {
+			cache.remove(key);
+			totalWeight -= entry.weight;
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return entry.value;
+	}
+
+	/**
+	 * Cache a value using the default time to live
+	 *
+	 * @param key
+	 *            key
+	 * @param value
+	 *            value, may not be {@code null}
+	 */
+	public void put(final K key, final V value) {
+		put(key, value, timeToLiveMillis);
+	}
+
+	/**
+	 * Cache a value with a specific time to live
+	 *
+	 * @param key
+	 *            key
+	 * @param value
+	 *            value, may not be {@code null}
+	 * @param entryTimeToLiveMillis
+	 *            {@code long} with the time to live for this entry
+	 */
+	public void put(final K key, final V value, final long entryTimeToLiveMillis) {
+		put(key, value, entryTimeToLiveMillis, 1L);
+	}
+
+	/**
+	 * Cache a value with a specific time to live and weight. Least recently used
+	 * entries are evicted until the total weight is within the maximum, and a
+	 * value heavier than the maximum on its own is not cached.
+	 *
+	 * @param key
+	 *            key
+	 * @param value
+	 *            value, may not be {@code null}
+	 * @param entryTimeToLiveMillis
+	 *            {@code long} with the time to live for this entry
+	 * @param weight
+	 *            {@code long} with the weight of this entry, at least 1
+	 */
+	public synchronized void put(final K key, final V value, final long entryTimeToLiveMillis, final long weight) {
+		if (key == null) {
+			throw new IllegalArgumentException("null key");
+		}
+
+		if (value == null) {
+			throw new IllegalArgumentException("null value");
+		}
+
+		if (weight < 1) {
+			throw new IllegalArgumentException("weight must be >= 1");
+		}
+
+		Entry<V> previous;
+		if (weight > maxWeight) {
+			previous = cache.remove(key);
+		} else {
+			totalWeight += weight;
+			previous = cache.put(key, new Entry<V>(value, System.currentTimeMillis() + entryTimeToLiveMillis, weight));
+		}
+
+		if (previous != null) {
+			totalWeight -= previous.weight;
+		}
+
+		Iterator<Entry<V>> eldest = cache.values().iterator();
+		while (totalWeight > maxWeight && eldest.hasNext()) {
+			totalWeight -= eldest.next().weight;
+			eldest.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Remove a value from the cache, silently ignoring a value that is not cached
+	 *
+	 * @param key
+	 *            key to remove
+	 */
+	public synchronized void remove(final K key) {
+		Entry<V> entry = cache.remove(key);
+		if (entry != null) {
+			totalWeight -= entry.weight;
+		}
+	}
+
+	/**
+	 * Remove every entry whose key matches the predicate
+	 *
+	 * @param keyPredicate
+	 *            {@link Predicate} selecting keys to remove
+	 * @return {@code int} with the number of entries removed
+	 */
+	public synchronized int removeIf(final Predicate<K> keyPredicate) {
+		if (keyPredicate == null) {
+			throw new IllegalArgumentException("null keyPredicate");
+		}
+
+		int removed = 0;
+		Iterator<Map.Entry<K, Entry<V>>> iter = cache.entrySet().iterator();
+		while (iter.hasNext()) {
+			Map.Entry<K, Entry<V>> next = iter.next();
+			if (keyPredicate.test(next.getKey())) {
+				totalWeight -= next.getValue().weight;
+				iter.remove();
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Drop all expired entries
+	 *
+	 * @return {@code int} with the number of entries removed
+	 */
+	public synchronized int purgeExpired() {
+		long now = System.currentTimeMillis();
+		int removed = 0;
+		Iterator<Entry<V>> iter = cache.values().iterator();
+		while (iter.hasNext()) {
+			Entry<V> entry = iter.next();
+			if (entry.isExpired(now)) {
+				totalWeight -= entry.weight;
+				iter.remove();
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Clear all entries, statistics are retained
+	 */
+	public synchronized void clear() {
+		cache.clear();
+		totalWeight = 0L;
+	}
+
+	/**
+	 * @return {@code int} with the number of entries currently held, which may
+	 *         include expired entries not yet purged
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return {@code long} with the total weight of the entries currently held
+	 */
+	public synchronized long getTotalWeight() {
+		return totalWeight;
+	}
+
+	/**
+	 * @return {@code long} with the count of lookups that found a live entry
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return {@code long} with the count of lookups that did not find a live
+	 *         entry
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return {@code long} with the count of entries evicted because the cache
+	 *         was full
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return {@code int} with the maximum number of entries
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @return {@code long} with the maximum total weight of the entries
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/**
+	 * @return {@code long} with the default time to live in milliseconds
+	 */
+	public long getTimeToLiveMillis() {
+		return timeToLiveMillis;
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ExpiringLruCache [maxEntries=").append(maxEntries).append(", timeToLiveMillis=")
+				.append(timeToLiveMillis).append(", size=").append(cache.size()).append(", totalWeight=")
+				.append(totalWeight).append(", hits=").append(hits).append(", misses=").append(misses)
+				.append(", evictions=").append(evictions).append("]");
+		return builder.toString();
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private final long expiresAt;
+		private final long weight;
+
+		Entry(final V value, final long expiresAt, final long weight) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.weight = weight;
+		}
+
+		boolean isExpired(final long now) {
+			return now >= expiresAt;
+		}
+	}
+
+}
@@ -16,6 +16,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.DateFormat;
@@ -25,6 +30,7 @@ import java.util.zip.CheckedInputStream;
 
 import org.apache.commons.codec.binary.Hex;
 import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.exception.JargonRuntimeException;
 import org.irods.jargon.core.pub.RuleProcessingAOImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +45,15 @@ public class LocalFileUtils {
 
 	public static final Logger log = LoggerFactory.getLogger(LocalFileUtils.class);
 
+	/**
+	 * Largest buffer used when reading local files to compute checksums
+	 */
+	public static final int CHECKSUM_BUFFER_SIZE = 1024 * 1024;
+
+	private static final ThreadLocal<MessageDigest> MD5_DIGEST = threadLocalDigest("MD5");
+
+	private static final ThreadLocal<MessageDigest> SHA256_DIGEST = threadLocalDigest("SHA-256");
+
 	/**
 	 * private constructor, this is not meant to be an instantiated class.
 	 */
@@ -304,46 +319,7 @@ public class LocalFileUtils {
 			throw new IllegalArgumentException("null or empty absolutePathToLocalFile");
 		}
 
-		FileInputStream file;
-		try {
-			file = new FileInputStream(absolutePathToLocalFile);
-
-		} catch (FileNotFoundException e1) {
-			throw new JargonException("error computing checksum, file not found:" + absolutePathToLocalFile, e1);
-
-		}
-
-		MessageDigest complete;
-		int numRead;
-		final BufferedInputStream in = new BufferedInputStream(file);
-		final byte[] buffer = new byte[4096];
-
-		try {
-			complete = MessageDigest.getInstance("SHA-256");
-			do {
-				numRead = in.read(buffer);
-				if (numRead > 0) {
-					complete.update(buffer, 0, numRead);
-				}
-			} while (numRead != -1);
-
-			return complete.digest();
-		} catch (final NoSuchAlgorithmException e) {
-			throw new JargonException("no such algorithm exception for MD5");
-		} catch (final Exception e) {
-			throw new JargonException("Error computing MD5 checksum", e);
-		} finally {
-			try {
-				in.close();
-			} catch (final IOException e) {
-				// ignore
-			}
-			try {
-				file.close();
-			} catch (final IOException e) {
-				// ignore
-			}
-		}
+		return computeDigestViaFileChannel(absolutePathToLocalFile, SHA256_DIGEST.get());
 	}
 
 	/**
@@ -359,46 +335,65 @@ public class LocalFileUtils {
 	public static byte[] computeMD5FileCheckSumViaAbsolutePath(final String absolutePathToLocalFile)
 			throws JargonException {
 
-		FileInputStream file;
-		try {
-			file = new FileInputStream(absolutePathToLocalFile);
-
-		} catch (FileNotFoundException e1) {
-			throw new JargonException("error computing checksum, file not found:" + absolutePathToLocalFile, e1);
-
+		if (absolutePathToLocalFile == null || absolutePathToLocalFile.isEmpty()) {
+			throw new IllegalArgumentException("null or empty absolutePathToLocalFile");
 		}
 
-		MessageDigest complete;
-		int numRead;
-		final BufferedInputStream in = new BufferedInputStream(file);
-		final byte[] buffer = new byte[4096];
-
-		try {
-			complete = MessageDigest.getInstance("MD5");
-			do {
-				numRead = in.read(buffer);
-				if (numRead > 0) {
-					complete.update(buffer, 0, numRead);
-				}
-			} while (numRead != -1);
+		return computeDigestViaFileChannel(absolutePathToLocalFile, MD5_DIGEST.get());
+	}
 
-			return complete.digest();
-		} catch (final NoSuchAlgorithmException e) {
-			throw new JargonException("no such algorithm exception for MD5");
-		} catch (final Exception e) {
-			throw new JargonException("Error computing MD5 checksum", e);
-		} finally {
-			try {
-				in.close();
-			} catch (final IOException e) {
-				// ignore
+	/**
+	 * Read the given file through a {@link FileChannel} into a heap buffer sized
+	 * to the file (up to {@link #CHECKSUM_BUFFER_SIZE}) and feed it to the
+	 * (per-thread, reused) digest. The buffer is only held for the call.
+	 *
+	 * @param absolutePathToLocalFile
+	 *            {@code String} with the absolute local file path
+	 * @param digest
+	 *            {@link MessageDigest} that will be reset and used to compute the
+	 *            value
+	 * @return {@code byte[]} with the digest value
+	 * @throws JargonException
+	 *             if the file is missing or cannot be read
+	 */
+	private static byte[] computeDigestViaFileChannel(final String absolutePathToLocalFile,
+			final MessageDigest digest) throws JargonException {
+
+		digest.reset();
+
+		try (FileChannel channel = FileChannel.open(Paths.get(absolutePathToLocalFile), StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer
+					.allocate((int) Math.max(1L, Math.min(channel.size(), CHECKSUM_BUFFER_SIZE)));
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
 			}
+			return digest.digest();
+		} catch (final NoSuchFileException e) {
+			throw new JargonException("error computing checksum, file not found:" + absolutePathToLocalFile, e);
+		} catch (final IOException e) {
+			throw new JargonException("Error computing " + digest.getAlgorithm() + " checksum", e);
+		} finally {
+			digest.reset();
+		}
+	}
+
+	/**
+	 * Create a per-thread {@link MessageDigest} for the given algorithm
+	 *
+	 * @param algorithm
+	 *            {@code String} with the JCE algorithm name
+	 * @return {@link ThreadLocal} of {@link MessageDigest}
+	 */
+	private static ThreadLocal<MessageDigest> threadLocalDigest(final String algorithm) {
+		return ThreadLocal.withInitial(() -> {
 			try {
-				file.close();
-			} catch (final IOException e) {
-				// ignore
+				return MessageDigest.getInstance(algorithm);
+			} catch (final NoSuchAlgorithmException e) {
+				throw new JargonRuntimeException("no such algorithm exception for " + algorithm, e);
 			}
-		}
+		});
 	}
 
 	/**
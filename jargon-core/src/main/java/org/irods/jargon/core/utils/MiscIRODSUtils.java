@@ -75,6 +75,30 @@ public class MiscIRODSUtils {
 
 	}
 
+	/**
+	 * Escape the {@code LIKE} wildcards in a value so that it matches literally
+	 * when used as part of a GenQuery {@code LIKE} condition, for example a
+	 * collection path used as a prefix. The catalog databases treat a backslash
+	 * as the default escape character.
+	 *
+	 * @param value {@link String} with the literal value
+	 * @return {@link String} with {@code %}, {@code _} and {@code \} escaped
+	 */
+	public static String escapeGenQueryLikeWildcards(final String value) {
+		if (value == null) {
+			throw new IllegalArgumentException("null value");
+		}
+
+		StringBuilder sb = new StringBuilder(value.length() + 8);
+		for (char c : value.toCharArray()) {
+			if (c == '%' || c == '_' || c == '\\') {
+				sb.append('\\');
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Private constructor, don't create instances
 	 */
@@ -0,0 +1,87 @@
+package org.irods.jargon.core.checksum;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import org.irods.jargon.core.protovalues.ChecksumEncodingEnum;
+import org.irods.jargon.core.utils.LocalFileUtils;
+import org.irods.jargon.testutils.TestingPropertiesHelper;
+import org.irods.jargon.testutils.filemanip.FileGenerator;
+import org.irods.jargon.testutils.filemanip.ScratchFileUtils;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ParallelLocalChecksumComputerTest {
+
+	private static Properties testingProperties = new Properties();
+	private static ScratchFileUtils scratchFileUtils = null;
+	public static final String IRODS_TEST_SUBDIR_PATH = "ParallelLocalChecksumComputerTest";
+	private static ParallelLocalChecksumComputer parallelLocalChecksumComputer;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		TestingPropertiesHelper testingPropertiesLoader = new TestingPropertiesHelper();
+		testingProperties = testingPropertiesLoader.getTestProperties();
+		scratchFileUtils = new ScratchFileUtils(testingProperties);
+		scratchFileUtils.clearAndReinitializeScratchDirectory(IRODS_TEST_SUBDIR_PATH);
+		parallelLocalChecksumComputer = new ParallelLocalChecksumComputer(4);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		parallelLocalChecksumComputer.shutdown();
+	}
+
+	@Test
+	public void testComputeChecksumsForDirectoryMatchesSerialSha256() throws Exception {
+		String rootCollection = "testComputeChecksumsForDirectoryMatchesSerialSha256";
+		String localAbsPath = scratchFileUtils
+				.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH + '/' + rootCollection);
+		FileGenerator.generateManyFilesAndCollectionsInParentCollectionByAbsolutePath(localAbsPath, "subdir", 1, 2, 2,
+				"file", ".txt", 4, 2, 1, 3 * LocalFileUtils.CHECKSUM_BUFFER_SIZE);
+
+		File localDir = new File(localAbsPath);
+		Map<String, ChecksumValue> actual = parallelLocalChecksumComputer.computeChecksumsForDirectory(localDir,
+				ChecksumEncodingEnum.SHA256);
+
+		Assert.assertFalse("no checksums computed", actual.isEmpty());
+		for (Map.Entry<String, ChecksumValue> entry : actual.entrySet()) {
+			Assert.assertArrayEquals("parallel checksum does not match a digest of the whole file",
+					digestWholeFile(entry.getKey(), "SHA-256"), entry.getValue().getBinaryChecksumValue());
+		}
+	}
+
+	@Test
+	public void testComputeChecksumsForFilesMd5() throws Exception {
+		String testFileName = "testComputeChecksumsForFilesMd5.txt";
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, testFileName, 100);
+
+		Map<String, ChecksumValue> actual = parallelLocalChecksumComputer.computeChecksumsForFiles(
+				Collections.singletonList(new File(localFileName)), ChecksumEncodingEnum.MD5);
+
+		Assert.assertEquals("should have one checksum", 1, actual.size());
+		Assert.assertArrayEquals("did not compute md5 checksum", digestWholeFile(localFileName, "MD5"),
+				actual.get(new File(localFileName).getAbsolutePath()).getBinaryChecksumValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testComputeChecksumsForDirectoryNotADirectory() throws Exception {
+		String testFileName = "testComputeChecksumsForDirectoryNotADirectory.txt";
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, testFileName, 100);
+		parallelLocalChecksumComputer.computeChecksumsForDirectory(new File(localFileName), ChecksumEncodingEnum.MD5);
+	}
+
+	private static byte[] digestWholeFile(final String absolutePath, final String algorithm) throws Exception {
+		return MessageDigest.getInstance(algorithm).digest(Files.readAllBytes(Paths.get(absolutePath)));
+	}
+
+}
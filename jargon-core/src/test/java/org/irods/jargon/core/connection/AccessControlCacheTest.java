@@ -0,0 +1,74 @@
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.irods.jargon.core.pub.domain.UserGroup;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AccessControlCacheTest {
+
+	@Test
+	public void testCacheAndRetrievePermission() {
+		AccessControlCache cache = new AccessControlCache(100, 60000L);
+		cache.cachePermission("host", "zone", "user1", "/zone/home/user1/file.txt", 1050);
+		Assert.assertEquals("did not get cached permission", Integer.valueOf(1050),
+				cache.retrievePermission("host", "zone", "user1", "/zone/home/user1/file.txt"));
+		Assert.assertNull("other user should not be cached",
+				cache.retrievePermission("host", "zone", "user2", "/zone/home/user1/file.txt"));
+		Assert.assertNull("other host should not be cached",
+				cache.retrievePermission("host2", "zone", "user1", "/zone/home/user1/file.txt"));
+	}
+
+	@Test
+	public void testInvalidatePathNotRecursive() {
+		AccessControlCache cache = new AccessControlCache(100, 60000L);
+		cache.cachePermission("host", "zone", "user1", "/zone/home/user1/coll", 1200);
+		cache.cachePermission("host", "zone", "user2", "/zone/home/user1/coll", 1050);
+		cache.cachePermission("host", "zone", "user1", "/zone/home/user1/coll/file.txt", 1200);
+		cache.invalidatePath("host", "zone", "/zone/home/user1/coll", false);
+		Assert.assertNull("user1 entry should be gone",
+				cache.retrievePermission("host", "zone", "user1", "/zone/home/user1/coll"));
+		Assert.assertNull("user2 entry should be gone",
+				cache.retrievePermission("host", "zone", "user2", "/zone/home/user1/coll"));
+		Assert.assertNotNull("child should remain",
+				cache.retrievePermission("host", "zone", "user1", "/zone/home/user1/coll/file.txt"));
+	}
+
+	@Test
+	public void testInvalidatePathRecursive() {
+		AccessControlCache cache = new AccessControlCache(100, 60000L);
+		cache.cachePermission("host", "zone", "user1", "/zone/home/user1/coll/file.txt", 1200);
+		cache.cachePermission("host", "zone", "user1", "/zone/home/user1/coll2", 1200);
+		cache.invalidatePath("host", "zone", "/zone/home/user1/coll", true);
+		Assert.assertNull("child should be gone",
+				cache.retrievePermission("host", "zone", "user1", "/zone/home/user1/coll/file.txt"));
+		Assert.assertNotNull("sibling with same prefix should remain",
+				cache.retrievePermission("host", "zone", "user1", "/zone/home/user1/coll2"));
+	}
+
+	@Test
+	public void testCacheUserGroupsAndInvalidateAll() {
+		AccessControlCache cache = new AccessControlCache(100, 60000L);
+		List<UserGroup> userGroups = new ArrayList<UserGroup>();
+		UserGroup userGroup = new UserGroup();
+		userGroup.setUserGroupName("group1");
+		userGroups.add(userGroup);
+		cache.cacheUserGroups("host", "zone", "user1", "", userGroups);
+		Assert.assertEquals("should get cached group", 1,
+				cache.retrieveUserGroups("host", "zone", "user1", "").size());
+		cache.invalidateAll();
+		Assert.assertNull("should be cleared", cache.retrieveUserGroups("host", "zone", "user1", ""));
+	}
+
+	@Test
+	public void testInstanceFromJargonProperties() throws Exception {
+		SettableJargonProperties jargonProperties = new SettableJargonProperties();
+		jargonProperties.setAclCacheMaxEntries(5);
+		jargonProperties.setAclCacheTimeToLiveInSeconds(10);
+		AccessControlCache cache = AccessControlCache.instance(jargonProperties);
+		Assert.assertNotNull("no cache created", cache);
+	}
+
+}
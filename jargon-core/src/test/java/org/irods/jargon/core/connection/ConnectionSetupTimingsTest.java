@@ -0,0 +1,37 @@
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.connection.ConnectionSetupTimings.Phase;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConnectionSetupTimingsTest {
+
+	@Test
+	public void testPhasesAddUpToTotal() throws Exception {
+		ConnectionSetupTimings timings = new ConnectionSetupTimings();
+		timings.addPhaseNanos(Phase.CONNECT, 1000L);
+		timings.addPhaseNanos(Phase.SSL_HANDSHAKE, 2000L);
+		timings.addPhaseNanos(Phase.SSL_HANDSHAKE, 500L);
+		timings.addPhaseNanos(Phase.AUTHENTICATION, 3000L);
+		Assert.assertEquals(1000L, timings.getPhaseNanos(Phase.CONNECT));
+		Assert.assertEquals(2500L, timings.getPhaseNanos(Phase.SSL_HANDSHAKE));
+		Assert.assertEquals(0L, timings.getPhaseNanos(Phase.SERVER_PROPERTIES));
+		Assert.assertEquals(6500L, timings.getTotalNanos());
+	}
+
+	@Test
+	public void testToString() throws Exception {
+		ConnectionSetupTimings timings = new ConnectionSetupTimings();
+		timings.addPhaseNanos(Phase.STARTUP_NEGOTIATION, 5000L);
+		timings.setOptimisticNegotiation(true);
+		String summary = timings.toString();
+		Assert.assertTrue(summary.contains("startup_negotiationMicros=5"));
+		Assert.assertTrue(summary.contains("optimisticNegotiation=true"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddNullPhase() throws Exception {
+		new ConnectionSetupTimings().addPhaseNanos(null, 1L);
+	}
+
+}
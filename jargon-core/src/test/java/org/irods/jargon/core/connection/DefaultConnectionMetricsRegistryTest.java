@@ -0,0 +1,129 @@
+package org.irods.jargon.core.connection;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.irods.jargon.core.protovalues.ErrorEnum;
+import org.irods.jargon.core.transfer.AbstractParallelFileTransferStrategy.TransferType;
+import org.irods.jargon.core.transfer.ParallelTransferStatistics;
+import org.irods.jargon.core.transfer.ParallelTransferStreamStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefaultConnectionMetricsRegistryTest {
+
+	@Test
+	public void testRecordApiCalls() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		registry.recordApiCall(702, 1000L, 100L, 2000L, 0);
+		registry.recordApiCall(702, 3000L, 100L, 2000L, 0);
+		registry.recordApiCall(633, 500L, 50L, 10L, ErrorEnum.CAT_NO_ROWS_FOUND.getInt());
+
+		Assert.assertEquals(3, registry.getRoundTripCount());
+		Assert.assertEquals(250L, registry.getRequestBytes());
+		Assert.assertEquals(4010L, registry.getResponseBytes());
+		Assert.assertEquals(2, registry.getApiLatencyHistogram(702).getCount());
+		Assert.assertEquals(2000L, registry.getApiLatencyHistogram(702).getMeanNanos());
+		Assert.assertNull(registry.getApiLatencyHistogram(1));
+		Assert.assertEquals(2, registry.getApiLatencySummaries().length);
+	}
+
+	@Test
+	public void testErrorCountsByCode() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		registry.recordApiCall(633, 500L, 50L, 10L, ErrorEnum.CAT_NO_ROWS_FOUND.getInt());
+		registry.recordApiCall(633, 500L, 50L, 10L, ErrorEnum.CAT_NO_ROWS_FOUND.getInt());
+		registry.recordApiCall(606, 500L, 50L, 10L, -1);
+
+		Assert.assertEquals(3, registry.getErrorCount());
+		Assert.assertEquals(Long.valueOf(2), registry.getErrorCounts().get(ErrorEnum.CAT_NO_ROWS_FOUND.getInt()));
+		String[] summaries = registry.getErrorCountSummaries();
+		Assert.assertEquals(2, summaries.length);
+		Assert.assertTrue("did not name error", summaries[0].contains("CAT_NO_ROWS_FOUND"));
+	}
+
+	@Test
+	public void testDescribeErrorWithSubCode() throws Exception {
+		int status = ErrorEnum.UNIX_FILE_OPEN_ERR.getInt() - 2;
+		Assert.assertEquals("UNIX_FILE_OPEN_ERR", DefaultConnectionMetricsRegistry.describeError(status));
+		Assert.assertEquals("UNKNOWN", DefaultConnectionMetricsRegistry.describeError(-1));
+	}
+
+	@Test
+	public void testConnectionCountsAndReset() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		registry.recordConnectionOpened();
+		registry.recordConnectionOpened();
+		registry.recordConnectionClosed();
+		registry.recordConnectionRenewed();
+		registry.recordApiCall(702, 1000L, 100L, 2000L, 0);
+		Assert.assertEquals(2, registry.getConnectionsOpened());
+		Assert.assertEquals(1, registry.getConnectionsClosed());
+		Assert.assertEquals(1, registry.getConnectionsRenewed());
+
+		registry.reset();
+		Assert.assertEquals(0, registry.getConnectionsOpened());
+		Assert.assertEquals(0, registry.getRoundTripCount());
+		Assert.assertEquals(0, registry.getApiLatencySummaries().length);
+	}
+
+	@Test
+	public void testRecordParallelTransfer() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		Assert.assertNull(registry.getLastParallelTransferSummary());
+
+		ParallelTransferStreamStatistics stream = new ParallelTransferStreamStatistics(0);
+		ParallelTransferStatistics statistics = new ParallelTransferStatistics(TransferType.PUT_TRANSFER,
+				"/local/file", 0L, 1000L, false, Arrays.asList(stream));
+		registry.recordParallelTransfer(statistics);
+
+		Assert.assertEquals(1, registry.getParallelTransferCount());
+		Assert.assertEquals(1, registry.getParallelTransferFailureCount());
+		Assert.assertSame(statistics, registry.getLastParallelTransfer());
+		Assert.assertNotNull(registry.getLastParallelTransferSummary());
+	}
+
+	@Test
+	public void testRecordConnectionSetup() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		ConnectionSetupTimings timings = new ConnectionSetupTimings();
+		timings.addPhaseNanos(ConnectionSetupTimings.Phase.CONNECT, 1000L);
+		timings.addPhaseNanos(ConnectionSetupTimings.Phase.AUTHENTICATION, 2000L);
+		timings.setOptimisticNegotiation(true);
+		registry.recordConnectionSetup(timings);
+		registry.recordConnectionSetup(new ConnectionSetupTimings());
+
+		Assert.assertEquals(2, registry.getConnectionSetupHistogram(ConnectionSetupTimings.Phase.CONNECT).getCount());
+		Assert.assertEquals(2, registry.getConnectionSetupTotalHistogram().getCount());
+		Assert.assertEquals(1, registry.getOptimisticNegotiationCount());
+		Assert.assertEquals(ConnectionSetupTimings.Phase.values().length + 1,
+				registry.getConnectionSetupSummaries().length);
+
+		registry.reset();
+		Assert.assertEquals(0, registry.getConnectionSetupTotalHistogram().getCount());
+		Assert.assertEquals(0, registry.getOptimisticNegotiationCount());
+	}
+
+	@Test
+	public void testRegisterWithPlatformMBeanServer() throws Exception {
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		registry.recordApiCall(702, 1000L, 100L, 2000L, 0);
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName("org.irods.jargon.core.connection:type=ConnectionMetricsTest");
+
+		try {
+			Assert.assertTrue(IRODSSession.registerConnectionMetricsMBean(mbs, registry, name));
+			Assert.assertFalse(IRODSSession.registerConnectionMetricsMBean(mbs, registry, name));
+			Assert.assertEquals(1L, mbs.getAttribute(name, "RoundTripCount"));
+			Assert.assertEquals(2000L, mbs.getAttribute(name, "ResponseBytes"));
+		} finally {
+			if (mbs.isRegistered(name)) {
+				mbs.unregisterMBean(name);
+			}
+		}
+	}
+
+}
@@ -1,6 +1,12 @@
 package org.irods.jargon.core.connection;
 
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.irods.jargon.core.connection.IRODSServerProperties.IcatEnabled;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.domain.ClientHints;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -270,4 +276,131 @@ public class DiscoveredServerPropertiesCacheTest {
 		Assert.assertNull(actual);
 	}
 
+	@Test
+	public void testServerPropertiesExpireAfterTimeToLive() throws Exception {
+		IRODSServerProperties props = IRODSServerProperties.instance(IcatEnabled.ICAT_ENABLED, 111, "rods4.2.8",
+				"d", "zone");
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.configure(50L, 0L, 0);
+		cache.cacheIRODSServerProperties("host", "zone", props);
+		cache.cacheAProperty("host", "zone", "key", "value");
+		Assert.assertNotNull(cache.retrieveIRODSServerProperties("host", "zone"));
+		Assert.assertEquals("value", cache.retrieveValue("host", "zone", "key"));
+
+		Thread.sleep(100);
+		Assert.assertNull("props should have expired", cache.retrieveIRODSServerProperties("host", "zone"));
+		Assert.assertNull("value should have expired", cache.retrieveValue("host", "zone", "key"));
+		Assert.assertEquals(2, cache.getExpirations());
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(2, cache.getMisses());
+
+		cache.cacheAProperty("host", "zone", "key", "value2");
+		Assert.assertEquals("value2", cache.retrieveValue("host", "zone", "key"));
+	}
+
+	@Test
+	public void testNoExpiryByDefault() throws Exception {
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.cacheClientHints("host", "zone", new ClientHints());
+		Thread.sleep(20);
+		Assert.assertNotNull(cache.retrieveClientHints("host", "zone"));
+		Assert.assertEquals(0, cache.getExpirations());
+	}
+
+	@Test
+	public void testMaxEntriesEvictsOldest() throws Exception {
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.configure(0L, 0L, 2);
+		cache.cacheClientHints("host1", "zone", new ClientHints());
+		Thread.sleep(5);
+		cache.cacheClientHints("host2", "zone", new ClientHints());
+		Thread.sleep(5);
+		cache.cacheClientHints("host3", "zone", new ClientHints());
+
+		Assert.assertNull("oldest should be evicted", cache.retrieveClientHints("host1", "zone"));
+		Assert.assertNotNull(cache.retrieveClientHints("host2", "zone"));
+		Assert.assertNotNull(cache.retrieveClientHints("host3", "zone"));
+		Assert.assertEquals(1, cache.getEvictions());
+	}
+
+	@Test
+	public void testRefreshAheadReplacesEntryInBackground() throws Exception {
+		final CountDownLatch refreshed = new CountDownLatch(1);
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.configure(10000L, 9990L, 0);
+		cache.setRefresher(new DiscoveredServerPropertiesRefresher() {
+
+			@Override
+			public IRODSServerProperties refreshIRODSServerProperties(final String host, final String zoneName)
+					throws JargonException {
+				refreshed.countDown();
+				return IRODSServerProperties.instance(IcatEnabled.ICAT_ENABLED, 222, "rods4.3.0", "d", zoneName);
+			}
+
+			@Override
+			public ClientHints refreshClientHints(final String host, final String zoneName) throws JargonException {
+				return null;
+			}
+		});
+
+		cache.cacheIRODSServerProperties("host", "zone",
+				IRODSServerProperties.instance(IcatEnabled.ICAT_ENABLED, 111, "rods4.2.8", "d", "zone"));
+		Thread.sleep(20);
+		IRODSServerProperties actual = cache.retrieveIRODSServerProperties("host", "zone");
+		Assert.assertEquals("cached value still returned while refreshing", 111, actual.getServerBootTime());
+		Assert.assertTrue("refresh did not run", refreshed.await(5, TimeUnit.SECONDS));
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (cache.getRefreshes() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		cache.shutdownRefresh();
+		Assert.assertEquals(1, cache.getRefreshes());
+		Assert.assertEquals(222, cache.retrieveIRODSServerProperties("host", "zone").getServerBootTime());
+	}
+
+	@Test
+	public void testSnapshotRoundTripViaFile() throws Exception {
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.cacheIRODSServerProperties("host", "zone",
+				IRODSServerProperties.instance(IcatEnabled.ICAT_ENABLED, 111, "rods4.2.8", "d", "zone"));
+		ClientHints clientHints = new ClientHints();
+		clientHints.setHashScheme("SHA256");
+		cache.cacheClientHints("host", "zone", clientHints);
+		cache.cacheAProperty("host", "zone", DiscoveredServerPropertiesCache.CHECKSUM_TYPE, "sha2");
+
+		File snapshotFile = File.createTempFile("dspc", ".json");
+		snapshotFile.deleteOnExit();
+		cache.saveSnapshot(snapshotFile);
+
+		DiscoveredServerPropertiesCache warmed = new DiscoveredServerPropertiesCache();
+		Assert.assertEquals(3, warmed.loadSnapshot(snapshotFile));
+		IRODSServerProperties props = warmed.retrieveIRODSServerProperties("host", "zone");
+		Assert.assertNotNull(props);
+		Assert.assertEquals(111, props.getServerBootTime());
+		Assert.assertTrue(props.isAtLeastIrods420());
+		Assert.assertEquals("SHA256", warmed.retrieveClientHints("host", "zone").getHashScheme());
+		Assert.assertEquals("sha2",
+				warmed.retrieveValue("host", "zone", DiscoveredServerPropertiesCache.CHECKSUM_TYPE));
+	}
+
+	@Test
+	public void testSnapshotSkipsExpiredEntries() throws Exception {
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		cache.cacheClientHints("host", "zone", new ClientHints());
+		DiscoveredServerPropertiesSnapshot snapshot = cache.takeSnapshot();
+		snapshot.getClientHints().get(0).setCachedAt(System.currentTimeMillis() - 60000L);
+
+		DiscoveredServerPropertiesCache warmed = new DiscoveredServerPropertiesCache();
+		warmed.configure(30000L, 0L, 0);
+		Assert.assertEquals(0, warmed.loadSnapshot(snapshot));
+		Assert.assertNull(warmed.retrieveClientHints("host", "zone"));
+	}
+
+	@Test
+	public void testLoadMissingSnapshotFile() throws Exception {
+		DiscoveredServerPropertiesCache cache = new DiscoveredServerPropertiesCache();
+		Assert.assertEquals(0, cache.loadSnapshot(new File("/nonexistent/dir/snapshot.json")));
+	}
+
 }
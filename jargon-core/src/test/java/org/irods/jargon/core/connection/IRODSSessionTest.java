@@ -4,6 +4,8 @@ import java.util.Properties;
 import java.util.concurrent.Executor;
 
 import org.irods.jargon.core.packinstr.TransferOptions;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactoryImpl;
 import org.irods.jargon.testutils.TestingPropertiesHelper;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -273,4 +275,28 @@ public class IRODSSessionTest {
 
 	}
 
+	@Test
+	public void testConnectionMetricsRecordedWhenInstrumented() throws Exception {
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSSession irodsSession = IRODSSession.instance(IRODSSimpleProtocolManager.instance());
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties(
+				irodsSession.getJargonProperties());
+		settableJargonProperties.setInstrument(true);
+		irodsSession.setJargonProperties(settableJargonProperties);
+		DefaultConnectionMetricsRegistry registry = new DefaultConnectionMetricsRegistry();
+		irodsSession.setConnectionMetricsRegistry(registry);
+
+		IRODSAccessObjectFactory accessObjectFactory = IRODSAccessObjectFactoryImpl.instance(irodsSession);
+		accessObjectFactory.getCollectionAO(irodsAccount)
+				.findByAbsolutePath(testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+						testingProperties, ""));
+		irodsSession.closeSession();
+
+		Assert.assertEquals("did not count connection open", 1, registry.getConnectionsOpened());
+		Assert.assertEquals("did not count connection close", 1, registry.getConnectionsClosed());
+		Assert.assertTrue("did not record round trips", registry.getRoundTripCount() > 0);
+		Assert.assertTrue("did not record bytes", registry.getResponseBytes() > 0);
+		Assert.assertFalse("no api latencies", registry.getApiLatencyHistograms().isEmpty());
+	}
+
 }
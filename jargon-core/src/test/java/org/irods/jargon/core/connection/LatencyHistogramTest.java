@@ -0,0 +1,83 @@
+package org.irods.jargon.core.connection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmptyHistogram() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.getCount());
+		Assert.assertEquals(0, histogram.getMeanNanos());
+		Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+
+	@Test
+	public void testPercentilesWithinBucketPrecision() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(1000000L, histogram.getMaxNanos());
+		Assert.assertEquals(500500L, histogram.getMeanNanos());
+
+		long p50 = histogram.getValueAtPercentile(50);
+		Assert.assertTrue("p50 out of range:" + p50, p50 >= 500000L && p50 <= 500000L * 107 / 100);
+		long p99 = histogram.getValueAtPercentile(99);
+		Assert.assertTrue("p99 out of range:" + p99, p99 >= 990000L && p99 <= 1000000L);
+		Assert.assertEquals("p100 should be the max", 1000000L, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testBucketBoundsCoverEveryValue() throws Exception {
+		long[] values = { 0L, 1L, 15L, 16L, 17L, 31L, 32L, 1000L, 123456789L, Long.MAX_VALUE };
+		for (long value : values) {
+			int index = LatencyHistogram.bucketIndex(value);
+			Assert.assertTrue("value above its bucket:" + value, LatencyHistogram.bucketUpperBound(index) >= value);
+			if (index > 0) {
+				Assert.assertTrue("value in wrong bucket:" + value,
+						LatencyHistogram.bucketUpperBound(index - 1) < value);
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentRecording() throws Exception {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						histogram.record(j);
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(40000, histogram.getCount());
+		Assert.assertEquals(9999L, histogram.getMaxNanos());
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(100L);
+		histogram.reset();
+		Assert.assertEquals(0, histogram.getCount());
+		Assert.assertEquals(0, histogram.getMaxNanos());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadPercentile() throws Exception {
+		new LatencyHistogram().getValueAtPercentile(101);
+	}
+
+}
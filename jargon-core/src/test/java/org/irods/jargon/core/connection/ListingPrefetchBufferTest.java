@@ -0,0 +1,76 @@
+package org.irods.jargon.core.connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.irods.jargon.core.query.PagingAwareCollectionListing;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ListingPrefetchBufferTest {
+
+	@Test
+	public void testOfferAndTake() throws Exception {
+		ListingPrefetchBuffer buffer = new ListingPrefetchBuffer(2, 60000L);
+		IRODSAccount irodsAccount = buildAccount("user1");
+		CompletableFuture<PagingAwareCollectionListing> page = new CompletableFuture<>();
+		Assert.assertTrue(buffer.offer(irodsAccount, "/zone/home/user1", true, 10, page));
+		Assert.assertSame(page, buffer.getLastScheduled(irodsAccount, "/zone/home/user1"));
+
+		Assert.assertNull("data objects at same offset not held",
+				buffer.take(irodsAccount, "/zone/home/user1", false, 10));
+		Assert.assertNull("other user not held", buffer.take(buildAccount("user2"), "/zone/home/user1", true, 10));
+		Assert.assertSame(page, buffer.take(irodsAccount, "/zone/home/user1", true, 10));
+		Assert.assertNull("page should be gone once taken", buffer.take(irodsAccount, "/zone/home/user1", true, 10));
+	}
+
+	@Test
+	public void testOfferBoundedPerListing() throws Exception {
+		ListingPrefetchBuffer buffer = new ListingPrefetchBuffer(2, 60000L);
+		IRODSAccount irodsAccount = buildAccount("user1");
+		CompletableFuture<PagingAwareCollectionListing> page = new CompletableFuture<>();
+		Assert.assertTrue(buffer.offer(irodsAccount, "/zone/home/user1", true, 10, page));
+		Assert.assertFalse("position already held",
+				buffer.offer(irodsAccount, "/zone/home/user1", true, 10, new CompletableFuture<>()));
+		Assert.assertTrue(buffer.offer(irodsAccount, "/zone/home/user1", true, 20, new CompletableFuture<>()));
+		Assert.assertFalse("listing full",
+				buffer.offer(irodsAccount, "/zone/home/user1", false, 0, new CompletableFuture<>()));
+		Assert.assertTrue("other listing has room",
+				buffer.offer(irodsAccount, "/zone/home/user1/coll", true, 10, new CompletableFuture<>()));
+
+		buffer.take(irodsAccount, "/zone/home/user1", true, 10);
+		Assert.assertTrue("room after take",
+				buffer.offer(irodsAccount, "/zone/home/user1", false, 0, new CompletableFuture<>()));
+	}
+
+	@Test
+	public void testIdleListingDropped() throws Exception {
+		ListingPrefetchBuffer buffer = new ListingPrefetchBuffer(2, 50L);
+		IRODSAccount irodsAccount = buildAccount("user1");
+		buffer.offer(irodsAccount, "/zone/home/user1", true, 10, new CompletableFuture<>());
+		Thread.sleep(150L);
+		Assert.assertNull(buffer.take(irodsAccount, "/zone/home/user1", true, 10));
+		Assert.assertNull(buffer.getLastScheduled(irodsAccount, "/zone/home/user1"));
+	}
+
+	@Test
+	public void testInvalidateCancelsPages() throws Exception {
+		ListingPrefetchBuffer buffer = new ListingPrefetchBuffer(2, 60000L);
+		IRODSAccount irodsAccount = buildAccount("user1");
+		Future<PagingAwareCollectionListing> page = new CompletableFuture<>();
+		buffer.offer(irodsAccount, "/zone/home/user1", true, 10, page);
+		buffer.invalidate(irodsAccount, "/zone/home/user1");
+		Assert.assertTrue(page.isCancelled());
+		Assert.assertEquals(0, buffer.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroPages() throws Exception {
+		new ListingPrefetchBuffer(0, 60000L);
+	}
+
+	private static IRODSAccount buildAccount(final String userName) throws Exception {
+		return IRODSAccount.instance("host", 1247, userName, "pw", "/zone/home/" + userName, "zone", "");
+	}
+
+}
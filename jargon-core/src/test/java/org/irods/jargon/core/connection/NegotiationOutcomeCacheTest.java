@@ -0,0 +1,77 @@
+package org.irods.jargon.core.connection;
+
+import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NegotiationOutcomeCacheTest {
+
+	@Test
+	public void testCacheAndRetrieve() throws Exception {
+		NegotiationOutcomeCache cache = new NegotiationOutcomeCache(10, 60000L);
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		Assert.assertNull(cache.retrieveServerPolicy(irodsAccount));
+		cache.cacheServerPolicy(irodsAccount, SslNegotiationPolicy.CS_NEG_REQUIRE);
+		Assert.assertEquals(SslNegotiationPolicy.CS_NEG_REQUIRE, cache.retrieveServerPolicy(irodsAccount));
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testKeyedByHostAndPortNotUser() throws Exception {
+		NegotiationOutcomeCache cache = new NegotiationOutcomeCache(10, 60000L);
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		IRODSAccount otherUser = IRODSAccount.instance("host", 1247, "other", "pwd", "/zone/home/other", "zone",
+				"");
+		IRODSAccount otherPort = IRODSAccount.instance("host", 1248, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		cache.cacheServerPolicy(irodsAccount, SslNegotiationPolicy.CS_NEG_REFUSE);
+		Assert.assertEquals(SslNegotiationPolicy.CS_NEG_REFUSE, cache.retrieveServerPolicy(otherUser));
+		Assert.assertNull(cache.retrieveServerPolicy(otherPort));
+	}
+
+	@Test
+	public void testEvict() throws Exception {
+		NegotiationOutcomeCache cache = new NegotiationOutcomeCache(10, 60000L);
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		cache.cacheServerPolicy(irodsAccount, SslNegotiationPolicy.CS_NEG_REQUIRE);
+		cache.evict(irodsAccount);
+		Assert.assertNull(cache.retrieveServerPolicy(irodsAccount));
+	}
+
+	@Test
+	public void testExpires() throws Exception {
+		NegotiationOutcomeCache cache = new NegotiationOutcomeCache(10, 1L);
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		cache.cacheServerPolicy(irodsAccount, SslNegotiationPolicy.CS_NEG_REQUIRE);
+		Thread.sleep(10);
+		Assert.assertNull(cache.retrieveServerPolicy(irodsAccount));
+	}
+
+	@Test
+	public void testSessionCacheOffWhenTimeToLiveZero() throws Exception {
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties();
+		settableJargonProperties.setNegotiationOutcomeCacheTimeToLiveInSeconds(0);
+		IRODSSession irodsSession = new IRODSSession(settableJargonProperties);
+		Assert.assertNull(irodsSession.getNegotiationOutcomeCache());
+
+		settableJargonProperties.setNegotiationOutcomeCacheTimeToLiveInSeconds(600);
+		irodsSession.setJargonProperties(settableJargonProperties);
+		NegotiationOutcomeCache cache = irodsSession.getNegotiationOutcomeCache();
+		Assert.assertNotNull(cache);
+		Assert.assertSame(cache, irodsSession.getNegotiationOutcomeCache());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCacheNullPolicy() throws Exception {
+		NegotiationOutcomeCache cache = new NegotiationOutcomeCache(10, 60000L);
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "pwd", "/zone/home/user", "zone",
+				"");
+		cache.cacheServerPolicy(irodsAccount, null);
+	}
+
+}
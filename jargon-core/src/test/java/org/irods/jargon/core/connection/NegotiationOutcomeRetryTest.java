@@ -0,0 +1,115 @@
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.exception.NegotiationOutcomeChangedException;
+import org.irods.jargon.core.packinstr.Tag;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class NegotiationOutcomeRetryTest {
+
+	private IRODSAccount buildAccount() throws Exception {
+		return IRODSAccount.instance("host", 1247, "user", "password", "/zone/home/user", "zone", "resc");
+	}
+
+	private IRODSSession buildSession() throws Exception {
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties();
+		settableJargonProperties.setNegotiationOutcomeCacheTimeToLiveInSeconds(600);
+		return new IRODSSession(settableJargonProperties);
+	}
+
+	@Test(expected = NegotiationOutcomeChangedException.class)
+	public void testServerNoLongerNegotiatingIsAMismatch() throws Exception {
+		IRODSSession irodsSession = buildSession();
+		IRODSAccount irodsAccount = buildAccount();
+		irodsSession.getNegotiationOutcomeCache().cacheServerPolicy(irodsAccount,
+				SslNegotiationPolicy.CS_NEG_DONT_CARE);
+
+		ClientServerNegotiationPolicy clientPolicy = new ClientServerNegotiationPolicy();
+		clientPolicy.setSslNegotiationPolicy(SslNegotiationPolicy.CS_NEG_DONT_CARE);
+		AbstractConnection connection = Mockito.mock(AbstractConnection.class);
+		Mockito.when(connection.getOperativeClientServerNegotiationPolicy()).thenReturn(clientPolicy);
+
+		IRODSMidLevelProtocol protocol = Mockito.mock(IRODSMidLevelProtocol.class);
+		Mockito.when(protocol.getIrodsConnection()).thenReturn(connection);
+		Mockito.when(protocol.getIrodsSession()).thenReturn(irodsSession);
+		Mockito.when(protocol.getPipelineConfiguration())
+				.thenReturn(irodsSession.buildPipelineConfigurationBasedOnJargonProperties());
+		// the server answers the startup pack with its version, as it does when not negotiating
+		Mockito.when(protocol.readMessage()).thenReturn(new Tag(AuthMechanism.VERSION_PI_TAG));
+
+		new StandardIRODSAuth().authenticate(protocol, irodsAccount);
+	}
+
+	@Test
+	public void testChangedOutcomeEvictsAndReconnects() throws Exception {
+		IRODSSession irodsSession = buildSession();
+		IRODSAccount irodsAccount = buildAccount();
+		irodsSession.getNegotiationOutcomeCache().cacheServerPolicy(irodsAccount,
+				SslNegotiationPolicy.CS_NEG_REQUIRE);
+
+		IRODSMidLevelProtocol staleProtocol = Mockito.mock(IRODSMidLevelProtocol.class);
+		IRODSMidLevelProtocol freshProtocol = Mockito.mock(IRODSMidLevelProtocol.class);
+		OutcomeChangingProtocolFactory factory = new OutcomeChangingProtocolFactory(staleProtocol, freshProtocol);
+
+		IRODSMidLevelProtocol actual = factory.instance(irodsSession, irodsAccount,
+				Mockito.mock(IRODSProtocolManager.class));
+
+		Assert.assertSame("should reconnect", freshProtocol, actual);
+		Assert.assertNull("cached policy should be evicted",
+				irodsSession.getNegotiationOutcomeCache().retrieveServerPolicy(irodsAccount));
+		Mockito.verify(staleProtocol).disconnectWithForce();
+		Mockito.verify(freshProtocol, Mockito.never()).disconnectWithForce();
+	}
+
+	/**
+	 * Hands out the given protocols in turn, with the first failing
+	 * authentication because the server's negotiation policy changed
+	 */
+	private static class OutcomeChangingProtocolFactory extends AbstractIRODSMidLevelProtocolFactory {
+		private final Deque<IRODSMidLevelProtocol> protocols;
+		private final IRODSMidLevelProtocol staleProtocol;
+
+		OutcomeChangingProtocolFactory(final IRODSMidLevelProtocol staleProtocol,
+				final IRODSMidLevelProtocol freshProtocol) {
+			super(new IRODSConnectionFactory() {
+				@Override
+				protected AbstractConnection instance(final IRODSAccount irodsAccount, final IRODSSession irodsSession,
+						final IRODSProtocolManager irodsProtocolManager) {
+					return Mockito.mock(AbstractConnection.class);
+				}
+			}, Mockito.mock(AuthenticationFactory.class));
+			this.staleProtocol = staleProtocol;
+			protocols = new ArrayDeque<IRODSMidLevelProtocol>(Arrays.asList(staleProtocol, freshProtocol));
+		}
+
+		@Override
+		protected IRODSMidLevelProtocol createInitialProtocol(final AbstractConnection connection,
+				final IRODSProtocolManager irodsProtocolManager) {
+			return protocols.remove();
+		}
+
+		@Override
+		protected IRODSMidLevelProtocol authenticate(final IRODSMidLevelProtocol protocol,
+				final IRODSAccount irodsAccount, final IRODSSession irodsSession,
+				final IRODSProtocolManager irodsProtocolManager) throws JargonException {
+			if (protocol == staleProtocol) {
+				throw new NegotiationOutcomeChangedException("server negotiation policy is now CS_NEG_REFUSE");
+			}
+			return protocol;
+		}
+
+		@Override
+		protected IRODSMidLevelProtocol decorate(final IRODSMidLevelProtocol irodsMidLevelProtocol,
+				final IRODSAccount irodsAccount, final IRODSSession irodsSession) {
+			return irodsMidLevelProtocol;
+		}
+	}
+
+}
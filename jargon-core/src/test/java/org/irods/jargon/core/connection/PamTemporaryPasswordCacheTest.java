@@ -0,0 +1,158 @@
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.irods.jargon.core.exception.AuthenticationException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class PamTemporaryPasswordCacheTest {
+
+	@Test
+	public void testCacheAndRetrieveTemporaryPassword() throws Exception {
+		PamTemporaryPasswordCache cache = new PamTemporaryPasswordCache(100, 60000L);
+		IRODSAccount pamAccount = IRODSAccount.instance("host", 1247, "user1", "pampass", "", "zone", "");
+		IRODSAccount otherUser = IRODSAccount.instance("host", 1247, "user2", "pampass", "", "zone", "");
+		cache.cacheTemporaryPassword(pamAccount, "temppass");
+		Assert.assertEquals("did not get temp password", "temppass", cache.retrieveTemporaryPassword(pamAccount));
+		Assert.assertNull("other user should not be cached", cache.retrieveTemporaryPassword(otherUser));
+		Assert.assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void testChangedPamPasswordNotReused() throws Exception {
+		PamTemporaryPasswordCache cache = new PamTemporaryPasswordCache(100, 60000L);
+		IRODSAccount pamAccount = IRODSAccount.instance("host", 1247, "user1", "pampass", "", "zone", "");
+		cache.cacheTemporaryPassword(pamAccount, "temppass");
+		IRODSAccount changedPassword = IRODSAccount.instance("host", 1247, "user1", "newpass", "", "zone", "");
+		Assert.assertNull("should not reuse for a different PAM password",
+				cache.retrieveTemporaryPassword(changedPassword));
+		Assert.assertNull("entry should be discarded", cache.retrieveTemporaryPassword(pamAccount));
+	}
+
+	@Test
+	public void testEvict() throws Exception {
+		PamTemporaryPasswordCache cache = new PamTemporaryPasswordCache(100, 60000L);
+		IRODSAccount pamAccount = IRODSAccount.instance("host", 1247, "user1", "pampass", "", "zone", "");
+		cache.cacheTemporaryPassword(pamAccount, "temppass");
+		cache.evict(pamAccount);
+		Assert.assertNull("should be evicted", cache.retrieveTemporaryPassword(pamAccount));
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		PamTemporaryPasswordCache cache = new PamTemporaryPasswordCache(100, 1L);
+		IRODSAccount pamAccount = IRODSAccount.instance("host", 1247, "user1", "pampass", "", "zone", "");
+		cache.cacheTemporaryPassword(pamAccount, "temppass");
+		Thread.sleep(10);
+		Assert.assertNull("should be expired", cache.retrieveTemporaryPassword(pamAccount));
+	}
+
+	@Test
+	public void testComputeTimeToLiveCappedByPamTimeToLive() {
+		Assert.assertEquals(600000L, PamTemporaryPasswordCache.computeTimeToLiveMillis(600, 0));
+		Assert.assertEquals(300000L, PamTemporaryPasswordCache.computeTimeToLiveMillis(600, 600));
+		Assert.assertEquals(600000L, PamTemporaryPasswordCache.computeTimeToLiveMillis(600, 7200));
+	}
+
+	@Test
+	public void testComputeTimeToLiveUnderASecondTurnsCacheOff() {
+		Assert.assertEquals(0L, PamTemporaryPasswordCache.computeTimeToLiveMillis(600, 1));
+		Assert.assertEquals(1000L, PamTemporaryPasswordCache.computeTimeToLiveMillis(600, 2));
+		Assert.assertEquals(0L, PamTemporaryPasswordCache.computeTimeToLiveMillis(0, 600));
+	}
+
+	@Test
+	public void testSessionCacheOffForOneSecondPamTimeToLive() throws Exception {
+		SettableJargonProperties jargonProperties = new SettableJargonProperties();
+		jargonProperties.setPamTemporaryPasswordCacheTimeToLiveInSeconds(600);
+		jargonProperties.setPAMTimeToLive(1);
+		IRODSSession irodsSession = new IRODSSession(jargonProperties);
+		Assert.assertNull("cache should be off", irodsSession.getPamTemporaryPasswordCache());
+		Assert.assertNull("cache should be off", PamTemporaryPasswordCache.instance(jargonProperties));
+	}
+
+	@Test
+	public void testSessionCacheTurnedOff() throws Exception {
+		SettableJargonProperties jargonProperties = new SettableJargonProperties();
+		jargonProperties.setPamTemporaryPasswordCacheTimeToLiveInSeconds(0);
+		IRODSSession irodsSession = new IRODSSession(jargonProperties);
+		Assert.assertNull("cache should be off", irodsSession.getPamTemporaryPasswordCache());
+		jargonProperties.setPamTemporaryPasswordCacheTimeToLiveInSeconds(60);
+		irodsSession.setJargonProperties(jargonProperties);
+		Assert.assertNotNull("cache should be on", irodsSession.getPamTemporaryPasswordCache());
+	}
+
+	@Test
+	public void testRejectedTemporaryPasswordOpensOneCountedConnection() throws Exception {
+		SettableJargonProperties jargonProperties = new SettableJargonProperties();
+		jargonProperties.setPamTemporaryPasswordCacheTimeToLiveInSeconds(600);
+		IRODSSession irodsSession = new IRODSSession(jargonProperties);
+		ConnectionMetricsRegistry connectionMetricsRegistry = Mockito.mock(ConnectionMetricsRegistry.class);
+		irodsSession.setConnectionMetricsRegistry(connectionMetricsRegistry);
+
+		IRODSAccount pamAccount = IRODSAccount.instance("host", 1247, "user1", "pampass", "", "zone", "");
+		pamAccount.setAuthenticationScheme(AuthScheme.PAM);
+		irodsSession.getPamTemporaryPasswordCache().cacheTemporaryPassword(pamAccount, "expiredtemppass");
+
+		IRODSMidLevelProtocol staleProtocol = Mockito.mock(IRODSMidLevelProtocol.class);
+		IRODSMidLevelProtocol freshProtocol = Mockito.mock(IRODSMidLevelProtocol.class);
+		Mockito.when(freshProtocol.isInstrumented()).thenReturn(true);
+
+		// the cached password is rejected, then the full PAM login succeeds
+		AuthMechanism authMechanism = Mockito.mock(AuthMechanism.class);
+		Mockito.when(authMechanism.authenticate(Mockito.any(IRODSMidLevelProtocol.class),
+				Mockito.any(IRODSAccount.class))).thenThrow(new AuthenticationException("expired"))
+				.thenReturn(freshProtocol);
+		AuthenticationFactory authenticationFactory = Mockito.mock(AuthenticationFactory.class);
+		Mockito.when(authenticationFactory.instanceAuthMechanism(Mockito.any(IRODSAccount.class)))
+				.thenReturn(authMechanism);
+
+		IRODSMidLevelProtocol actual = new QueuedProtocolFactory(authenticationFactory, staleProtocol, freshProtocol)
+				.instance(irodsSession, pamAccount, Mockito.mock(IRODSProtocolManager.class));
+
+		Assert.assertSame("should reconnect", freshProtocol, actual);
+		Assert.assertNull("rejected password should be evicted",
+				irodsSession.getPamTemporaryPasswordCache().retrieveTemporaryPassword(pamAccount));
+		Mockito.verify(staleProtocol).disconnectWithForce();
+		Mockito.verify(connectionMetricsRegistry, Mockito.times(1)).recordConnectionOpened();
+		Mockito.verify(connectionMetricsRegistry, Mockito.times(1))
+				.recordConnectionSetup(Mockito.any(ConnectionSetupTimings.class));
+	}
+
+	/**
+	 * Hands out the given protocols in turn, leaving authentication to the
+	 * factory under test
+	 */
+	private static class QueuedProtocolFactory extends AbstractIRODSMidLevelProtocolFactory {
+		private final Deque<IRODSMidLevelProtocol> protocols;
+
+		QueuedProtocolFactory(final AuthenticationFactory authenticationFactory,
+				final IRODSMidLevelProtocol... protocols) {
+			super(new IRODSConnectionFactory() {
+				@Override
+				protected AbstractConnection instance(final IRODSAccount irodsAccount, final IRODSSession irodsSession,
+						final IRODSProtocolManager irodsProtocolManager) {
+					return Mockito.mock(AbstractConnection.class);
+				}
+			}, authenticationFactory);
+			this.protocols = new ArrayDeque<IRODSMidLevelProtocol>(Arrays.asList(protocols));
+		}
+
+		@Override
+		protected IRODSMidLevelProtocol createInitialProtocol(final AbstractConnection connection,
+				final IRODSProtocolManager irodsProtocolManager) {
+			return protocols.remove();
+		}
+
+		@Override
+		protected IRODSMidLevelProtocol decorate(final IRODSMidLevelProtocol irodsMidLevelProtocol,
+				final IRODSAccount irodsAccount, final IRODSSession irodsSession) {
+			return irodsMidLevelProtocol;
+		}
+	}
+
+}
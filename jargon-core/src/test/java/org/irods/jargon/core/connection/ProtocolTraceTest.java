@@ -0,0 +1,74 @@
+package org.irods.jargon.core.connection;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProtocolTraceTest {
+
+	@Test
+	public void testEmptyTrace() throws Exception {
+		ProtocolTrace trace = new ProtocolTrace(4, 0);
+		Assert.assertEquals(0, trace.getRequestCount());
+		Assert.assertTrue(trace.snapshot().isEmpty());
+		trace.dump("test");
+	}
+
+	@Test
+	public void testSnapshotOldestFirstBeforeWrap() throws Exception {
+		ProtocolTrace trace = new ProtocolTrace(4, 0);
+		trace.record("RODS_API_REPLY", 700, 100, 200, 0, 1000);
+		trace.record("RODS_API_REPLY", 701, 100, 200, -808000, 1000);
+		List<String> lines = trace.snapshot();
+		Assert.assertEquals(2, lines.size());
+		Assert.assertTrue(lines.get(0).startsWith("#1 "));
+		Assert.assertTrue(lines.get(0).contains("api:700"));
+		Assert.assertTrue(lines.get(1).contains("status:-808000"));
+	}
+
+	@Test
+	public void testRingKeepsNewestEntries() throws Exception {
+		ProtocolTrace trace = new ProtocolTrace(3, 0);
+		for (int i = 0; i < 10; i++) {
+			trace.record("RODS_API_REPLY", 600 + i, 0, 0, 0, 0);
+		}
+		Assert.assertEquals(10, trace.getRequestCount());
+		List<String> lines = trace.snapshot();
+		Assert.assertEquals(3, lines.size());
+		Assert.assertTrue(lines.get(0).contains("api:607"));
+		Assert.assertTrue(lines.get(1).contains("api:608"));
+		Assert.assertTrue(lines.get(2).contains("api:609"));
+		trace.dump("test");
+	}
+
+	@Test
+	public void testSampling() throws Exception {
+		ProtocolTrace trace = new ProtocolTrace(2, 5);
+		for (int i = 0; i < 12; i++) {
+			trace.record("RODS_API_REPLY", 700, 0, 0, 0, 0);
+		}
+		Assert.assertEquals(12, trace.getRequestCount());
+		Assert.assertEquals("every 5th request should be sampled", 2, trace.getSampledCount());
+	}
+
+	@Test
+	public void testSamplingOff() throws Exception {
+		ProtocolTrace trace = new ProtocolTrace(2, 0);
+		for (int i = 0; i < 12; i++) {
+			trace.record("RODS_API_REPLY", 700, 0, 0, 0, 0);
+		}
+		Assert.assertEquals(0, trace.getSampledCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroBufferSize() throws Exception {
+		new ProtocolTrace(0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeSampleInterval() throws Exception {
+		new ProtocolTrace(4, -1);
+	}
+
+}
@@ -0,0 +1,157 @@
+package org.irods.jargon.core.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.irods.jargon.core.connection.QueryResultCache.Category;
+import org.irods.jargon.core.connection.QueryResultCache.Key;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSQueryResultRow;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.core.query.TranslatedIRODSGenQuery;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+	@Test
+	public void testCategorizeCatalogQuery() throws Exception {
+		Assert.assertEquals(EnumSet.of(Category.RESOURCE, Category.ZONE), QueryResultCache
+				.categorize(buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME, RodsGenQueryEnum.COL_ZONE_NAME)));
+	}
+
+	@Test
+	public void testCategorizeDataQueryNotCached() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		Assert.assertNull(QueryResultCache
+				.categorize(buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME, RodsGenQueryEnum.COL_DATA_NAME)));
+		Assert.assertNull(new QueryResultCache(10, 100, 60000L, 60000L).keyFor(account,
+				buildQuery(RodsGenQueryEnum.COL_DATA_NAME), 0, null));
+	}
+
+	@Test
+	public void testCategorizeConditionNotCached() throws Exception {
+		TranslatedIRODSGenQuery query = new IRODSGenQueryBuilder(true, null)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_R_RESC_NAME)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL, "file")
+				.exportIRODSQueryFromBuilder(100).convertToTranslatedIRODSGenQuery();
+		Assert.assertNull(QueryResultCache.categorize(query));
+	}
+
+	@Test
+	public void testHitAndMiss() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		QueryResultCache cache = new QueryResultCache(10, 100, 60000L, 60000L);
+		TranslatedIRODSGenQuery query = buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME);
+		Key key = cache.keyFor(account, query, 0, null);
+		Assert.assertNull(cache.retrieve(key));
+		IRODSQueryResultSet resultSet = buildResultSet(query, 3);
+		cache.cache(key, resultSet);
+
+		Assert.assertSame(resultSet, cache.retrieve(cache.keyFor(account, query, 0, null)));
+		Assert.assertEquals(1, cache.getHits(Category.RESOURCE));
+		Assert.assertEquals(1, cache.getMisses(Category.RESOURCE));
+		Assert.assertEquals(0, cache.getHits(Category.USER));
+		Assert.assertEquals(0.5, cache.getHitRate(), 0.001);
+		Assert.assertEquals(3, cache.getRowCount());
+	}
+
+	@Test
+	public void testKeyDiffersByUserAndOffset() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		QueryResultCache cache = new QueryResultCache(10, 100, 60000L, 60000L);
+		TranslatedIRODSGenQuery query = buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME);
+		cache.cache(cache.keyFor(account, query, 0, null), buildResultSet(query, 1));
+
+		IRODSAccount other = buildAccount("host", "user2");
+		Assert.assertNull(cache.retrieve(cache.keyFor(other, query, 0, null)));
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, query, 10, null)));
+	}
+
+	@Test
+	public void testStaticTimeToLive() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		QueryResultCache cache = new QueryResultCache(10, 100, 50L, 60000L);
+		TranslatedIRODSGenQuery resourceQuery = buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME);
+		TranslatedIRODSGenQuery zoneQuery = buildQuery(RodsGenQueryEnum.COL_ZONE_NAME);
+		TranslatedIRODSGenQuery mixedQuery = buildQuery(RodsGenQueryEnum.COL_ZONE_NAME,
+				RodsGenQueryEnum.COL_USER_NAME);
+		cache.cache(cache.keyFor(account, resourceQuery, 0, null), buildResultSet(resourceQuery, 1));
+		cache.cache(cache.keyFor(account, zoneQuery, 0, null), buildResultSet(zoneQuery, 1));
+		cache.cache(cache.keyFor(account, mixedQuery, 0, null), buildResultSet(mixedQuery, 1));
+		Thread.sleep(150L);
+
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, resourceQuery, 0, null)));
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, mixedQuery, 0, null)));
+		Assert.assertNotNull(cache.retrieve(cache.keyFor(account, zoneQuery, 0, null)));
+	}
+
+	@Test
+	public void testInvalidateByCategory() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		QueryResultCache cache = new QueryResultCache(10, 100, 60000L, 60000L);
+		TranslatedIRODSGenQuery resourceQuery = buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME);
+		TranslatedIRODSGenQuery userQuery = buildQuery(RodsGenQueryEnum.COL_USER_NAME);
+		TranslatedIRODSGenQuery groupQuery = buildQuery(RodsGenQueryEnum.COL_USER_GROUP_NAME,
+				RodsGenQueryEnum.COL_USER_NAME);
+		IRODSAccount otherHost = buildAccount("host2", "user1");
+		cache.cache(cache.keyFor(account, resourceQuery, 0, null), buildResultSet(resourceQuery, 1));
+		cache.cache(cache.keyFor(account, userQuery, 0, null), buildResultSet(userQuery, 1));
+		cache.cache(cache.keyFor(account, groupQuery, 0, null), buildResultSet(groupQuery, 1));
+		cache.cache(cache.keyFor(otherHost, userQuery, 0, null), buildResultSet(userQuery, 1));
+
+		cache.invalidate("host", "zone", Category.USER);
+
+		Assert.assertNotNull(cache.retrieve(cache.keyFor(account, resourceQuery, 0, null)));
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, userQuery, 0, null)));
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, groupQuery, 0, null)));
+		Assert.assertNotNull("other host should remain", cache.retrieve(cache.keyFor(otherHost, userQuery, 0, null)));
+	}
+
+	@Test
+	public void testBoundedByRows() throws Exception {
+		IRODSAccount account = buildAccount("host", "user1");
+		QueryResultCache cache = new QueryResultCache(10, 5, 60000L, 60000L);
+		TranslatedIRODSGenQuery resourceQuery = buildQuery(RodsGenQueryEnum.COL_R_RESC_NAME);
+		TranslatedIRODSGenQuery userQuery = buildQuery(RodsGenQueryEnum.COL_USER_NAME);
+		TranslatedIRODSGenQuery zoneQuery = buildQuery(RodsGenQueryEnum.COL_ZONE_NAME);
+		cache.cache(cache.keyFor(account, resourceQuery, 0, null), buildResultSet(resourceQuery, 3));
+		cache.cache(cache.keyFor(account, userQuery, 0, null), buildResultSet(userQuery, 3));
+
+		Assert.assertEquals(1, cache.size());
+		Assert.assertEquals(3, cache.getRowCount());
+		Assert.assertEquals(1, cache.getEvictions());
+		Assert.assertNull(cache.retrieve(cache.keyFor(account, resourceQuery, 0, null)));
+
+		cache.cache(cache.keyFor(account, zoneQuery, 0, null), buildResultSet(zoneQuery, 6));
+		Assert.assertNull("too many rows to cache", cache.retrieve(cache.keyFor(account, zoneQuery, 0, null)));
+		Assert.assertNotNull(cache.retrieve(cache.keyFor(account, userQuery, 0, null)));
+	}
+
+	private static IRODSAccount buildAccount(final String host, final String userName) throws Exception {
+		return IRODSAccount.instance(host, 1247, userName, "pw", "/zone/home/" + userName, "zone", "");
+	}
+
+	private static TranslatedIRODSGenQuery buildQuery(final RodsGenQueryEnum... columns) throws Exception {
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		for (RodsGenQueryEnum column : columns) {
+			builder.addSelectAsGenQueryValue(column);
+		}
+		return builder.exportIRODSQueryFromBuilder(100).convertToTranslatedIRODSGenQuery();
+	}
+
+	private static IRODSQueryResultSet buildResultSet(final TranslatedIRODSGenQuery query, final int count)
+			throws Exception {
+		List<String> columnNames = Arrays.asList("col");
+		List<IRODSQueryResultRow> rows = new ArrayList<IRODSQueryResultRow>();
+		for (int i = 0; i < count; i++) {
+			rows.add(IRODSQueryResultRow.instance(Arrays.asList("value" + i), columnNames));
+		}
+		return IRODSQueryResultSet.instance(query, rows, 0, 0);
+	}
+
+}
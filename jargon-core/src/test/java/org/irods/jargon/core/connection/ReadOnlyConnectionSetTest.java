@@ -0,0 +1,98 @@
+package org.irods.jargon.core.connection;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReadOnlyConnectionSetTest {
+
+	private IRODSAccount buildAccount() throws Exception {
+		return IRODSAccount.instance("host", 1247, "user", "password", "/zone/home/user", "zone", "resc");
+	}
+
+	@Test
+	public void testSubmitRoundRobinAcrossLanes() throws Exception {
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(
+				new IRODSSession(new SettableJargonProperties()), buildAccount(), 2);
+		Set<String> threadNames = new HashSet<String>();
+		for (int i = 0; i < 4; i++) {
+			Future<String> future = readOnlyConnectionSet.submit(() -> Thread.currentThread().getName());
+			threadNames.add(ReadOnlyConnectionSet.join(future));
+		}
+		readOnlyConnectionSet.close();
+		Assert.assertEquals("should use both lanes", 2, threadNames.size());
+		Assert.assertFalse("should not run on caller", threadNames.contains(Thread.currentThread().getName()));
+	}
+
+	@Test
+	public void testSubmitNoLanesRunsOnCaller() throws Exception {
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(
+				new IRODSSession(new SettableJargonProperties()), buildAccount(), 0);
+		Future<String> future = readOnlyConnectionSet.submit(() -> Thread.currentThread().getName());
+		Assert.assertTrue("should have run already", future.isDone());
+		Assert.assertEquals(Thread.currentThread().getName(), ReadOnlyConnectionSet.join(future));
+	}
+
+	@Test(expected = JargonException.class)
+	public void testJoinRethrowsJargonException() throws Exception {
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(
+				new IRODSSession(new SettableJargonProperties()), buildAccount(), 1);
+		try {
+			Future<String> future = readOnlyConnectionSet.submit(() -> {
+				throw new JargonException("failed read");
+			});
+			ReadOnlyConnectionSet.join(future);
+		} finally {
+			readOnlyConnectionSet.close();
+		}
+	}
+
+	@Test(expected = JargonException.class)
+	public void testSubmitAfterClose() throws Exception {
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(
+				new IRODSSession(new SettableJargonProperties()), buildAccount(), 1);
+		readOnlyConnectionSet.close();
+		Assert.assertTrue(readOnlyConnectionSet.isClosed());
+		readOnlyConnectionSet.submit(() -> "never");
+	}
+
+	@Test
+	public void testSessionSharesSetPerAccount() throws Exception {
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties();
+		settableJargonProperties.setReadOnlyConnectionsPerAccount(3);
+		IRODSSession irodsSession = new IRODSSession(settableJargonProperties);
+		ReadOnlyConnectionSet readOnlyConnectionSet = irodsSession.getReadOnlyConnectionSet(buildAccount());
+		Assert.assertEquals(3, readOnlyConnectionSet.getConnectionSize());
+		Assert.assertSame(readOnlyConnectionSet, irodsSession.getReadOnlyConnectionSet(buildAccount()));
+		irodsSession.closeReadOnlyConnectionSets();
+		Assert.assertTrue(readOnlyConnectionSet.isClosed());
+		Assert.assertNotSame(readOnlyConnectionSet, irodsSession.getReadOnlyConnectionSet(buildAccount()));
+		irodsSession.closeReadOnlyConnectionSets();
+	}
+
+	@Test
+	public void testIdleLaneStopsAndRestarts() throws Exception {
+		ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(
+				new IRODSSession(new SettableJargonProperties()), buildAccount(), 1, 50L);
+		try {
+			Thread laneThread = ReadOnlyConnectionSet.join(readOnlyConnectionSet.submit(() -> Thread.currentThread()));
+			laneThread.join(5000L);
+			Assert.assertFalse("idle lane thread should stop", laneThread.isAlive());
+			Thread nextLaneThread = ReadOnlyConnectionSet
+					.join(readOnlyConnectionSet.submit(() -> Thread.currentThread()));
+			Assert.assertNotSame("lane should restart on next call", laneThread, nextLaneThread);
+		} finally {
+			readOnlyConnectionSet.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeConnectionSize() throws Exception {
+		new ReadOnlyConnectionSet(new IRODSSession(new SettableJargonProperties()), buildAccount(), -1);
+	}
+
+}
@@ -3,6 +3,7 @@ package org.irods.jargon.core.pub;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -916,6 +917,48 @@ public class CollectionAOImplTest {
 
 	}
 
+	@Test
+	public void testFindMetadataValuesForCollections() throws Exception {
+		String testDirName = "testFindMetadataValuesForCollections";
+		int count = 3;
+
+		String targetIrodsCollection = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + '/' + testDirName);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+
+		IRODSFileFactory irodsFileFactory = irodsFileSystem.getIRODSFileFactory(irodsAccount);
+
+		CollectionAO collectionAO = accessObjectFactory.getCollectionAO(irodsAccount);
+		List<String> paths = new ArrayList<String>();
+
+		for (int i = 0; i < count; i++) {
+			String childPath = targetIrodsCollection + "/child" + i;
+			irodsFileFactory.instanceIRODSFile(childPath).mkdirs();
+			AvuData avuData = AvuData.instance("testattrib", "testvalue" + i, "");
+			collectionAO.deleteAVUMetadata(childPath, avuData);
+			collectionAO.addAVUMetadata(childPath, avuData);
+			paths.add(childPath);
+		}
+
+		String missingPath = targetIrodsCollection + "/idontexist";
+		paths.add(missingPath);
+
+		Map<String, List<MetaDataAndDomainData>> actual = collectionAO
+				.findMetadataValuesForCollections(new ArrayList<AVUQueryElement>(), paths);
+
+		Assert.assertEquals("did not get an entry per path", paths.size(), actual.size());
+		for (int i = 0; i < count; i++) {
+			List<MetaDataAndDomainData> metadata = actual.get(paths.get(i));
+			Assert.assertEquals("should be one avu per collection", 1, metadata.size());
+			Assert.assertEquals("wrong avu value", "testvalue" + i, metadata.get(0).getAvuValue());
+		}
+		Assert.assertTrue("missing path should have no avus", actual.get(missingPath).isEmpty());
+
+	}
+
 	@Test
 	public void testAddAvuMetadataWithColonInArg() throws Exception {
 		String testDirName = "testAddAvuMetadataWithColonInArg";
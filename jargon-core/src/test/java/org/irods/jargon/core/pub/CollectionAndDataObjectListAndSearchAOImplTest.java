@@ -1,7 +1,9 @@
 package org.irods.jargon.core.pub;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -1803,6 +1805,60 @@ public class CollectionAndDataObjectListAndSearchAOImplTest {
 		Assert.assertEquals("wrong file size", fileSize, objStat.getObjSize());
 	}
 
+	@Test
+	public void testRetrieveObjectStatsForPaths() throws Exception {
+
+		String testSubdir = "testRetrieveObjectStatsForPaths";
+		String testFilePrefix = "testRetrieveObjectStatsForPaths";
+		String testFileSuffix = ".txt";
+		int count = 5;
+		long fileSize = 3;
+
+		String targetIrodsCollection = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + "/" + testSubdir);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSFileFactory irodsFileFactory = irodsFileSystem.getIRODSFileFactory(irodsAccount);
+		IRODSFile irodsCollection = irodsFileFactory.instanceIRODSFile(targetIrodsCollection);
+		irodsCollection.mkdirs();
+
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		DataObjectAOImpl dataObjectAO = (DataObjectAOImpl) irodsFileSystem.getIRODSAccessObjectFactory()
+				.getDataObjectAO(irodsAccount);
+		List<String> paths = new ArrayList<String>();
+		paths.add(targetIrodsCollection);
+
+		for (int i = 0; i < count; i++) {
+			String fileName = testFilePrefix + i + testFileSuffix;
+			String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, fileName, fileSize);
+			dataObjectAO.putLocalDataObjectToIRODS(new File(localFileName), irodsCollection, true);
+			paths.add(targetIrodsCollection + "/" + fileName);
+		}
+
+		String missingPath = targetIrodsCollection + "/idontexist.txt";
+		paths.add(missingPath);
+
+		CollectionAndDataObjectListAndSearchAO listAndSearchAO = irodsFileSystem.getIRODSAccessObjectFactory()
+				.getCollectionAndDataObjectListAndSearchAO(irodsAccount);
+
+		Map<String, ObjStat> objStats = listAndSearchAO.retrieveObjectStatsForPaths(paths);
+		Assert.assertEquals("did not get an entry per path", paths.size(), objStats.size());
+
+		ObjStat collStat = objStats.get(targetIrodsCollection);
+		Assert.assertEquals("not a collection", ObjectType.COLLECTION, collStat.getObjectType());
+		Assert.assertFalse("collection not found", collStat.isNotFound());
+
+		for (int i = 1; i <= count; i++) {
+			ObjStat objStat = objStats.get(paths.get(i));
+			Assert.assertEquals("not a data object", ObjectType.DATA_OBJECT, objStat.getObjectType());
+			Assert.assertEquals("wrong path", paths.get(i), objStat.getAbsolutePath());
+			Assert.assertEquals("wrong file size", fileSize, objStat.getObjSize());
+			Assert.assertTrue("did not set object id", objStat.getDataId() > 0);
+		}
+
+		Assert.assertTrue("missing path should be marked not found", objStats.get(missingPath).isNotFound());
+	}
+
 	/**
 	 * Bug reported in idrop as https://github.com/DICE-UNC/idrop/issues/56
 	 *
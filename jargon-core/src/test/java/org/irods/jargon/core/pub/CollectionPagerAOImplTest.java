@@ -7,6 +7,8 @@ import java.util.Properties;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.JargonProperties;
+import org.irods.jargon.core.connection.ListingPrefetchBuffer;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.connection.SettableJargonProperties;
 import org.irods.jargon.core.pub.domain.ObjStat;
 import org.irods.jargon.core.pub.domain.ObjStat.SpecColType;
@@ -245,8 +247,140 @@ public class CollectionPagerAOImplTest {
 				actual.getPagingAwareCollectionListingDescriptor().getCount(),
 				actual.getPagingAwareCollectionListingDescriptor().getPageSizeUtilized());
 
-		// Assert.assertNotNull("no page2", page2);
+		Assert.assertNotNull("no page2", page2);
 
 	}
 
+	@Test
+	public void testNextPagesServedFromPrefetch() throws Exception {
+		final String parentPath = "/a/path";
+		final IRODSAccount irodsAccount = testingPropertiesHelper
+				.buildIRODSAccountFromTestProperties(testingProperties);
+		final IRODSSession irodsSession = Mockito.mock(IRODSSession.class);
+		CollectionAndDataObjectListAndSearchAO collectionAndDataObjectListAndSearchAO = Mockito
+				.mock(CollectionAndDataObjectListAndSearchAO.class);
+
+		final SettableJargonProperties jargonProperties = new SettableJargonProperties();
+		jargonProperties.setCollectionPagerPrefetchPages(2);
+		Mockito.when(irodsSession.getJargonProperties()).thenReturn(jargonProperties);
+		Mockito.when(irodsSession.getListingPrefetchBuffer())
+				.thenReturn(ListingPrefetchBuffer.instance(jargonProperties));
+
+		final ObjStat objStat = new ObjStat();
+		objStat.setAbsolutePath(parentPath);
+		objStat.setObjectType(ObjectType.COLLECTION);
+		objStat.setSpecColType(SpecColType.NORMAL);
+		Mockito.when(collectionAndDataObjectListAndSearchAO.retrieveObjectStatForPath(parentPath)).thenReturn(objStat);
+
+		/*
+		 * three pages of collections, at the offsets each page gives for the next
+		 */
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listCollectionsUnderPath(objStat, 0))
+				.thenReturn(buildEntries(1, 10, 30, false));
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listCollectionsUnderPath(objStat, 9))
+				.thenReturn(buildEntries(10, 19, 30, false));
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listCollectionsUnderPath(objStat, 18))
+				.thenReturn(buildEntries(19, 28, 30, true));
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listDataObjectsUnderPath(objStat, 0))
+				.thenReturn(new ArrayList<CollectionAndDataObjectListingEntry>());
+
+		final ReadOnlyConnectionSet readOnlyConnectionSet = new ReadOnlyConnectionSet(irodsSession, irodsAccount, 1);
+		final IRODSAccessObjectFactory irodsAccessObjectFactory = Mockito.mock(IRODSAccessObjectFactory.class);
+		Mockito.when(irodsAccessObjectFactory.getCollectionAndDataObjectListAndSearchAO(irodsAccount))
+				.thenReturn(collectionAndDataObjectListAndSearchAO);
+		Mockito.when(irodsAccessObjectFactory.getReadOnlyConnectionSet(irodsAccount))
+				.thenReturn(readOnlyConnectionSet);
+
+		final CollectionPagerAOImpl collectionPagerAO = new CollectionPagerAOImpl(irodsSession, irodsAccount);
+		collectionPagerAO.setIrodsAccessObjectFactory(irodsAccessObjectFactory);
+		collectionPagerAO.setCollectionAndDataObjectListAndSearchAO(collectionAndDataObjectListAndSearchAO);
+
+		try {
+			final PagingAwareCollectionListing page1 = collectionPagerAO.retrieveFirstResultUnderParent(parentPath);
+			Assert.assertEquals(9, page1.getPagingAwareCollectionListingDescriptor().getCount());
+
+			// both following pages are loaded in the background
+			Mockito.verify(collectionAndDataObjectListAndSearchAO, Mockito.timeout(10000))
+					.listCollectionsUnderPath(objStat, 18);
+
+			final PagingAwareCollectionListing page2 = collectionPagerAO.retrieveNextOffset(parentPath, true, 9,
+					page1.getPagingAwareCollectionListingDescriptor().getPageSizeUtilized());
+			Assert.assertEquals(18, page2.getPagingAwareCollectionListingDescriptor().getCount());
+			Assert.assertTrue(page2.getPagingAwareCollectionListingDescriptor().isHasMore());
+
+			final PagingAwareCollectionListing page3 = collectionPagerAO.retrieveNextOffset(parentPath, true, 18,
+					page2.getPagingAwareCollectionListingDescriptor().getPageSizeUtilized());
+			Assert.assertTrue(page3.getPagingAwareCollectionListingDescriptor().isCollectionsComplete());
+			Assert.assertFalse(page3.getPagingAwareCollectionListingDescriptor().isHasMore());
+
+			// each page was listed once, by the prefetch
+			Mockito.verify(collectionAndDataObjectListAndSearchAO, Mockito.times(1)).listCollectionsUnderPath(objStat,
+					9);
+			Mockito.verify(collectionAndDataObjectListAndSearchAO, Mockito.times(1)).listCollectionsUnderPath(objStat,
+					18);
+		} finally {
+			readOnlyConnectionSet.close();
+		}
+	}
+
+	@Test
+	public void testTotalFromLastPageWithoutCountQuery() throws Exception {
+		final String parentPath = "/a/path";
+		final IRODSAccount irodsAccount = testingPropertiesHelper
+				.buildIRODSAccountFromTestProperties(testingProperties);
+		final IRODSSession irodsSession = Mockito.mock(IRODSSession.class);
+		CollectionAndDataObjectListAndSearchAO collectionAndDataObjectListAndSearchAO = Mockito
+				.mock(CollectionAndDataObjectListAndSearchAO.class);
+
+		final JargonProperties jargonProperties = new SettableJargonProperties();
+		Mockito.when(irodsSession.getJargonProperties()).thenReturn(jargonProperties);
+
+		final ObjStat objStat = new ObjStat();
+		objStat.setAbsolutePath(parentPath);
+		objStat.setObjectType(ObjectType.COLLECTION);
+		objStat.setSpecColType(SpecColType.NORMAL);
+		Mockito.when(collectionAndDataObjectListAndSearchAO.retrieveObjectStatForPath(parentPath)).thenReturn(objStat);
+
+		/*
+		 * no total records returned with the pages, as for special collections, but
+		 * each is the last page
+		 */
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listCollectionsUnderPath(objStat, 0))
+				.thenReturn(buildEntries(1, 3, 0, true));
+		Mockito.when(collectionAndDataObjectListAndSearchAO.listDataObjectsUnderPath(objStat, 0))
+				.thenReturn(buildEntries(1, 5, 0, true));
+
+		final IRODSAccessObjectFactory irodsAccessObjectFactory = Mockito.mock(IRODSAccessObjectFactory.class);
+		Mockito.when(irodsAccessObjectFactory.getCollectionAndDataObjectListAndSearchAO(irodsAccount))
+				.thenReturn(collectionAndDataObjectListAndSearchAO);
+
+		final CollectionPagerAOImpl collectionPagerAO = new CollectionPagerAOImpl(irodsSession, irodsAccount);
+		collectionPagerAO.setIrodsAccessObjectFactory(irodsAccessObjectFactory);
+		collectionPagerAO.setCollectionAndDataObjectListAndSearchAO(collectionAndDataObjectListAndSearchAO);
+		final PagingAwareCollectionListing actual = collectionPagerAO.retrieveFirstResultUnderParent(parentPath);
+
+		Assert.assertEquals(3, actual.getPagingAwareCollectionListingDescriptor().getTotalRecords());
+		Assert.assertEquals(5, actual.getPagingAwareCollectionListingDescriptor().getDataObjectsTotalRecords());
+		Mockito.verify(collectionAndDataObjectListAndSearchAO, Mockito.never()).countCollectionsUnderPath(objStat);
+		Mockito.verify(collectionAndDataObjectListAndSearchAO, Mockito.never()).countDataObjectsUnderPath(objStat);
+	}
+
+	private static List<CollectionAndDataObjectListingEntry> buildEntries(final int firstCount, final int lastCount,
+			final int totalRecords, final boolean lastResult) {
+		final List<CollectionAndDataObjectListingEntry> entries = new ArrayList<>();
+
+		CollectionAndDataObjectListingEntry entry = new CollectionAndDataObjectListingEntry();
+		entry.setCount(firstCount);
+		entry.setTotalRecords(totalRecords);
+		entry.setLastResult(lastResult);
+		entries.add(entry);
+
+		entry = new CollectionAndDataObjectListingEntry();
+		entry.setCount(lastCount);
+		entry.setTotalRecords(totalRecords);
+		entry.setLastResult(lastResult);
+		entries.add(entry);
+		return entries;
+	}
+
 }
@@ -0,0 +1,104 @@
+package org.irods.jargon.core.pub;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
+import org.irods.jargon.core.connection.IRODSProtocolManager;
+import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.PipelineConfiguration;
+import org.irods.jargon.core.exception.JargonException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ConnectionScopedAccessObjectsTest {
+
+	private CountingProtocolManager protocolManager;
+	private IRODSSession irodsSession;
+	private IRODSAccount irodsAccount;
+	private EnvironmentalInfoAO environmentalInfoAO;
+
+	@Before
+	public void setUp() throws Exception {
+		protocolManager = new CountingProtocolManager();
+		irodsSession = IRODSSession.instance(protocolManager);
+		irodsAccount = IRODSAccount.instance("host", 1247, "user", "password", "/zone/home/user", "zone", "");
+		environmentalInfoAO = Mockito.mock(EnvironmentalInfoAO.class);
+		Mockito.when(environmentalInfoAO.getIRODSSession()).thenReturn(irodsSession);
+		Mockito.when(environmentalInfoAO.getIRODSAccount()).thenReturn(irodsAccount);
+		Mockito.when(environmentalInfoAO.getIRODSServerCurrentTime()).thenAnswer(invocation -> {
+			irodsSession.currentConnection(irodsAccount);
+			return 1L;
+		});
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		irodsSession.closeSession(irodsAccount);
+	}
+
+	@Test
+	public void testCallBorrowsAndReleases() throws Exception {
+		EnvironmentalInfoAO wrapped = ConnectionScopedAccessObjects.wrap(EnvironmentalInfoAO.class, irodsSession,
+				irodsAccount, () -> {
+					irodsSession.currentConnection(irodsAccount);
+					return environmentalInfoAO;
+				});
+		Assert.assertFalse("connection from creating the access object should be released",
+				irodsSession.isConnectionHeld(irodsAccount));
+
+		wrapped.getIRODSServerCurrentTime();
+		Assert.assertFalse("connection should be released after the call", irodsSession.isConnectionHeld(irodsAccount));
+		Assert.assertEquals(2, protocolManager.created.size());
+		Assert.assertEquals(2, protocolManager.returned.size());
+	}
+
+	@Test
+	public void testWrapInsideActiveScopeKeepsConnection() throws Exception {
+		irodsSession.executeInConnectionScope(irodsAccount, () -> {
+			IRODSMidLevelProtocol held = irodsSession.currentConnection(irodsAccount);
+			EnvironmentalInfoAO wrapped = ConnectionScopedAccessObjects.wrap(EnvironmentalInfoAO.class,
+					environmentalInfoAO);
+			Assert.assertTrue("wrapping should not release the scope connection",
+					irodsSession.isConnectionHeld(irodsAccount));
+
+			wrapped.getIRODSServerCurrentTime();
+			Assert.assertSame("call should use the scope connection", held,
+					irodsSession.currentConnection(irodsAccount));
+			Assert.assertTrue(protocolManager.returned.isEmpty());
+			return null;
+		});
+
+		Assert.assertFalse(irodsSession.isConnectionHeld(irodsAccount));
+		Assert.assertEquals(1, protocolManager.created.size());
+		Assert.assertEquals(protocolManager.created, protocolManager.returned);
+	}
+
+	/**
+	 * Hands out mock connections and records what is returned
+	 */
+	private static class CountingProtocolManager extends IRODSProtocolManager {
+		private final List<IRODSMidLevelProtocol> created = new ArrayList<IRODSMidLevelProtocol>();
+		private final List<IRODSMidLevelProtocol> returned = new ArrayList<IRODSMidLevelProtocol>();
+
+		@Override
+		public IRODSMidLevelProtocol getIRODSProtocol(final IRODSAccount irodsAccount,
+				final PipelineConfiguration pipelineConfiguration, final IRODSSession irodsSession)
+				throws JargonException {
+			IRODSMidLevelProtocol protocol = Mockito.mock(IRODSMidLevelProtocol.class);
+			Mockito.when(protocol.isConnected()).thenReturn(true);
+			created.add(protocol);
+			return protocol;
+		}
+
+		@Override
+		protected void returnIRODSProtocol(final IRODSMidLevelProtocol irodsMidLevelProtocol) throws JargonException {
+			returned.add(irodsMidLevelProtocol);
+		}
+	}
+
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -1697,6 +1698,54 @@ public class DataObjectAOImplTest {
 		Assert.assertFalse("no query result returned", result.isEmpty());
 	}
 
+	@Test
+	public final void testFindMetadataValuesForDataObjects() throws Exception {
+		String testFilePrefix = "testFindMetadataValuesForDataObjects";
+		String testFileSuffix = ".dat";
+		int count = 5;
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+
+		String targetIrodsCollection = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + "/" + testFilePrefix);
+		IRODSFile irodsCollection = accessObjectFactory.getIRODSFileFactory(irodsAccount)
+				.instanceIRODSFile(targetIrodsCollection);
+		irodsCollection.mkdirs();
+
+		DataObjectAOImpl dataObjectAO = (DataObjectAOImpl) accessObjectFactory.getDataObjectAO(irodsAccount);
+		List<String> paths = new ArrayList<String>();
+
+		for (int i = 0; i < count; i++) {
+			String fileName = testFilePrefix + i + testFileSuffix;
+			String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, fileName, 1);
+			dataObjectAO.putLocalDataObjectToIRODS(new File(localFileName), irodsCollection, true);
+			String dataObjectAbsPath = targetIrodsCollection + "/" + fileName;
+			AvuData avuData = AvuData.instance("testmdattrib", "testmdvalue" + i, "");
+			dataObjectAO.deleteAVUMetadata(dataObjectAbsPath, avuData);
+			dataObjectAO.addAVUMetadata(dataObjectAbsPath, avuData);
+			paths.add(dataObjectAbsPath);
+		}
+
+		String missingPath = targetIrodsCollection + "/idontexist.txt";
+		paths.add(missingPath);
+
+		Map<String, List<MetaDataAndDomainData>> result = dataObjectAO
+				.findMetadataValuesForDataObjects(new ArrayList<AVUQueryElement>(), paths);
+		Assert.assertEquals("did not get an entry per path", paths.size(), result.size());
+
+		for (int i = 0; i < count; i++) {
+			List<MetaDataAndDomainData> metadata = result.get(paths.get(i));
+			Assert.assertEquals("should be one avu per data object", 1, metadata.size());
+			Assert.assertEquals("wrong data object for avu", paths.get(i), metadata.get(0).getDomainObjectUniqueName());
+			Assert.assertEquals("wrong avu value", "testmdvalue" + i, metadata.get(0).getAvuValue());
+		}
+
+		Assert.assertTrue("missing path should have no avus", result.get(missingPath).isEmpty());
+	}
+
 	/**
 	 * Bug: metadata query on replicated data object repeats metadata #178
 	 * https://github.com/DICE-UNC/jargon/issues/178
@@ -20,7 +20,9 @@ import org.irods.jargon.core.pub.domain.DataObject;
 import org.irods.jargon.core.pub.domain.Resource;
 import org.irods.jargon.core.pub.io.IRODSFile;
 import org.irods.jargon.core.pub.io.IRODSFileFactory;
+import org.irods.jargon.core.transfer.AbstractParallelFileTransferStrategy.TransferType;
 import org.irods.jargon.core.transfer.DefaultTransferControlBlock;
+import org.irods.jargon.core.transfer.ParallelTransferStatistics;
 import org.irods.jargon.core.transfer.TransferControlBlock;
 import org.irods.jargon.core.transfer.TransferStatus;
 import org.irods.jargon.core.transfer.TransferStatus.TransferState;
@@ -762,6 +764,50 @@ public class DataTransferOperationsImplTest {
 
 	}
 
+	@Test
+	public void testPutAndGetParallelTransferStatisticsInControlBlock() throws Exception {
+
+		if (!testingPropertiesHelper.isTestParallelTransfer(testingProperties)) {
+			return;
+		}
+
+		String testFileName = "testPutAndGetParallelTransferStatisticsInControlBlock.txt";
+		String testRetrievedFileName = "testPutAndGetParallelTransferStatisticsInControlBlockRetrieved.txt";
+		long length = 33 * 1024 * 1024;
+
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, testFileName, length);
+
+		String targetIrodsFile = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + '/' + testFileName);
+		File localFile = new File(localFileName);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSFileFactory irodsFileFactory = irodsFileSystem.getIRODSFileFactory(irodsAccount);
+		IRODSFile destFile = irodsFileFactory.instanceIRODSFile(targetIrodsFile);
+		DataTransferOperations dataTransferOperationsAO = irodsFileSystem.getIRODSAccessObjectFactory()
+				.getDataTransferOperations(irodsAccount);
+
+		TransferControlBlock transferControlBlock = DefaultTransferControlBlock.instance();
+		dataTransferOperationsAO.putOperation(localFile, destFile, null, transferControlBlock);
+		File getLocalFile = new File(absPath + "/" + testRetrievedFileName);
+		dataTransferOperationsAO.getOperation(destFile, getLocalFile, null, transferControlBlock);
+
+		List<ParallelTransferStatistics> statistics = transferControlBlock.getParallelTransferStatistics();
+		Assert.assertEquals("expected a put and a get", 2, statistics.size());
+		Assert.assertEquals(TransferType.PUT_TRANSFER, statistics.get(0).getTransferType());
+		Assert.assertEquals(TransferType.GET_TRANSFER, statistics.get(1).getTransferType());
+		for (ParallelTransferStatistics transferStatistics : statistics) {
+			Assert.assertTrue("transfer not successful", transferStatistics.isSuccessful());
+			Assert.assertEquals("streams did not add up to the file length", length,
+					transferStatistics.getTotalBytesTransferred());
+			Assert.assertFalse("no streams", transferStatistics.getStreamStatistics().isEmpty());
+			Assert.assertTrue("no socket buffer recorded",
+					transferStatistics.getStreamStatistics().get(0).getReceiveBufferSize() > 0);
+		}
+
+	}
+
 	@Test
 	public void testGetOneFileWithIntraFileInPropsVerifyCallbacks() throws Exception {
 		// generate a local scratch file
@@ -4,6 +4,9 @@
 package org.irods.jargon.core.pub;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -11,6 +14,7 @@ import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.io.IRODSFile;
 import org.irods.jargon.core.pub.io.IRODSFileFactory;
 import org.irods.jargon.core.query.AbstractIRODSQueryResultSet;
+import org.irods.jargon.core.query.FederatedQueryResult;
 import org.irods.jargon.core.query.GenQueryOrderByField;
 import org.irods.jargon.core.query.IRODSGenQuery;
 import org.irods.jargon.core.query.IRODSGenQueryBuilder;
@@ -171,6 +175,64 @@ public class IRODSGenQueryExecutorImplTest {
 		Assert.assertNotNull(resultSet);
 	}
 
+	@Test
+	public final void testExecuteIRODSQueryStreamingMatchesPagedQuery() throws Exception {
+
+		String queryString = "select " + RodsGenQueryEnum.COL_R_RESC_NAME.getName() + " ,"
+				+ RodsGenQueryEnum.COL_R_ZONE_NAME.getName();
+
+		IRODSGenQuery irodsQuery = IRODSGenQuery.instance(queryString, 1);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+
+		IRODSGenQueryExecutor irodsGenQueryExecutor = accessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+
+		IRODSQueryResultSet resultSet = irodsGenQueryExecutor
+				.executeIRODSQueryAndCloseResult(IRODSGenQuery.instance(queryString, 5000), 0);
+
+		final List<String> streamed = new ArrayList<String>();
+		long count = irodsGenQueryExecutor.executeIRODSQueryStreaming(irodsQuery, row -> {
+			streamed.add(row.getColumn(0));
+			return true;
+		});
+
+		Assert.assertEquals(resultSet.getResults().size(), count);
+		Assert.assertEquals(resultSet.getResults().size(), streamed.size());
+		Assert.assertEquals(resultSet.getResults().get(0).getColumn(0), streamed.get(0));
+
+		// stopping early closes the query, and the connection is usable after
+		count = irodsGenQueryExecutor.executeIRODSQueryStreaming(irodsQuery, row -> false);
+		Assert.assertEquals(1, count);
+		Assert.assertFalse(irodsGenQueryExecutor.executeIRODSQueryAndCloseResult(irodsQuery, 0).getResults().isEmpty());
+	}
+
+	@Test
+	public final void testExecuteIRODSQueryAcrossZonesWithUnknownZone() throws Exception {
+
+		String zone = testingProperties.getProperty(TestingPropertiesHelper.IRODS_ZONE_KEY);
+		String queryString = "select " + RodsGenQueryEnum.COL_R_RESC_NAME.getName() + " ,"
+				+ RodsGenQueryEnum.COL_R_ZONE_NAME.getName();
+
+		IRODSGenQuery irodsQuery = IRODSGenQuery.instance(queryString, 100);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+
+		IRODSGenQueryExecutor irodsGenQueryExecutor = accessObjectFactory.getIRODSGenQueryExecutor(irodsAccount);
+
+		FederatedQueryResult result = irodsGenQueryExecutor.executeIRODSQueryAcrossZones(irodsQuery,
+				Arrays.asList(zone, "noSuchZoneForFederatedQuery"), 30000L);
+
+		Assert.assertFalse("should be partial", result.isComplete());
+		Assert.assertTrue("local zone should answer", result.getZoneResult(zone).isSuccessful());
+		Assert.assertEquals(Arrays.asList("noSuchZoneForFederatedQuery"), result.getFailedZones());
+		Assert.assertFalse("no rows", result.getRows().isEmpty());
+		Assert.assertEquals(zone, result.getRows().get(0).getZone());
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public final void testExecuteIRODSQuerySupplySameZoneNegativeContinuation() throws Exception {
 
@@ -0,0 +1,60 @@
+package org.irods.jargon.core.pub;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.irods.jargon.core.query.CollectionAndDataObjectListingEntry;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ListAndCountTest {
+
+	@Test
+	public void testResolveCountTotalFromReturnedTotal() {
+		ListAndCount listAndCount = new ListAndCount();
+		listAndCount.setCollectionAndDataObjectListingEntries(buildEntries(10, 200, false));
+		Assert.assertTrue(listAndCount.resolveCountTotal(150));
+		Assert.assertEquals(200, listAndCount.getCountTotal());
+	}
+
+	@Test
+	public void testResolveCountTotalFromKnownTotal() {
+		ListAndCount listAndCount = new ListAndCount();
+		listAndCount.setCollectionAndDataObjectListingEntries(buildEntries(10, 0, false));
+		Assert.assertTrue(listAndCount.resolveCountTotal(150));
+		Assert.assertEquals(150, listAndCount.getCountTotal());
+	}
+
+	@Test
+	public void testResolveCountTotalFromLastPage() {
+		ListAndCount listAndCount = new ListAndCount();
+		listAndCount.setCollectionAndDataObjectListingEntries(buildEntries(42, 0, true));
+		Assert.assertTrue(listAndCount.resolveCountTotal(0));
+		Assert.assertEquals(42, listAndCount.getCountTotal());
+	}
+
+	@Test
+	public void testResolveCountTotalNeedsCount() {
+		ListAndCount listAndCount = new ListAndCount();
+		listAndCount.setCollectionAndDataObjectListingEntries(buildEntries(10, 0, false));
+		Assert.assertFalse(listAndCount.resolveCountTotal(0));
+
+		listAndCount.setCollectionAndDataObjectListingEntries(new ArrayList<CollectionAndDataObjectListingEntry>());
+		Assert.assertTrue(listAndCount.resolveCountTotal(0));
+		Assert.assertEquals(0, listAndCount.getCountTotal());
+	}
+
+	private static List<CollectionAndDataObjectListingEntry> buildEntries(final int lastCount, final int totalRecords,
+			final boolean lastResult) {
+		List<CollectionAndDataObjectListingEntry> entries = new ArrayList<CollectionAndDataObjectListingEntry>();
+		for (int i = 1; i <= lastCount; i++) {
+			CollectionAndDataObjectListingEntry entry = new CollectionAndDataObjectListingEntry();
+			entry.setCount(i);
+			entry.setTotalRecords(totalRecords);
+			entry.setLastResult(lastResult && i == lastCount);
+			entries.add(entry);
+		}
+		return entries;
+	}
+
+}
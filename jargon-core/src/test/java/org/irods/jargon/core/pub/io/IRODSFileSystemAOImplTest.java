@@ -8,6 +8,8 @@ import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSProtocolManager;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
+import org.irods.jargon.core.connection.JargonProperties;
+import org.irods.jargon.core.connection.SettableJargonProperties;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.exception.JargonFileOrCollAlreadyExistsException;
 import org.irods.jargon.core.packinstr.DataObjInp;
@@ -1071,4 +1073,48 @@ public class IRODSFileSystemAOImplTest {
 
 	}
 
+	@Test
+	public void testIsFileReadableWithAclCacheAfterRename() throws Exception {
+		String testFileName = "testIsFileReadableWithAclCacheAfterRename.txt";
+		String testRenamedFileName = "testIsFileReadableWithAclCacheAfterRenameRenamed.txt";
+
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(absPath, testFileName, 2);
+		String targetIrodsCollection = testingPropertiesHelper
+				.buildIRODSCollectionAbsolutePathFromTestProperties(testingProperties, IRODS_TEST_SUBDIR_PATH);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+		IRODSFileFactory irodsFileFactory = accessObjectFactory.getIRODSFileFactory(irodsAccount);
+
+		IRODSFile irodsFile = irodsFileFactory.instanceIRODSFile(targetIrodsCollection + '/' + testFileName);
+		IRODSFile renamedFile = irodsFileFactory.instanceIRODSFile(targetIrodsCollection + '/' + testRenamedFileName);
+		irodsFile.deleteWithForceOption();
+		renamedFile.deleteWithForceOption();
+		accessObjectFactory.getDataTransferOperations(irodsAccount).putOperation(new File(localFileName), irodsFile,
+				null, null);
+
+		JargonProperties originalJargonProperties = irodsFileSystem.getIrodsSession().getJargonProperties();
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties(originalJargonProperties);
+		settableJargonProperties.setUsingAclCache(true);
+		irodsFileSystem.getIrodsSession().setJargonProperties(settableJargonProperties);
+
+		try {
+			IRODSFileSystemAO fileSystemAO = accessObjectFactory.getIRODSFileSystemAO(irodsAccount);
+			Assert.assertTrue("should be readable", fileSystemAO.isFileReadable(irodsFile));
+
+			fileSystemAO.renameFile(irodsFile, renamedFile);
+
+			Assert.assertFalse("cached permission should be dropped on rename",
+					fileSystemAO.isFileReadable(irodsFile));
+			Assert.assertTrue("renamed file should be readable", fileSystemAO.isFileReadable(renamedFile));
+
+			fileSystemAO.fileDeleteForce(renamedFile);
+			Assert.assertFalse("cached permission should be dropped on delete",
+					fileSystemAO.isFileReadable(renamedFile));
+		} finally {
+			irodsFileSystem.getIrodsSession().setJargonProperties(originalJargonProperties);
+		}
+	}
+
 }
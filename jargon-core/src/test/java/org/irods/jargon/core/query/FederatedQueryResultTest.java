@@ -0,0 +1,66 @@
+package org.irods.jargon.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.query.FederatedQueryResult.ZoneResult;
+import org.irods.jargon.core.query.FederatedQueryResult.ZoneRow;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FederatedQueryResultTest {
+
+	@Test
+	public void testRowsMergedInZoneOrder() throws Exception {
+		List<ZoneResult> zoneResults = new ArrayList<ZoneResult>();
+		zoneResults.add(ZoneResult.success("zone1", buildResultSet("/zone1/a", "/zone1/b"), 10));
+		zoneResults.add(ZoneResult.success("zone2", buildResultSet("/zone2/a"), 20));
+		FederatedQueryResult result = new FederatedQueryResult(zoneResults);
+
+		List<ZoneRow> rows = result.getRows();
+		Assert.assertEquals(3, rows.size());
+		Assert.assertEquals("zone1", rows.get(0).getZone());
+		Assert.assertEquals("/zone1/b", rows.get(1).getRow().getColumn(0));
+		Assert.assertEquals("zone2", rows.get(2).getZone());
+		Assert.assertEquals("/zone2/a", rows.get(2).getRow().getColumn(0));
+		Assert.assertTrue(result.isComplete());
+		Assert.assertTrue(result.getFailedZones().isEmpty());
+	}
+
+	@Test
+	public void testPartialResults() throws Exception {
+		List<ZoneResult> zoneResults = new ArrayList<ZoneResult>();
+		zoneResults.add(ZoneResult.timeout("slow", 500));
+		zoneResults.add(ZoneResult.success("zone1", buildResultSet("/zone1/a"), 10));
+		zoneResults.add(ZoneResult.failure("broken", new JargonException("no route"), 5));
+		FederatedQueryResult result = new FederatedQueryResult(zoneResults);
+
+		Assert.assertFalse(result.isComplete());
+		Assert.assertEquals(Arrays.asList("slow", "broken"), result.getFailedZones());
+		Assert.assertEquals(1, result.getRows().size());
+		Assert.assertTrue(result.getZoneResult("slow").isTimedOut());
+		Assert.assertNull(result.getZoneResult("slow").getResultSet());
+		Assert.assertEquals("no route", result.getZoneResult("broken").getError().getMessage());
+		Assert.assertNull(result.getZoneResult("other"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSuccessNullResultSet() throws Exception {
+		ZoneResult.success("zone1", null, 0);
+	}
+
+	private static IRODSQueryResultSet buildResultSet(final String... paths) throws Exception {
+		TranslatedIRODSGenQuery translated = new IRODSGenQueryBuilder(true, null)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME).exportIRODSQueryFromBuilder(100)
+				.convertToTranslatedIRODSGenQuery();
+		List<String> columnNames = Arrays.asList(RodsGenQueryEnum.COL_COLL_NAME.getName());
+		List<IRODSQueryResultRow> rows = new ArrayList<IRODSQueryResultRow>();
+		for (String path : paths) {
+			rows.add(IRODSQueryResultRow.instance(Arrays.asList(path), columnNames));
+		}
+		return IRODSQueryResultSet.instance(translated, rows, 0, 0);
+	}
+
+}
@@ -0,0 +1,149 @@
+package org.irods.jargon.core.query;
+
+import org.irods.jargon.core.packinstr.GenQueryInp;
+import org.irods.jargon.core.query.GenQueryOrderByField.OrderByType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PreparedIRODSGenQueryTest {
+
+	public static final Logger log = LoggerFactory.getLogger(PreparedIRODSGenQueryTest.class);
+
+	@Test
+	public void testEncodingMatchesBuilderQuery() throws Exception {
+		PreparedIRODSGenQuery prepared = buildListingQuery(false, true).prepare();
+		Assert.assertEquals(1, prepared.getBindParameterCount());
+		IRODSGenQueryFromBuilder query = buildListingQuery(false, false)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL,
+						"/zone/home/user & <friends>")
+				.exportIRODSQueryFromBuilder(500);
+		BoundIRODSGenQuery bound = prepared.bind(500, "/zone/home/user & <friends>");
+
+		Assert.assertEquals(encode(query.convertToTranslatedIRODSGenQuery(), 0, 0, null),
+				encode(bound.getTranslatedIRODSGenQuery(), 0, 0, null));
+		Assert.assertEquals(encode(query.convertToTranslatedIRODSGenQuery(), 0, 20, "otherZone"),
+				encode(bound.getTranslatedIRODSGenQuery(), 0, 20, "otherZone"));
+		Assert.assertEquals(encode(query.convertToTranslatedIRODSGenQuery(), 3, 0, null),
+				encode(bound.getTranslatedIRODSGenQuery(), 3, 0, null));
+		Assert.assertEquals(
+				GenQueryInp.instanceForCloseQuery(query.convertToTranslatedIRODSGenQuery(), 3).getTagValue().parseTag(),
+				GenQueryInp.instanceForCloseQuery(bound.getTranslatedIRODSGenQuery(), 3).getParsedTags());
+	}
+
+	@Test
+	public void testEncodingMatchesWithFixedAndBoundConditionsAndUpperCase() throws Exception {
+		IRODSGenQueryBuilder preparedBuilder = new IRODSGenQueryBuilder(true, true, null)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+				.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_REPL_NUM, QueryConditionOperators.EQUAL, 0)
+				.addConditionAsBindParameter(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL);
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, true, null)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE, "/zone/%")
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_REPL_NUM, QueryConditionOperators.EQUAL, 0)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_DATA_NAME, QueryConditionOperators.EQUAL, "file.txt");
+
+		BoundIRODSGenQuery bound = preparedBuilder.prepare().bind(100, "/zone/%", "file.txt");
+		TranslatedIRODSGenQuery translated = builder.exportIRODSQueryFromBuilder(100)
+				.convertToTranslatedIRODSGenQuery();
+		Assert.assertEquals(encode(translated, 0, 0, null), encode(bound.getTranslatedIRODSGenQuery(), 0, 0, null));
+		Assert.assertEquals("'FILE.TXT'",
+				bound.getTranslatedIRODSGenQuery().getTranslatedQueryConditions().get(2).getValue());
+	}
+
+	@Test
+	public void testPreparedQueryIsReusable() throws Exception {
+		PreparedIRODSGenQuery prepared = buildListingQuery(false, true).prepare();
+		String first = encode(prepared.bind(10, "/a").getTranslatedIRODSGenQuery(), 0, 0, null);
+		String second = encode(prepared.bind(10, "/b").getTranslatedIRODSGenQuery(), 0, 0, null);
+		Assert.assertTrue(first.contains("'/a'"));
+		Assert.assertTrue(second.contains("'/b'"));
+		Assert.assertFalse(second.contains("'/a'"));
+	}
+
+	@Test(expected = GenQueryBuilderException.class)
+	public void testExportWithBindParameter() throws Exception {
+		buildListingQuery(false, true).exportIRODSQueryFromBuilder(100);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBindWrongNumberOfValues() throws Exception {
+		buildListingQuery(false, true).prepare().bind(100, "/a", "/b");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBindParameterWithInOperator() throws Exception {
+		new IRODSGenQueryBuilder(true, null).addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME,
+				QueryConditionOperators.IN);
+	}
+
+	/**
+	 * Compares the cost of building, translating and encoding a listing query on
+	 * each call with binding and encoding a prepared one. Times are logged, not
+	 * asserted.
+	 */
+	@Test
+	public void testPreparedQueryEncodingTime() throws Exception {
+		final int iterations = 20000;
+		PreparedIRODSGenQuery prepared = buildListingQuery(true, true).prepare();
+
+		// warm up both paths
+		long sink = 0;
+		for (int i = 0; i < iterations; i++) {
+			sink += encodeFromBuilder("/zone/home/user" + (i % 10)).length();
+			sink += encodeFromPrepared(prepared, "/zone/home/user" + (i % 10)).length();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			sink += encodeFromBuilder("/zone/home/user" + (i % 10)).length();
+		}
+		long builderNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			sink += encodeFromPrepared(prepared, "/zone/home/user" + (i % 10)).length();
+		}
+		long preparedNanos = System.nanoTime() - start;
+
+		log.info("mean micros per query to build and encode:{} with a prepared query:{} ({})",
+				builderNanos / 1000.0 / iterations, preparedNanos / 1000.0 / iterations, sink);
+		Assert.assertTrue(sink > 0);
+	}
+
+	private String encodeFromBuilder(final String path) throws Exception {
+		IRODSGenQueryFromBuilder query = buildListingQuery(true, false)
+				.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL, path)
+				.exportIRODSQueryFromBuilder(5000);
+		return encode(query.convertToTranslatedIRODSGenQuery(), 0, 0, null);
+	}
+
+	private String encodeFromPrepared(final PreparedIRODSGenQuery prepared, final String path) throws Exception {
+		return encode(prepared.bind(5000, path).getTranslatedIRODSGenQuery(), 0, 0, null);
+	}
+
+	private static IRODSGenQueryBuilder buildListingQuery(final boolean computeTotalRowCount, final boolean bind)
+			throws Exception {
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, computeTotalRowCount, null)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
+				.addOrderByGenQueryField(RodsGenQueryEnum.COL_DATA_NAME, OrderByType.ASC);
+		if (bind) {
+			builder.addConditionAsBindParameter(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.EQUAL);
+		}
+		return builder;
+	}
+
+	private static String encode(final TranslatedIRODSGenQuery translated, final int continueIndex,
+			final int partialStartIndex, final String zoneName) throws Exception {
+		GenQueryInp genQueryInp = partialStartIndex == 0 ? GenQueryInp.instance(translated, continueIndex, zoneName)
+				: GenQueryInp.instanceWithPartialStart(translated, partialStartIndex, zoneName);
+		return genQueryInp.getParsedTags();
+	}
+
+}
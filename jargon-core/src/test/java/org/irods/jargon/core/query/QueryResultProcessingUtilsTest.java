@@ -0,0 +1,102 @@
+package org.irods.jargon.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.irods.jargon.core.packinstr.GenQueryOut;
+import org.irods.jargon.core.packinstr.Tag;
+import org.irods.jargon.core.utils.IRODSConstants;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QueryResultProcessingUtilsTest {
+
+	private static final List<String> COLUMN_NAMES = Arrays.asList(RodsGenQueryEnum.COL_META_DATA_ATTR_NAME.getName(),
+			RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE.getName());
+
+	@Test
+	public void testStreamMatchesTranslatedRows() throws Exception {
+		Tag response = buildResponse(0, 0, 5);
+		List<IRODSQueryResultRow> translated = QueryResultProcessingUtils.translateResponseIntoResultSet(response,
+				COLUMN_NAMES, 0, 0);
+
+		final List<IRODSQueryResultRow> streamed = new ArrayList<IRODSQueryResultRow>();
+		boolean keepGoing = QueryResultProcessingUtils.streamResponseIntoHandler(response,
+				new StreamingQueryRow(COLUMN_NAMES), 0, row -> streamed.add(row.toResultRow()));
+
+		Assert.assertTrue(keepGoing);
+		Assert.assertEquals(translated.size(), streamed.size());
+		for (int i = 0; i < translated.size(); i++) {
+			Assert.assertEquals(translated.get(i).getColumnsAsList(), streamed.get(i).getColumnsAsList());
+			Assert.assertEquals(translated.get(i).getRecordCount(), streamed.get(i).getRecordCount());
+			Assert.assertTrue(streamed.get(i).isLastResult());
+		}
+		Assert.assertEquals("value4", streamed.get(4).getColumn(RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE.getName()));
+	}
+
+	@Test
+	public void testStreamRecordCountAcrossPages() throws Exception {
+		StreamingQueryRow row = new StreamingQueryRow(COLUMN_NAMES);
+		final List<String> values = new ArrayList<String>();
+		final List<Boolean> lastResults = new ArrayList<Boolean>();
+		RowHandler handler = streamingRow -> {
+			values.add(streamingRow.getRecordCount() + ":" + streamingRow.getColumn(0));
+			lastResults.add(streamingRow.isLastResult());
+			return true;
+		};
+
+		QueryResultProcessingUtils.streamResponseIntoHandler(buildResponse(1, 0, 3), row, 1, handler);
+		QueryResultProcessingUtils.streamResponseIntoHandler(buildResponse(0, 3, 2), row, 0, handler);
+
+		Assert.assertEquals(Arrays.asList("1:attr0", "2:attr1", "3:attr2", "4:attr3", "5:attr4"), values);
+		Assert.assertEquals(Arrays.asList(false, false, false, true, true), lastResults);
+		Assert.assertEquals(5, row.getRecordCount());
+	}
+
+	@Test
+	public void testStreamStopsWhenHandlerStops() throws Exception {
+		final List<String> values = new ArrayList<String>();
+		boolean keepGoing = QueryResultProcessingUtils.streamResponseIntoHandler(buildResponse(1, 0, 5),
+				new StreamingQueryRow(COLUMN_NAMES), 1, row -> {
+					values.add(row.getColumn(0));
+					return values.size() < 2;
+				});
+
+		Assert.assertFalse(keepGoing);
+		Assert.assertEquals(2, values.size());
+	}
+
+	@Test
+	public void testStreamNullResponse() throws Exception {
+		Assert.assertTrue(QueryResultProcessingUtils.streamResponseIntoHandler(null,
+				new StreamingQueryRow(COLUMN_NAMES), 0, row -> {
+					Assert.fail("no rows expected");
+					return true;
+				}));
+	}
+
+	/**
+	 * Build a {@code GenQueryOut} as decoded from iRODS, with values numbered from
+	 * {@code firstRow}
+	 */
+	private static Tag buildResponse(final int continuation, final int firstRow, final int rows) {
+		Tag response = new Tag(GenQueryOut.PI_NAME);
+		response.addTag(GenQueryOut.ROW_CNT, rows);
+		response.addTag(GenQueryOut.ATTRIB_CNT, 2);
+		response.addTag(GenQueryOut.CONTINUE_INX, continuation);
+		response.addTag("totalRowCount", 0);
+		String[] prefixes = { "attr", "value" };
+		for (int j = 0; j < prefixes.length; j++) {
+			Tag column = new Tag(IRODSConstants.SqlResult_PI);
+			column.addTag("attriInx", j);
+			column.addTag("reslen", 32);
+			for (int i = 0; i < rows; i++) {
+				column.addTag("value", prefixes[j] + (firstRow + i));
+			}
+			response.addTag(column);
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,139 @@
+package org.irods.jargon.core.service;
+
+import java.io.File;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.pub.DataTransferOperations;
+import org.irods.jargon.core.pub.IRODSFileSystem;
+import org.irods.jargon.core.pub.io.IRODSFile;
+import org.irods.jargon.core.pub.io.IRODSFileFactory;
+import org.irods.jargon.testutils.IRODSTestSetupUtilities;
+import org.irods.jargon.testutils.TestingPropertiesHelper;
+import org.irods.jargon.testutils.filemanip.FileGenerator;
+import org.irods.jargon.testutils.filemanip.ScratchFileUtils;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CollectionTreeStatisticsServiceTest {
+
+	private static Properties testingProperties = new Properties();
+	private static TestingPropertiesHelper testingPropertiesHelper = new TestingPropertiesHelper();
+	private static ScratchFileUtils scratchFileUtils = null;
+	public static final String IRODS_TEST_SUBDIR_PATH = "CollectionTreeStatisticsServiceTest";
+	private static IRODSTestSetupUtilities irodsTestSetupUtilities = null;
+	private static IRODSFileSystem irodsFileSystem;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		TestingPropertiesHelper testingPropertiesLoader = new TestingPropertiesHelper();
+		testingProperties = testingPropertiesLoader.getTestProperties();
+		scratchFileUtils = new ScratchFileUtils(testingProperties);
+		scratchFileUtils.clearAndReinitializeScratchDirectory(IRODS_TEST_SUBDIR_PATH);
+		irodsTestSetupUtilities = new IRODSTestSetupUtilities();
+		irodsTestSetupUtilities.initializeIrodsScratchDirectory();
+		irodsTestSetupUtilities.initializeDirectoryForTest(IRODS_TEST_SUBDIR_PATH);
+		irodsFileSystem = IRODSFileSystem.instance();
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		irodsFileSystem.closeAndEatExceptions();
+	}
+
+	@Test
+	public void testComputeStatisticsForCollection() throws Exception {
+		String rootCollection = "testComputeStatisticsForCollection";
+		String localCollectionAbsolutePath = scratchFileUtils
+				.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH + '/' + rootCollection);
+
+		String irodsCollectionRootAbsolutePath = testingPropertiesHelper
+				.buildIRODSCollectionAbsolutePathFromTestProperties(testingProperties, IRODS_TEST_SUBDIR_PATH);
+
+		FileGenerator.generateManyFilesAndCollectionsInParentCollectionByAbsolutePath(localCollectionAbsolutePath,
+				"testComputeStatisticsForCollection", 2, 3, 2, "testFile", ".txt", 3, 2, 1, 2);
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSFileFactory irodsFileFactory = irodsFileSystem.getIRODSFileFactory(irodsAccount);
+		IRODSFile destFile = irodsFileFactory.instanceIRODSFile(irodsCollectionRootAbsolutePath);
+		DataTransferOperations dataTransferOperationsAO = irodsFileSystem.getIRODSAccessObjectFactory()
+				.getDataTransferOperations(irodsAccount);
+		File localFile = new File(localCollectionAbsolutePath);
+		dataTransferOperationsAO.putOperation(localFile, destFile, null, null);
+
+		String irodsAbsolutePath = irodsCollectionRootAbsolutePath + "/" + rootCollection;
+		int expectedFiles = irodsFileSystem.getIRODSAccessObjectFactory().getCollectionAO(irodsAccount)
+				.countAllFilesUnderneathTheGivenCollection(irodsAbsolutePath);
+
+		final AtomicInteger callbacks = new AtomicInteger();
+		CollectionTreeStatisticsService service = new CollectionTreeStatisticsService(
+				irodsFileSystem.getIRODSAccessObjectFactory(), irodsAccount, 2);
+		CollectionTreeStatistics statistics;
+		try {
+			statistics = service.computeStatisticsForCollection(irodsAbsolutePath,
+					(partitionStatistics, completedPartitions, totalPartitions) -> callbacks.incrementAndGet());
+		} finally {
+			service.shutdown();
+		}
+
+		Assert.assertEquals("did not get expected file count", expectedFiles, statistics.getDataObjectCount());
+		Assert.assertTrue("did not get collections", statistics.getCollectionCount() > 0);
+		Assert.assertTrue("did not get bytes", statistics.getTotalBytes() > 0);
+		Assert.assertFalse("no resource breakdown", statistics.getResourceStatistics().isEmpty());
+		Assert.assertTrue("no progress callbacks", callbacks.get() > 0);
+	}
+
+	@Test
+	public void testComputeStatisticsWildcardInChildName() throws Exception {
+		String rootCollection = "testComputeStatisticsWildcardInChildName";
+		String irodsAbsolutePath = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + '/' + rootCollection);
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSFileFactory irodsFileFactory = irodsFileSystem.getIRODSFileFactory(irodsAccount);
+
+		// a_b as a LIKE pattern would also match the sibling axb
+		irodsFileFactory.instanceIRODSFile(irodsAbsolutePath + "/a_b/sub").mkdirs();
+		irodsFileFactory.instanceIRODSFile(irodsAbsolutePath + "/axb/sub").mkdirs();
+
+		String localCollectionAbsolutePath = scratchFileUtils
+				.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH + '/' + rootCollection);
+		String localFileName = FileGenerator.generateFileOfFixedLengthGivenName(localCollectionAbsolutePath,
+				"wildcard.txt", 10);
+		DataTransferOperations dataTransferOperationsAO = irodsFileSystem.getIRODSAccessObjectFactory()
+				.getDataTransferOperations(irodsAccount);
+		dataTransferOperationsAO.putOperation(new File(localFileName),
+				irodsFileFactory.instanceIRODSFile(irodsAbsolutePath + "/a_b/sub"), null, null);
+		dataTransferOperationsAO.putOperation(new File(localFileName),
+				irodsFileFactory.instanceIRODSFile(irodsAbsolutePath + "/axb/sub"), null, null);
+
+		CollectionTreeStatisticsService service = new CollectionTreeStatisticsService(
+				irodsFileSystem.getIRODSAccessObjectFactory(), irodsAccount, 2);
+		CollectionTreeStatistics statistics;
+		try {
+			statistics = service.computeStatisticsForCollection(irodsAbsolutePath, null);
+		} finally {
+			service.shutdown();
+		}
+
+		Assert.assertEquals("sibling subtree counted twice", 2, statistics.getDataObjectCount());
+		Assert.assertEquals(20, statistics.getTotalBytes());
+		Assert.assertEquals(4, statistics.getCollectionCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testComputeStatisticsForCollectionNullPath() throws Exception {
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		CollectionTreeStatisticsService service = new CollectionTreeStatisticsService(
+				irodsFileSystem.getIRODSAccessObjectFactory(), irodsAccount);
+		try {
+			service.computeStatisticsForCollection(null, null);
+		} finally {
+			service.shutdown();
+		}
+	}
+
+}
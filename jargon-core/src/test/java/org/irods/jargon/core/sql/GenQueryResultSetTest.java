@@ -0,0 +1,123 @@
+package org.irods.jargon.core.sql;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.irods.jargon.core.pub.IRODSGenQueryExecutor;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSQueryResultRow;
+import org.irods.jargon.core.query.IRODSQueryResultSet;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.core.query.TranslatedIRODSGenQuery;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class GenQueryResultSetTest {
+
+	@Test
+	public void testReadAcrossPages() throws Exception {
+		TranslatedIRODSGenQuery query = buildQuery();
+		IRODSQueryResultSet page1 = buildPage(query, 1,
+				Arrays.asList(Arrays.asList("file1", "10", "1600000000"), Arrays.asList("file2", "", "1600000001")));
+		IRODSQueryResultSet page2 = buildPage(query, 0, Arrays.asList(Arrays.asList("file3", "30", "1600000002")));
+		IRODSGenQueryExecutor executor = Mockito.mock(IRODSGenQueryExecutor.class);
+		Mockito.when(executor.getMoreResultsInZone(page1, "zone")).thenReturn(page2);
+
+		GenQueryResultSet resultSet = new GenQueryResultSet(executor, page1, "zone", null, 0);
+		Assert.assertTrue(resultSet.isBeforeFirst());
+		Assert.assertTrue(resultSet.next());
+		Assert.assertTrue(resultSet.isFirst());
+		Assert.assertEquals("file1", resultSet.getString(1));
+		Assert.assertEquals(10L, resultSet.getLong("data_size"));
+		Assert.assertFalse(resultSet.wasNull());
+		Assert.assertEquals(1600000000000L, resultSet.getTimestamp("DATA_MODIFY_TIME").getTime());
+
+		Assert.assertTrue(resultSet.next());
+		Assert.assertEquals(0, resultSet.getInt("DATA_SIZE"));
+		Assert.assertTrue(resultSet.wasNull());
+		Assert.assertNull(resultSet.getObject("DATA_SIZE", Long.class));
+
+		Assert.assertTrue(resultSet.next());
+		Assert.assertEquals(3, resultSet.getRow());
+		Assert.assertTrue(resultSet.isLast());
+		Assert.assertEquals("file3", resultSet.getString("DATA_NAME"));
+		Assert.assertFalse(resultSet.next());
+		Assert.assertTrue(resultSet.isAfterLast());
+
+		resultSet.close();
+		Mockito.verify(executor).getMoreResultsInZone(page1, "zone");
+		Mockito.verify(executor, Mockito.never()).closeResults(Mockito.any(IRODSQueryResultSet.class));
+	}
+
+	@Test
+	public void testMaxRowsClosesQuery() throws Exception {
+		TranslatedIRODSGenQuery query = buildQuery();
+		IRODSQueryResultSet page1 = buildPage(query, 1,
+				Arrays.asList(Arrays.asList("file1", "10", "0"), Arrays.asList("file2", "20", "0")));
+		IRODSGenQueryExecutor executor = Mockito.mock(IRODSGenQueryExecutor.class);
+
+		GenQueryResultSet resultSet = new GenQueryResultSet(executor, page1, null, null, 1);
+		Assert.assertTrue(resultSet.next());
+		Assert.assertTrue(resultSet.isLast());
+		Assert.assertFalse(resultSet.next());
+		resultSet.close();
+		Mockito.verify(executor).closeResults(page1);
+		Mockito.verify(executor, Mockito.never()).getMoreResults(page1);
+	}
+
+	@Test
+	public void testMetaData() throws Exception {
+		TranslatedIRODSGenQuery query = buildQuery();
+		IRODSQueryResultSet page1 = buildPage(query, 0, new ArrayList<List<String>>());
+		GenQueryResultSet resultSet = new GenQueryResultSet(Mockito.mock(IRODSGenQueryExecutor.class), page1, null,
+				null, 0);
+		Assert.assertEquals(3, resultSet.getMetaData().getColumnCount());
+		Assert.assertEquals("DATA_SIZE", resultSet.getMetaData().getColumnName(2));
+		Assert.assertEquals(Types.VARCHAR, resultSet.getMetaData().getColumnType(2));
+		Assert.assertEquals(100, resultSet.getFetchSize());
+		Assert.assertFalse(resultSet.isBeforeFirst());
+		Assert.assertFalse(resultSet.next());
+	}
+
+	@Test(expected = SQLException.class)
+	public void testPreviousNotSupported() throws Exception {
+		TranslatedIRODSGenQuery query = buildQuery();
+		IRODSQueryResultSet page1 = buildPage(query, 0, Arrays.asList(Arrays.asList("file1", "10", "0")));
+		GenQueryResultSet resultSet = new GenQueryResultSet(Mockito.mock(IRODSGenQueryExecutor.class), page1, null,
+				null, 0);
+		resultSet.next();
+		resultSet.previous();
+	}
+
+	@Test(expected = SQLException.class)
+	public void testUnknownColumn() throws Exception {
+		TranslatedIRODSGenQuery query = buildQuery();
+		IRODSQueryResultSet page1 = buildPage(query, 0, Arrays.asList(Arrays.asList("file1", "10", "0")));
+		GenQueryResultSet resultSet = new GenQueryResultSet(Mockito.mock(IRODSGenQueryExecutor.class), page1, null,
+				null, 0);
+		resultSet.next();
+		resultSet.getString("COLL_NAME");
+	}
+
+	private static TranslatedIRODSGenQuery buildQuery() throws Exception {
+		return new IRODSGenQueryBuilder(true, null).addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
+				.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME).exportIRODSQueryFromBuilder(100)
+				.convertToTranslatedIRODSGenQuery();
+	}
+
+	private static IRODSQueryResultSet buildPage(final TranslatedIRODSGenQuery query, final int continuationIndex,
+			final List<List<String>> values) throws Exception {
+		List<String> columnNames = Arrays.asList("DATA_NAME", "DATA_SIZE", "DATA_MODIFY_TIME");
+		List<IRODSQueryResultRow> rows = new ArrayList<IRODSQueryResultRow>();
+		for (List<String> row : values) {
+			rows.add(IRODSQueryResultRow.instance(row, columnNames));
+		}
+		return IRODSQueryResultSet.instance(query, rows, continuationIndex, 0);
+	}
+
+}
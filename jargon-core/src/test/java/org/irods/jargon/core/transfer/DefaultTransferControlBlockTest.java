@@ -1,6 +1,10 @@
 package org.irods.jargon.core.transfer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.transfer.AbstractParallelFileTransferStrategy.TransferType;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -44,4 +48,21 @@ public class DefaultTransferControlBlockTest {
 		Assert.assertTrue("did not pass filter when no last good path", testControlBlock.filter("bbb"));
 	}
 
+	@Test
+	public void testAddParallelTransferStatisticsKeepsMostRecent() throws Exception {
+		TransferControlBlock testControlBlock = DefaultTransferControlBlock.instance();
+		for (int i = 0; i < DefaultTransferControlBlock.MAX_PARALLEL_TRANSFER_STATISTICS + 5; i++) {
+			testControlBlock.addParallelTransferStatistics(new ParallelTransferStatistics(
+					TransferType.GET_TRANSFER, "/local/file" + i, 100L, 10L, true,
+					new ArrayList<ParallelTransferStreamStatistics>()));
+		}
+
+		List<ParallelTransferStatistics> statistics = testControlBlock.getParallelTransferStatistics();
+		Assert.assertEquals(DefaultTransferControlBlock.MAX_PARALLEL_TRANSFER_STATISTICS, statistics.size());
+		Assert.assertEquals("oldest not dropped", "/local/file5", statistics.get(0).getLocalAbsolutePath());
+
+		testControlBlock.resetTransferData();
+		Assert.assertTrue("not cleared by reset", testControlBlock.getParallelTransferStatistics().isEmpty());
+	}
+
 }
@@ -0,0 +1,66 @@
+package org.irods.jargon.core.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.irods.jargon.core.transfer.AbstractParallelFileTransferStrategy.TransferType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelTransferStatisticsTest {
+
+	@Test
+	public void testStreamStallOnlyCountsLongWaits() throws Exception {
+		ParallelTransferStreamStatistics stream = new ParallelTransferStreamStatistics(0);
+		stream.addNetworkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+		stream.addNetworkNanos(TimeUnit.MILLISECONDS.toNanos(ParallelTransferStreamStatistics.STALL_THRESHOLD_MILLIS + 500));
+		Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(ParallelTransferStreamStatistics.STALL_THRESHOLD_MILLIS + 510),
+				stream.getNetworkNanos());
+		Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(ParallelTransferStreamStatistics.STALL_THRESHOLD_MILLIS + 500),
+				stream.getStallNanos());
+	}
+
+	@Test
+	public void testStreamBytesPerSecond() throws Exception {
+		ParallelTransferStreamStatistics stream = new ParallelTransferStreamStatistics(0);
+		Assert.assertEquals("no time recorded yet", 0L, stream.getBytesPerSecond());
+		stream.start();
+		stream.addBytesTransferred(1000L);
+		Thread.sleep(20);
+		stream.finish();
+		Assert.assertTrue("elapsed not recorded", stream.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+		Assert.assertTrue("throughput not computed", stream.getBytesPerSecond() > 0);
+		Assert.assertTrue("throughput too high", stream.getBytesPerSecond() <= 50000L);
+	}
+
+	@Test
+	public void testAggregateAcrossStreams() throws Exception {
+		List<ParallelTransferStreamStatistics> streams = new ArrayList<ParallelTransferStreamStatistics>();
+		for (int i = 0; i < 3; i++) {
+			ParallelTransferStreamStatistics stream = new ParallelTransferStreamStatistics(i);
+			stream.start();
+			stream.addBytesTransferred(1000L * (i + 1));
+			stream.addNetworkNanos(TimeUnit.SECONDS.toNanos(2));
+			Thread.sleep(5);
+			stream.finish();
+			streams.add(stream);
+		}
+
+		ParallelTransferStatistics statistics = new ParallelTransferStatistics(TransferType.GET_TRANSFER,
+				"/local/file", 6000L, TimeUnit.SECONDS.toNanos(1), true, streams);
+		Assert.assertEquals(6000L, statistics.getTotalBytesTransferred());
+		Assert.assertEquals(6000L, statistics.getBytesPerSecond());
+		Assert.assertEquals(TimeUnit.SECONDS.toNanos(6), statistics.getTotalStallNanos());
+		Assert.assertEquals(3, statistics.getStreamStatistics().size());
+		Assert.assertNotNull(statistics.getSlowestStream());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testStreamListIsUnmodifiable() throws Exception {
+		ParallelTransferStatistics statistics = new ParallelTransferStatistics(TransferType.PUT_TRANSFER,
+				"/local/file", 0L, 0L, true, new ArrayList<ParallelTransferStreamStatistics>());
+		statistics.getStreamStatistics().add(new ParallelTransferStreamStatistics(0));
+	}
+
+}
@@ -8,6 +8,7 @@ import org.irods.jargon.core.pub.CollectionAndDataObjectListAndSearchAOImplTest;
 import org.irods.jargon.core.pub.CollectionAuditAOImplTest;
 import org.irods.jargon.core.pub.CollectionListingUtilsTest;
 import org.irods.jargon.core.pub.CollectionPagerAOImplTest;
+import org.irods.jargon.core.pub.ConnectionScopedAccessObjectsTest;
 import org.irods.jargon.core.pub.DataObjectAOImplForSoftLinkTest;
 import org.irods.jargon.core.pub.DataObjectAOImplTest;
 import org.irods.jargon.core.pub.DataObjectAuditAOImplTest;
@@ -30,6 +31,7 @@ import org.irods.jargon.core.pub.IRODSFileSystemTest;
 import org.irods.jargon.core.pub.IRODSGenQueryExecutorImplBuilderQueriesTest;
 import org.irods.jargon.core.pub.IRODSGenQueryExecutorImplTest;
 import org.irods.jargon.core.pub.IRODSRegistrationOfFilesAOImplTest;
+import org.irods.jargon.core.pub.ListAndCountTest;
 import org.irods.jargon.core.pub.MountedCollectionAOImplForMSSOTest;
 import org.irods.jargon.core.pub.MountedCollectionAOImplTest;
 import org.irods.jargon.core.pub.MountedFilesystemCollectionAOImplTest;
@@ -51,6 +53,7 @@ import org.irods.jargon.core.pub.UserAOTest;
 import org.irods.jargon.core.pub.UserGroupAOImplTest;
 import org.irods.jargon.core.pub.ZoneAOTest;
 import org.irods.jargon.core.pub.aohelper.UserAOHelperTest;
+import org.irods.jargon.core.service.CollectionTreeStatisticsServiceTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -79,7 +82,9 @@ import org.junit.runners.Suite;
 		IRODSFileSystemSingletonWrapperTest.class, ResourceAOHelperTest.class, CollectionPagerAOImplTest.class,
 		DataObjectChecksumUtilitiesAOImplTest.class, CollectionListingUtilsTest.class,
 		FederatedDataObjectAOImplTest.class, DataObjectChecksumUtilitiesAOImplTest.class, TrashOperationsTest.class,
-		TrashOperationsAOImplTest.class, FederatedUserGroupAOTest.class })
+		TrashOperationsAOImplTest.class, FederatedUserGroupAOTest.class,
+		CollectionTreeStatisticsServiceTest.class, ListAndCountTest.class,
+		ConnectionScopedAccessObjectsTest.class })
 
 /**
  * Suite to run Access Object tests in org.irods.jargon.pub.*
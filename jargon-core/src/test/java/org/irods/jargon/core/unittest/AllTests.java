@@ -8,8 +8,11 @@ import org.irods.jargon.core.query.TranslatedIRODSQueryTest;
 import org.irods.jargon.core.remoteexecute.RemoteExecuteServiceImplTest;
 import org.irods.jargon.core.security.IRODSPasswordUtilitiesTest;
 import org.irods.jargon.core.transform.ClientHintsTransformTest;
+import org.irods.jargon.core.unittest.functionaltest.ConnectionSetupFunctionalTest;
 import org.irods.jargon.core.unittest.functionaltest.EncryptedTransferTests;
 import org.irods.jargon.core.unittest.functionaltest.SslNegotiationFunctionalTests;
+import org.irods.jargon.core.unittest.functionaltest.SslSessionResumptionFunctionalTest;
+import org.irods.jargon.core.utils.ExpiringLruCacheTest;
 import org.irods.jargon.core.utils.IRODSUriUserInfoTest;
 import org.irods.jargon.core.utils.IRODSUriUtilsTest;
 import org.irods.jargon.core.utils.LocalFileUtilsTest;
@@ -26,8 +29,9 @@ import org.junit.runners.Suite;
 		RemoteExecuteServiceImplTest.class, IRODSPasswordUtilitiesTest.class, IRODSUriUtilsTest.class,
 		IRODSUriUserInfoTest.class, MiscIRODSUtilsTest.class, AuthTests.class, ChecksumTests.class,
 		TransferRestartTests.class, RandomUtilsTest.class, IrodsVersionTest.class, CyberduckProfileBuilderTest.class,
-		SslNegotiationFunctionalTests.class, EncryptedTransferTests.class, ClientHintsTransformTest.class,
-		FilePermissionEnumTest.class })
+		SslNegotiationFunctionalTests.class, SslSessionResumptionFunctionalTest.class, EncryptedTransferTests.class,
+		ClientHintsTransformTest.class, FilePermissionEnumTest.class, ExpiringLruCacheTest.class,
+		ConnectionSetupFunctionalTest.class })
 
 /**
  * Suite to run all tests (except long running and functional), further refined
@@ -1,8 +1,11 @@
 package org.irods.jargon.core.unittest;
 
+import org.irods.jargon.core.connection.AccessControlCacheTest;
 import org.irods.jargon.core.connection.ClientServerNegotationPolicyFromPropertiesBuilderTest;
 import org.irods.jargon.core.connection.ClientServerNegotiationPolicyTest;
 import org.irods.jargon.core.connection.ConnectionProgressStatusTest;
+import org.irods.jargon.core.connection.ConnectionSetupTimingsTest;
+import org.irods.jargon.core.connection.DefaultConnectionMetricsRegistryTest;
 import org.irods.jargon.core.connection.DefaultPropertiesJargonConfigTest;
 import org.irods.jargon.core.connection.DiscoveredServerPropertiesCacheTest;
 import org.irods.jargon.core.connection.EnvironmentalInfoAccessorTest;
@@ -11,9 +14,17 @@ import org.irods.jargon.core.connection.IRODSServerPropertiesTest;
 import org.irods.jargon.core.connection.IRODSSessionTest;
 import org.irods.jargon.core.connection.IRODSSimpleConnectionTest;
 import org.irods.jargon.core.connection.IRODSSimpleProtocolManagerTest;
+import org.irods.jargon.core.connection.LatencyHistogramTest;
+import org.irods.jargon.core.connection.ListingPrefetchBufferTest;
+import org.irods.jargon.core.connection.NegotiationOutcomeCacheTest;
+import org.irods.jargon.core.connection.NegotiationOutcomeRetryTest;
 import org.irods.jargon.core.connection.PAMAuthTest;
+import org.irods.jargon.core.connection.PamTemporaryPasswordCacheTest;
 import org.irods.jargon.core.connection.PipelineConfigurationTest;
+import org.irods.jargon.core.connection.ProtocolTraceTest;
 import org.irods.jargon.core.connection.ProxyUserFunctionalTest;
+import org.irods.jargon.core.connection.QueryResultCacheTest;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSetTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -23,7 +34,11 @@ import org.junit.runners.Suite;
 		DefaultPropertiesJargonConfigTest.class, ConnectionProgressStatusTest.class, PAMAuthTest.class,
 		DiscoveredServerPropertiesCacheTest.class, IRODSAccountTest.class,
 		ClientServerNegotationPolicyFromPropertiesBuilderTest.class, ClientServerNegotiationPolicyTest.class,
-		PipelineConfigurationTest.class, ProxyUserFunctionalTest.class })
+		PipelineConfigurationTest.class, ProxyUserFunctionalTest.class, AccessControlCacheTest.class,
+		PamTemporaryPasswordCacheTest.class, LatencyHistogramTest.class,
+		DefaultConnectionMetricsRegistryTest.class, ProtocolTraceTest.class, ReadOnlyConnectionSetTest.class,
+		NegotiationOutcomeCacheTest.class, ConnectionSetupTimingsTest.class, QueryResultCacheTest.class,
+		ListingPrefetchBufferTest.class, NegotiationOutcomeRetryTest.class })
 public class ConnectionTests {
 
 }
@@ -1,6 +1,7 @@
 package org.irods.jargon.core.unittest;
 
 import org.irods.jargon.core.transfer.DefaultTransferControlBlockTest;
+import org.irods.jargon.core.transfer.ParallelTransferStatisticsTest;
 import org.irods.jargon.core.transfer.TransferStatusTest;
 import org.irods.jargon.core.transfer.encrypt.AesCipherEncryptWrapperTest;
 import org.irods.jargon.core.transfer.encrypt.EncryptionWrapperFactoryTest;
@@ -9,7 +10,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ TransferStatusTest.class, DefaultTransferControlBlockTest.class,
-		EncryptionWrapperFactoryTest.class, AesCipherEncryptWrapperTest.class })
+		EncryptionWrapperFactoryTest.class, AesCipherEncryptWrapperTest.class, ParallelTransferStatisticsTest.class })
 public class TransferTests {
 
 }
@@ -0,0 +1,94 @@
+/**
+ *
+ */
+package org.irods.jargon.core.unittest.functionaltest;
+
+import java.util.Properties;
+
+import org.irods.jargon.core.connection.AuthScheme;
+import org.irods.jargon.core.connection.DefaultConnectionMetricsRegistry;
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
+import org.irods.jargon.core.connection.SettableJargonProperties;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactoryImpl;
+import org.irods.jargon.testutils.TestingPropertiesHelper;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the time spent in each phase of connection setup, with and without
+ * the negotiation outcome cache, and logs the per phase latency summaries
+ */
+public class ConnectionSetupFunctionalTest {
+
+	private static Properties testingProperties = new Properties();
+	private static TestingPropertiesHelper testingPropertiesHelper = new TestingPropertiesHelper();
+	public static final Logger log = LoggerFactory.getLogger(ConnectionSetupFunctionalTest.class);
+	private static final int CONNECTS = 20;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		TestingPropertiesHelper testingPropertiesLoader = new TestingPropertiesHelper();
+		testingProperties = testingPropertiesLoader.getTestProperties();
+	}
+
+	@Test
+	public void testConnectionSetupWithAndWithoutNegotiationCache() throws Exception {
+		IRODSSession withCache = buildSession(600);
+		IRODSSession withoutCache = buildSession(0);
+
+		double withMillis = timeConnects(withCache);
+		double withoutMillis = timeConnects(withoutCache);
+
+		log.info("mean connect ms with negotiation cache:{} without:{}", withMillis, withoutMillis);
+		logSummaries("with negotiation cache", withCache);
+		logSummaries("without negotiation cache", withoutCache);
+
+		DefaultConnectionMetricsRegistry withoutRegistry = (DefaultConnectionMetricsRegistry) withoutCache
+				.getConnectionMetricsRegistry();
+		Assert.assertEquals("should not negotiate optimistically without a cache", 0,
+				withoutRegistry.getOptimisticNegotiationCount());
+		Assert.assertEquals(CONNECTS + 1, withoutRegistry.getConnectionSetupTotalHistogram().getCount());
+	}
+
+	private IRODSSession buildSession(final int negotiationCacheTimeToLiveInSeconds) throws Exception {
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties();
+		settableJargonProperties.setInstrument(true);
+		settableJargonProperties.setNegotiationOutcomeCacheTimeToLiveInSeconds(negotiationCacheTimeToLiveInSeconds);
+		IRODSSession irodsSession = new IRODSSession(settableJargonProperties);
+		irodsSession.setIrodsProtocolManager(IRODSSimpleProtocolManager.instance());
+		return irodsSession;
+	}
+
+	private double timeConnects(final IRODSSession irodsSession) throws Exception {
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		irodsAccount.setAuthenticationScheme(AuthScheme.STANDARD);
+		IRODSAccessObjectFactory accessObjectFactory = new IRODSAccessObjectFactoryImpl(irodsSession);
+
+		// warm up, the first connection fills the caches
+		accessObjectFactory.getEnvironmentalInfoAO(irodsAccount).getIRODSServerCurrentTime();
+		irodsSession.closeSession();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < CONNECTS; i++) {
+			accessObjectFactory.getEnvironmentalInfoAO(irodsAccount).getIRODSServerCurrentTime();
+			irodsSession.closeSession();
+		}
+		return (System.nanoTime() - start) / 1000000.0 / CONNECTS;
+	}
+
+	private void logSummaries(final String label, final IRODSSession irodsSession) {
+		DefaultConnectionMetricsRegistry registry = (DefaultConnectionMetricsRegistry) irodsSession
+				.getConnectionMetricsRegistry();
+		log.info("{}, optimistic negotiations:{}", label, registry.getOptimisticNegotiationCount());
+		for (String summary : registry.getConnectionSetupSummaries()) {
+			log.info("{}: {}", label, summary);
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ */
+package org.irods.jargon.core.unittest.functionaltest;
+
+import java.util.Properties;
+
+import org.irods.jargon.core.connection.AuthScheme;
+import org.irods.jargon.core.connection.ClientServerNegotiationPolicy.SslNegotiationPolicy;
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.IRODSSession;
+import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
+import org.irods.jargon.core.connection.SettableJargonProperties;
+import org.irods.jargon.core.connection.TrustAllX509TrustManager;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactoryImpl;
+import org.irods.jargon.testutils.TestingPropertiesHelper;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures connect latency over SSL with and without TLS session resumption
+ * (a shared SSL context). Only runs if ssl testing is configured in the testing
+ * properties.
+ */
+public class SslSessionResumptionFunctionalTest {
+
+	private static Properties testingProperties = new Properties();
+	private static TestingPropertiesHelper testingPropertiesHelper = new TestingPropertiesHelper();
+	public static final Logger log = LoggerFactory.getLogger(SslSessionResumptionFunctionalTest.class);
+	private static final int CONNECTS = 20;
+
+	@BeforeClass
+	public static void setUpBeforeClass() throws Exception {
+		TestingPropertiesHelper testingPropertiesLoader = new TestingPropertiesHelper();
+		testingProperties = testingPropertiesLoader.getTestProperties();
+	}
+
+	@Test
+	public void testConnectLatencyWithAndWithoutResumption() throws Exception {
+
+		/*
+		 * Only run if ssl enabled
+		 */
+		if (!testingPropertiesHelper.isTestSsl(testingProperties)) {
+			return;
+		}
+
+		IRODSSession withResumption = buildSession(true);
+		IRODSSession withoutResumption = buildSession(false);
+
+		double withMillis = timeConnects(withResumption);
+		double withoutMillis = timeConnects(withoutResumption);
+
+		log.info("mean ssl connect ms with resumption:{} without resumption:{}", withMillis, withoutMillis);
+		log.info("resumed {} of {} handshakes with resumption, {} of {} without",
+				withResumption.getSslSessionResumptionCount(), withResumption.getSslHandshakeCount(),
+				withoutResumption.getSslSessionResumptionCount(), withoutResumption.getSslHandshakeCount());
+
+		Assert.assertTrue("no sessions resumed", withResumption.getSslSessionResumptionCount() > 0);
+		Assert.assertEquals("should not resume without a shared context", 0,
+				withoutResumption.getSslSessionResumptionCount());
+	}
+
+	private IRODSSession buildSession(final boolean sslSessionResumption) throws Exception {
+		SettableJargonProperties settableJargonProperties = new SettableJargonProperties();
+		settableJargonProperties.setNegotiationPolicy(SslNegotiationPolicy.CS_NEG_REQUIRE);
+		settableJargonProperties.setSslSessionResumption(sslSessionResumption);
+		IRODSSession irodsSession = new IRODSSession(settableJargonProperties);
+		irodsSession.setIrodsProtocolManager(IRODSSimpleProtocolManager.instance());
+		irodsSession.setX509TrustManager(new TrustAllX509TrustManager());
+		return irodsSession;
+	}
+
+	private double timeConnects(final IRODSSession irodsSession) throws Exception {
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		irodsAccount.setAuthenticationScheme(AuthScheme.STANDARD);
+		IRODSAccessObjectFactory accessObjectFactory = new IRODSAccessObjectFactoryImpl(irodsSession);
+
+		// warm up, the first handshake is always a full one
+		accessObjectFactory.getEnvironmentalInfoAO(irodsAccount).getIRODSServerCurrentTime();
+		irodsSession.closeSession();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < CONNECTS; i++) {
+			accessObjectFactory.getEnvironmentalInfoAO(irodsAccount).getIRODSServerCurrentTime();
+			irodsSession.closeSession();
+		}
+		return (System.nanoTime() - start) / 1000000.0 / CONNECTS;
+	}
+
+}
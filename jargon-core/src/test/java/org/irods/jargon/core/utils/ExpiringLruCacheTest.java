@@ -0,0 +1,105 @@
+package org.irods.jargon.core.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExpiringLruCacheTest {
+
+	@Test
+	public void testPutAndGet() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		cache.put("key1", "value1");
+		Assert.assertEquals("did not get cached value", "value1", cache.get("key1"));
+		Assert.assertEquals("should be one hit", 1, cache.getHits());
+	}
+
+	@Test
+	public void testGetMissing() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		Assert.assertNull("should not find value", cache.get("key1"));
+		Assert.assertEquals("should be one miss", 1, cache.getMisses());
+	}
+
+	@Test
+	public void testExpired() throws Exception {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		cache.put("key1", "value1", 1L);
+		Thread.sleep(10);
+		Assert.assertNull("value should have expired", cache.get("key1"));
+		Assert.assertEquals("expired value should be removed", 0, cache.size());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(2, 60000L);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key1");
+		cache.put("key3", "value3");
+		Assert.assertEquals("should be bounded", 2, cache.size());
+		Assert.assertNull("key2 should be evicted", cache.get("key2"));
+		Assert.assertEquals("key1 was recently used", "value1", cache.get("key1"));
+		Assert.assertEquals("should count eviction", 1, cache.getEvictions());
+	}
+
+	@Test
+	public void testRemoveIf() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		cache.put("a/1", "value1");
+		cache.put("a/2", "value2");
+		cache.put("b/1", "value3");
+		int removed = cache.removeIf(key -> key.startsWith("a/"));
+		Assert.assertEquals("should remove two", 2, removed);
+		Assert.assertEquals("b/1 remains", "value3", cache.get("b/1"));
+	}
+
+	@Test
+	public void testPurgeExpired() throws Exception {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		cache.put("key1", "value1", 1L);
+		cache.put("key2", "value2");
+		Thread.sleep(10);
+		Assert.assertEquals("should purge one", 1, cache.purgeExpired());
+		Assert.assertEquals("one left", 1, cache.size());
+	}
+
+	@Test
+	public void testEvictByWeight() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L, 10L);
+		cache.put("key1", "value1", 60000L, 4L);
+		cache.put("key2", "value2", 60000L, 4L);
+		cache.get("key1");
+		cache.put("key3", "value3", 60000L, 4L);
+		Assert.assertNull("key2 should be evicted", cache.get("key2"));
+		Assert.assertEquals("key1 was recently used", "value1", cache.get("key1"));
+		Assert.assertEquals("weight should be bounded", 8L, cache.getTotalWeight());
+		Assert.assertEquals("should count eviction", 1, cache.getEvictions());
+
+		cache.put("key1", "value1", 60000L, 2L);
+		Assert.assertEquals("replaced entry weight", 6L, cache.getTotalWeight());
+		cache.remove("key3");
+		Assert.assertEquals("removed entry weight", 2L, cache.getTotalWeight());
+	}
+
+	@Test
+	public void testTooHeavyNotCached() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L, 10L);
+		cache.put("key1", "value1", 60000L, 4L);
+		cache.put("key2", "value2", 60000L, 11L);
+		Assert.assertNull("too heavy to cache", cache.get("key2"));
+		Assert.assertEquals("key1 kept", "value1", cache.get("key1"));
+		Assert.assertEquals(4L, cache.getTotalWeight());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPutNullValue() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, 60000L);
+		cache.put("key1", null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroMaxEntries() {
+		new ExpiringLruCache<String, String>(0, 60000L);
+	}
+
+}
@@ -446,4 +446,11 @@ public class MiscIRODSUtilsTest {
 		Assert.assertEquals(remainder, actual);
 	}
 
+	@Test
+	public final void testEscapeGenQueryLikeWildcards() throws Exception {
+		Assert.assertEquals("/zone/home/a\\_b/50\\%\\\\x",
+				MiscIRODSUtils.escapeGenQueryLikeWildcards("/zone/home/a_b/50%\\x"));
+		Assert.assertEquals("/zone/home/plain", MiscIRODSUtils.escapeGenQueryLikeWildcards("/zone/home/plain"));
+	}
+
 }
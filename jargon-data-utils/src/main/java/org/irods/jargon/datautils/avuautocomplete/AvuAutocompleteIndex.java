@@ -0,0 +1,719 @@
+/**
+ *
+ */
+package org.irods.jargon.datautils.avuautocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.exception.JargonException;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.core.query.GenQueryBuilderException;
+import org.irods.jargon.core.query.GenQueryField;
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.IRODSGenQueryFromBuilder;
+import org.irods.jargon.core.query.JargonQueryException;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.datautils.avuautocomplete.AvuAutocompleteService.AvuTypeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process index of the AVU attributes and values in the catalog, used by the
+ * {@link AvuAutocompleteServiceImpl} to answer autocomplete lookups without a
+ * GenQuery per keystroke.
+ * <p>
+ * The index is built from one scan of the distinct attribute and value pairs
+ * for collections and data objects, and holds each as sorted {@code String}
+ * arrays, so a prefix lookup is a binary search for the start of the matching
+ * range. Lookups read an immutable snapshot and do not block while the index is
+ * refreshed.
+ * <p>
+ * {@link #refresh()} only scans AVUs modified since the last scan and merges
+ * them in. AVUs that are removed, or an existing AVU that is attached to the
+ * other kind of object, are only picked up by a full {@link #rebuild()}, so a
+ * scheduled refresh does a full rebuild every {@code fullRebuildEvery} runs.
+ * <p>
+ * Values are indexed per attribute as the catalog holds them. Lookups, like the
+ * case insensitive GenQuery they replace, ignore case.
+ */
+public class AvuAutocompleteIndex {
+
+	public static final Logger log = LoggerFactory.getLogger(AvuAutocompleteIndex.class);
+
+	/**
+	 * Sort order of the index, case insensitive so that a prefix is a contiguous
+	 * range, then case sensitive so that the order is stable
+	 */
+	static final Comparator<String> INDEX_ORDER = String.CASE_INSENSITIVE_ORDER
+			.thenComparing(Comparator.naturalOrder());
+
+	public static final int DEFAULT_FULL_REBUILD_EVERY = 12;
+
+	private static final String[] NO_STRINGS = new String[0];
+
+	private final IRODSAccessObjectFactory irodsAccessObjectFactory;
+	private final IRODSAccount irodsAccount;
+	private volatile Snapshot snapshot = null;
+	private int fullRebuildEvery = DEFAULT_FULL_REBUILD_EVERY;
+	private int refreshCount = 0;
+	private final Object schedulerLock = new Object();
+	private ScheduledExecutorService scheduler = null;
+
+	/**
+	 * @param irodsAccessObjectFactory
+	 *            {@link IRODSAccessObjectFactory}
+	 * @param irodsAccount
+	 *            {@link IRODSAccount} whose view of the catalog is indexed
+	 */
+	public AvuAutocompleteIndex(final IRODSAccessObjectFactory irodsAccessObjectFactory,
+			final IRODSAccount irodsAccount) {
+		if (irodsAccessObjectFactory == null) {
+			throw new IllegalArgumentException("null irodsAccessObjectFactory");
+		}
+
+		if (irodsAccount == null) {
+			throw new IllegalArgumentException("null irodsAccount");
+		}
+
+		this.irodsAccessObjectFactory = irodsAccessObjectFactory;
+		this.irodsAccount = irodsAccount;
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} once the index has been built and
+	 *         can answer lookups
+	 */
+	public boolean isBuilt() {
+		return snapshot != null;
+	}
+
+	/**
+	 * Scan all of the AVUs for collections and data objects and replace the
+	 * contents of the index
+	 *
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	public synchronized void rebuild() throws JargonException {
+		log.info("rebuild()");
+		Map<AvuTypeEnum, DomainIndex> domains = new EnumMap<AvuTypeEnum, DomainIndex>(AvuTypeEnum.class);
+		for (AvuTypeEnum domain : new AvuTypeEnum[] { AvuTypeEnum.COLLECTION, AvuTypeEnum.DATA_OBJECT }) {
+			ScanResult scanResult = scan(domain, null);
+			domains.put(domain, DomainIndex.build(scanResult.valuesByAttribute, scanResult.maxModifyTime));
+		}
+		snapshot = new Snapshot(domains.get(AvuTypeEnum.COLLECTION), domains.get(AvuTypeEnum.DATA_OBJECT));
+		log.info("rebuilt index:{}", snapshot);
+	}
+
+	/**
+	 * Scan the AVUs modified since the last scan and merge them into the index,
+	 * or build the index if it has not been built
+	 *
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	public synchronized void refresh() throws JargonException {
+		log.info("refresh()");
+		Snapshot current = snapshot;
+		if (current == null) {
+			rebuild();
+			return;
+		}
+
+		ScanResult collections = scan(AvuTypeEnum.COLLECTION, current.collections.maxModifyTime);
+		ScanResult dataObjects = scan(AvuTypeEnum.DATA_OBJECT, current.dataObjects.maxModifyTime);
+		snapshot = new Snapshot(current.collections.merge(collections.valuesByAttribute, collections.maxModifyTime),
+				current.dataObjects.merge(dataObjects.valuesByAttribute, dataObjects.maxModifyTime));
+		log.info("refreshed index:{}", snapshot);
+	}
+
+	/**
+	 * Keep the index current on a daemon thread, building it on the first run. A
+	 * failed run is logged and tried again on the next run.
+	 *
+	 * @param period
+	 *            {@code long} with the time between runs
+	 * @param timeUnit
+	 *            {@link TimeUnit} of the period
+	 */
+	public void startScheduledRefresh(final long period, final TimeUnit timeUnit) {
+		if (period <= 0) {
+			throw new IllegalArgumentException("period must be > 0");
+		}
+
+		if (timeUnit == null) {
+			throw new IllegalArgumentException("null timeUnit");
+		}
+
+		synchronized (schedulerLock) {
+			if (scheduler != null) {
+				throw new IllegalStateException("scheduled refresh already started");
+			}
+
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "jargon-avu-autocomplete-index");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.scheduleWithFixedDelay(this::scheduledRefresh, 0, period, timeUnit);
+		}
+		log.info("scheduled refresh every {} {}", period, timeUnit);
+	}
+
+	/**
+	 * Stop a scheduled refresh, the contents of the index are kept
+	 */
+	public void shutdown() {
+		synchronized (schedulerLock) {
+			if (scheduler != null) {
+				scheduler.shutdownNow();
+				scheduler = null;
+			}
+		}
+	}
+
+	/**
+	 * Find the distinct attributes that match a prefix
+	 *
+	 * @param prefix
+	 *            {@link String} with the case insensitive {@code LIKE} pattern
+	 *            for the attribute, typically a prefix followed by {@code %}
+	 * @param offset
+	 *            {@code int} with the offset into the matches
+	 * @param pageSize
+	 *            {@code int} with the most elements to return
+	 * @param avuTypeEnum
+	 *            {@link AvuTypeEnum} dictating the scope of the search
+	 * @return {@link AvuSearchResult} with the elements and the paging data
+	 */
+	public AvuSearchResult findAttributes(final String prefix, final int offset, final int pageSize,
+			final AvuTypeEnum avuTypeEnum) {
+		checkLookup(prefix, offset, pageSize, avuTypeEnum);
+		Snapshot current = currentSnapshot();
+		LikePattern pattern = new LikePattern(prefix);
+		List<String[]> sources = new ArrayList<String[]>(2);
+		for (DomainIndex domainIndex : current.domainsFor(avuTypeEnum)) {
+			sources.add(domainIndex.attributes);
+		}
+		return page(pattern, sources, offset, pageSize);
+	}
+
+	/**
+	 * Find the distinct values of an attribute that match a prefix
+	 *
+	 * @param forAttribute
+	 *            {@link String} with the case insensitive {@code LIKE} pattern
+	 *            for the attribute, typically the attribute name
+	 * @param prefix
+	 *            {@link String} with the case insensitive {@code LIKE} pattern
+	 *            for the value, typically a prefix followed by {@code %}
+	 * @param offset
+	 *            {@code int} with the offset into the matches
+	 * @param pageSize
+	 *            {@code int} with the most elements to return
+	 * @param avuTypeEnum
+	 *            {@link AvuTypeEnum} dictating the scope of the search
+	 * @return {@link AvuSearchResult} with the elements and the paging data
+	 */
+	public AvuSearchResult findValues(final String forAttribute, final String prefix, final int offset,
+			final int pageSize, final AvuTypeEnum avuTypeEnum) {
+		if (forAttribute == null) {
+			throw new IllegalArgumentException("null forAttribute");
+		}
+		checkLookup(prefix, offset, pageSize, avuTypeEnum);
+		Snapshot current = currentSnapshot();
+		LikePattern attributePattern = new LikePattern(forAttribute);
+		List<String[]> sources = new ArrayList<String[]>();
+		for (DomainIndex domainIndex : current.domainsFor(avuTypeEnum)) {
+			for (String attribute : attributePattern.matches(domainIndex.attributes)) {
+				sources.add(domainIndex.valuesByAttribute.get(attribute));
+			}
+		}
+		return page(new LikePattern(prefix), sources, offset, pageSize);
+	}
+
+	/**
+	 * @param fullRebuildEvery
+	 *            {@code int} with the number of scheduled runs between full
+	 *            rebuilds, the other runs only merge modified AVUs
+	 */
+	public synchronized void setFullRebuildEvery(final int fullRebuildEvery) {
+		if (fullRebuildEvery < 1) {
+			throw new IllegalArgumentException("fullRebuildEvery must be > 0");
+		}
+		this.fullRebuildEvery = fullRebuildEvery;
+	}
+
+	public synchronized int getFullRebuildEvery() {
+		return fullRebuildEvery;
+	}
+
+	/**
+	 * Replace or merge the contents of one domain of the index without a scan, as
+	 * done after the catalog scan
+	 *
+	 * @param domain
+	 *            {@link AvuTypeEnum} of {@code COLLECTION} or {@code DATA_OBJECT}
+	 * @param valuesByAttribute
+	 *            {@code Map} of attribute to its values
+	 * @param maxModifyTime
+	 *            {@link String} with the latest AVU modify time in the catalog
+	 *            format, or {@code null}
+	 * @param full
+	 *            {@code boolean} of {@code true} to replace the domain
+	 */
+	synchronized void apply(final AvuTypeEnum domain, final Map<String, ? extends Collection<String>> valuesByAttribute,
+			final String maxModifyTime, final boolean full) {
+		if (domain != AvuTypeEnum.COLLECTION && domain != AvuTypeEnum.DATA_OBJECT) {
+			throw new IllegalArgumentException("domain must be COLLECTION or DATA_OBJECT");
+		}
+
+		if (valuesByAttribute == null) {
+			throw new IllegalArgumentException("null valuesByAttribute");
+		}
+
+		Snapshot current = snapshot == null ? new Snapshot(DomainIndex.EMPTY, DomainIndex.EMPTY) : snapshot;
+		DomainIndex previous = domain == AvuTypeEnum.COLLECTION ? current.collections : current.dataObjects;
+		DomainIndex updated = full ? DomainIndex.build(valuesByAttribute, maxModifyTime)
+				: previous.merge(valuesByAttribute, maxModifyTime);
+		if (domain == AvuTypeEnum.COLLECTION) {
+			snapshot = new Snapshot(updated, current.dataObjects);
+		} else {
+			snapshot = new Snapshot(current.collections, updated);
+		}
+	}
+
+	/**
+	 * Page through the elements matching a pattern in one or more sorted arrays,
+	 * merging them without duplicates in index order
+	 *
+	 * @param pattern
+	 *            {@link LikePattern} to match
+	 * @param sources
+	 *            {@code List} of sorted arrays
+	 * @param offset
+	 *            {@code int} with the offset into the matches
+	 * @param pageSize
+	 *            {@code int} with the most elements to return
+	 * @return {@link AvuSearchResult} with the elements and the paging data
+	 */
+	static AvuSearchResult page(final LikePattern pattern, final List<String[]> sources, final int offset,
+			final int pageSize) {
+		AvuSearchResult result = new AvuSearchResult();
+		result.setOffset(offset);
+
+		int sourceCount = sources.size();
+		int[] positions = new int[sourceCount];
+		int[] ends = new int[sourceCount];
+		for (int i = 0; i < sourceCount; i++) {
+			positions[i] = pattern.rangeStart(sources.get(i));
+			ends[i] = pattern.rangeEnd(sources.get(i));
+		}
+
+		String previous = null;
+		int matched = 0;
+		while (true) {
+			String next = null;
+			for (int i = 0; i < sourceCount; i++) {
+				if (positions[i] < ends[i]) {
+					String candidate = sources.get(i)[positions[i]];
+					if (next == null || INDEX_ORDER.compare(candidate, next) < 0) {
+						next = candidate;
+					}
+				}
+			}
+
+			if (next == null) {
+				break;
+			}
+
+			for (int i = 0; i < sourceCount; i++) {
+				if (positions[i] < ends[i] && sources.get(i)[positions[i]].equals(next)) {
+					positions[i]++;
+				}
+			}
+
+			if (next.equals(previous) || !pattern.test(next)) {
+				continue;
+			}
+			previous = next;
+
+			if (matched >= offset) {
+				if (result.getElements().size() == pageSize) {
+					result.setMore(true);
+					result.setNextOffset(matched);
+					break;
+				}
+				result.getElements().add(next);
+			}
+			matched++;
+		}
+
+		return result;
+	}
+
+	private void scheduledRefresh() {
+		try {
+			boolean full;
+			synchronized (this) {
+				full = refreshCount++ % fullRebuildEvery == 0;
+			}
+
+			if (full) {
+				rebuild();
+			} else {
+				refresh();
+			}
+		} catch (Exception e) {
+			log.error("error refreshing avu autocomplete index, will retry on next run", e);
+		} finally {
+			irodsAccessObjectFactory.closeSessionAndEatExceptions(irodsAccount);
+		}
+	}
+
+	private Snapshot currentSnapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			throw new IllegalStateException("avu autocomplete index has not been built");
+		}
+		return current;
+	}
+
+	private static void checkLookup(final String prefix, final int offset, final int pageSize,
+			final AvuTypeEnum avuTypeEnum) {
+		if (prefix == null) {
+			throw new IllegalArgumentException("null prefix");
+		}
+
+		if (offset < 0) {
+			throw new IllegalArgumentException("offset must be >= 0");
+		}
+
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("pageSize must be > 0");
+		}
+
+		if (avuTypeEnum == null) {
+			throw new IllegalArgumentException("null avuTypeEnum");
+		}
+	}
+
+	/**
+	 * Scan the distinct attribute and value pairs of a domain, with the latest
+	 * modify time of each pair
+	 *
+	 * @param domain
+	 *            {@link AvuTypeEnum} of {@code COLLECTION} or {@code DATA_OBJECT}
+	 * @param modifiedSince
+	 *            {@link String} with the modify time in the catalog format to scan
+	 *            from, or {@code null} to scan all AVUs
+	 * @return {@link ScanResult}
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	private ScanResult scan(final AvuTypeEnum domain, final String modifiedSince) throws JargonException {
+		log.info("scanning avus for domain:{} modified since:{}", domain, modifiedSince);
+
+		RodsGenQueryEnum attributeField;
+		RodsGenQueryEnum valueField;
+		RodsGenQueryEnum modifyTimeField;
+		if (domain == AvuTypeEnum.COLLECTION) {
+			attributeField = RodsGenQueryEnum.COL_META_COLL_ATTR_NAME;
+			valueField = RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE;
+			modifyTimeField = RodsGenQueryEnum.COL_META_COLL_MODIFY_TIME;
+		} else {
+			attributeField = RodsGenQueryEnum.COL_META_DATA_ATTR_NAME;
+			valueField = RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE;
+			modifyTimeField = RodsGenQueryEnum.COL_META_DATA_MODIFY_TIME;
+		}
+
+		final ScanResult scanResult = new ScanResult(modifiedSince);
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+
+		try {
+			builder.addSelectAsGenQueryValue(attributeField).addSelectAsGenQueryValue(valueField)
+					.addSelectAsAgregateGenQueryValue(modifyTimeField, GenQueryField.SelectFieldTypes.MAX);
+
+			if (modifiedSince != null) {
+				// same second is scanned again, pairs already indexed merge away
+				builder.addConditionAsGenQueryField(modifyTimeField, QueryConditionOperators.GREATER_THAN_OR_EQUAL_TO,
+						modifiedSince);
+			}
+
+			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
+					irodsAccessObjectFactory.getJargonProperties().getMaxFilesAndDirsQueryMax());
+
+			irodsAccessObjectFactory.getIRODSGenQueryExecutor(irodsAccount).executeIRODSQueryStreaming(irodsQuery,
+					row -> {
+						scanResult.add(row.getColumn(0), row.getColumn(1), row.getColumn(2));
+						return true;
+					});
+
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error("error building query", e);
+			throw new JargonException(e);
+		}
+
+		log.info("scanned {} attributes", scanResult.valuesByAttribute.size());
+		return scanResult;
+	}
+
+	/**
+	 * Attribute and value pairs gathered by a scan
+	 */
+	private static final class ScanResult {
+		private final Map<String, Set<String>> valuesByAttribute = new HashMap<String, Set<String>>();
+		private String maxModifyTime;
+
+		ScanResult(final String modifiedSince) {
+			maxModifyTime = modifiedSince;
+		}
+
+		void add(final String attribute, final String value, final String modifyTime) {
+			valuesByAttribute.computeIfAbsent(attribute, key -> new TreeSet<String>(INDEX_ORDER)).add(value);
+			// catalog times are zero padded seconds, so they compare as strings
+			if (maxModifyTime == null || modifyTime.compareTo(maxModifyTime) > 0) {
+				maxModifyTime = modifyTime;
+			}
+		}
+	}
+
+	/**
+	 * Immutable view of the index read by lookups
+	 */
+	private static final class Snapshot {
+		private final DomainIndex collections;
+		private final DomainIndex dataObjects;
+
+		Snapshot(final DomainIndex collections, final DomainIndex dataObjects) {
+			this.collections = collections;
+			this.dataObjects = dataObjects;
+		}
+
+		List<DomainIndex> domainsFor(final AvuTypeEnum avuTypeEnum) {
+			switch (avuTypeEnum) {
+			case COLLECTION:
+				return Arrays.asList(collections);
+			case DATA_OBJECT:
+				return Arrays.asList(dataObjects);
+			default:
+				return Arrays.asList(collections, dataObjects);
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder();
+			builder.append("Snapshot [collectionAttributes=").append(collections.attributes.length)
+					.append(", dataObjectAttributes=").append(dataObjects.attributes.length).append("]");
+			return builder.toString();
+		}
+	}
+
+	/**
+	 * Sorted attributes of a domain, with the sorted values of each attribute
+	 */
+	private static final class DomainIndex {
+		static final DomainIndex EMPTY = new DomainIndex(NO_STRINGS, new HashMap<String, String[]>(), null);
+
+		private final String[] attributes;
+		private final Map<String, String[]> valuesByAttribute;
+		private final String maxModifyTime;
+
+		DomainIndex(final String[] attributes, final Map<String, String[]> valuesByAttribute,
+				final String maxModifyTime) {
+			this.attributes = attributes;
+			this.valuesByAttribute = valuesByAttribute;
+			this.maxModifyTime = maxModifyTime;
+		}
+
+		static DomainIndex build(final Map<String, ? extends Collection<String>> scanned, final String maxModifyTime) {
+			return EMPTY.merge(scanned, maxModifyTime);
+		}
+
+		DomainIndex merge(final Map<String, ? extends Collection<String>> scanned, final String scannedModifyTime) {
+			Map<String, String[]> mergedValues = new HashMap<String, String[]>(valuesByAttribute);
+			for (Map.Entry<String, ? extends Collection<String>> entry : scanned.entrySet()) {
+				String[] existing = mergedValues.get(entry.getKey());
+				mergedValues.put(entry.getKey(), mergeSorted(existing == null ? NO_STRINGS : existing,
+						entry.getValue().toArray(NO_STRINGS)));
+			}
+
+			String[] mergedAttributes = mergeSorted(attributes, scanned.keySet().toArray(NO_STRINGS));
+			String mergedModifyTime = maxModifyTime;
+			if (mergedModifyTime == null
+					|| (scannedModifyTime != null && scannedModifyTime.compareTo(mergedModifyTime) > 0)) {
+				mergedModifyTime = scannedModifyTime;
+			}
+			return new DomainIndex(mergedAttributes, mergedValues, mergedModifyTime);
+		}
+
+		/**
+		 * Merge a sorted array with unsorted additions into a new sorted array
+		 * without duplicates
+		 */
+		private static String[] mergeSorted(final String[] sorted, final String[] additions) {
+			Arrays.sort(additions, INDEX_ORDER);
+			String[] merged = new String[sorted.length + additions.length];
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			while (i < sorted.length || j < additions.length) {
+				String next;
+				if (j == additions.length
+						|| (i < sorted.length && INDEX_ORDER.compare(sorted[i], additions[j]) <= 0)) {
+					next = sorted[i++];
+				} else {
+					next = additions[j++];
+				}
+
+				if (k == 0 || !merged[k - 1].equals(next)) {
+					merged[k++] = next;
+				}
+			}
+			return k == merged.length ? merged : Arrays.copyOf(merged, k);
+		}
+	}
+
+	/**
+	 * Case insensitive {@code LIKE} pattern, matched as the range of a sorted array
+	 * that starts with the literal text before the first wildcard, filtered by the
+	 * rest of the pattern when it has other wildcards
+	 */
+	static final class LikePattern {
+		private final String literalPrefix;
+		private final boolean prefixOnly;
+		private final boolean exact;
+		private final Pattern regex;
+
+		LikePattern(final String like) {
+			int firstWildcard = firstWildcard(like);
+			if (firstWildcard == -1) {
+				literalPrefix = like;
+				exact = true;
+				prefixOnly = false;
+				regex = null;
+			} else {
+				literalPrefix = like.substring(0, firstWildcard);
+				exact = false;
+				String rest = like.substring(firstWildcard);
+				prefixOnly = rest.matches("%+");
+				regex = prefixOnly ? null : toRegex(like);
+			}
+		}
+
+		/**
+		 * @return {@code int} with the index of the first element that starts with
+		 *         the literal prefix, ignoring case
+		 */
+		int rangeStart(final String[] sorted) {
+			int low = 0;
+			int high = sorted.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (comparePrefix(sorted[mid]) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * @return {@code int} with the index after the last element that starts with
+		 *         the literal prefix, ignoring case
+		 */
+		int rangeEnd(final String[] sorted) {
+			int low = 0;
+			int high = sorted.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (comparePrefix(sorted[mid]) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		boolean test(final String candidate) {
+			if (exact) {
+				return candidate.equalsIgnoreCase(literalPrefix);
+			}
+			return prefixOnly || regex.matcher(candidate).matches();
+		}
+
+		List<String> matches(final String[] sorted) {
+			List<String> matches = new ArrayList<String>();
+			int end = rangeEnd(sorted);
+			for (int i = rangeStart(sorted); i < end; i++) {
+				if (test(sorted[i])) {
+					matches.add(sorted[i]);
+				}
+			}
+			return matches;
+		}
+
+		/**
+		 * Compare the start of a candidate to the literal prefix, ignoring case,
+		 * candidates that start with the prefix compare as equal
+		 */
+		private int comparePrefix(final String candidate) {
+			int length = Math.min(candidate.length(), literalPrefix.length());
+			int compare = String.CASE_INSENSITIVE_ORDER.compare(candidate.substring(0, length), literalPrefix);
+			if (compare != 0 || candidate.length() >= literalPrefix.length()) {
+				return compare;
+			}
+			return -1;
+		}
+
+		private static int firstWildcard(final String like) {
+			for (int i = 0; i < like.length(); i++) {
+				char c = like.charAt(i);
+				if (c == '%' || c == '_') {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static Pattern toRegex(final String like) {
+			StringBuilder regex = new StringBuilder();
+			StringBuilder literal = new StringBuilder();
+			for (int i = 0; i < like.length(); i++) {
+				char c = like.charAt(i);
+				if (c == '%' || c == '_') {
+					if (literal.length() > 0) {
+						regex.append(Pattern.quote(literal.toString()));
+						literal.setLength(0);
+					}
+					regex.append(c == '%' ? ".*" : ".");
+				} else {
+					literal.append(c);
+				}
+			}
+			if (literal.length() > 0) {
+				regex.append(Pattern.quote(literal.toString()));
+			}
+			return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+		}
+	}
+
+}
@@ -3,6 +3,9 @@
  */
 package org.irods.jargon.datautils.avuautocomplete;
 
+import java.util.Collections;
+import java.util.TreeSet;
+
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
@@ -21,6 +24,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Autocomplete of AVU attributes and values. Each lookup is a case insensitive
+ * GenQuery, unless an {@link AvuAutocompleteIndex} that has been built is set,
+ * in which case lookups are answered from the index.
+ *
  * @author Mike Conway - NIEHS
  *
  */
@@ -28,6 +35,8 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 
 	public static final Logger log = LoggerFactory.getLogger(AvuAutocompleteServiceImpl.class);
 
+	private AvuAutocompleteIndex avuAutocompleteIndex = null;
+
 	/**
 	 * @param irodsAccessObjectFactory
 	 *            {@link IRODSAccessObjectFactory}
@@ -63,6 +72,10 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 		log.info("offset:{}", offset);
 		log.info("avuTypeEnum:{}", avuTypeEnum);
 
+		if (isIndexBuilt()) {
+			return avuAutocompleteIndex.findAttributes(prefix, offset, getPageSize(), avuTypeEnum);
+		}
+
 		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, true, null); // distinct, case insensitive
 		IRODSQueryResultSetInterface resultSet;
 		AvuSearchResult result = new AvuSearchResult();
@@ -78,8 +91,7 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 				builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_META_DATA_ATTR_NAME).addConditionAsGenQueryField(
 						RodsGenQueryEnum.COL_META_DATA_ATTR_NAME, QueryConditionOperators.LIKE, prefix);
 			} else if (avuTypeEnum == AvuTypeEnum.BOTH) {
-				// to do add query for both
-				throw new UnsupportedOperationException();
+				return gatherFromBothDomains(null, prefix, offset);
 			}
 
 			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
@@ -133,6 +145,10 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 		log.info("offset:{}", offset);
 		log.info("avuTypeEnum:{}", avuTypeEnum);
 
+		if (isIndexBuilt()) {
+			return avuAutocompleteIndex.findValues(forAttribute, prefix, offset, getPageSize(), avuTypeEnum);
+		}
+
 		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, true, null); // distinct, case insensitive
 		IRODSQueryResultSetInterface resultSet;
 		AvuSearchResult result = new AvuSearchResult();
@@ -157,9 +173,7 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 						.addOrderByGenQueryField(RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE, OrderByType.ASC);
 
 			} else if (avuTypeEnum == AvuTypeEnum.BOTH) {
-
-				// to do add query for both
-				return null;
+				return gatherFromBothDomains(forAttribute, prefix, offset);
 			}
 
 			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
@@ -189,4 +203,89 @@ public class AvuAutocompleteServiceImpl extends AbstractJargonService implements
 
 	}
 
+	/**
+	 * @return the {@link AvuAutocompleteIndex} used to answer lookups, or
+	 *         {@code null}
+	 */
+	public AvuAutocompleteIndex getAvuAutocompleteIndex() {
+		return avuAutocompleteIndex;
+	}
+
+	/**
+	 * @param avuAutocompleteIndex
+	 *            {@link AvuAutocompleteIndex} used to answer lookups once it has
+	 *            been built, or {@code null} to query iRODS for each lookup
+	 */
+	public void setAvuAutocompleteIndex(final AvuAutocompleteIndex avuAutocompleteIndex) {
+		this.avuAutocompleteIndex = avuAutocompleteIndex;
+	}
+
+	private boolean isIndexBuilt() {
+		return avuAutocompleteIndex != null && avuAutocompleteIndex.isBuilt();
+	}
+
+	private int getPageSize() throws JargonException {
+		return getIrodsAccessObjectFactory().getJargonProperties().getMaxFilesAndDirsQueryMax();
+	}
+
+	/**
+	 * Gather the distinct attributes, or the values of an attribute, for both
+	 * collections and data objects. GenQuery cannot union the two, and does not
+	 * return them in the case insensitive order of the merged results, so both
+	 * are streamed to the end. Only the first {@code offset + pageSize + 1}
+	 * merged entries are kept, which is enough for the page and to tell whether
+	 * there are more.
+	 *
+	 * @param forAttribute
+	 *            {@link String} with the attribute to gather values for, or
+	 *            {@code null} to gather attributes
+	 * @param prefix
+	 *            {@link String} with the attribute or value prefix
+	 * @param offset
+	 *            {@code int} with the offset into the merged results
+	 * @return {@link AvuSearchResult} with the elements and the paging data
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	private AvuSearchResult gatherFromBothDomains(final String forAttribute, final String prefix, final int offset)
+			throws JargonException {
+		log.info("gatherFromBothDomains()");
+		final int pageSize = getPageSize();
+		final long maxKept = (long) offset + pageSize + 1;
+		final TreeSet<String> merged = new TreeSet<String>(AvuAutocompleteIndex.INDEX_ORDER);
+		RodsGenQueryEnum[][] domainFields = {
+				{ RodsGenQueryEnum.COL_META_COLL_ATTR_NAME, RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE },
+				{ RodsGenQueryEnum.COL_META_DATA_ATTR_NAME, RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE } };
+
+		try {
+			for (RodsGenQueryEnum[] fields : domainFields) {
+				IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, true, null); // distinct, case insensitive
+				if (forAttribute == null) {
+					builder.addSelectAsGenQueryValue(fields[0]).addConditionAsGenQueryField(fields[0],
+							QueryConditionOperators.LIKE, prefix);
+				} else {
+					builder.addSelectAsGenQueryValue(fields[1])
+							.addConditionAsGenQueryField(fields[0], QueryConditionOperators.LIKE, forAttribute)
+							.addConditionAsGenQueryField(fields[1], QueryConditionOperators.LIKE, prefix);
+				}
+
+				IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(pageSize);
+				getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(irodsAccount)
+						.executeIRODSQueryStreaming(irodsQuery, row -> {
+							merged.add(row.getColumn(0));
+							if (merged.size() > maxKept) {
+								merged.pollLast();
+							}
+							return true;
+						});
+			}
+		} catch (GenQueryBuilderException | JargonQueryException e) {
+			log.error("error building query", e);
+			throw new JargonException(e);
+		}
+
+		return AvuAutocompleteIndex.page(new AvuAutocompleteIndex.LikePattern("%"),
+				Collections.singletonList(merged.toArray(new String[merged.size()])), offset, pageSize);
+	}
+
 }
@@ -0,0 +1,105 @@
+package org.irods.jargon.datautils.avuautocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
+import org.irods.jargon.datautils.avuautocomplete.AvuAutocompleteService.AvuTypeEnum;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class AvuAutocompleteIndexTest {
+
+	@Test
+	public void testFindAttributesByPrefixPaged() throws Exception {
+		AvuAutocompleteIndex index = buildIndex();
+		index.apply(AvuTypeEnum.COLLECTION, valuesByAttribute("color", "red", "Colour", "blue", "cost", "1", "size",
+				"2", "COLOR", "green"), "01600000000", true);
+
+		AvuSearchResult actual = index.findAttributes("co%", 0, 2, AvuTypeEnum.COLLECTION);
+		Assert.assertEquals(Arrays.asList("COLOR", "color"), actual.getElements());
+		Assert.assertTrue(actual.isMore());
+		Assert.assertEquals(2, actual.getNextOffset());
+
+		actual = index.findAttributes("co%", actual.getNextOffset(), 2, AvuTypeEnum.COLLECTION);
+		Assert.assertEquals(Arrays.asList("Colour", "cost"), actual.getElements());
+		Assert.assertEquals(2, actual.getOffset());
+		Assert.assertFalse(actual.isMore());
+
+		actual = index.findAttributes("%", 0, 10, AvuTypeEnum.COLLECTION);
+		Assert.assertEquals(5, actual.getElements().size());
+		Assert.assertTrue(index.findAttributes("x%", 0, 10, AvuTypeEnum.COLLECTION).getElements().isEmpty());
+	}
+
+	@Test
+	public void testFindAttributesBothMergesDomains() throws Exception {
+		AvuAutocompleteIndex index = buildIndex();
+		index.apply(AvuTypeEnum.COLLECTION, valuesByAttribute("alpha", "1", "gamma", "3"), null, true);
+		index.apply(AvuTypeEnum.DATA_OBJECT, valuesByAttribute("beta", "2", "gamma", "4"), null, true);
+
+		AvuSearchResult actual = index.findAttributes("%", 0, 10, AvuTypeEnum.BOTH);
+		Assert.assertEquals(Arrays.asList("alpha", "beta", "gamma"), actual.getElements());
+		Assert.assertEquals(Arrays.asList("beta", "gamma"),
+				index.findAttributes("%", 0, 10, AvuTypeEnum.DATA_OBJECT).getElements());
+	}
+
+	@Test
+	public void testFindValuesForAttribute() throws Exception {
+		AvuAutocompleteIndex index = buildIndex();
+		index.apply(AvuTypeEnum.COLLECTION, valuesByAttribute("color", "red", "color", "Rose", "color", "blue"), null,
+				true);
+		index.apply(AvuTypeEnum.DATA_OBJECT, valuesByAttribute("color", "red", "color", "ruby"), null, true);
+
+		Assert.assertEquals(Arrays.asList("red", "Rose"),
+				index.findValues("COLOR", "r%", 0, 10, AvuTypeEnum.COLLECTION).getElements());
+		Assert.assertEquals(Arrays.asList("red", "Rose", "ruby"),
+				index.findValues("color", "R%", 0, 10, AvuTypeEnum.BOTH).getElements());
+		Assert.assertEquals(Arrays.asList("ruby"),
+				index.findValues("color", "%u%", 0, 10, AvuTypeEnum.DATA_OBJECT).getElements());
+		Assert.assertTrue(index.findValues("size", "%", 0, 10, AvuTypeEnum.BOTH).getElements().isEmpty());
+	}
+
+	@Test
+	public void testIncrementalMergeAndRebuild() throws Exception {
+		AvuAutocompleteIndex index = buildIndex();
+		index.apply(AvuTypeEnum.DATA_OBJECT, valuesByAttribute("color", "red"), "01600000000", true);
+		index.apply(AvuTypeEnum.DATA_OBJECT, valuesByAttribute("color", "blue", "size", "2"), "01600000100", false);
+
+		Assert.assertEquals(Arrays.asList("blue", "red"),
+				index.findValues("color", "%", 0, 10, AvuTypeEnum.DATA_OBJECT).getElements());
+		Assert.assertEquals(Arrays.asList("color", "size"),
+				index.findAttributes("%", 0, 10, AvuTypeEnum.DATA_OBJECT).getElements());
+
+		index.apply(AvuTypeEnum.DATA_OBJECT, valuesByAttribute("size", "3"), "01600000200", true);
+		Assert.assertEquals(Arrays.asList("size"),
+				index.findAttributes("%", 0, 10, AvuTypeEnum.DATA_OBJECT).getElements());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testFindBeforeBuilt() throws Exception {
+		AvuAutocompleteIndex index = buildIndex();
+		Assert.assertFalse(index.isBuilt());
+		index.findAttributes("%", 0, 10, AvuTypeEnum.COLLECTION);
+	}
+
+	private static AvuAutocompleteIndex buildIndex() throws Exception {
+		IRODSAccount irodsAccount = IRODSAccount.instance("host", 1247, "user", "password", "/zone/home/user", "zone",
+				"");
+		return new AvuAutocompleteIndex(Mockito.mock(IRODSAccessObjectFactory.class), irodsAccount);
+	}
+
+	private static Map<String, List<String>> valuesByAttribute(final String... attributesAndValues) {
+		Map<String, List<String>> valuesByAttribute = new HashMap<String, List<String>>();
+		for (int i = 0; i < attributesAndValues.length; i += 2) {
+			valuesByAttribute.computeIfAbsent(attributesAndValues[i], key -> new ArrayList<String>())
+					.add(attributesAndValues[i + 1]);
+		}
+		return valuesByAttribute;
+	}
+
+}
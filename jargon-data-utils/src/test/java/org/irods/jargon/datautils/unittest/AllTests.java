@@ -1,5 +1,6 @@
 package org.irods.jargon.datautils.unittest;
 
+import org.irods.jargon.datautils.avuautocomplete.AvuAutocompleteIndexTest;
 import org.irods.jargon.datautils.avuautocomplete.AvuAutocompleteServiceImplTest;
 import org.irods.jargon.datautils.connection.ConnectionCreatingPoolableObjectFactoryTest;
 import org.irods.jargon.datautils.connection.TempPasswordCachingProtocolManagerTest;
@@ -29,7 +30,8 @@ import org.junit.runners.Suite;
 		FileShoppingCartTest.class, ShoppingCartServiceImplTest.class, DiffTreePostProcessorTest.class,
 		LocalTarFileArchiverTest.class, LocalFileGzipCompressorTest.class, FileSamplerServiceImplTest.class,
 		ConnectionTesterImplTest.class, MetadataManifestProcessorImplTest.class, AvuAutocompleteServiceImplTest.class,
-		AbstractIndexerVisitorTest.class, IrodsVisitedLeafTest.class, IrodsVisitedCompositeTest.class })
+		AbstractIndexerVisitorTest.class, IrodsVisitedLeafTest.class, IrodsVisitedCompositeTest.class,
+		AvuAutocompleteIndexTest.class })
 
 public class AllTests {
 
@@ -0,0 +1,189 @@
+/**
+ *
+ */
+package org.irods.jargon.mdquery.service;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of primitive {@code long} values, used to intersect
+ * the data object or collection ids matched by each element of a metadata
+ * query without boxing every id into a {@code Long}.
+ * <p>
+ * This is not thread safe, each query fills its own set.
+ */
+class LongHashSet {
+
+	private static final long EMPTY = 0L;
+	private static final int MIN_CAPACITY = 16;
+
+	/**
+	 * slots hold ids, the empty value is zero, a zero id is tracked separately
+	 */
+	private long[] slots;
+	private boolean containsZero = false;
+	private int size = 0;
+	private int resizeAt;
+
+	LongHashSet() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize {@code int} with the number of values expected, used
+	 *                     to size the table
+	 */
+	LongHashSet(final int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("negative expectedSize");
+		}
+		int capacity = MIN_CAPACITY;
+		while (capacity * 3 / 4 < expectedSize) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	/**
+	 * Add a value
+	 *
+	 * @param value {@code long} to add
+	 * @return {@code boolean} of {@code true} if the value was not already in the
+	 *         set
+	 */
+	boolean add(final long value) {
+		if (value == EMPTY) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+
+		int mask = slots.length - 1;
+		int slot = mix(value) & mask;
+		while (slots[slot] != EMPTY) {
+			if (slots[slot] == value) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		slots[slot] = value;
+		size++;
+		if (size >= resizeAt) {
+			rehash(slots.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * @param value {@code long} to look for
+	 * @return {@code boolean} of {@code true} if the value is in the set
+	 */
+	boolean contains(final long value) {
+		if (value == EMPTY) {
+			return containsZero;
+		}
+
+		int mask = slots.length - 1;
+		int slot = mix(value) & mask;
+		while (slots[slot] != EMPTY) {
+			if (slots[slot] == value) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Build a new set with the values of this set that are also in the other set
+	 *
+	 * @param other {@link LongHashSet} to intersect with
+	 * @return {@link LongHashSet} with the values in both sets
+	 */
+	LongHashSet intersect(final LongHashSet other) {
+		if (other == null) {
+			throw new IllegalArgumentException("null other");
+		}
+
+		LongHashSet smaller = size <= other.size ? this : other;
+		LongHashSet larger = smaller == this ? other : this;
+		LongHashSet intersection = new LongHashSet(smaller.size);
+
+		if (smaller.containsZero && larger.containsZero) {
+			intersection.add(EMPTY);
+		}
+
+		for (long value : smaller.slots) {
+			if (value != EMPTY && larger.contains(value)) {
+				intersection.add(value);
+			}
+		}
+		return intersection;
+	}
+
+	/**
+	 * @return {@code long[]} with the values in ascending order
+	 */
+	long[] toSortedArray() {
+		long[] values = new long[size];
+		int i = 0;
+		if (containsZero) {
+			values[i++] = EMPTY;
+		}
+		for (long value : slots) {
+			if (value != EMPTY) {
+				values[i++] = value;
+			}
+		}
+		Arrays.sort(values);
+		return values;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void allocate(final int capacity) {
+		slots = new long[capacity];
+		resizeAt = capacity * 3 / 4;
+	}
+
+	private void rehash(final int capacity) {
+		long[] old = slots;
+		allocate(capacity);
+		int mask = capacity - 1;
+		for (long value : old) {
+			if (value != EMPTY) {
+				int slot = mix(value) & mask;
+				while (slots[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				slots[slot] = value;
+			}
+		}
+	}
+
+	/**
+	 * spread the bits of ids, which are mostly sequential, across the table
+	 */
+	private static int mix(final long value) {
+		long h = value * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("LongHashSet [size=").append(size).append(", capacity=").append(slots.length).append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,211 @@
+/**
+ *
+ */
+package org.irods.jargon.mdquery.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.irods.jargon.core.query.IRODSGenQueryBuilder;
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.core.query.RodsGenQueryEnum;
+import org.irods.jargon.mdquery.MetadataQueryElement;
+import org.irods.jargon.mdquery.exception.MetadataQueryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the GenQuery for the elements of a metadata query.
+ * <p>
+ * Elements are checked and ordered so that the most selective conditions
+ * (equality, then short IN lists, then ranges, then patterns) come first.
+ * Each element joins the AVU tables again in the catalog, so a query with up to
+ * {@code maxJoinedElements} elements is run as one joined GenQuery, and a query
+ * with more elements is split into one query per element, whose matching ids
+ * are intersected by the caller.
+ */
+class MetadataQueryPlanner {
+
+	static final Logger log = LoggerFactory.getLogger(MetadataQueryPlanner.class);
+
+	/**
+	 * How the elements of a query are run
+	 */
+	enum Strategy {
+		/**
+		 * all elements as conditions of one GenQuery
+		 */
+		JOINED,
+		/**
+		 * one GenQuery per element, with the matching ids intersected
+		 */
+		INTERSECT
+	}
+
+	private final int maxJoinedElements;
+
+	/**
+	 * @param maxJoinedElements {@code int} with the most elements run as one
+	 *                          joined GenQuery
+	 */
+	MetadataQueryPlanner(final int maxJoinedElements) {
+		if (maxJoinedElements < 1) {
+			throw new IllegalArgumentException("maxJoinedElements must be > 0");
+		}
+		this.maxJoinedElements = maxJoinedElements;
+	}
+
+	/**
+	 * Check the elements and order them by selectivity, most selective first.
+	 * Elements of the same rank keep their order.
+	 *
+	 * @param elements {@code List} of {@link MetadataQueryElement}
+	 * @return {@code List} of {@link MetadataQueryElement} in query order
+	 * @throws MetadataQueryException if an element is not valid
+	 */
+	List<MetadataQueryElement> orderElements(final List<MetadataQueryElement> elements)
+			throws MetadataQueryException {
+		if (elements == null) {
+			throw new IllegalArgumentException("null elements");
+		}
+
+		for (MetadataQueryElement element : elements) {
+			validateElement(element);
+		}
+
+		List<MetadataQueryElement> ordered = new ArrayList<MetadataQueryElement>(elements);
+		Collections.sort(ordered, Comparator.comparingInt(MetadataQueryPlanner::selectivityRank));
+		log.debug("ordered elements:{}", ordered);
+		return ordered;
+	}
+
+	/**
+	 * @param orderedElements {@code List} of {@link MetadataQueryElement} as
+	 *                        returned by {@link #orderElements(List)}
+	 * @return {@link Strategy} for running the elements
+	 */
+	Strategy chooseStrategy(final List<MetadataQueryElement> orderedElements) {
+		if (orderedElements == null) {
+			throw new IllegalArgumentException("null orderedElements");
+		}
+
+		if (orderedElements.size() > maxJoinedElements) {
+			return Strategy.INTERSECT;
+		}
+		return Strategy.JOINED;
+	}
+
+	/**
+	 * Add the attribute and value conditions of an element to a query
+	 *
+	 * @param builder        {@link IRODSGenQueryBuilder} for the query
+	 * @param attributeField {@link RodsGenQueryEnum} with the AVU attribute column
+	 *                       for the domain
+	 * @param valueField     {@link RodsGenQueryEnum} with the AVU value column for
+	 *                       the domain
+	 * @param element        {@link MetadataQueryElement} that has been validated
+	 */
+	static void addElementConditions(final IRODSGenQueryBuilder builder, final RodsGenQueryEnum attributeField,
+			final RodsGenQueryEnum valueField, final MetadataQueryElement element) {
+
+		builder.addConditionAsGenQueryField(attributeField, QueryConditionOperators.EQUAL,
+				element.getAttributeName().trim());
+
+		if (element.getAttributeValue().isEmpty()) {
+			return;
+		}
+
+		if (isMultiValue(element.getOperator())) {
+			List<String> values = new ArrayList<String>(element.getAttributeValue().size());
+			for (String value : element.getAttributeValue()) {
+				values.add(value.trim());
+			}
+			builder.addConditionAsMultiValueCondition(valueField, element.getOperator(), values);
+		} else {
+			builder.addConditionAsGenQueryField(valueField, element.getOperator(),
+					element.getAttributeValue().get(0).trim());
+		}
+	}
+
+	/**
+	 * Rank of an element, lower is more selective
+	 *
+	 * @param element {@link MetadataQueryElement}
+	 * @return {@code int} with the rank
+	 */
+	static int selectivityRank(final MetadataQueryElement element) {
+		if (element.getAttributeValue().isEmpty()) {
+			return 7;
+		}
+
+		switch (element.getOperator()) {
+		case EQUAL:
+		case NUMERIC_EQUAL:
+			return 0;
+		case IN:
+			return element.getAttributeValue().size() <= 10 ? 1 : 3;
+		case BETWEEN:
+		case NUMERIC_LESS_THAN:
+		case NUMERIC_LESS_THAN_OR_EQUAL_TO:
+		case NUMERIC_GREATER_THAN:
+		case NUMERIC_GREATER_THAN_OR_EQUAL_TO:
+			return 2;
+		case LIKE:
+			return element.getAttributeValue().get(0).trim().startsWith("%") ? 5 : 3;
+		case LESS_THAN:
+		case LESS_THAN_OR_EQUAL_TO:
+		case GREATER_THAN:
+		case GREATER_THAN_OR_EQUAL_TO:
+			return 4;
+		default:
+			return 6;
+		}
+	}
+
+	private static void validateElement(final MetadataQueryElement element) throws MetadataQueryException {
+		if (element == null) {
+			throw new MetadataQueryException("null element in query");
+		}
+
+		if (element.getAttributeName() == null || element.getAttributeName().trim().isEmpty()) {
+			throw new MetadataQueryException("missing attribute name in element:" + element);
+		}
+
+		if (element.getOperator() == null) {
+			throw new MetadataQueryException("missing operator in element:" + element);
+		}
+
+		if (element.getAttributeValue() == null) {
+			element.setAttributeValue(new ArrayList<String>());
+		}
+
+		for (String value : element.getAttributeValue()) {
+			if (value == null) {
+				throw new MetadataQueryException("null value in element:" + element);
+			}
+		}
+
+		int valueCount = element.getAttributeValue().size();
+		QueryConditionOperators operator = element.getOperator();
+
+		if (operator == QueryConditionOperators.BETWEEN || operator == QueryConditionOperators.NOT_BETWEEN) {
+			if (valueCount != 2) {
+				throw new MetadataQueryException("between requires two values in element:" + element);
+			}
+		} else if (operator == QueryConditionOperators.IN || operator == QueryConditionOperators.NOT_IN) {
+			if (valueCount == 0) {
+				throw new MetadataQueryException("in requires at least one value in element:" + element);
+			}
+		} else if (valueCount > 1) {
+			throw new MetadataQueryException("only in and between take more than one value in element:" + element);
+		}
+	}
+
+	private static boolean isMultiValue(final QueryConditionOperators operator) {
+		return operator == QueryConditionOperators.IN || operator == QueryConditionOperators.NOT_IN
+				|| operator == QueryConditionOperators.BETWEEN || operator == QueryConditionOperators.NOT_BETWEEN;
+	}
+
+}
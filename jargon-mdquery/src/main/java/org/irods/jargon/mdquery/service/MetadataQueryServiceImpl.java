@@ -4,9 +4,17 @@
 package org.irods.jargon.mdquery.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.irods.jargon.core.connection.IRODSAccount;
+import org.irods.jargon.core.connection.ReadOnlyConnectionSet;
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
 import org.irods.jargon.core.pub.ListAndCount;
@@ -48,6 +56,19 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 
 	static Logger log = LoggerFactory.getLogger(MetadataQueryServiceImpl.class);
 
+	/**
+	 * Default for the most elements run as one joined GenQuery, see
+	 * {@link #setMaxJoinedElements(int)}. Queries are never split by default.
+	 */
+	public static final int DEFAULT_MAX_JOINED_ELEMENTS = Integer.MAX_VALUE;
+
+	/**
+	 * Ids listed per query when listing the intersected matches
+	 */
+	private static final int IDS_PER_QUERY = 100;
+
+	private int maxJoinedElements = DEFAULT_MAX_JOINED_ELEMENTS;
+
 	/**
 	 * Constructor takes dependencies
 	 *
@@ -68,6 +89,32 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 	public MetadataQueryServiceImpl() {
 	}
 
+	/**
+	 * @return {@code int} with the most elements run as one joined GenQuery
+	 */
+	public int getMaxJoinedElements() {
+		return maxJoinedElements;
+	}
+
+	/**
+	 * Set the most elements of a query that are run as one GenQuery. Each element
+	 * joins the AVU tables again in the catalog, queries with more elements are
+	 * split into one query per element, run at the same time on the read only
+	 * connections of the account (see
+	 * {@code read.only.connections.per.account}), and their matches are
+	 * intersected here. Those results are listed in id order rather than by path.
+	 * By default queries are not split.
+	 *
+	 * @param maxJoinedElements
+	 *            {@code int} greater than zero
+	 */
+	public void setMaxJoinedElements(final int maxJoinedElements) {
+		if (maxJoinedElements < 1) {
+			throw new IllegalArgumentException("maxJoinedElements must be > 0");
+		}
+		this.maxJoinedElements = maxJoinedElements;
+	}
+
 	@Override
 	public PagingAwareCollectionListing executeQuery(final String jsonString) throws MetadataQueryException {
 		MetadataQueryJsonService metadataQueryJsonService = new MetadataQueryJsonService();
@@ -108,6 +155,7 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 			listing.setCollectionAndDataObjectListingEntries(collections.getCollectionAndDataObjectListingEntries());
 			listing.getPagingAwareCollectionListingDescriptor().setCollectionsComplete(collections.isEndOfRecords());
 			listing.getPagingAwareCollectionListingDescriptor().setCount(collections.getCountThisPage());
+			listing.getPagingAwareCollectionListingDescriptor().setTotalRecords(collections.getCountTotal());
 
 		} else {
 			listing.getPagingAwareCollectionListingDescriptor().setCollectionsComplete(true);
@@ -122,6 +170,8 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 					.addAll(dataObjects.getCollectionAndDataObjectListingEntries());
 			listing.getPagingAwareCollectionListingDescriptor().setDataObjectsComplete(dataObjects.isEndOfRecords());
 			listing.getPagingAwareCollectionListingDescriptor().setDataObjectsCount(dataObjects.getCountThisPage());
+			listing.getPagingAwareCollectionListingDescriptor()
+					.setDataObjectsTotalRecords(dataObjects.getCountTotal());
 
 		} else {
 			listing.getPagingAwareCollectionListingDescriptor().setDataObjectsComplete(true);
@@ -135,53 +185,44 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 
 	private ListAndCount queryDataObjects(final MetadataQuery metadataQuery) throws MetadataQueryException {
 		log.info("queryDataObjects()");
+		return queryDomain(metadataQuery, MetadataDomain.DATA);
+	}
 
-		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
-		IRODSQueryResultSetInterface resultSet = null;
+	private ListAndCount queryCollections(final MetadataQuery metadataQuery) throws MetadataQueryException {
+		log.info("queryCollections()");
+		return queryDomain(metadataQuery, MetadataDomain.COLLECTION);
+	}
 
-		try {
-			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
-					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE, SelectFieldTypes.MAX)
+	/**
+	 * Plan and run the query for data objects or collections
+	 */
+	private ListAndCount queryDomain(final MetadataQuery metadataQuery, final MetadataDomain metadataDomain)
+			throws MetadataQueryException {
 
-					// .addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE)
-					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME, SelectFieldTypes.MAX)
-					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME, SelectFieldTypes.MAX)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_NAME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_ZONE);
-		} catch (GenQueryBuilderException e) {
-			log.error("error building query for data objects:{}", metadataQuery, e);
-			throw new MetadataQueryException("gen query error", e);
-		}
+		MetadataQueryPlanner planner = new MetadataQueryPlanner(maxJoinedElements);
+		List<MetadataQueryElement> orderedElements = planner.orderElements(metadataQuery.getMetadataQueryElements());
 
-		if (!metadataQuery.getPathHint().isEmpty()) {
-			log.info("adding path hint for :{}", metadataQuery.getPathHint());
-			builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE,
-					metadataQuery.getPathHint().trim() + "%");
+		if (planner.chooseStrategy(orderedElements) == MetadataQueryPlanner.Strategy.INTERSECT) {
+			log.info("querying each of {} elements and intersecting the results", orderedElements.size());
+			return queryByIntersection(metadataQuery, orderedElements, metadataDomain);
 		}
 
-		/**
-		 * Add an AVU query for each element
+		/*
+		 * ask iRODS for the total row count with the page, so that the total does not
+		 * need a second query
 		 */
-		for (MetadataQueryElement element : metadataQuery.getMetadataQueryElements()) {
-			log.info("element:{}", element);
-
-			builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_META_DATA_ATTR_NAME, QueryConditionOperators.EQUAL,
-					element.getAttributeName().trim());
-
-			if (element.getAttributeValue().size() > 1) {
-				throw new UnsupportedOperationException("in and between not coded yet");
-			}
-
-			if (element.getAttributeValue().size() == 1) {
-				log.info("single value operation");
-				builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE,
-						QueryConditionOperators.getOperatorFromEnumStringValue(element.getOperator().toString()),
-						element.getAttributeValue().get(0).trim());
-			}
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, false, true, null);
+		IRODSQueryResultSetInterface resultSet = null;
 
+		try {
+			addListingSelects(builder, metadataDomain);
+		} catch (GenQueryBuilderException e) {
+			log.error("error building query for {}:{}", metadataDomain, metadataQuery, e);
+			throw new MetadataQueryException("gen query error", e);
 		}
 
+		addQueryConditions(builder, metadataQuery, orderedElements, metadataDomain);
+
 		IRODSGenQueryFromBuilder irodsQuery;
 		try {
 			irodsQuery = builder.exportIRODSQueryFromBuilder(
@@ -191,16 +232,10 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 			resultSet = getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(getIrodsAccount())
 					.executeIRODSQueryAndCloseResultInZone(irodsQuery, 0, targetZone);
 
-			List<CollectionAndDataObjectListingEntry> entries = buildListFromQueryResult(MetadataDomain.DATA,
-					resultSet);
+			List<CollectionAndDataObjectListingEntry> entries = buildListFromQueryResult(metadataDomain, resultSet);
 			ListAndCount listAndCount = new ListAndCount();
 			listAndCount.setCollectionAndDataObjectListingEntries(entries);
 
-			/*
-			 * see if the query had total records, if it did not, do a separate query to
-			 * establish total records
-			 */
-
 			if (listAndCount.getCollectionAndDataObjectListingEntries().isEmpty()) {
 				listAndCount.setCountTotal(0);
 				log.info("empty results returned");
@@ -214,98 +249,300 @@ public class MetadataQueryServiceImpl extends AbstractJargonService implements M
 			listAndCount.setCountThisPage(lastEntry.getCount());
 			listAndCount.setEndOfRecords(lastEntry.isLastResult());
 			listAndCount.setOffsetStart(listAndCount.getCollectionAndDataObjectListingEntries().get(0).getCount());
+
+			/*
+			 * see if the query had total records, if it did not, count them with an
+			 * aggregate query
+			 */
+			if (!listAndCount.resolveCountTotal(0)) {
+				log.info("no total records returned, counting");
+				listAndCount.setCountTotal(countMatches(metadataQuery, orderedElements, metadataDomain, targetZone));
+			}
 			return listAndCount;
 
 		} catch (GenQueryBuilderException | JargonException | JargonQueryException e) {
-			log.error("error in query for collections:{}", metadataQuery, e);
+			log.error("error in query for {}:{}", metadataDomain, metadataQuery, e);
 			throw new MetadataQueryException("gen query error", e);
 		}
 	}
 
-	private ListAndCount queryCollections(final MetadataQuery metadataQuery) throws MetadataQueryException {
-		log.info("queryCollections()");
+	/**
+	 * Count the matches of a joined query by streaming the distinct ids matching
+	 * the same conditions. An aggregate count is not used, as it counts an object
+	 * once per replica and per matching AVU.
+	 */
+	private int countMatches(final MetadataQuery metadataQuery, final List<MetadataQueryElement> orderedElements,
+			final MetadataDomain metadataDomain, final String targetZone)
+			throws GenQueryBuilderException, JargonException, JargonQueryException {
+
 		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
-		IRODSQueryResultSetInterface resultSet = null;
+		builder.addSelectAsGenQueryValue(idFieldFor(metadataDomain));
+		addQueryConditions(builder, metadataQuery, orderedElements, metadataDomain);
 
-		try {
-			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_PARENT_NAME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_CREATE_TIME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_MODIFY_TIME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_NAME)
-					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_ZONE);
-		} catch (GenQueryBuilderException e) {
-			log.error("error building query for collections:{}", metadataQuery, e);
-			throw new MetadataQueryException("gen query error", e);
-		}
+		IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
+				getIrodsAccessObjectFactory().getJargonProperties().getMaxFilesAndDirsQueryMax());
 
-		if (!metadataQuery.getPathHint().isEmpty()) {
-			log.info("adding path hint for :{}", metadataQuery.getPathHint());
-			builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE,
-					metadataQuery.getPathHint().trim() + "%");
-		}
+		final LongHashSet ids = new LongHashSet();
+		getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(getIrodsAccount())
+				.executeIRODSQueryStreamingInZone(irodsQuery, row -> {
+					ids.add(row.getColumnAsLongOrZero(0));
+					return true;
+				}, targetZone);
+
+		log.info("counted matches:{}", ids.size());
+		return ids.size();
+	}
+
+	/**
+	 * Add the path hint and the conditions of each element to a query
+	 */
+	private static void addQueryConditions(final IRODSGenQueryBuilder builder, final MetadataQuery metadataQuery,
+			final List<MetadataQueryElement> orderedElements, final MetadataDomain metadataDomain) {
+
+		addPathHintCondition(builder, metadataQuery);
 
 		/**
 		 * Add an AVU query for each element
 		 */
-		for (MetadataQueryElement element : metadataQuery.getMetadataQueryElements()) {
+		for (MetadataQueryElement element : orderedElements) {
 			log.info("element:{}", element);
+			MetadataQueryPlanner.addElementConditions(builder, attributeFieldFor(metadataDomain),
+					valueFieldFor(metadataDomain), element);
+		}
+	}
+
+	/**
+	 * Run each element as its own query for the ids of matching data objects or
+	 * collections, intersect the ids, and list the first page of them. The page is
+	 * in id order.
+	 */
+	private ListAndCount queryByIntersection(final MetadataQuery metadataQuery,
+			final List<MetadataQueryElement> orderedElements, final MetadataDomain metadataDomain)
+			throws MetadataQueryException {
+
+		String targetZone = deriveTargetZone(metadataQuery);
+		LongHashSet matchingIds = intersectMatchingIds(metadataQuery, orderedElements, metadataDomain, targetZone);
+		log.info("ids matching all elements:{}", matchingIds);
+
+		ListAndCount listAndCount = new ListAndCount();
+		if (matchingIds.isEmpty()) {
+			listAndCount.setCollectionAndDataObjectListingEntries(new ArrayList<CollectionAndDataObjectListingEntry>());
+			listAndCount.setCountTotal(0);
+			log.info("empty results returned");
+			listAndCount.setEndOfRecords(true);
+			return listAndCount;
+		}
+
+		try {
+			long[] ids = matchingIds.toSortedArray();
+			int pageSize = getIrodsAccessObjectFactory().getJargonProperties().getMaxFilesAndDirsQueryMax();
+			long[] pageIds = Arrays.copyOf(ids, Math.min(pageSize, ids.length));
+
+			List<CollectionAndDataObjectListingEntry> entries = listEntriesForIds(metadataDomain, pageIds,
+					targetZone);
+			boolean endOfRecords = pageIds.length == ids.length;
+
+			for (int i = 0; i < entries.size(); i++) {
+				CollectionAndDataObjectListingEntry entry = entries.get(i);
+				entry.setCount(i + 1);
+				entry.setLastResult(endOfRecords && i == entries.size() - 1);
+				entry.setTotalRecords(ids.length);
+			}
+
+			listAndCount.setCollectionAndDataObjectListingEntries(entries);
+			listAndCount.setCountTotal(ids.length);
+			listAndCount.setCountThisPage(entries.size());
+			listAndCount.setEndOfRecords(endOfRecords);
+			listAndCount.setOffsetStart(entries.isEmpty() ? 0 : 1);
+			return listAndCount;
+
+		} catch (GenQueryBuilderException | JargonException | JargonQueryException e) {
+			log.error("error listing matches for {}:{}", metadataDomain, metadataQuery, e);
+			throw new MetadataQueryException("gen query error", e);
+		}
+	}
 
-			builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_META_COLL_ATTR_NAME, QueryConditionOperators.EQUAL,
-					element.getAttributeName().trim());
+	/**
+	 * Query the ids matching each element at the same time on the read only
+	 * connections of the account, and intersect them starting from the smallest
+	 * set. Once an element is known to match nothing the other queries are
+	 * stopped.
+	 */
+	private LongHashSet intersectMatchingIds(final MetadataQuery metadataQuery,
+			final List<MetadataQueryElement> orderedElements, final MetadataDomain metadataDomain,
+			final String targetZone) throws MetadataQueryException {
+
+		final AtomicBoolean noMatches = new AtomicBoolean(false);
+
+		try {
+			ReadOnlyConnectionSet connectionSet = getIrodsAccessObjectFactory()
+					.getReadOnlyConnectionSet(getIrodsAccount());
+			List<Future<LongHashSet>> futures = new ArrayList<Future<LongHashSet>>();
+			for (final MetadataQueryElement element : orderedElements) {
+				futures.add(connectionSet.submit(() -> {
+					LongHashSet ids = queryIdsForElement(metadataQuery, element, metadataDomain, targetZone,
+							noMatches);
+					if (ids.isEmpty()) {
+						noMatches.set(true);
+					}
+					return ids;
+				}));
+			}
 
-			if (element.getAttributeValue().size() > 1) {
-				throw new UnsupportedOperationException("in and between not coded yet");
+			List<LongHashSet> idsPerElement = new ArrayList<LongHashSet>();
+			for (Future<LongHashSet> future : futures) {
+				idsPerElement.add(ReadOnlyConnectionSet.join(future));
 			}
 
-			if (element.getAttributeValue().size() == 1) {
-				log.info("single value operation");
-				builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE,
-						QueryConditionOperators.getOperatorFromEnumStringValue(element.getOperator().toString()),
-						element.getAttributeValue().get(0).trim());
+			if (noMatches.get()) {
+				log.info("an element matched nothing");
+				return new LongHashSet();
 			}
 
+			Collections.sort(idsPerElement, Comparator.comparingInt(LongHashSet::size));
+			LongHashSet intersection = idsPerElement.get(0);
+			for (int i = 1; i < idsPerElement.size() && !intersection.isEmpty(); i++) {
+				intersection = intersection.intersect(idsPerElement.get(i));
+			}
+			return intersection;
+
+		} catch (MetadataQueryException e) {
+			throw e;
+		} catch (JargonException e) {
+			log.error("error querying metadata elements:{}", metadataQuery, e);
+			throw new MetadataQueryException("gen query error", e);
 		}
+	}
+
+	private LongHashSet queryIdsForElement(final MetadataQuery metadataQuery, final MetadataQueryElement element,
+			final MetadataDomain metadataDomain, final String targetZone, final AtomicBoolean noMatches)
+			throws MetadataQueryException {
+		log.info("querying ids for element:{}", element);
+
+		IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+		final LongHashSet ids = new LongHashSet();
 
-		IRODSGenQueryFromBuilder irodsQuery;
 		try {
-			irodsQuery = builder.exportIRODSQueryFromBuilder(
+			builder.addSelectAsGenQueryValue(idFieldFor(metadataDomain));
+			addPathHintCondition(builder, metadataQuery);
+			MetadataQueryPlanner.addElementConditions(builder, attributeFieldFor(metadataDomain),
+					valueFieldFor(metadataDomain), element);
+
+			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
 					getIrodsAccessObjectFactory().getJargonProperties().getMaxFilesAndDirsQueryMax());
-			String targetZone = deriveTargetZone(metadataQuery);
 
-			resultSet = getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(getIrodsAccount())
-					.executeIRODSQueryAndCloseResultInZone(irodsQuery, 0, targetZone);
+			getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(getIrodsAccount())
+					.executeIRODSQueryStreamingInZone(irodsQuery, row -> {
+						if (noMatches.get()) {
+							return false;
+						}
+						ids.add(row.getColumnAsLongOrZero(0));
+						return true;
+					}, targetZone);
 
-			List<CollectionAndDataObjectListingEntry> entries = buildListFromQueryResult(MetadataDomain.COLLECTION,
-					resultSet);
-			ListAndCount listAndCount = new ListAndCount();
-			listAndCount.setCollectionAndDataObjectListingEntries(entries);
+		} catch (GenQueryBuilderException | JargonException | JargonQueryException e) {
+			log.error("error in query for element:{}", element, e);
+			throw new MetadataQueryException("gen query error", e);
+		}
 
-			/*
-			 * see if the query had total records, if it did not, do a separate query to
-			 * establish total records
-			 */
+		log.info("ids for element:{}", ids);
+		return ids;
+	}
 
-			if (listAndCount.getCollectionAndDataObjectListingEntries().isEmpty()) {
-				listAndCount.setCountTotal(0);
-				log.info("empty results returned");
-				listAndCount.setEndOfRecords(true);
-				return listAndCount;
+	/**
+	 * List the data objects or collections with the given ids, in the order of the
+	 * ids. Ids that no longer exist are left out.
+	 */
+	private List<CollectionAndDataObjectListingEntry> listEntriesForIds(final MetadataDomain metadataDomain,
+			final long[] ids, final String targetZone)
+			throws GenQueryBuilderException, JargonException, JargonQueryException {
+
+		final Map<Long, CollectionAndDataObjectListingEntry> entriesById = new HashMap<>();
+		final int idColumn = metadataDomain == MetadataDomain.COLLECTION ? 6 : 7;
+
+		for (int start = 0; start < ids.length; start += IDS_PER_QUERY) {
+			int end = Math.min(start + IDS_PER_QUERY, ids.length);
+			List<String> idValues = new ArrayList<String>(end - start);
+			for (int i = start; i < end; i++) {
+				idValues.add(String.valueOf(ids[i]));
 			}
 
-			int lastEntryIdx = listAndCount.getCollectionAndDataObjectListingEntries().size() - 1;
-			CollectionAndDataObjectListingEntry lastEntry = listAndCount.getCollectionAndDataObjectListingEntries()
-					.get(lastEntryIdx);
-			listAndCount.setCountThisPage(lastEntry.getCount());
-			listAndCount.setEndOfRecords(lastEntry.isLastResult());
-			listAndCount.setOffsetStart(listAndCount.getCollectionAndDataObjectListingEntries().get(0).getCount());
-			return listAndCount;
+			IRODSGenQueryBuilder builder = new IRODSGenQueryBuilder(true, null);
+			addListingSelects(builder, metadataDomain);
+			RodsGenQueryEnum idField = idFieldFor(metadataDomain);
+			builder.addSelectAsGenQueryValue(idField).addConditionAsMultiValueCondition(idField,
+					QueryConditionOperators.IN, idValues);
 
-		} catch (GenQueryBuilderException | JargonException | JargonQueryException e) {
-			log.error("error in query for collections:{}", metadataQuery, e);
-			throw new MetadataQueryException("gen query error", e);
+			IRODSGenQueryFromBuilder irodsQuery = builder.exportIRODSQueryFromBuilder(
+					getIrodsAccessObjectFactory().getJargonProperties().getMaxFilesAndDirsQueryMax());
+
+			getIrodsAccessObjectFactory().getIRODSGenQueryExecutor(getIrodsAccount())
+					.executeIRODSQueryStreamingInZone(irodsQuery, row -> {
+						long id = row.getColumnAsLongOrZero(idColumn);
+						CollectionAndDataObjectListingEntry entry = buildListingFromResultSetRow(metadataDomain,
+								row.toResultRow(), 0);
+						entry.setId((int) id);
+						entriesById.put(id, entry);
+						return true;
+					}, targetZone);
+		}
+
+		List<CollectionAndDataObjectListingEntry> entries = new ArrayList<CollectionAndDataObjectListingEntry>(
+				entriesById.size());
+		for (long id : ids) {
+			CollectionAndDataObjectListingEntry entry = entriesById.get(id);
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Selects for a listing entry, in the column order of
+	 * {@link #buildListingFromResultSetRow(MetadataDomain, IRODSQueryResultRow, int)}
+	 */
+	private static void addListingSelects(final IRODSGenQueryBuilder builder, final MetadataDomain metadataDomain)
+			throws GenQueryBuilderException {
+		if (metadataDomain == MetadataDomain.COLLECTION) {
+			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_PARENT_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_CREATE_TIME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_MODIFY_TIME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_OWNER_ZONE);
+		} else {
+			builder.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_COLL_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_DATA_NAME)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_DATA_SIZE, SelectFieldTypes.MAX)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_CREATE_TIME, SelectFieldTypes.MAX)
+					.addSelectAsAgregateGenQueryValue(RodsGenQueryEnum.COL_D_MODIFY_TIME, SelectFieldTypes.MAX)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_NAME)
+					.addSelectAsGenQueryValue(RodsGenQueryEnum.COL_D_OWNER_ZONE);
 		}
+	}
+
+	private static void addPathHintCondition(final IRODSGenQueryBuilder builder, final MetadataQuery metadataQuery) {
+		if (!metadataQuery.getPathHint().isEmpty()) {
+			log.info("adding path hint for :{}", metadataQuery.getPathHint());
+			builder.addConditionAsGenQueryField(RodsGenQueryEnum.COL_COLL_NAME, QueryConditionOperators.LIKE,
+					metadataQuery.getPathHint().trim() + "%");
+		}
+	}
+
+	private static RodsGenQueryEnum idFieldFor(final MetadataDomain metadataDomain) {
+		return metadataDomain == MetadataDomain.COLLECTION ? RodsGenQueryEnum.COL_COLL_ID
+				: RodsGenQueryEnum.COL_D_DATA_ID;
+	}
+
+	private static RodsGenQueryEnum attributeFieldFor(final MetadataDomain metadataDomain) {
+		return metadataDomain == MetadataDomain.COLLECTION ? RodsGenQueryEnum.COL_META_COLL_ATTR_NAME
+				: RodsGenQueryEnum.COL_META_DATA_ATTR_NAME;
+	}
 
+	private static RodsGenQueryEnum valueFieldFor(final MetadataDomain metadataDomain) {
+		return metadataDomain == MetadataDomain.COLLECTION ? RodsGenQueryEnum.COL_META_COLL_ATTR_VALUE
+				: RodsGenQueryEnum.COL_META_DATA_ATTR_VALUE;
 	}
 
 	private static List<CollectionAndDataObjectListingEntry> buildListFromQueryResult(
@@ -0,0 +1,46 @@
+package org.irods.jargon.mdquery.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+	@Test
+	public void testIntersect() {
+		LongHashSet first = new LongHashSet();
+		LongHashSet second = new LongHashSet(4);
+		for (long i = 0; i < 1000; i++) {
+			first.add(i);
+			if (i % 3 == 0) {
+				second.add(i);
+			}
+		}
+		second.add(5000L);
+		Assert.assertFalse(first.add(10L));
+		Assert.assertEquals(1000, first.size());
+
+		LongHashSet intersection = first.intersect(second);
+		Assert.assertEquals(334, intersection.size());
+		Assert.assertTrue(intersection.contains(0L));
+		Assert.assertTrue(intersection.contains(999L));
+		Assert.assertFalse(intersection.contains(5000L));
+		long[] values = intersection.toSortedArray();
+		Assert.assertEquals(0L, values[0]);
+		Assert.assertEquals(3L, values[1]);
+		Assert.assertEquals(999L, values[values.length - 1]);
+	}
+
+	@Test
+	public void testGrowsPastInitialCapacity() {
+		LongHashSet set = new LongHashSet();
+		for (long i = 10000; i < 110000; i++) {
+			Assert.assertTrue(set.add(i));
+		}
+		Assert.assertEquals(100000, set.size());
+		Assert.assertTrue(set.contains(10000L));
+		Assert.assertTrue(set.contains(109999L));
+		Assert.assertFalse(set.contains(0L));
+		Assert.assertFalse(set.contains(110000L));
+	}
+
+}
@@ -0,0 +1,72 @@
+package org.irods.jargon.mdquery.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.irods.jargon.core.query.QueryConditionOperators;
+import org.irods.jargon.mdquery.MetadataQueryElement;
+import org.irods.jargon.mdquery.exception.MetadataQueryException;
+import org.irods.jargon.mdquery.service.MetadataQueryPlanner.Strategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MetadataQueryPlannerTest {
+
+	@Test
+	public void testOrderElementsBySelectivity() throws Exception {
+		MetadataQueryElement pattern = buildElement("a", QueryConditionOperators.LIKE, "%x");
+		MetadataQueryElement prefix = buildElement("b", QueryConditionOperators.LIKE, "x%");
+		MetadataQueryElement in = buildElement("c", QueryConditionOperators.IN, "1", "2");
+		MetadataQueryElement between = buildElement("d", QueryConditionOperators.BETWEEN, "1", "2");
+		MetadataQueryElement equal = buildElement("e", QueryConditionOperators.EQUAL, "1");
+		MetadataQueryElement attributeOnly = buildElement("f", QueryConditionOperators.EQUAL);
+
+		MetadataQueryPlanner planner = new MetadataQueryPlanner(3);
+		List<MetadataQueryElement> ordered = planner
+				.orderElements(Arrays.asList(attributeOnly, pattern, prefix, in, between, equal));
+
+		Assert.assertEquals(Arrays.asList(equal, in, between, prefix, pattern, attributeOnly), ordered);
+	}
+
+	@Test
+	public void testOrderElementsKeepsOrderOfSameRank() throws Exception {
+		MetadataQueryElement first = buildElement("a", QueryConditionOperators.EQUAL, "1");
+		MetadataQueryElement second = buildElement("b", QueryConditionOperators.EQUAL, "2");
+		List<MetadataQueryElement> ordered = new MetadataQueryPlanner(3).orderElements(Arrays.asList(first, second));
+		Assert.assertEquals(Arrays.asList(first, second), ordered);
+	}
+
+	@Test
+	public void testChooseStrategy() throws Exception {
+		MetadataQueryPlanner planner = new MetadataQueryPlanner(2);
+		List<MetadataQueryElement> elements = new ArrayList<MetadataQueryElement>();
+		elements.add(buildElement("a", QueryConditionOperators.EQUAL, "1"));
+		elements.add(buildElement("b", QueryConditionOperators.EQUAL, "1"));
+		Assert.assertEquals(Strategy.JOINED, planner.chooseStrategy(elements));
+		elements.add(buildElement("c", QueryConditionOperators.EQUAL, "1"));
+		Assert.assertEquals(Strategy.INTERSECT, planner.chooseStrategy(elements));
+	}
+
+	@Test(expected = MetadataQueryException.class)
+	public void testBetweenNeedsTwoValues() throws Exception {
+		new MetadataQueryPlanner(3)
+				.orderElements(Arrays.asList(buildElement("a", QueryConditionOperators.BETWEEN, "1")));
+	}
+
+	@Test(expected = MetadataQueryException.class)
+	public void testManyValuesNeedInOrBetween() throws Exception {
+		new MetadataQueryPlanner(3)
+				.orderElements(Arrays.asList(buildElement("a", QueryConditionOperators.EQUAL, "1", "2")));
+	}
+
+	private static MetadataQueryElement buildElement(final String attribute,
+			final QueryConditionOperators operator, final String... values) {
+		MetadataQueryElement element = new MetadataQueryElement();
+		element.setAttributeName(attribute);
+		element.setOperator(operator);
+		element.setAttributeValue(new ArrayList<String>(Arrays.asList(values)));
+		return element;
+	}
+
+}
@@ -2,6 +2,7 @@ package org.irods.jargon.mdquery.service;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
@@ -981,4 +982,121 @@ public class MetadataQueryServiceImplTest {
 
 	}
 
+	@Test
+	public void testInAndBetweenAvuQueryCollectionsIntersected() throws Exception {
+		String testDirName = "testInAndBetweenAvuQueryCollectionsIntersected";
+		String testDirName2 = "testInAndBetweenAvuQueryCollectionsIntersected2";
+
+		String targetIrodsCollection = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + '/' + testDirName);
+
+		String targetIrodsCollection2 = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + '/' + testDirName2);
+
+		final String expectedAttribName = "testInAndBetweenAvuQueryCollectionsIntersectedattrib1";
+		final String expectedAttribName2 = "testInAndBetweenAvuQueryCollectionsIntersectedattrib2";
+		final String expectedAttribUnits = "testInAndBetweenAvuQueryCollectionsIntersectedunits";
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+		CollectionAO collectionAO = accessObjectFactory.getCollectionAO(irodsAccount);
+
+		IRODSFile testFile = irodsFileSystem.getIRODSFileFactory(irodsAccount).instanceIRODSFile(targetIrodsCollection);
+		testFile.deleteWithForceOption();
+		testFile.mkdirs();
+
+		IRODSFile testFile2 = irodsFileSystem.getIRODSFileFactory(irodsAccount)
+				.instanceIRODSFile(targetIrodsCollection2);
+		testFile2.deleteWithForceOption();
+		testFile2.mkdirs();
+
+		collectionAO.addAVUMetadata(targetIrodsCollection,
+				AvuData.instance(expectedAttribName, "green", expectedAttribUnits));
+		collectionAO.addAVUMetadata(targetIrodsCollection,
+				AvuData.instance(expectedAttribName2, "20", expectedAttribUnits));
+		collectionAO.addAVUMetadata(targetIrodsCollection2,
+				AvuData.instance(expectedAttribName, "blue", expectedAttribUnits));
+		collectionAO.addAVUMetadata(targetIrodsCollection2,
+				AvuData.instance(expectedAttribName2, "90", expectedAttribUnits));
+
+		MetadataQueryServiceImpl metadataQueryService = new MetadataQueryServiceImpl(accessObjectFactory,
+				irodsAccount);
+		metadataQueryService.setMaxJoinedElements(1);
+
+		MetadataQuery metadataQuery = new MetadataQuery();
+		MetadataQueryElement element = new MetadataQueryElement();
+		element.setAttributeName(expectedAttribName);
+		element.setOperator(QueryConditionOperators.IN);
+		element.setAttributeValue(Arrays.asList("green", "blue", "red"));
+		metadataQuery.getMetadataQueryElements().add(element);
+
+		element = new MetadataQueryElement();
+		element.setAttributeName(expectedAttribName2);
+		element.setOperator(QueryConditionOperators.BETWEEN);
+		element.setAttributeValue(Arrays.asList("10", "30"));
+		metadataQuery.getMetadataQueryElements().add(element);
+
+		metadataQuery.setQueryType(QueryType.COLLECTIONS);
+		metadataQuery.setPathHint(testFile.getParent());
+
+		PagingAwareCollectionListing actual = metadataQueryService.executeQuery(metadataQuery);
+		Assert.assertNotNull("null listing returned", actual);
+		Assert.assertEquals("no result row", 1, actual.getCollectionAndDataObjectListingEntries().size());
+		Assert.assertEquals("unexpected collection", testFile.getAbsolutePath(),
+				actual.getCollectionAndDataObjectListingEntries().get(0).getFormattedAbsolutePath());
+		Assert.assertTrue("should reflect end of colls",
+				actual.getPagingAwareCollectionListingDescriptor().isCollectionsComplete());
+
+	}
+
+	@Test
+	public void testInAvuQueryDataObjectMatchingTwiceCountedOnce() throws Exception {
+		String testCollName = "testInAvuQueryDataObjectMatchingTwiceCountedOnce";
+		String testFileName = "testInAvuQueryDataObjectMatchingTwiceCountedOnce.txt";
+		final String expectedAttribName = "testInAvuQueryDataObjectMatchingTwiceCountedOnceattrib1";
+
+		IRODSAccount irodsAccount = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		String targetIrodsCollection = testingPropertiesHelper.buildIRODSCollectionAbsolutePathFromTestProperties(
+				testingProperties, IRODS_TEST_SUBDIR_PATH + "/" + testCollName);
+
+		IRODSAccessObjectFactory accessObjectFactory = irodsFileSystem.getIRODSAccessObjectFactory();
+
+		IRODSFile testSubdir = irodsFileSystem.getIRODSFileFactory(irodsAccount)
+				.instanceIRODSFile(targetIrodsCollection);
+		testSubdir.deleteWithForceOption();
+		testSubdir.mkdirs();
+
+		String absPath = scratchFileUtils.createAndReturnAbsoluteScratchPath(IRODS_TEST_SUBDIR_PATH);
+		String sourceFileAbsolutePath = FileGenerator.generateFileOfFixedLengthGivenName(absPath, testFileName, 1);
+
+		IRODSFile dataFile = irodsFileSystem.getIRODSFileFactory(irodsAccount)
+				.instanceIRODSFile(testSubdir.getAbsolutePath(), testFileName);
+		accessObjectFactory.getDataTransferOperations(irodsAccount).putOperation(new File(sourceFileAbsolutePath),
+				dataFile, null, null);
+
+		DataObjectAO dAO = accessObjectFactory.getDataObjectAO(irodsAccount);
+		dAO.addAVUMetadata(dataFile.getAbsolutePath(), AvuData.instance(expectedAttribName, "green", ""));
+		dAO.addAVUMetadata(dataFile.getAbsolutePath(), AvuData.instance(expectedAttribName, "blue", ""));
+
+		MetadataQueryService metadataQueryService = new MetadataQueryServiceImpl(accessObjectFactory, irodsAccount);
+
+		MetadataQuery metadataQuery = new MetadataQuery();
+		MetadataQueryElement element = new MetadataQueryElement();
+		element.setAttributeName(expectedAttribName);
+		element.setOperator(QueryConditionOperators.IN);
+		element.setAttributeValue(Arrays.asList("green", "blue"));
+		metadataQuery.getMetadataQueryElements().add(element);
+		metadataQuery.setQueryType(QueryType.DATA);
+		metadataQuery.setPathHint(targetIrodsCollection);
+
+		PagingAwareCollectionListing actual = metadataQueryService.executeQuery(metadataQuery);
+		Assert.assertNotNull("null listing returned", actual);
+		Assert.assertEquals("should list the data object once", 1,
+				actual.getCollectionAndDataObjectListingEntries().size());
+		Assert.assertEquals("should count the data object once", 1,
+				actual.getPagingAwareCollectionListingDescriptor().getDataObjectsTotalRecords());
+
+	}
+
 }
@@ -1,13 +1,16 @@
 package org.irods.jargon.mdquery.unittest;
 
 import org.irods.jargon.mdquery.serialization.MetadataQueryJsonServiceTest;
+import org.irods.jargon.mdquery.service.LongHashSetTest;
+import org.irods.jargon.mdquery.service.MetadataQueryPlannerTest;
 import org.irods.jargon.mdquery.service.MetadataQueryServiceImplTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ MetadataQueryJsonServiceTest.class, MetadataQueryServiceImplTest.class })
+@SuiteClasses({ MetadataQueryJsonServiceTest.class, MetadataQueryServiceImplTest.class,
+		MetadataQueryPlannerTest.class, LongHashSetTest.class })
 public class AllTests {
 
 }
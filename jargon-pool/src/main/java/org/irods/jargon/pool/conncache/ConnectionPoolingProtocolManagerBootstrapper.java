@@ -3,6 +3,10 @@
  */
 package org.irods.jargon.pool.conncache;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSProtocolManager;
 import org.irods.jargon.core.connection.IRODSSession;
 import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
@@ -24,6 +28,20 @@ import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
  * <p>
  * Once the dependencies are in place, the {@code init()} method should be
  * called to set up the connection pool.
+ * <p>
+ * Optionally, a list of (typically service) accounts may be provided to
+ * pre-warm. With {@code minIdlePerKey} set in the {@link JargonKeyedPoolConfig},
+ * {@code init()} starts creating that many connections for each account in the
+ * background, and the pool tops them up in the background as they are
+ * borrowed. Idle connections of these accounts are only evicted after
+ * {@code softMinEvictableIdleTimeMillis}, which keeps {@code minIdlePerKey} of
+ * them, while connections of all other accounts are still evicted after
+ * {@code minEvictableIdleTimeMillis}.
+ * <p>
+ * By default a thread keeps its connection until it closes its session. To
+ * share a small pool among many threads, hold connections only per operation
+ * with {@code IRODSSession.executeInConnectionScope()} or access objects
+ * wrapped by {@code ConnectionScopedAccessObjects}.
  * 
  * @author conwaymc
  *
@@ -32,6 +50,8 @@ public class ConnectionPoolingProtocolManagerBootstrapper {
 
 	private JargonKeyedPoolConfig jargonKeyedPoolConfig;
 	private IRODSSession irodsSession;
+	private JargonPooledObjectFactory jargonPooledObjectFactory;
+	private List<IRODSAccount> prewarmAccounts = new ArrayList<IRODSAccount>();
 
 	/**
 	 * Default constructor
@@ -43,14 +63,19 @@ public class ConnectionPoolingProtocolManagerBootstrapper {
 	/**
 	 * This method must be called after the expected dependencies have been set. The
 	 * method will create a cached connection pool and set this up as the protocol
-	 * manager used in the {@code IRODSSession}.
+	 * manager used in the {@code IRODSSession}, and start pre-warming any
+	 * accounts that were provided.
 	 */
 	public void init() {
 		if (irodsSession == null) {
 			throw new IllegalStateException("IRODSSession not provided");
 		}
 
-		JargonPooledObjectFactory jargonPooledObjectFactory = new JargonPooledObjectFactory();
+		if (jargonKeyedPoolConfig == null) {
+			jargonKeyedPoolConfig = new JargonKeyedPoolConfig();
+		}
+
+		jargonPooledObjectFactory = new JargonPooledObjectFactory();
 		jargonPooledObjectFactory.setIrodsSession(irodsSession);
 		IRODSSimpleProtocolManager irodsSimpleProtocolManager = new IRODSSimpleProtocolManager();
 		jargonPooledObjectFactory.setIrodsSimpleProtocolManager(irodsSimpleProtocolManager);
@@ -61,6 +86,31 @@ public class ConnectionPoolingProtocolManagerBootstrapper {
 		cachedIrodsProtocolManager.setJargonConnectionCache(jargonConnectionCache);
 		irodsSession.setIrodsProtocolManager(cachedIrodsProtocolManager);
 
+		if (!prewarmAccounts.isEmpty()) {
+			jargonConnectionCache.prewarm(prewarmAccounts);
+		}
+
+	}
+
+	/**
+	 * @return {@code List} of {@link IRODSAccount} that will have connections
+	 *         pre-warmed by {@code init()}
+	 */
+	public List<IRODSAccount> getPrewarmAccounts() {
+		return prewarmAccounts;
+	}
+
+	/**
+	 * @param prewarmAccounts
+	 *            {@code List} of {@link IRODSAccount} that will have
+	 *            {@code minIdlePerKey} connections created in the background by
+	 *            {@code init()}
+	 */
+	public void setPrewarmAccounts(final List<IRODSAccount> prewarmAccounts) {
+		if (prewarmAccounts == null) {
+			throw new IllegalArgumentException("null prewarmAccounts");
+		}
+		this.prewarmAccounts = prewarmAccounts;
 	}
 
 	/**
@@ -79,6 +129,14 @@ public class ConnectionPoolingProtocolManagerBootstrapper {
 		this.jargonKeyedPoolConfig = jargonKeyedPoolConfig;
 	}
 
+	/**
+	 * @return the {@link JargonPooledObjectFactory} created by {@code init()},
+	 *         which holds the connection validation metrics
+	 */
+	public JargonPooledObjectFactory getJargonPooledObjectFactory() {
+		return jargonPooledObjectFactory;
+	}
+
 	/**
 	 * @return the irodsSession {@link IRODSSession} that will have been provisioned
 	 *         with a pooled connection manager.
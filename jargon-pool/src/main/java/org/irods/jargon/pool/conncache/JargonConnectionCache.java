@@ -3,7 +3,18 @@
  */
 package org.irods.jargon.pool.conncache;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.apache.commons.pool2.KeyedPooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultEvictionPolicy;
+import org.apache.commons.pool2.impl.EvictionConfig;
+import org.apache.commons.pool2.impl.EvictionPolicy;
 import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
@@ -12,6 +23,15 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Connection cache keeps a pool of managed iRODS connections
+ * <p>
+ * When {@code minIdlePerKey} is set, the cache can be pre-warmed for a set of
+ * accounts, and whenever a borrow or invalidation leaves a pre-warmed account
+ * below that number of idle connections, replacements are created on a
+ * background thread so that callers do not wait on connect and authentication.
+ * Idle connections of pre-warmed accounts are only evicted after
+ * {@code softMinEvictableIdleTimeMillis}, and only down to
+ * {@code minIdlePerKey}. Connections of other accounts are not topped up by
+ * the cache and are still evicted after {@code minEvictableIdleTimeMillis}.
  *
  * @author mconway
  *
@@ -20,13 +40,146 @@ public class JargonConnectionCache extends GenericKeyedObjectPool<IRODSAccount,
 
 	public static final Logger log = LoggerFactory.getLogger(JargonPooledObjectFactory.class);
 
+	/**
+	 * Accounts with a replenishment pending or running
+	 */
+	private final Set<IRODSAccount> replenishing = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Accounts passed to {@link #prewarm(Collection)}, which are kept at
+	 * {@code minIdlePerKey} idle connections
+	 */
+	private final Set<IRODSAccount> prewarmAccounts = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Single daemon thread creating connections in the background, created on
+	 * first use
+	 */
+	private ExecutorService replenishExecutor;
+
+	/**
+	 * Create the cache with the given factory and configuration. Validation
+	 * settings in the configuration are applied to a
+	 * {@link JargonPooledObjectFactory}.
+	 *
+	 * @param factory
+	 *            {@link KeyedPooledObjectFactory} that creates the connections
+	 * @param config
+	 *            {@link JargonKeyedPoolConfig} with eviction, keep-alive and
+	 *            validation settings, or {@code null} for the defaults
+	 */
 	public JargonConnectionCache(final KeyedPooledObjectFactory<IRODSAccount, IRODSMidLevelProtocol> factory,
 			final JargonKeyedPoolConfig config) {
-		super(factory, config);
-		setMaxIdlePerKey(config.getMaxIdlePerKey());
-		setMinEvictableIdleTimeMillis(30000);
-		setTimeBetweenEvictionRunsMillis(45000);
-		setTestOnBorrow(true);
+		super(factory, config == null ? new JargonKeyedPoolConfig() : config);
+		JargonKeyedPoolConfig effectiveConfig = config == null ? new JargonKeyedPoolConfig() : config;
+		if (factory instanceof JargonPooledObjectFactory) {
+			JargonPooledObjectFactory jargonPooledObjectFactory = (JargonPooledObjectFactory) factory;
+			jargonPooledObjectFactory.setValidateWithServerCall(effectiveConfig.isValidateWithServerCall());
+			jargonPooledObjectFactory
+					.setValidationIdleThresholdMillis(effectiveConfig.getValidationIdleThresholdMillis());
+		}
+		log.info("connection cache configured, minEvictableIdleTimeMillis:{}, timeBetweenEvictionRunsMillis:{}",
+				getMinEvictableIdleTimeMillis(), getTimeBetweenEvictionRunsMillis());
+	}
+
+	/**
+	 * Create {@code minIdlePerKey} connections for each of the given accounts in
+	 * the background. This returns without waiting for the connections. From
+	 * then on these accounts are topped up as their connections are borrowed,
+	 * and their idle connections are exempt from
+	 * {@code minEvictableIdleTimeMillis}.
+	 *
+	 * @param irodsAccounts
+	 *            {@code Collection} of {@link IRODSAccount} to pre-warm
+	 */
+	public void prewarm(final Collection<IRODSAccount> irodsAccounts) {
+		log.info("prewarm()");
+		if (irodsAccounts == null) {
+			throw new IllegalArgumentException("null irodsAccounts");
+		}
+
+		if (getMinIdlePerKey() <= 0) {
+			log.warn("minIdlePerKey is not set, no connections will be pre-warmed");
+			return;
+		}
+
+		synchronized (this) {
+			if (prewarmAccounts.isEmpty()) {
+				setEvictionPolicy(new PrewarmedAccountEvictionPolicy(prewarmAccounts, getEvictionPolicy()));
+			}
+			prewarmAccounts.addAll(irodsAccounts);
+		}
+
+		for (IRODSAccount irodsAccount : irodsAccounts) {
+			replenish(irodsAccount);
+		}
+	}
+
+	/**
+	 * @param irodsAccount
+	 *            {@link IRODSAccount} to check
+	 * @return {@code boolean} of {@code true} if the account was pre-warmed and
+	 *         is kept at {@code minIdlePerKey} idle connections
+	 */
+	public boolean isPrewarmed(final IRODSAccount irodsAccount) {
+		return irodsAccount != null && prewarmAccounts.contains(irodsAccount);
+	}
+
+	@Override
+	public IRODSMidLevelProtocol borrowObject(final IRODSAccount key, final long borrowMaxWaitMillis)
+			throws Exception {
+		IRODSMidLevelProtocol irodsMidLevelProtocol = super.borrowObject(key, borrowMaxWaitMillis);
+		replenishIfBelowMinIdle(key);
+		return irodsMidLevelProtocol;
+	}
+
+	@Override
+	public void invalidateObject(final IRODSAccount key, final IRODSMidLevelProtocol obj) throws Exception {
+		super.invalidateObject(key, obj);
+		replenishIfBelowMinIdle(key);
+	}
+
+	private void replenishIfBelowMinIdle(final IRODSAccount key) {
+		if (isPrewarmed(key) && getMinIdlePerKey() > 0 && getNumIdle(key) < getMinIdlePerKey()) {
+			replenish(key);
+		}
+	}
+
+	/**
+	 * Top up the idle connections for the account on the background thread,
+	 * unless that is already pending
+	 */
+	private void replenish(final IRODSAccount key) {
+		if (!replenishing.add(key)) {
+			return;
+		}
+
+		try {
+			getReplenishExecutor().execute(() -> {
+				try {
+					log.debug("replenishing idle connections for:{}", key);
+					preparePool(key);
+				} catch (Exception e) {
+					log.warn("unable to replenish idle connections for:{}", key, e);
+				} finally {
+					replenishing.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.debug("cache closed, not replenishing");
+			replenishing.remove(key);
+		}
+	}
+
+	private synchronized ExecutorService getReplenishExecutor() {
+		if (replenishExecutor == null) {
+			replenishExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "jargon-connection-cache-replenish");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return replenishExecutor;
 	}
 
 	/*
@@ -37,7 +190,42 @@ public class JargonConnectionCache extends GenericKeyedObjectPool<IRODSAccount,
 	@Override
 	public void close() {
 		log.info("close()");
+		synchronized (this) {
+			if (replenishExecutor != null) {
+				replenishExecutor.shutdownNow();
+			}
+		}
 		this.clear();
 	}
 
+	/**
+	 * Evicts idle connections of pre-warmed accounts only after the soft idle
+	 * time, and only above the minimum idle count, and leaves the connections of
+	 * all other accounts to the configured policy
+	 */
+	private static class PrewarmedAccountEvictionPolicy implements EvictionPolicy<IRODSMidLevelProtocol> {
+
+		private final Set<IRODSAccount> prewarmAccounts;
+		private final EvictionPolicy<IRODSMidLevelProtocol> delegate;
+
+		PrewarmedAccountEvictionPolicy(final Set<IRODSAccount> prewarmAccounts,
+				final EvictionPolicy<IRODSMidLevelProtocol> delegate) {
+			this.prewarmAccounts = prewarmAccounts;
+			this.delegate = delegate == null ? new DefaultEvictionPolicy<IRODSMidLevelProtocol>() : delegate;
+		}
+
+		@Override
+		public boolean evict(final EvictionConfig config, final PooledObject<IRODSMidLevelProtocol> underTest,
+				final int idleCount) {
+			IRODSMidLevelProtocol irodsMidLevelProtocol = underTest.getObject();
+			IRODSAccount irodsAccount = irodsMidLevelProtocol == null ? null
+					: irodsMidLevelProtocol.getIrodsAccount();
+			if (irodsAccount == null || !prewarmAccounts.contains(irodsAccount)) {
+				return delegate.evict(config, underTest, idleCount);
+			}
+			return config.getIdleSoftEvictTime() < underTest.getIdleTimeMillis() && config.getMinIdle() < idleCount;
+		}
+
+	}
+
 }
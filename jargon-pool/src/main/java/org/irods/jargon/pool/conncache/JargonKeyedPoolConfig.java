@@ -7,6 +7,17 @@ import org.apache.commons.pool2.impl.GenericKeyedObjectPoolConfig;
 import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
 
 /**
+ * Pool configuration for the {@link JargonConnectionCache}.
+ * <p>
+ * Connections are validated on borrow, and idle connections are validated
+ * (which also keeps them alive through server and firewall idle timeouts) on
+ * each eviction run. The eviction run interval
+ * ({@code timeBetweenEvictionRunsMillis}) is therefore also the keep-alive
+ * interval, and idle connections are still evicted after
+ * {@code minEvictableIdleTimeMillis}. Whether validation makes a server call,
+ * and how recently a connection must have been active to skip that call, are
+ * configured here and applied to the {@link JargonPooledObjectFactory}.
+ *
  * @author mconway
  *
  */
@@ -14,9 +25,14 @@ public class JargonKeyedPoolConfig extends GenericKeyedObjectPoolConfig<IRODSMid
 
 	public static final int TIME_30_SECONDS = 30 * 1000;
 	public static final int TIME_60_SECONDS = 30 * 1000;
+	public static final int TIME_45_SECONDS = 45 * 1000;
 	public static final int MAX_IDLE = 3;
+	public static final boolean VALIDATE_WITH_SERVER_CALL = true;
+	public static final long VALIDATION_IDLE_THRESHOLD_MILLIS = 5 * 1000;
 
 	private int maxIdlePerKey = MAX_IDLE;
+	private boolean validateWithServerCall = VALIDATE_WITH_SERVER_CALL;
+	private long validationIdleThresholdMillis = VALIDATION_IDLE_THRESHOLD_MILLIS;
 
 	@Override
 	public int getMaxIdlePerKey() {
@@ -32,12 +48,49 @@ public class JargonKeyedPoolConfig extends GenericKeyedObjectPoolConfig<IRODSMid
 		super();
 		setMinEvictableIdleTimeMillis(TIME_60_SECONDS);
 		setSoftMinEvictableIdleTimeMillis(TIME_30_SECONDS);
+		setTimeBetweenEvictionRunsMillis(TIME_45_SECONDS);
 		this.setMaxIdlePerKey(maxIdlePerKey);
-		setTestOnReturn(true);
+		setTestOnReturn(false);
 		setTestOnBorrow(true);
+		setTestWhileIdle(true);
 		this.setJmxEnabled(true);
 	}
 
+	/**
+	 * @return {@code boolean} of {@code true} if validation makes a lightweight
+	 *         server call, rather than only checking the local connection state
+	 */
+	public boolean isValidateWithServerCall() {
+		return validateWithServerCall;
+	}
+
+	/**
+	 * @param validateWithServerCall
+	 *            {@code boolean} of {@code true} if validation should make a
+	 *            lightweight server call
+	 */
+	public void setValidateWithServerCall(final boolean validateWithServerCall) {
+		this.validateWithServerCall = validateWithServerCall;
+	}
+
+	/**
+	 * @return {@code long} with the milliseconds since a connection was returned
+	 *         or validated under which validation skips the server call
+	 */
+	public long getValidationIdleThresholdMillis() {
+		return validationIdleThresholdMillis;
+	}
+
+	/**
+	 * @param validationIdleThresholdMillis
+	 *            {@code long} with the milliseconds since a connection was
+	 *            returned or validated under which validation skips the server
+	 *            call
+	 */
+	public void setValidationIdleThresholdMillis(final long validationIdleThresholdMillis) {
+		this.validationIdleThresholdMillis = validationIdleThresholdMillis;
+	}
+
 	@Override
 	public boolean getBlockWhenExhausted() {
 		return super.getBlockWhenExhausted();
@@ -96,17 +149,17 @@ public class JargonKeyedPoolConfig extends GenericKeyedObjectPoolConfig<IRODSMid
 
 	@Override
 	public boolean getTestOnBorrow() {
-		return false;
+		return super.getTestOnBorrow();
 	}
 
 	@Override
 	public boolean getTestOnCreate() {
-		return false;
+		return super.getTestOnCreate();
 	}
 
 	@Override
 	public boolean getTestOnReturn() {
-		return false;
+		return super.getTestOnReturn();
 	}
 
 	@Override
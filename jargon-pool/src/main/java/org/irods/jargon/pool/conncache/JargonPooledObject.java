@@ -0,0 +1,27 @@
+package org.irods.jargon.pool.conncache;
+
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
+
+/**
+ * Pooled iRODS connection that also remembers when it was last validated
+ * with a server call, so idle validation and keep-alives are not repeated more
+ * often than needed
+ */
+class JargonPooledObject extends DefaultPooledObject<IRODSMidLevelProtocol> {
+
+	private volatile long lastValidatedTime = 0L;
+
+	JargonPooledObject(final IRODSMidLevelProtocol irodsMidLevelProtocol) {
+		super(irodsMidLevelProtocol);
+	}
+
+	long getLastValidatedTime() {
+		return lastValidatedTime;
+	}
+
+	void setLastValidatedTime(final long lastValidatedTime) {
+		this.lastValidatedTime = lastValidatedTime;
+	}
+
+}
@@ -1,8 +1,10 @@
 package org.irods.jargon.pool.conncache;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.commons.pool2.BaseKeyedPooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
-import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.irods.jargon.core.connection.EnvironmentalInfoAccessor;
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.connection.IRODSMidLevelProtocol;
 import org.irods.jargon.core.connection.IRODSProtocolManager;
@@ -16,6 +18,14 @@ import org.slf4j.LoggerFactory;
  * {@link IRODSAccount} that was originally used to create the object. This may
  * have resulted in a secondary iRODS account, for example, as a proxy account,
  * a temp account, or through some other transformation.
+ * <p>
+ * Validation checks the local connection state and, unless turned off, makes
+ * a lightweight server call (the {@code MiscSvrInfo} API) to catch sockets
+ * that the server or a firewall has already dropped. The server call is
+ * skipped for connections that were returned or validated within the
+ * validation idle threshold. When the pool tests idle connections, the same
+ * call acts as a keep-alive. Validation counts and latency are kept as
+ * metrics.
  * 
  * @author conwaymc
  *
@@ -35,6 +45,24 @@ public class JargonPooledObjectFactory extends BaseKeyedPooledObjectFactory<IROD
 	 */
 	private IRODSSession irodsSession;
 
+	/**
+	 * Whether validation makes a server call, or only checks the local connection
+	 * state
+	 */
+	private volatile boolean validateWithServerCall = JargonKeyedPoolConfig.VALIDATE_WITH_SERVER_CALL;
+
+	/**
+	 * Connections returned or validated within this many milliseconds are not
+	 * validated with a server call
+	 */
+	private volatile long validationIdleThresholdMillis = JargonKeyedPoolConfig.VALIDATION_IDLE_THRESHOLD_MILLIS;
+
+	private final AtomicLong validations = new AtomicLong();
+	private final AtomicLong serverValidations = new AtomicLong();
+	private final AtomicLong validationFailures = new AtomicLong();
+	private final AtomicLong totalServerValidationNanos = new AtomicLong();
+	private final AtomicLong maxServerValidationNanos = new AtomicLong();
+
 	public IRODSSession getIrodsSession() {
 		return irodsSession;
 	}
@@ -71,7 +99,7 @@ public class JargonPooledObjectFactory extends BaseKeyedPooledObjectFactory<IROD
 	@Override
 	public PooledObject<IRODSMidLevelProtocol> wrap(final IRODSMidLevelProtocol irodsMidLevelProtocol) {
 		log.info("wrap()");
-		return new DefaultPooledObject<IRODSMidLevelProtocol>(irodsMidLevelProtocol);
+		return new JargonPooledObject(irodsMidLevelProtocol);
 	}
 
 	@Override
@@ -83,7 +111,144 @@ public class JargonPooledObjectFactory extends BaseKeyedPooledObjectFactory<IROD
 
 	@Override
 	public boolean validateObject(final IRODSAccount key, final PooledObject<IRODSMidLevelProtocol> p) {
-		return p.getObject().isConnected();
+		validations.incrementAndGet();
+		IRODSMidLevelProtocol irodsMidLevelProtocol = p.getObject();
+
+		if (!irodsMidLevelProtocol.isConnected()) {
+			log.info("pooled connection is not connected, invalid");
+			validationFailures.incrementAndGet();
+			return false;
+		}
+
+		if (!validateWithServerCall) {
+			return true;
+		}
+
+		long lastActive = p.getLastReturnTime();
+		if (p instanceof JargonPooledObject) {
+			lastActive = Math.max(lastActive, ((JargonPooledObject) p).getLastValidatedTime());
+		}
+
+		if (System.currentTimeMillis() - lastActive < validationIdleThresholdMillis) {
+			log.debug("pooled connection recently active, skip server validation");
+			return true;
+		}
+
+		long start = System.nanoTime();
+		try {
+			new EnvironmentalInfoAccessor(irodsMidLevelProtocol).getIRODSServerProperties(true);
+		} catch (Exception e) {
+			log.warn("server validation of pooled connection failed, invalid:{}", e.getMessage());
+			validationFailures.incrementAndGet();
+			return false;
+		} finally {
+			recordServerValidation(System.nanoTime() - start);
+		}
+
+		if (p instanceof JargonPooledObject) {
+			((JargonPooledObject) p).setLastValidatedTime(System.currentTimeMillis());
+		}
+		return true;
+	}
+
+	private void recordServerValidation(final long nanos) {
+		serverValidations.incrementAndGet();
+		totalServerValidationNanos.addAndGet(nanos);
+		long max;
+		do {
+			max = maxServerValidationNanos.get();
+		} while (nanos > max && !maxServerValidationNanos.compareAndSet(max, nanos));
+		log.debug("server validation took {} ms", nanos / 1000000.0);
+	}
+
+	/**
+	 * @return {@code boolean} of {@code true} if validation makes a server call
+	 */
+	public boolean isValidateWithServerCall() {
+		return validateWithServerCall;
+	}
+
+	/**
+	 * @param validateWithServerCall
+	 *            {@code boolean} of {@code true} if validation should make a
+	 *            server call, otherwise only the local connection state is
+	 *            checked
+	 */
+	public void setValidateWithServerCall(final boolean validateWithServerCall) {
+		this.validateWithServerCall = validateWithServerCall;
+	}
+
+	/**
+	 * @return {@code long} with the milliseconds since a connection was returned
+	 *         or validated under which no server call is made
+	 */
+	public long getValidationIdleThresholdMillis() {
+		return validationIdleThresholdMillis;
+	}
+
+	/**
+	 * @param validationIdleThresholdMillis
+	 *            {@code long} with the milliseconds since a connection was
+	 *            returned or validated under which no server call is made
+	 */
+	public void setValidationIdleThresholdMillis(final long validationIdleThresholdMillis) {
+		this.validationIdleThresholdMillis = validationIdleThresholdMillis;
+	}
+
+	/**
+	 * @return {@code long} with the number of validations, including those that
+	 *         only checked the local connection state
+	 */
+	public long getValidationCount() {
+		return validations.get();
+	}
+
+	/**
+	 * @return {@code long} with the number of validations that made a server
+	 *         call
+	 */
+	public long getServerValidationCount() {
+		return serverValidations.get();
+	}
+
+	/**
+	 * @return {@code long} with the number of validations that found a dead
+	 *         connection
+	 */
+	public long getValidationFailureCount() {
+		return validationFailures.get();
+	}
+
+	/**
+	 * @return {@code double} with the mean server validation latency in
+	 *         milliseconds, or 0 if no server validations were made
+	 */
+	public double getMeanServerValidationMillis() {
+		long count = serverValidations.get();
+		if (count == 0) {
+			return 0;
+		}
+		return totalServerValidationNanos.get() / 1000000.0 / count;
+	}
+
+	/**
+	 * @return {@code double} with the longest server validation latency in
+	 *         milliseconds
+	 */
+	public double getMaxServerValidationMillis() {
+		return maxServerValidationNanos.get() / 1000000.0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("JargonPooledObjectFactory [validateWithServerCall=").append(validateWithServerCall)
+				.append(", validationIdleThresholdMillis=").append(validationIdleThresholdMillis)
+				.append(", validations=").append(validations).append(", serverValidations=")
+				.append(serverValidations).append(", validationFailures=").append(validationFailures)
+				.append(", meanServerValidationMillis=").append(getMeanServerValidationMillis())
+				.append(", maxServerValidationMillis=").append(getMaxServerValidationMillis()).append("]");
+		return builder.toString();
 	}
 
 }
@@ -8,7 +8,9 @@ import org.irods.jargon.core.connection.IRODSSimpleProtocolManager;
 import org.irods.jargon.core.pub.EnvironmentalInfoAO;
 import org.irods.jargon.core.pub.IRODSAccessObjectFactory;
 import org.irods.jargon.core.pub.IRODSAccessObjectFactoryImpl;
+import org.irods.jargon.core.pub.ConnectionScopedAccessObjects;
 import org.irods.jargon.testutils.TestingPropertiesHelper;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -52,4 +54,38 @@ public class CachedIrodsProtocolManagerTest {
 
 	}
 
+	@Test
+	public void testConnectionScopeReturnsToPool() throws Exception {
+
+		JargonKeyedPoolConfig config = new JargonKeyedPoolConfig();
+		JargonPooledObjectFactory jargonPooledObjectFactory = new JargonPooledObjectFactory();
+		IRODSSimpleProtocolManager irodsSimpleProtocolManager = new IRODSSimpleProtocolManager();
+		jargonPooledObjectFactory.setIrodsSimpleProtocolManager(irodsSimpleProtocolManager);
+		JargonConnectionCache jargonConnectionCache = new JargonConnectionCache(jargonPooledObjectFactory, config);
+
+		CachedIrodsProtocolManager cachedIrodsProtocolManager = new CachedIrodsProtocolManager();
+		cachedIrodsProtocolManager.setJargonConnectionCache(jargonConnectionCache);
+
+		IRODSSession irodsSession = IRODSSession.instance(cachedIrodsProtocolManager);
+		jargonPooledObjectFactory.setIrodsSession(irodsSession);
+		IRODSAccount test1 = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSAccessObjectFactory iaf = new IRODSAccessObjectFactoryImpl(irodsSession);
+
+		for (int i = 0; i < 3; i++) {
+			irodsSession.executeInConnectionScope(test1,
+					() -> iaf.getEnvironmentalInfoAO(test1).getIRODSServerCurrentTime());
+			Assert.assertFalse("connection should be released", irodsSession.isConnectionHeld(test1));
+		}
+
+		EnvironmentalInfoAO environmentalInfoAO = ConnectionScopedAccessObjects.wrap(EnvironmentalInfoAO.class,
+				irodsSession, test1, () -> iaf.getEnvironmentalInfoAO(test1));
+		environmentalInfoAO.getIRODSServerCurrentTime();
+		Assert.assertFalse("connection should be released", irodsSession.isConnectionHeld(test1));
+
+		Assert.assertEquals("should have reused one connection", 1, jargonConnectionCache.getCreatedCount());
+		Assert.assertEquals(0, jargonConnectionCache.getNumActive(test1));
+		jargonConnectionCache.close();
+
+	}
+
 }
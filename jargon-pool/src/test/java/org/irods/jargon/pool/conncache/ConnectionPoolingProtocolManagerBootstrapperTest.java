@@ -1,5 +1,6 @@
 package org.irods.jargon.pool.conncache;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -47,4 +48,34 @@ public class ConnectionPoolingProtocolManagerBootstrapperTest {
 
 	}
 
+	@Test
+	public void testInitWithPrewarm() throws Exception {
+		JargonKeyedPoolConfig config = new JargonKeyedPoolConfig();
+		config.setMinIdlePerKey(2);
+		IRODSSession irodsSession = new IRODSSession();
+		IRODSAccount test1 = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		ConnectionPoolingProtocolManagerBootstrapper bootstrapper = new ConnectionPoolingProtocolManagerBootstrapper();
+		bootstrapper.setIrodsSession(irodsSession);
+		bootstrapper.setJargonKeyedPoolConfig(config);
+		bootstrapper.setPrewarmAccounts(Arrays.asList(test1));
+		bootstrapper.init();
+
+		JargonConnectionCache jargonConnectionCache = ((CachedIrodsProtocolManager) irodsSession
+				.getIrodsProtocolManager()).getJargonConnectionCache();
+
+		// connections are created in the background
+		for (int i = 0; i < 100 && jargonConnectionCache.getNumIdle(test1) < 2; i++) {
+			Thread.sleep(100);
+		}
+
+		Assert.assertEquals("did not pre-warm connections", 2, jargonConnectionCache.getNumIdle(test1));
+		Assert.assertTrue("account should be pre-warmed", jargonConnectionCache.isPrewarmed(test1));
+		Assert.assertEquals("should not change the configuration", JargonKeyedPoolConfig.TIME_60_SECONDS,
+				config.getMinEvictableIdleTimeMillis());
+		Assert.assertEquals("other accounts should still be hard evicted", JargonKeyedPoolConfig.TIME_60_SECONDS,
+				jargonConnectionCache.getMinEvictableIdleTimeMillis());
+		irodsSession.closeSession();
+
+	}
+
 }
@@ -1,5 +1,6 @@
 package org.irods.jargon.pool.conncache;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -71,6 +72,64 @@ public class JargonConnectionCacheTest {
 
 	}
 
+	@Test
+	public void testBorrowValidatesWithServerCall() throws Exception {
+		JargonKeyedPoolConfig config = new JargonKeyedPoolConfig();
+		config.setValidationIdleThresholdMillis(0);
+		JargonPooledObjectFactory jargonPooledObjectFactory = new JargonPooledObjectFactory();
+		jargonPooledObjectFactory.setIrodsSession(irodsFileSystem.getIrodsSession());
+		jargonPooledObjectFactory.setIrodsSimpleProtocolManager(irodsFileSystem.getIrodsProtocolManager());
+
+		JargonConnectionCache jargonConnectionCache = new JargonConnectionCache(jargonPooledObjectFactory, config);
+
+		IRODSAccount test1 = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+
+		IRODSMidLevelProtocol test1Protocol1 = jargonConnectionCache.borrowObject(test1);
+		jargonConnectionCache.returnObject(test1, test1Protocol1);
+		IRODSMidLevelProtocol test1Protocol2 = jargonConnectionCache.borrowObject(test1);
+		jargonConnectionCache.returnObject(test1, test1Protocol2);
+
+		jargonConnectionCache.close();
+
+		Assert.assertSame("should have reused the validated connection", test1Protocol1, test1Protocol2);
+		Assert.assertTrue("no server validation", jargonPooledObjectFactory.getServerValidationCount() > 0);
+		Assert.assertEquals(0, jargonPooledObjectFactory.getValidationFailureCount());
+		Assert.assertTrue(jargonPooledObjectFactory.getMaxServerValidationMillis() > 0);
+
+	}
+
+	@Test
+	public void testOnlyPrewarmedAccountsReplenished() throws Exception {
+		JargonKeyedPoolConfig config = new JargonKeyedPoolConfig();
+		config.setMinIdlePerKey(2);
+		JargonPooledObjectFactory jargonPooledObjectFactory = new JargonPooledObjectFactory();
+		jargonPooledObjectFactory.setIrodsSession(irodsFileSystem.getIrodsSession());
+		jargonPooledObjectFactory.setIrodsSimpleProtocolManager(irodsFileSystem.getIrodsProtocolManager());
+
+		JargonConnectionCache jargonConnectionCache = new JargonConnectionCache(jargonPooledObjectFactory, config);
+
+		IRODSAccount test1 = testingPropertiesHelper.buildIRODSAccountFromTestProperties(testingProperties);
+		IRODSAccount test2 = testingPropertiesHelper.buildIRODSAccountFromSecondaryTestProperties(testingProperties);
+		jargonConnectionCache.prewarm(Arrays.asList(test1));
+
+		IRODSMidLevelProtocol test1Protocol = jargonConnectionCache.borrowObject(test1);
+		IRODSMidLevelProtocol test2Protocol = jargonConnectionCache.borrowObject(test2);
+
+		// replacements are created in the background
+		for (int i = 0; i < 100 && jargonConnectionCache.getNumIdle(test1) < 2; i++) {
+			Thread.sleep(100);
+		}
+
+		Assert.assertEquals("did not replenish pre-warmed account", 2, jargonConnectionCache.getNumIdle(test1));
+		Assert.assertEquals("should not replenish other accounts", 0, jargonConnectionCache.getNumIdle(test2));
+		Assert.assertFalse(jargonConnectionCache.isPrewarmed(test2));
+
+		jargonConnectionCache.returnObject(test1, test1Protocol);
+		jargonConnectionCache.returnObject(test2, test2Protocol);
+		jargonConnectionCache.close();
+
+	}
+
 	@Test
 	public void testBorrowAndReturnLoop() throws Exception {
 		JargonKeyedPoolConfig config = new JargonKeyedPoolConfig();
@@ -1,5 +1,8 @@
 package org.irods.jargon.usertagging.tags;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.irods.jargon.core.exception.JargonException;
 import org.irods.jargon.usertagging.domain.IRODSTagGrouping;
 import org.irods.jargon.usertagging.domain.TagQuerySearchResult;
@@ -39,6 +42,40 @@ public interface FreeTaggingService {
 	 */
 	IRODSTagGrouping getTagsForCollectionInFreeTagForm(String collectionAbsolutePath) throws JargonException;
 
+	/**
+	 * For many iRODS data objects, return the free tags of each, with a few
+	 * queries rather than one per data object. The user in the account used to
+	 * initialize the service is used by default.
+	 *
+	 * @param dataObjectAbsolutePaths
+	 *            {@code Collection} of {@code String} with the absolute paths to
+	 *            iRODS data objects.
+	 * @return {@code Map} keyed by each given path, in the given order, with the
+	 *         {@link org.irods.jargon.usertagging.domain.IRODSTagGrouping} of the
+	 *         data object tags in free tag form.
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	Map<String, IRODSTagGrouping> getTagsForDataObjectsInFreeTagForm(Collection<String> dataObjectAbsolutePaths)
+			throws JargonException;
+
+	/**
+	 * For many iRODS collections, return the free tags of each, with a few queries
+	 * rather than one per collection. The user in the account used to initialize
+	 * the service is used by default.
+	 *
+	 * @param collectionAbsolutePaths
+	 *            {@code Collection} of {@code String} with the absolute paths to
+	 *            iRODS collections.
+	 * @return {@code Map} keyed by each given path, in the given order, with the
+	 *         {@link org.irods.jargon.usertagging.domain.IRODSTagGrouping} of the
+	 *         collection tags in free tag form.
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	Map<String, IRODSTagGrouping> getTagsForCollectionsInFreeTagForm(Collection<String> collectionAbsolutePaths)
+			throws JargonException;
+
 	/**
 	 * Given a string of free tags included in the {@code IRODSTagValue}, generate a
 	 * delta between the desired and current set of tags on the iRODS domain object
@@ -1,7 +1,10 @@
 package org.irods.jargon.usertagging.tags;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import org.irods.jargon.core.connection.IRODSAccount;
@@ -209,19 +212,7 @@ public final class FreeTaggingServiceImpl extends AbstractIRODSTaggingService im
 		log.info("for user:{}", irodsAccount.getUserName());
 
 		List<IRODSTagValue> irodsTagValues = irodsTaggingService.getTagsOnDataObject(dataObjectAbsolutePath);
-
-		StringBuilder sb = new StringBuilder();
-
-		for (IRODSTagValue irodsTagValue : irodsTagValues) {
-			sb.append(irodsTagValue.getTagData());
-			sb.append(' ');
-		}
-
-		IRODSTagGrouping irodsTagGrouping = new IRODSTagGrouping(MetadataDomain.DATA, dataObjectAbsolutePath,
-				sb.toString().trim(), irodsAccount.getUserName());
-		log.debug("irodsTagGrouping:{}", irodsTagGrouping);
-
-		return irodsTagGrouping;
+		return buildTagGrouping(MetadataDomain.DATA, dataObjectAbsolutePath, irodsTagValues);
 
 	}
 
@@ -243,6 +234,52 @@ public final class FreeTaggingServiceImpl extends AbstractIRODSTaggingService im
 		log.info("for user:{}", irodsAccount.getUserName());
 
 		List<IRODSTagValue> irodsTagValues = irodsTaggingService.getTagsOnCollection(collectionAbsolutePath);
+		return buildTagGrouping(MetadataDomain.COLLECTION, collectionAbsolutePath, irodsTagValues);
+
+	}
+
+	@Override
+	public Map<String, IRODSTagGrouping> getTagsForDataObjectsInFreeTagForm(
+			final Collection<String> dataObjectAbsolutePaths) throws JargonException {
+
+		if (dataObjectAbsolutePaths == null) {
+			throw new IllegalArgumentException("null dataObjectAbsolutePaths");
+		}
+
+		log.info("getTagsForDataObjectsInFreeTagForm for {} paths", dataObjectAbsolutePaths.size());
+
+		return buildTagGroupings(MetadataDomain.DATA,
+				irodsTaggingService.getTagsOnDataObjects(dataObjectAbsolutePaths));
+	}
+
+	@Override
+	public Map<String, IRODSTagGrouping> getTagsForCollectionsInFreeTagForm(
+			final Collection<String> collectionAbsolutePaths) throws JargonException {
+
+		if (collectionAbsolutePaths == null) {
+			throw new IllegalArgumentException("null collectionAbsolutePaths");
+		}
+
+		log.info("getTagsForCollectionsInFreeTagForm for {} paths", collectionAbsolutePaths.size());
+
+		return buildTagGroupings(MetadataDomain.COLLECTION,
+				irodsTaggingService.getTagsOnCollections(collectionAbsolutePaths));
+	}
+
+	private Map<String, IRODSTagGrouping> buildTagGroupings(final MetadataDomain metadataDomain,
+			final Map<String, List<IRODSTagValue>> tagValuesByPath) throws JargonException {
+		Map<String, IRODSTagGrouping> irodsTagGroupings = new LinkedHashMap<>(tagValuesByPath.size());
+		for (Map.Entry<String, List<IRODSTagValue>> entry : tagValuesByPath.entrySet()) {
+			irodsTagGroupings.put(entry.getKey(), buildTagGrouping(metadataDomain, entry.getKey(), entry.getValue()));
+		}
+		return irodsTagGroupings;
+	}
+
+	/**
+	 * Join tag values into the space-delimited free tag form
+	 */
+	private IRODSTagGrouping buildTagGrouping(final MetadataDomain metadataDomain, final String irodsAbsolutePath,
+			final List<IRODSTagValue> irodsTagValues) throws JargonException {
 
 		StringBuilder sb = new StringBuilder();
 
@@ -251,11 +288,10 @@ public final class FreeTaggingServiceImpl extends AbstractIRODSTaggingService im
 			sb.append(' ');
 		}
 
-		IRODSTagGrouping irodsTagGrouping = new IRODSTagGrouping(MetadataDomain.COLLECTION, collectionAbsolutePath,
+		IRODSTagGrouping irodsTagGrouping = new IRODSTagGrouping(metadataDomain, irodsAbsolutePath,
 				sb.toString().trim(), irodsAccount.getUserName());
 		log.debug("irodsTagGrouping:{}", irodsTagGrouping);
 		return irodsTagGrouping;
-
 	}
 
 	/*
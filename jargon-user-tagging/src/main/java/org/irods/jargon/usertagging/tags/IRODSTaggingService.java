@@ -1,6 +1,8 @@
 package org.irods.jargon.usertagging.tags;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.exception.DataNotFoundException;
 import org.irods.jargon.core.exception.DuplicateDataException;
@@ -117,6 +119,39 @@ public interface IRODSTaggingService {
 	public List<IRODSTagValue> getTagsOnCollection(String irodsAbsolutePath)
 			throws DataNotFoundException, JargonException;
 
+	/**
+	 * For many data objects, retrieve the tag values for the logged in user with a
+	 * few queries, rather than one per data object. This suits listings that show
+	 * the tags of each entry.
+	 *
+	 * @param dataObjectAbsolutePaths
+	 *            {@code Collection} of {@code String} with the paths to the data
+	 *            objects for which the tags will be retrieved.
+	 * @return {@code Map} keyed by each given path, in the given order, with a
+	 *         {@code List} of {@link IRODSTagValue}. A missing data object maps to
+	 *         an empty list.
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	public Map<String, List<IRODSTagValue>> getTagsOnDataObjects(Collection<String> dataObjectAbsolutePaths)
+			throws JargonException;
+
+	/**
+	 * For many collections, retrieve the tag values for the logged in user with a
+	 * few queries, rather than one per collection.
+	 *
+	 * @param collectionAbsolutePaths
+	 *            {@code Collection} of {@code String} with the paths to the
+	 *            collections for which the tags will be retrieved.
+	 * @return {@code Map} keyed by each given path, in the given order, with a
+	 *         {@code List} of {@link IRODSTagValue}. A missing collection maps to
+	 *         an empty list.
+	 * @throws JargonException
+	 *             {@link JargonException}
+	 */
+	public Map<String, List<IRODSTagValue>> getTagsOnCollections(Collection<String> collectionAbsolutePaths)
+			throws JargonException;
+
 	/**
 	 * Delete a user tag from a given iRODS Collection.
 	 *
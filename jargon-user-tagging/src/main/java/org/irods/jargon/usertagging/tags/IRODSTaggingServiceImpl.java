@@ -4,7 +4,10 @@
 package org.irods.jargon.usertagging.tags;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.irods.jargon.core.connection.IRODSAccount;
 import org.irods.jargon.core.exception.DataNotFoundException;
@@ -683,6 +686,66 @@ public final class IRODSTaggingServiceImpl extends AbstractIRODSTaggingService i
 
 	}
 
+	@Override
+	public Map<String, List<IRODSTagValue>> getTagsOnDataObjects(final Collection<String> dataObjectAbsolutePaths)
+			throws JargonException {
+
+		if (dataObjectAbsolutePaths == null) {
+			throw new IllegalArgumentException("null dataObjectAbsolutePaths");
+		}
+
+		log.info("getTagsOnDataObjects for {} paths", dataObjectAbsolutePaths.size());
+
+		DataObjectAO dataObjectAO = irodsAccessObjectFactory.getDataObjectAO(irodsAccount);
+		return buildTagValuesByPath(dataObjectAO.findMetadataValuesForDataObjects(buildTagQueryForLoggedInUser(),
+				dataObjectAbsolutePaths));
+	}
+
+	@Override
+	public Map<String, List<IRODSTagValue>> getTagsOnCollections(final Collection<String> collectionAbsolutePaths)
+			throws JargonException {
+
+		if (collectionAbsolutePaths == null) {
+			throw new IllegalArgumentException("null collectionAbsolutePaths");
+		}
+
+		log.info("getTagsOnCollections for {} paths", collectionAbsolutePaths.size());
+
+		CollectionAO collectionAO = irodsAccessObjectFactory.getCollectionAO(irodsAccount);
+		return buildTagValuesByPath(collectionAO.findMetadataValuesForCollections(buildTagQueryForLoggedInUser(),
+				collectionAbsolutePaths));
+	}
+
+	/**
+	 * Query for the tags of the logged in user, by tag units and user name value
+	 */
+	private List<AVUQueryElement> buildTagQueryForLoggedInUser() throws JargonException {
+		List<AVUQueryElement> avuQueryElements = new ArrayList<>();
+		try {
+			avuQueryElements.add(AVUQueryElement.instanceForValueQuery(AVUQueryPart.UNITS,
+					QueryConditionOperators.EQUAL, UserTaggingConstants.TAG_AVU_UNIT));
+			avuQueryElements.add(AVUQueryElement.instanceForValueQuery(AVUQueryPart.VALUE,
+					QueryConditionOperators.EQUAL, getIrodsAccount().getUserName()));
+		} catch (JargonQueryException e) {
+			log.error("error on metadata query, rethrow as JargonException", e);
+			throw new JargonException(e);
+		}
+		return avuQueryElements;
+	}
+
+	private Map<String, List<IRODSTagValue>> buildTagValuesByPath(
+			final Map<String, List<MetaDataAndDomainData>> metadataByPath) throws JargonException {
+		Map<String, List<IRODSTagValue>> tagValuesByPath = new LinkedHashMap<>(metadataByPath.size());
+		for (Map.Entry<String, List<MetaDataAndDomainData>> entry : metadataByPath.entrySet()) {
+			List<IRODSTagValue> resultValues = new ArrayList<>(entry.getValue().size());
+			for (MetaDataAndDomainData metadataAndDomainData : entry.getValue()) {
+				resultValues.add(new IRODSTagValue(metadataAndDomainData));
+			}
+			tagValuesByPath.put(entry.getKey(), resultValues);
+		}
+		return tagValuesByPath;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *